@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for creating Elasticsearch queries from {@link Criteria} with the {@link CriteriaQueryProcessor}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class CriteriaQueryProcessorBenchmark extends AbstractMicrobenchmark {
+
+	private final Criteria simpleCriteria = new Criteria("name").is("name 42");
+
+	private final Criteria complexCriteria = new Criteria("name").is("name 42") //
+			.and(new Criteria("age").between(20, 40)) //
+			.and(new Criteria("description").contains("description").not()) //
+			.and(new Criteria("city").in("city 1", "city 2", "city 3")) //
+			.subCriteria(new Criteria("active").is(true).or("score").greaterThan(10.0)) //
+			.or(new Criteria("tags").startsWith("tag-1").and("created").exists());
+
+	@Benchmark
+	public @Nullable Query simpleCriteria() {
+		return CriteriaQueryProcessor.createQuery(simpleCriteria);
+	}
+
+	@Benchmark
+	public @Nullable Query complexCriteria() {
+		return CriteriaQueryProcessor.createQuery(complexCriteria);
+	}
+
+	@Benchmark
+	public @Nullable Query complexCriteriaTermLevel() {
+		return CriteriaQueryProcessor.createQuery(complexCriteria, CriteriaQueryMode.TERM_LEVEL);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for adapting search hits to {@link SearchDocument}s with {@link DocumentAdapters}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class DocumentAdaptersBenchmark extends AbstractMicrobenchmark {
+
+	private final JsonpMapper jsonpMapper = new JacksonJsonpMapper();
+
+	private Hit<EntityAsMap> sourceHit;
+	private Hit<EntityAsMap> fieldsAndHighlightHit;
+
+	@Setup
+	public void setUp() {
+
+		EntityAsMap source = new EntityAsMap();
+		source.put("id", "42");
+		source.put("name", "name 42");
+		source.put("description", "a description of the entity with the number 42");
+		source.put("age", 42);
+		source.put("active", true);
+		List<Object> comments = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			EntityAsMap comment = new EntityAsMap();
+			comment.put("author", "author " + i);
+			comment.put("text", "comment number " + i);
+			comments.add(comment);
+		}
+		source.put("comments", comments);
+
+		sourceHit = new Hit.Builder<EntityAsMap>() //
+				.index("benchmark") //
+				.id("42") //
+				.score(1.0) //
+				.version(3L) //
+				.seqNo(12L) //
+				.primaryTerm(1L) //
+				.source(source) //
+				.build();
+
+		fieldsAndHighlightHit = new Hit.Builder<EntityAsMap>() //
+				.index("benchmark") //
+				.id("42") //
+				.score(1.0) //
+				.fields("name", JsonData.of(List.of("name 42"))) //
+				.fields("age", JsonData.of(List.of(42))) //
+				.highlight("description", List.of("a <em>description</em> of the entity")) //
+				.sort(List.of(FieldValue.of(42L))) //
+				.build();
+	}
+
+	@Benchmark
+	public SearchDocument fromSourceHit() {
+		return DocumentAdapters.from(sourceHit, jsonpMapper);
+	}
+
+	@Benchmark
+	public SearchDocument fromFieldsAndHighlightHit() {
+		return DocumentAdapters.from(fieldsAndHighlightHit, jsonpMapper);
+	}
+}
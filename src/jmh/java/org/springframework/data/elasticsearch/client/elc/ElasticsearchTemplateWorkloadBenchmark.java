@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.repository.support.ElasticsearchRepositoryFactory;
+import org.springframework.data.repository.Repository;
+
+/**
+ * End-to-end benchmarks of typical workloads of the {@link ElasticsearchTemplate} and the repositories, run against the
+ * {@link StubElasticsearchTransport} with the {@link RecordedResponses}. The results show the overhead of the client
+ * library without the network and the cluster: the throughput, the latency percentiles of the sample time mode, and
+ * with the GC profiler of the {@literal jmh} profile the allocation per operation.
+ *
+ * @author agent
+ * @since 6.0
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ElasticsearchTemplateWorkloadBenchmark extends AbstractMicrobenchmark {
+
+	private ElasticsearchTemplate template;
+	private BenchmarkRepository repository;
+	private List<FlatEntity> entities;
+	private List<String> ids;
+
+	@Setup
+	public void setUp() {
+
+		template = new ElasticsearchTemplate(new ElasticsearchClient(RecordedResponses.transport()));
+		repository = new ElasticsearchRepositoryFactory(template).getRepository(BenchmarkRepository.class);
+
+		entities = new ArrayList<>();
+		ids = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			entities.add(BenchmarkEntities.flat(i));
+			ids.add("flat-" + i);
+		}
+	}
+
+	/**
+	 * saves 100 entities with one bulk request.
+	 */
+	@Benchmark
+	public Iterable<FlatEntity> bulkIngest() {
+		return template.save(entities);
+	}
+
+	/**
+	 * searches the third page of 20 entities.
+	 */
+	@Benchmark
+	public SearchHits<FlatEntity> pagedSearch() {
+
+		Query query = new CriteriaQuery(new Criteria("name").is("name 42").and("age").between(20, 40));
+		query.setPageable(PageRequest.of(2, 20));
+		return template.search(query, FlatEntity.class);
+	}
+
+	/**
+	 * gets 100 entities with one mget request.
+	 */
+	@Benchmark
+	public List<MultiGetItem<FlatEntity>> multiGet() {
+		return template.multiGet(Query.multiGetQuery(ids), FlatEntity.class);
+	}
+
+	/**
+	 * reads all entities of the index with a scrolled search.
+	 */
+	@Benchmark
+	public long streamExport() {
+
+		long count = 0;
+		try (SearchHitsIterator<FlatEntity> iterator = template.searchForStream(Query.findAll(), FlatEntity.class)) {
+			while (iterator.hasNext()) {
+				iterator.next();
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * derived query returning a list, which counts the matching documents before it searches them.
+	 */
+	@Benchmark
+	public List<FlatEntity> repositoryFinder() {
+		return repository.findByName("name 42");
+	}
+
+	/**
+	 * derived query returning a page.
+	 */
+	@Benchmark
+	public Page<FlatEntity> repositoryPagedFinder() {
+		return repository.findByAgeBetween(20, 40, PageRequest.of(1, 20));
+	}
+
+	public interface BenchmarkRepository extends Repository<FlatEntity, String> {
+
+		List<FlatEntity> findByName(String name);
+
+		Page<FlatEntity> findByAgeBetween(Integer from, Integer to, Pageable pageable);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.repository.support.ReactiveElasticsearchRepositoryFactory;
+import org.springframework.data.repository.Repository;
+
+/**
+ * End-to-end benchmarks of typical workloads of the {@link ReactiveElasticsearchTemplate} and the reactive
+ * repositories, run against the {@link StubElasticsearchTransport} with the {@link RecordedResponses}. The stub
+ * completes the requests on the calling thread, so every benchmark waits for the result of the operation.
+ *
+ * @author agent
+ * @since 6.0
+ * @see ElasticsearchTemplateWorkloadBenchmark
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReactiveElasticsearchTemplateWorkloadBenchmark extends AbstractMicrobenchmark {
+
+	private ReactiveElasticsearchTemplate template;
+	private BenchmarkRepository repository;
+	private List<FlatEntity> entities;
+	private List<String> ids;
+
+	@Setup
+	public void setUp() {
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		template = new ReactiveElasticsearchTemplate(ElasticsearchClients.createReactive(RecordedResponses.transport()),
+				converter);
+		repository = new ReactiveElasticsearchRepositoryFactory(template).getRepository(BenchmarkRepository.class);
+
+		entities = new ArrayList<>();
+		ids = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			entities.add(BenchmarkEntities.flat(i));
+			ids.add("flat-" + i);
+		}
+	}
+
+	/**
+	 * saves 100 entities with one bulk request.
+	 */
+	@Benchmark
+	public List<FlatEntity> bulkIngest() {
+		return template.saveAll(entities, FlatEntity.class).collectList().block();
+	}
+
+	/**
+	 * searches the third page of 20 entities.
+	 */
+	@Benchmark
+	public List<SearchHit<FlatEntity>> pagedSearch() {
+
+		Query query = new CriteriaQuery(new Criteria("name").is("name 42").and("age").between(20, 40));
+		query.setPageable(PageRequest.of(2, 20));
+		return template.search(query, FlatEntity.class).collectList().block();
+	}
+
+	/**
+	 * gets 100 entities with one mget request.
+	 */
+	@Benchmark
+	public List<MultiGetItem<FlatEntity>> multiGet() {
+		return template.multiGet(Query.multiGetQuery(ids), FlatEntity.class).collectList().block();
+	}
+
+	/**
+	 * reads all entities of the index with point in time and search_after.
+	 */
+	@Benchmark
+	public Long streamExport() {
+
+		Query query = Query.findAll();
+		query.setPageable(Pageable.unpaged());
+		return template.search(query, FlatEntity.class).count().block();
+	}
+
+	/**
+	 * derived query with a limit.
+	 */
+	@Benchmark
+	public List<FlatEntity> repositoryFinder() {
+		return repository.findFirst20ByName("name 42").collectList().block();
+	}
+
+	public interface BenchmarkRepository extends Repository<FlatEntity, String> {
+
+		Flux<FlatEntity> findFirst20ByName(String name);
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.ScrollRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetOperation;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Creates the responses of the {@link StubElasticsearchTransport} from the requests. The hits and documents are those
+ * of {@link org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.FlatEntity}.
+ * <ul>
+ * <li>a search returns the hits of the requested page from {@link #SEARCH_TOTAL} documents,</li>
+ * <li>a scrolled search or a search with a point in time returns the pages of {@link #EXPORT_TOTAL} documents; the
+ * position of the next page is encoded in the scroll id or the sort value of the last hit, so the stub keeps no
+ * state,</li>
+ * <li>bulk and mget requests return a successful item for every operation or id of the request.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class RecordedResponses {
+
+	/**
+	 * the number of documents found by a search that is neither scrolled nor uses a point in time.
+	 */
+	public static final int SEARCH_TOTAL = 100;
+
+	/**
+	 * the number of documents found by a scrolled search or a search with a point in time.
+	 */
+	public static final int EXPORT_TOTAL = 2_000;
+
+	private static final String DEFAULT_INDEX = "benchmark-flat";
+	private static final JsonpMapper JSONP_MAPPER = new JacksonJsonpMapper();
+	private static final String SHARDS = """
+			"_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 }""";
+
+	private RecordedResponses() {}
+
+	/**
+	 * @return a stub transport that returns the recorded responses for search, scroll, point in time, bulk and mget
+	 *         requests.
+	 */
+	public static StubElasticsearchTransport transport() {
+
+		return new StubElasticsearchTransport() //
+				.respond("es/search", RecordedResponses::search) //
+				.respond("es/scroll", RecordedResponses::scroll) //
+				.respond("es/clear_scroll", request -> """
+						{ "succeeded": true, "num_freed": 1 }
+						""") //
+				.respond("es/open_point_in_time", request -> """
+						{ "id": "benchmark-pit", %s }
+						""".formatted(SHARDS)) //
+				.respond("es/close_point_in_time", request -> """
+						{ "succeeded": true, "num_freed": 1 }
+						""") //
+				.respond("es/bulk", RecordedResponses::bulk) //
+				.respond("es/mget", RecordedResponses::mget);
+	}
+
+	private static String search(SearchRequest request) {
+
+		String index = request.index().isEmpty() ? DEFAULT_INDEX : request.index().get(0);
+		int size = request.size() != null ? request.size() : 10;
+
+		if (request.scroll() != null) {
+			return hits(index, 0, size, EXPORT_TOTAL, "scroll-" + size + '-' + size, false);
+		}
+
+		if (request.pit() != null) {
+			List<FieldValue> searchAfter = request.searchAfter();
+			int from = searchAfter.isEmpty() ? 0 : lastPosition(searchAfter.get(0)) + 1;
+			return hits(index, from, size, EXPORT_TOTAL, null, true);
+		}
+
+		int from = request.from() != null ? request.from() : 0;
+		return hits(index, from, size, SEARCH_TOTAL, null, false);
+	}
+
+	private static int lastPosition(FieldValue searchAfter) {
+		// the template sends the sort values of the last hit back as raw JSON values
+		return searchAfter.isLong() ? (int) searchAfter.longValue() : searchAfter.anyValue().to(Integer.class, JSONP_MAPPER);
+	}
+
+	private static String scroll(ScrollRequest request) {
+
+		// scroll-<size>-<from>
+		String[] parts = request.scrollId().split("-");
+		int size = Integer.parseInt(parts[1]);
+		int from = Integer.parseInt(parts[2]);
+		return hits(DEFAULT_INDEX, from, size, EXPORT_TOTAL, "scroll-" + size + '-' + (from + size), false);
+	}
+
+	private static String hits(String index, int from, int size, int total, @Nullable String scrollId, boolean withSort) {
+
+		StringBuilder sb = new StringBuilder(256 + size * 256);
+		sb.append("{ \"took\": 1, \"timed_out\": false, ").append(SHARDS).append(", ");
+
+		if (scrollId != null) {
+			sb.append("\"_scroll_id\": \"").append(scrollId).append("\", ");
+		}
+
+		sb.append("\"hits\": { \"total\": { \"value\": ").append(total)
+				.append(", \"relation\": \"eq\" }, \"max_score\": 1.0, \"hits\": [");
+
+		int to = Math.min(from + size, total);
+		for (int i = from; i < to; i++) {
+			if (i > from) {
+				sb.append(',');
+			}
+			sb.append("{ \"_index\": \"").append(index).append("\", \"_id\": \"flat-").append(i)
+					.append("\", \"_score\": 1.0, \"_source\": ").append(source(i));
+			if (withSort) {
+				sb.append(", \"sort\": [").append(i).append(']');
+			}
+			sb.append('}');
+		}
+
+		return sb.append("] } }").toString();
+	}
+
+	private static String bulk(BulkRequest request) {
+
+		StringBuilder sb = new StringBuilder(64 + request.operations().size() * 256);
+		sb.append("{ \"took\": 3, \"errors\": false, \"items\": [");
+
+		List<BulkOperation> operations = request.operations();
+		for (int i = 0; i < operations.size(); i++) {
+			BulkOperation operation = operations.get(i);
+			String kind = operation._kind().jsonValue();
+			String index;
+			String id;
+			if (operation.isIndex()) {
+				index = operation.index().index();
+				id = operation.index().id();
+			} else if (operation.isCreate()) {
+				index = operation.create().index();
+				id = operation.create().id();
+			} else {
+				throw new UnsupportedOperationException("bulk operation " + kind + " is not supported");
+			}
+
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{ \"").append(kind).append("\": { \"_index\": \"")
+					.append(index != null ? index : request.index() != null ? request.index() : DEFAULT_INDEX)
+					.append("\", \"_id\": \"").append(id != null ? id : "generated-" + i)
+					.append("\", \"_version\": 1, \"result\": \"created\", ").append(SHARDS).append(", \"_seq_no\": ")
+					.append(i).append(", \"_primary_term\": 1, \"status\": 201 } }");
+		}
+
+		return sb.append("] }").toString();
+	}
+
+	private static String mget(MgetRequest request) {
+
+		StringBuilder sb = new StringBuilder(32 + request.docs().size() * 256);
+		sb.append("{ \"docs\": [");
+
+		List<MultiGetOperation> docs = request.docs();
+		for (int i = 0; i < docs.size(); i++) {
+			MultiGetOperation doc = docs.get(i);
+			String index = doc.index() != null ? doc.index() : request.index() != null ? request.index() : DEFAULT_INDEX;
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{ \"_index\": \"").append(index).append("\", \"_id\": \"").append(doc.id())
+					.append("\", \"_version\": 1, \"_seq_no\": ").append(i)
+					.append(", \"_primary_term\": 1, \"found\": true, \"_source\": ").append(source(i)).append('}');
+		}
+
+		return sb.append("] }").toString();
+	}
+
+	private static String source(int i) {
+		return String.format(Locale.ROOT, """
+				{ "id": "flat-%d", "name": "name %d", "description": "a description of the entity with the number %d", \
+				"age": %d, "score": %.1f, "active": %b, "birthDate": "19700101", "created": %d }""", //
+				i, i, i, i % 100, i * 0.5, i % 2 == 0, 1_700_000_000_000L + i);
+	}
+}
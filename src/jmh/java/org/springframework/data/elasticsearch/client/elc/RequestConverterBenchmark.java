@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.NestedEntity;
+
+/**
+ * Benchmarks for building search and bulk requests with the {@link RequestConverter}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class RequestConverterBenchmark extends AbstractMicrobenchmark {
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("benchmark");
+
+	private RequestConverter requestConverter;
+
+	private Query criteriaQuery;
+	private Query nativeQuery;
+	private List<IndexQuery> flatIndexQueries;
+	private List<IndexQuery> nestedIndexQueries;
+
+	@Setup
+	public void setUp() {
+
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(FlatEntity.class, NestedEntity.class));
+		mappingContext.afterPropertiesSet();
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		requestConverter = new RequestConverter(converter, new JacksonJsonpMapper());
+
+		criteriaQuery = new CriteriaQuery(new Criteria("name").is("name 42") //
+				.and(new Criteria("age").between(20, 40)) //
+				.and(new Criteria("description").contains("description")) //
+				.and(new Criteria("active").is(true)));
+		criteriaQuery.setPageable(PageRequest.of(2, 20, Sort.by("age").descending()));
+
+		nativeQuery = NativeQuery.builder() //
+				.withQuery(q -> q.bool(b -> b //
+						.must(m -> m.match(ma -> ma.field("description").query("entity"))) //
+						.filter(f -> f.term(t -> t.field("active").value(true))) //
+						.filter(f -> f.range(r -> r.number(n -> n.field("age").gte(20.0).lte(40.0)))))) //
+				.withPageable(PageRequest.of(0, 50)) //
+				.build();
+
+		flatIndexQueries = new ArrayList<>();
+		nestedIndexQueries = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			FlatEntity flatEntity = BenchmarkEntities.flat(i);
+			flatIndexQueries.add(new IndexQueryBuilder().withId("flat-" + i).withObject(flatEntity).build());
+			NestedEntity nestedEntity = BenchmarkEntities.nested(i);
+			nestedIndexQueries.add(new IndexQueryBuilder().withId("nested-" + i).withObject(nestedEntity).build());
+		}
+	}
+
+	@Benchmark
+	public SearchRequest criteriaSearchRequest() {
+		return requestConverter.searchRequest(criteriaQuery, null, FlatEntity.class, INDEX, false);
+	}
+
+	@Benchmark
+	public SearchRequest nativeSearchRequest() {
+		return requestConverter.searchRequest(nativeQuery, null, FlatEntity.class, INDEX, false);
+	}
+
+	@Benchmark
+	public BulkRequest flatDocumentBulkRequest() {
+		return requestConverter.documentBulkRequest(flatIndexQueries, BulkOptions.defaultOptions(), INDEX, null);
+	}
+
+	@Benchmark
+	public BulkRequest nestedDocumentBulkRequest() {
+		return requestConverter.documentBulkRequest(nestedIndexQueries, BulkOptions.defaultOptions(), INDEX, null);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.NdJsonpSerializable;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.JsonEndpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.elasticsearch.client.RequestOptions;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link ElasticsearchTransport} that does not connect to Elasticsearch but replays responses. Like the real
+ * transport it serializes the request body and deserializes the response, so a template using it does all the work of
+ * a request except the network I/O and the processing in the cluster.
+ * <p>
+ * The responses are registered per endpoint id, like {@literal es/search}, with a function that creates the JSON body
+ * of the response from the request; {@link RecordedResponses} registers the responses for the common endpoints.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class StubElasticsearchTransport implements ElasticsearchTransport {
+
+	private final JsonpMapper jsonpMapper;
+	private final TransportOptions transportOptions;
+	private final Map<String, Function<Object, String>> responses = new ConcurrentHashMap<>();
+
+	public StubElasticsearchTransport() {
+		this(new JacksonJsonpMapper());
+	}
+
+	public StubElasticsearchTransport(JsonpMapper jsonpMapper) {
+		this.jsonpMapper = jsonpMapper;
+		this.transportOptions = new RestClientOptions(RequestOptions.DEFAULT, false);
+	}
+
+	/**
+	 * registers the response for an endpoint.
+	 *
+	 * @param endpointId the id of the endpoint, like {@literal es/search}
+	 * @param response function creating the JSON response body from the request
+	 * @return this transport
+	 */
+	@SuppressWarnings("unchecked")
+	public <RequestT> StubElasticsearchTransport respond(String endpointId, Function<RequestT, String> response) {
+		responses.put(endpointId, request -> response.apply((RequestT) request));
+		return this;
+	}
+
+	@Override
+	public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+			Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) throws IOException {
+
+		if (!(endpoint instanceof JsonEndpoint<RequestT, ResponseT, ErrorT> jsonEndpoint)) {
+			throw new UnsupportedOperationException("endpoint " + endpoint.id() + " has no JSON response");
+		}
+
+		Function<Object, String> response = responses.get(endpoint.id());
+
+		if (response == null) {
+			throw new UnsupportedOperationException("no response registered for endpoint " + endpoint.id());
+		}
+
+		Object body = endpoint.body(request);
+
+		if (body != null) {
+			writeBody(body);
+		}
+
+		byte[] responseBody = response.apply(request).getBytes(StandardCharsets.UTF_8);
+		try (JsonParser parser = jsonpMapper.jsonProvider().createParser(new ByteArrayInputStream(responseBody))) {
+			return jsonEndpoint.responseDeserializer().deserialize(parser, jsonpMapper);
+		}
+	}
+
+	@Override
+	public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+			Endpoint<RequestT, ResponseT, ErrorT> endpoint, @Nullable TransportOptions options) {
+
+		try {
+			return CompletableFuture.completedFuture(performRequest(request, endpoint, options));
+		} catch (IOException | RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	@Override
+	public JsonpMapper jsonpMapper() {
+		return jsonpMapper;
+	}
+
+	@Override
+	public TransportOptions options() {
+		return transportOptions;
+	}
+
+	@Override
+	public void close() {}
+
+	/**
+	 * serializes the body like the real transport, bulk and msearch bodies as one JSON document per line.
+	 */
+	private void writeBody(Object body) {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		if (body instanceof NdJsonpSerializable ndJsonpSerializable) {
+			writeNdJson(ndJsonpSerializable, out);
+		} else {
+			writeJson(body, out);
+		}
+	}
+
+	private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream out) {
+
+		Iterator<?> serializables = value._serializables();
+		while (serializables.hasNext()) {
+			Object item = serializables.next();
+			if (item instanceof NdJsonpSerializable ndJsonpSerializable && item != value) {
+				writeNdJson(ndJsonpSerializable, out);
+			} else {
+				writeJson(item, out);
+				out.write('\n');
+			}
+		}
+	}
+
+	private void writeJson(Object value, ByteArrayOutputStream out) {
+
+		JsonGenerator generator = jsonpMapper.jsonProvider().createGenerator(out);
+		jsonpMapper.serialize(value, generator);
+		generator.close();
+	}
+}
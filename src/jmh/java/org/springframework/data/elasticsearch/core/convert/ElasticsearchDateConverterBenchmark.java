@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for formatting and parsing dates with the {@link ElasticsearchDateConverter} for a built-in format, a
+ * custom pattern and the epoch based format.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class ElasticsearchDateConverterBenchmark extends AbstractMicrobenchmark {
+
+	private ElasticsearchDateConverter basicDateConverter;
+	private ElasticsearchDateConverter patternConverter;
+	private ElasticsearchDateConverter epochMillisConverter;
+
+	private final LocalDate localDate = LocalDate.of(2025, 6, 15);
+	private final LocalDateTime localDateTime = LocalDateTime.of(2025, 6, 15, 12, 34, 56);
+	private final Instant instant = Instant.ofEpochMilli(1_750_000_000_000L);
+
+	private String formattedBasicDate;
+	private String formattedPattern;
+	private String formattedEpochMillis;
+
+	@Setup
+	public void setUp() {
+
+		basicDateConverter = ElasticsearchDateConverter.of(DateFormat.basic_date);
+		patternConverter = ElasticsearchDateConverter.of("uuuu-MM-dd HH:mm:ss");
+		epochMillisConverter = ElasticsearchDateConverter.of(DateFormat.epoch_millis);
+
+		formattedBasicDate = basicDateConverter.format(localDate);
+		formattedPattern = patternConverter.format(localDateTime);
+		formattedEpochMillis = epochMillisConverter.format(instant);
+	}
+
+	@Benchmark
+	public String formatBasicDate() {
+		return basicDateConverter.format(localDate);
+	}
+
+	@Benchmark
+	public LocalDate parseBasicDate() {
+		return basicDateConverter.parse(formattedBasicDate, LocalDate.class);
+	}
+
+	@Benchmark
+	public String formatPattern() {
+		return patternConverter.format(localDateTime);
+	}
+
+	@Benchmark
+	public LocalDateTime parsePattern() {
+		return patternConverter.parse(formattedPattern, LocalDateTime.class);
+	}
+
+	@Benchmark
+	public String formatEpochMillis() {
+		return epochMillisConverter.format(instant);
+	}
+
+	@Benchmark
+	public Instant parseEpochMillis() {
+		return epochMillisConverter.parse(formattedEpochMillis, Instant.class);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.CollectionEntity;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.NestedEntity;
+
+/**
+ * Benchmarks for reading and writing entities with the {@link MappingElasticsearchConverter}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class MappingElasticsearchConverterBenchmark extends AbstractMicrobenchmark {
+
+	private MappingElasticsearchConverter converter;
+
+	private FlatEntity flatEntity;
+	private NestedEntity nestedEntity;
+	private CollectionEntity collectionEntity;
+
+	private Document flatDocument;
+	private Document nestedDocument;
+	private Document collectionDocument;
+
+	@Setup
+	public void setUp() {
+
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(FlatEntity.class, NestedEntity.class, CollectionEntity.class));
+		mappingContext.afterPropertiesSet();
+
+		converter = new MappingElasticsearchConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		flatEntity = BenchmarkEntities.flat(42);
+		nestedEntity = BenchmarkEntities.nested(42);
+		collectionEntity = BenchmarkEntities.collectionHeavy(42);
+
+		flatDocument = converter.mapObject(flatEntity);
+		nestedDocument = converter.mapObject(nestedEntity);
+		collectionDocument = converter.mapObject(collectionEntity);
+	}
+
+	@Benchmark
+	public Document writeFlatEntity() {
+		return write(flatEntity);
+	}
+
+	@Benchmark
+	public Document writeNestedEntity() {
+		return write(nestedEntity);
+	}
+
+	@Benchmark
+	public Document writeCollectionEntity() {
+		return write(collectionEntity);
+	}
+
+	@Benchmark
+	public FlatEntity readFlatEntity() {
+		return converter.read(FlatEntity.class, flatDocument);
+	}
+
+	@Benchmark
+	public NestedEntity readNestedEntity() {
+		return converter.read(NestedEntity.class, nestedDocument);
+	}
+
+	@Benchmark
+	public CollectionEntity readCollectionEntity() {
+		return converter.read(CollectionEntity.class, collectionDocument);
+	}
+
+	private Document write(Object entity) {
+
+		Document document = Document.create();
+		converter.write(entity, document);
+		return document;
+	}
+}
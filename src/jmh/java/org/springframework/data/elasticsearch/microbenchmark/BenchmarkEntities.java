@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.microbenchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+/**
+ * The entities used in the microbenchmarks: a flat entity with simple properties, an entity with nested objects and an
+ * entity with large collections. No index is created for the entities, so repositories can be created without a
+ * cluster.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class BenchmarkEntities {
+
+	private BenchmarkEntities() {}
+
+	public static FlatEntity flat(int index) {
+
+		FlatEntity entity = new FlatEntity();
+		entity.id = "flat-" + index;
+		entity.name = "name " + index;
+		entity.description = "a description of the entity with the number " + index;
+		entity.age = index % 100;
+		entity.score = index * 0.5;
+		entity.active = index % 2 == 0;
+		entity.birthDate = LocalDate.of(1970, 1, 1).plusDays(index);
+		entity.created = Instant.ofEpochSecond(1_700_000_000L + index);
+		return entity;
+	}
+
+	public static NestedEntity nested(int index) {
+
+		NestedEntity entity = new NestedEntity();
+		entity.id = "nested-" + index;
+		entity.title = "title " + index;
+		entity.address = address(index);
+		entity.comments = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			Comment comment = new Comment();
+			comment.author = "author " + i;
+			comment.text = "comment number " + i + " of entity " + index;
+			comment.created = Instant.ofEpochSecond(1_700_000_000L + i);
+			comment.likes = i;
+			entity.comments.add(comment);
+		}
+		return entity;
+	}
+
+	public static CollectionEntity collectionHeavy(int index) {
+
+		CollectionEntity entity = new CollectionEntity();
+		entity.id = "collection-" + index;
+		entity.tags = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			entity.tags.add("tag-" + i);
+		}
+		entity.counters = new LinkedHashMap<>();
+		for (int i = 0; i < 50; i++) {
+			entity.counters.put("counter-" + i, i);
+		}
+		entity.addresses = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			entity.addresses.add(address(i));
+		}
+		return entity;
+	}
+
+	private static Address address(int index) {
+
+		Address address = new Address();
+		address.street = "street " + index;
+		address.city = "city " + index % 10;
+		address.zipCode = String.valueOf(10_000 + index);
+		return address;
+	}
+
+	@Document(indexName = "benchmark-flat", createIndex = false)
+	public static class FlatEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String name;
+		@Nullable
+		@Field(type = FieldType.Text) private String description;
+		@Field(type = FieldType.Integer) private int age;
+		@Field(type = FieldType.Double) private double score;
+		@Field(type = FieldType.Boolean) private boolean active;
+		@Nullable
+		@Field(type = FieldType.Date, format = DateFormat.basic_date) private LocalDate birthDate;
+		@Nullable
+		@Field(type = FieldType.Date, format = DateFormat.epoch_millis) private Instant created;
+	}
+
+	@Document(indexName = "benchmark-nested", createIndex = false)
+	public static class NestedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String title;
+		@Nullable
+		@Field(type = FieldType.Object) private Address address;
+		@Nullable
+		@Field(type = FieldType.Nested) private List<Comment> comments;
+	}
+
+	@Document(indexName = "benchmark-collection", createIndex = false)
+	public static class CollectionEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Keyword) private List<String> tags;
+		@Nullable
+		@Field(type = FieldType.Object) private Map<String, Integer> counters;
+		@Nullable
+		@Field(type = FieldType.Nested) private List<Address> addresses;
+	}
+
+	public static class Address {
+		@Nullable
+		@Field(type = FieldType.Text) private String street;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String city;
+		@Nullable
+		@Field(type = FieldType.Keyword) private String zipCode;
+	}
+
+	public static class Comment {
+		@Nullable
+		@Field(type = FieldType.Keyword) private String author;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+		@Nullable
+		@Field(type = FieldType.Date, format = DateFormat.date_time) private Instant created;
+		@Field(type = FieldType.Integer) private int likes;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+import org.springframework.data.elasticsearch.microbenchmark.BenchmarkEntities.FlatEntity;
+import org.springframework.data.elasticsearch.repository.query.ElasticsearchQueryMethod;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+
+/**
+ * Benchmarks for replacing the placeholders of a repository query string with the
+ * {@link QueryStringPlaceholderReplacer}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class QueryStringPlaceholderReplacerBenchmark extends AbstractMicrobenchmark {
+
+	private QueryStringPlaceholderReplacer replacer;
+	private String queryString;
+	private ParameterAccessor accessor;
+	private String collectionQueryString;
+	private ParameterAccessor collectionAccessor;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		mappingContext.afterPropertiesSet();
+
+		replacer = new QueryStringPlaceholderReplacer(new DefaultConversionService());
+
+		Method method = BenchmarkRepository.class.getMethod("findByNameAndAge", String.class, int.class);
+		ElasticsearchQueryMethod queryMethod = new ElasticsearchQueryMethod(method,
+				new DefaultRepositoryMetadata(BenchmarkRepository.class), new SpelAwareProxyProjectionFactory(),
+				mappingContext);
+		queryString = queryMethod.getAnnotatedQuery();
+		accessor = new ParametersParameterAccessor(queryMethod.getParameters(), new Object[] { "name \"42\"", 42 });
+
+		Method collectionMethod = BenchmarkRepository.class.getMethod("findByNameIn", List.class);
+		ElasticsearchQueryMethod collectionQueryMethod = new ElasticsearchQueryMethod(collectionMethod,
+				new DefaultRepositoryMetadata(BenchmarkRepository.class), new SpelAwareProxyProjectionFactory(),
+				mappingContext);
+		collectionQueryString = collectionQueryMethod.getAnnotatedQuery();
+		collectionAccessor = new ParametersParameterAccessor(collectionQueryMethod.getParameters(),
+				new Object[] { List.of("name 1", "name 2", "name 3", "name 4", "name 5") });
+	}
+
+	@Benchmark
+	public String replaceSimpleParameters() {
+		return replacer.replacePlaceholders(queryString, accessor);
+	}
+
+	@Benchmark
+	public String replaceCollectionParameter() {
+		return replacer.replacePlaceholders(collectionQueryString, collectionAccessor);
+	}
+
+	interface BenchmarkRepository extends Repository<FlatEntity, String> {
+
+		@Query("""
+				{ "bool": { "must": [ { "match": { "name": "?0" } }, { "range": { "age": { "gte": ?1 } } } ] } }
+				""")
+		List<FlatEntity> findByNameAndAge(String name, int age);
+
+		@Query("""
+				{ "terms": { "name": ?0 } }
+				""")
+		List<FlatEntity> findByNameIn(List<String> names);
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.utils.geohash;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.data.elasticsearch.microbenchmark.AbstractMicrobenchmark;
+
+/**
+ * Benchmarks for encoding and decoding geohashes with {@link Geohash}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class GeohashBenchmark extends AbstractMicrobenchmark {
+
+	private final double lon = 9.993682;
+	private final double lat = 53.551086;
+	private final String geohash = Geohash.stringEncode(lon, lat);
+
+	@Benchmark
+	public String stringEncode() {
+		return Geohash.stringEncode(lon, lat);
+	}
+
+	@Benchmark
+	public String stringEncodeWithLevel() {
+		return Geohash.stringEncode(lon, lat, 6);
+	}
+
+	@Benchmark
+	public long longEncode() {
+		return Geohash.longEncode(lon, lat, Geohash.PRECISION);
+	}
+
+	@Benchmark
+	public String toLatLon() {
+		return Geohash.toLatLon(geohash);
+	}
+}
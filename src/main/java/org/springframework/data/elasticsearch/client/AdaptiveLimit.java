@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+/**
+ * A limit of concurrent requests that is adapted to the observed latencies.
+ *
+ * @author agent
+ * @since 6.0
+ */
+interface AdaptiveLimit {
+
+	/**
+	 * @return the current limit
+	 */
+	int getLimit();
+
+	/**
+	 * updates the limit with the result of a request.
+	 *
+	 * @param latencyNanos the latency of the request
+	 * @param inFlight the number of requests in flight when the request completed, including this one
+	 * @param dropped {@literal true} if the request failed or was rejected because of overload, the latency is not
+	 *          meaningful then
+	 */
+	void onSample(long latencyNanos, int inFlight, boolean dropped);
+
+	/**
+	 * the step by which a limit is changed, growing slower than the limit.
+	 */
+	static double log10Step(double limit) {
+		return Math.max(1, Math.log10(limit));
+	}
+}
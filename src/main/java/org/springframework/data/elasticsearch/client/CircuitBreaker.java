@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.time.Duration;
+
+import org.springframework.data.elasticsearch.client.LoadProtection.CircuitState;
+
+/**
+ * Circuit breaker of a host. The outcomes of the recent requests are kept in a window; when the window is filled and
+ * the failure rate reaches the threshold, the circuit is opened. After the open state duration one trial request is
+ * allowed, its outcome closes or opens the circuit again.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class CircuitBreaker {
+
+	private final double failureRateThreshold;
+	private final boolean[] failures;
+	private final long openStateNanos;
+	private final long trialTimeoutNanos;
+
+	private CircuitState state = CircuitState.CLOSED;
+	private int recorded;
+	private int next;
+	private int failureCount;
+	private long openedAt;
+	private boolean trialInFlight;
+	private long trialStartedAt;
+
+	CircuitBreaker(double failureRateThreshold, int failureRateWindow, Duration openStateDuration,
+			Duration trialTimeout) {
+		this.failureRateThreshold = failureRateThreshold;
+		this.failures = new boolean[failureRateWindow];
+		this.openStateNanos = openStateDuration.toNanos();
+		this.trialTimeoutNanos = trialTimeout.toNanos();
+	}
+
+	synchronized CircuitState getState() {
+
+		if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= openStateNanos) {
+			state = CircuitState.HALF_OPEN;
+			trialInFlight = false;
+		}
+		return state;
+	}
+
+	synchronized boolean allowsRequest() {
+		return switch (getState()) {
+			case CLOSED -> true;
+			case OPEN -> false;
+			// a trial without outcome, for example a cancelled one, must not keep the circuit half open forever
+			case HALF_OPEN -> !trialInFlight || System.nanoTime() - trialStartedAt > trialTimeoutNanos;
+		};
+	}
+
+	/**
+	 * checks and registers a request in one step, so that only one trial request is sent in the half open state.
+	 */
+	synchronized Admission tryRequest() {
+
+		if (!allowsRequest()) {
+			return Admission.REJECTED;
+		}
+
+		if (state == CircuitState.HALF_OPEN) {
+			trialInFlight = true;
+			trialStartedAt = System.nanoTime();
+			return Admission.TRIAL;
+		}
+		return Admission.REQUEST;
+	}
+
+	/**
+	 * a trial request was not sent, another one may be sent.
+	 */
+	synchronized void onTrialCancelled() {
+
+		if (getState() == CircuitState.HALF_OPEN) {
+			trialInFlight = false;
+		}
+	}
+
+	synchronized void onSuccess() {
+
+		switch (getState()) {
+			case CLOSED -> record(false);
+			case HALF_OPEN -> close();
+			case OPEN -> {}
+		}
+	}
+
+	synchronized void onFailure() {
+
+		switch (getState()) {
+			case CLOSED -> {
+				record(true);
+				if (recorded == failures.length && failureCount >= failureRateThreshold * recorded) {
+					open();
+				}
+			}
+			case HALF_OPEN -> open();
+			case OPEN -> {}
+		}
+	}
+
+	private void record(boolean failure) {
+
+		if (recorded == failures.length) {
+			if (failures[next]) {
+				failureCount--;
+			}
+		} else {
+			recorded++;
+		}
+
+		failures[next] = failure;
+		if (failure) {
+			failureCount++;
+		}
+		next = (next + 1) % failures.length;
+	}
+
+	private void open() {
+		state = CircuitState.OPEN;
+		openedAt = System.nanoTime();
+		trialInFlight = false;
+	}
+
+	private void close() {
+		state = CircuitState.CLOSED;
+		trialInFlight = false;
+		recorded = 0;
+		next = 0;
+		failureCount = 0;
+	}
+
+	/**
+	 * The outcome of {@link #tryRequest()}.
+	 */
+	enum Admission {
+		REJECTED, REQUEST, TRIAL
+	}
+}
@@ -175,6 +175,24 @@ public interface ClientConfiguration {
 	 */
 	Supplier<HttpHeaders> getHeadersSupplier();
 
+	/**
+	 * @return the optional {@link LoadProtection} for the hosts.
+	 * @since 6.0
+	 */
+	Optional<LoadProtection> getLoadProtection();
+
+	/**
+	 * @return the optional {@link Sniffing} configuration.
+	 * @since 6.0
+	 */
+	Optional<Sniffing> getSniffing();
+
+	/**
+	 * @return the optional {@link ConnectionPool} settings.
+	 * @since 6.0
+	 */
+	Optional<ConnectionPool> getConnectionPool();
+
 	/**
 	 * @author Christoph Strobl
 	 */
@@ -369,6 +387,38 @@ public interface ClientConfiguration {
 		 */
 		TerminalClientConfigurationBuilder withHeaders(Supplier<HttpHeaders> headers);
 
+		/**
+		 * Protects the Elasticsearch hosts with an adaptive limit of concurrent requests and a circuit breaker per host.
+		 * Requests are sent only to hosts whose circuit is closed and whose limit is not reached; if there is no such
+		 * host, a request fails immediately.
+		 *
+		 * @param loadProtection the load protection to use, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.0
+		 */
+		TerminalClientConfigurationBuilder withLoadProtection(LoadProtection loadProtection);
+
+		/**
+		 * Enables sniffing of the cluster nodes. The configured endpoints are used to find the cluster, the requests are
+		 * then sent to the sniffed nodes.
+		 *
+		 * @param sniffing the sniffing configuration, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.0
+		 */
+		TerminalClientConfigurationBuilder withSniffing(Sniffing sniffing);
+
+		/**
+		 * Configures the HTTP connection pool of the client. The {@link ConnectionPool} provides the statistics of the
+		 * pool. The SSL settings of the pool are the ones of this configuration, SSL settings made on the HTTP client by a
+		 * client configuration callback are not used.
+		 *
+		 * @param connectionPool the connection pool settings, must not be {@literal null}
+		 * @return the {@link TerminalClientConfigurationBuilder}.
+		 * @since 6.0
+		 */
+		TerminalClientConfigurationBuilder withConnectionPool(ConnectionPool connectionPool);
+
 		/**
 		 * Build the {@link ClientConfiguration} object.
 		 *
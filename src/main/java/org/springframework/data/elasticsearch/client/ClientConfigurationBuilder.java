@@ -59,6 +59,9 @@ class ClientConfigurationBuilder
 	@Nullable private String proxy;
 	private Supplier<HttpHeaders> headersSupplier = HttpHeaders::new;
 	private final List<ClientConfiguration.ClientConfigurationCallback<?>> clientConfigurers = new ArrayList<>();
+	@Nullable private LoadProtection loadProtection;
+	@Nullable private Sniffing sniffing;
+	@Nullable private ConnectionPool connectionPool;
 
 	/*
 	 * (non-Javadoc)
@@ -231,6 +234,33 @@ class ClientConfigurationBuilder
 		return this;
 	}
 
+	@Override
+	public TerminalClientConfigurationBuilder withLoadProtection(LoadProtection loadProtection) {
+
+		Assert.notNull(loadProtection, "loadProtection must not be null");
+
+		this.loadProtection = loadProtection;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withSniffing(Sniffing sniffing) {
+
+		Assert.notNull(sniffing, "sniffing must not be null");
+
+		this.sniffing = sniffing;
+		return this;
+	}
+
+	@Override
+	public TerminalClientConfigurationBuilder withConnectionPool(ConnectionPool connectionPool) {
+
+		Assert.notNull(connectionPool, "connectionPool must not be null");
+
+		this.connectionPool = connectionPool;
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.elasticsearch.client.ClientConfiguration.ClientConfigurationBuilderWithOptionalDefaultHeaders#build()
@@ -247,7 +277,8 @@ class ClientConfigurationBuilder
 		}
 
 		return new DefaultClientConfiguration(hosts, headers, useSsl, sslContext, caFingerprint, soTimeout, connectTimeout,
-				pathPrefix, hostnameVerifier, proxy, clientConfigurers, headersSupplier);
+				pathPrefix, hostnameVerifier, proxy, clientConfigurers, headersSupplier, loadProtection,
+				sniffing, connectionPool);
 	}
 
 	private static InetSocketAddress parse(String hostAndPort) {
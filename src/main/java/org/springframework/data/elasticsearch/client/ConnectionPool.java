@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings of the HTTP connection pool of a client and access to the live statistics of the pool. The statistics show
+ * per route, which is a host the client connects to, how many connections are leased, available and requested, and how
+ * long the requests waited for a connection. A growing number of pending requests and a growing wait time show that
+ * the pool is exhausted.
+ * <p>
+ * An instance is set with {@link ClientConfiguration.TerminalClientConfigurationBuilder#withConnectionPool}, the
+ * application can keep a reference to it to read the statistics. If the instance is used for more than one client, the
+ * statistics of the clients are added up; a client is removed from the statistics when it is closed. A client
+ * configuration callback that sets its own connection manager on the HTTP client replaces the pool configured here.
+ * <p>
+ * The SSL settings of the connections are taken from the {@link ClientConfiguration} and are passed to the connection
+ * manager of the pool. The HTTP client ignores its own SSL settings when a connection manager is set, so an
+ * {@code SSLContext} or hostname verifier that a client configuration callback sets on the HTTP client builder has no
+ * effect when a pool is configured; use {@link ClientConfiguration.MaybeSecureClientConfigurationBuilder#usingSsl}
+ * instead.
+ * <p>
+ * Use {@link ConnectionPool#builder()} to obtain a builder.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class ConnectionPool {
+
+	/**
+	 * The route of the total statistics.
+	 */
+	public static final String TOTAL = "total";
+
+	private final int maxConnectionsPerRoute;
+	private final int maxConnectionsTotal;
+	@Nullable private final Duration keepAlive;
+	private final int ioThreadCount;
+	private final List<StatisticsSource> statisticsSources = new CopyOnWriteArrayList<>();
+
+	private ConnectionPool(int maxConnectionsPerRoute, int maxConnectionsTotal, @Nullable Duration keepAlive,
+			int ioThreadCount) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+		this.maxConnectionsTotal = maxConnectionsTotal;
+		this.keepAlive = keepAlive;
+		this.ioThreadCount = ioThreadCount;
+	}
+
+	/**
+	 * @return a new {@link Builder} with the default values of the Elasticsearch RestClient: 10 connections per route,
+	 *         30 connections in total, the keep alive sent by the server and one I/O thread per available processor.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	public int getMaxConnectionsTotal() {
+		return maxConnectionsTotal;
+	}
+
+	/**
+	 * @return the maximal time an idle connection is kept, {@literal null} if the keep alive sent by the server is used
+	 *         or connections are kept without limit if the server does not send one.
+	 */
+	@Nullable
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	public int getIoThreadCount() {
+		return ioThreadCount;
+	}
+
+	/**
+	 * Registers the connection manager of a client as source of the statistics.
+	 *
+	 * @param statisticsSource the source, must not be {@literal null}
+	 */
+	public void register(StatisticsSource statisticsSource) {
+
+		Assert.notNull(statisticsSource, "statisticsSource must not be null");
+
+		statisticsSources.add(statisticsSource);
+	}
+
+	/**
+	 * Removes a source of the statistics, the connection manager of a client unregisters itself when it is shut down.
+	 *
+	 * @param statisticsSource the source, must not be {@literal null}
+	 */
+	public void unregister(StatisticsSource statisticsSource) {
+
+		Assert.notNull(statisticsSource, "statisticsSource must not be null");
+
+		statisticsSources.remove(statisticsSource);
+	}
+
+	/**
+	 * @return the statistics of the routes that have been used, ordered by route.
+	 */
+	public List<RouteStatistics> getRouteStatistics() {
+
+		Map<String, RouteStatistics> statistics = new LinkedHashMap<>();
+		for (StatisticsSource statisticsSource : statisticsSources) {
+			statisticsSource.getRouteStatistics().forEach(routeStatistics -> statistics.merge(routeStatistics.route(),
+					routeStatistics, RouteStatistics::add));
+		}
+
+		List<RouteStatistics> result = new ArrayList<>(statistics.values());
+		result.sort(Comparator.comparing(RouteStatistics::route));
+		return result;
+	}
+
+	/**
+	 * @return the statistics of the whole pool, the route is {@literal total}.
+	 */
+	public RouteStatistics getTotalStatistics() {
+		return statisticsSources.stream() //
+				.map(StatisticsSource::getTotalStatistics) //
+				.reduce(RouteStatistics::add) //
+				.orElseGet(() -> new RouteStatistics(TOTAL, 0, 0, 0, 0, 0, Duration.ZERO));
+	}
+
+	/**
+	 * The statistics of one route of the pool or of the whole pool.
+	 *
+	 * @param route the route, for example {@literal http://localhost:9200}
+	 * @param leased the number of connections that are used by requests
+	 * @param pending the number of requests waiting for a connection
+	 * @param available the number of idle connections
+	 * @param max the maximal number of connections
+	 * @param leaseCount the number of connections that have been leased
+	 * @param leaseWaitTime the accumulated time until a connection was leased, including the time to establish new
+	 *          connections
+	 */
+	public record RouteStatistics(String route, int leased, int pending, int available, int max, long leaseCount,
+			Duration leaseWaitTime) {
+
+		/**
+		 * @return the average time until a connection was leased
+		 */
+		public Duration averageLeaseWaitTime() {
+			return leaseCount == 0 ? Duration.ZERO : leaseWaitTime.dividedBy(leaseCount);
+		}
+
+		RouteStatistics add(RouteStatistics other) {
+			return new RouteStatistics(route, leased + other.leased, pending + other.pending, available + other.available,
+					max + other.max, leaseCount + other.leaseCount, leaseWaitTime.plus(other.leaseWaitTime));
+		}
+	}
+
+	/**
+	 * Provides the statistics of the connection manager of one client.
+	 */
+	public interface StatisticsSource {
+
+		List<RouteStatistics> getRouteStatistics();
+
+		RouteStatistics getTotalStatistics();
+	}
+
+	/**
+	 * Builder for {@link ConnectionPool}.
+	 */
+	public static final class Builder {
+
+		private int maxConnectionsPerRoute = 10;
+		private int maxConnectionsTotal = 30;
+		@Nullable private Duration keepAlive;
+		private int ioThreadCount = Runtime.getRuntime().availableProcessors();
+
+		private Builder() {}
+
+		public Builder withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+
+			Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than 0");
+
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		public Builder withMaxConnectionsTotal(int maxConnectionsTotal) {
+
+			Assert.isTrue(maxConnectionsTotal > 0, "maxConnectionsTotal must be greater than 0");
+
+			this.maxConnectionsTotal = maxConnectionsTotal;
+			return this;
+		}
+
+		/**
+		 * @param keepAlive the maximal time an idle connection is kept; if the server sends a shorter keep alive, that one
+		 *          is used.
+		 */
+		public Builder withKeepAlive(Duration keepAlive) {
+
+			Assert.notNull(keepAlive, "keepAlive must not be null");
+			Assert.isTrue(!keepAlive.isNegative() && !keepAlive.isZero(), "keepAlive must be positive");
+
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		/**
+		 * @param ioThreadCount the number of I/O dispatcher threads of the client
+		 */
+		public Builder withIoThreadCount(int ioThreadCount) {
+
+			Assert.isTrue(ioThreadCount > 0, "ioThreadCount must be greater than 0");
+
+			this.ioThreadCount = ioThreadCount;
+			return this;
+		}
+
+		public ConnectionPool build() {
+			return new ConnectionPool(maxConnectionsPerRoute, maxConnectionsTotal, keepAlive, ioThreadCount);
+		}
+	}
+}
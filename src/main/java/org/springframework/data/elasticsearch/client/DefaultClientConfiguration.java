@@ -50,11 +50,15 @@ class DefaultClientConfiguration implements ClientConfiguration {
 	@Nullable private final String proxy;
 	private final Supplier<HttpHeaders> headersSupplier;
 	private final List<ClientConfigurationCallback<?>> clientConfigurers;
+	@Nullable private final LoadProtection loadProtection;
+	@Nullable private final Sniffing sniffing;
+	@Nullable private final ConnectionPool connectionPool;
 
 	DefaultClientConfiguration(List<InetSocketAddress> hosts, HttpHeaders headers, boolean useSsl,
 			@Nullable SSLContext sslContext, @Nullable String caFingerprint, Duration soTimeout, Duration connectTimeout,
 			@Nullable String pathPrefix, @Nullable HostnameVerifier hostnameVerifier, @Nullable String proxy,
-			List<ClientConfigurationCallback<?>> clientConfigurers, Supplier<HttpHeaders> headersSupplier) {
+			List<ClientConfigurationCallback<?>> clientConfigurers, Supplier<HttpHeaders> headersSupplier,
+			@Nullable LoadProtection loadProtection, @Nullable Sniffing sniffing, @Nullable ConnectionPool connectionPool) {
 
 		this.hosts = List.copyOf(hosts);
 		this.headers = headers;
@@ -68,6 +72,9 @@ class DefaultClientConfiguration implements ClientConfiguration {
 		this.proxy = proxy;
 		this.clientConfigurers = clientConfigurers;
 		this.headersSupplier = headersSupplier;
+		this.loadProtection = loadProtection;
+		this.sniffing = sniffing;
+		this.connectionPool = connectionPool;
 	}
 
 	@Override
@@ -130,4 +137,19 @@ class DefaultClientConfiguration implements ClientConfiguration {
 	public Supplier<HttpHeaders> getHeadersSupplier() {
 		return headersSupplier;
 	}
+
+	@Override
+	public Optional<LoadProtection> getLoadProtection() {
+		return Optional.ofNullable(loadProtection);
+	}
+
+	@Override
+	public Optional<Sniffing> getSniffing() {
+		return Optional.ofNullable(sniffing);
+	}
+
+	@Override
+	public Optional<ConnectionPool> getConnectionPool() {
+		return Optional.ofNullable(connectionPool);
+	}
 }
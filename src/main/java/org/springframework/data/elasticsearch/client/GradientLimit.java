@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+/**
+ * Limit that compares the latency of each request with a long term average of the latencies. While the latency is not
+ * higher than the average multiplied by a tolerance, the limit grows by the square root of the limit; when it is
+ * higher, the limit is reduced by the ratio of the latencies, by half at most. Changes are smoothed, and the limit is
+ * only increased while the requests use at least half of it.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class GradientLimit implements AdaptiveLimit {
+
+	private static final double TOLERANCE = 1.5;
+	private static final double SMOOTHING = 0.2;
+	private static final double DROP_FACTOR = 0.9;
+	private static final int LONG_WINDOW = 600;
+	private static final int WARMUP_SAMPLES = 10;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private double limit;
+	private double longLatency;
+	private long samples;
+
+	GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+	}
+
+	@Override
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	@Override
+	public synchronized void onSample(long latencyNanos, int inFlight, boolean dropped) {
+
+		if (dropped) {
+			limit = clamp(limit * DROP_FACTOR);
+			return;
+		}
+
+		double shortLatency = latencyNanos;
+		samples++;
+
+		// a plain average during warmup, then an exponential average over the long window
+		if (samples <= WARMUP_SAMPLES) {
+			longLatency += (shortLatency - longLatency) / samples;
+			return;
+		}
+		longLatency += (shortLatency - longLatency) * 2 / (LONG_WINDOW + 1);
+
+		// after a period of high latencies the average recovers faster
+		if (longLatency / shortLatency > 2) {
+			longLatency *= 0.95;
+		}
+
+		if (inFlight < limit / 2) {
+			return;
+		}
+
+		double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / Math.max(1, shortLatency)));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		limit = clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+	}
+
+	private double clamp(double value) {
+		return Math.max(minLimit, Math.min(maxLimit, value));
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The load protection state of one host: the requests in flight, the adaptive limit and the circuit breaker.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class HostLoadProtection {
+
+	private final AdaptiveLimit limit;
+	private final CircuitBreaker circuitBreaker;
+	private final long inFlightTimeoutNanos;
+	private final Deque<LoadProtection.Permit> inFlight = new ConcurrentLinkedDeque<>();
+	private final AtomicInteger inFlightCount = new AtomicInteger();
+
+	HostLoadProtection(AdaptiveLimit limit, CircuitBreaker circuitBreaker, Duration inFlightTimeout) {
+		this.limit = limit;
+		this.circuitBreaker = circuitBreaker;
+		this.inFlightTimeoutNanos = inFlightTimeout.toNanos();
+	}
+
+	boolean isAvailable() {
+
+		expireInFlight();
+		return inFlightCount.get() < limit.getLimit() && circuitBreaker.allowsRequest();
+	}
+
+	/**
+	 * takes a permit when the limit is not reached and the circuit breaker allows a request. The number of requests in
+	 * flight is increased with a compare and set, so concurrent callers cannot exceed the limit.
+	 */
+	LoadProtection.@Nullable Permit tryAcquire() {
+
+		expireInFlight();
+
+		int count;
+		do {
+			count = inFlightCount.get();
+			if (count >= limit.getLimit()) {
+				return null;
+			}
+		} while (!inFlightCount.compareAndSet(count, count + 1));
+
+		CircuitBreaker.Admission admission = circuitBreaker.tryRequest();
+
+		if (admission == CircuitBreaker.Admission.REJECTED) {
+			inFlightCount.decrementAndGet();
+			return null;
+		}
+
+		LoadProtection.Permit permit = new LoadProtection.Permit(this, admission == CircuitBreaker.Admission.TRIAL);
+		inFlight.add(permit);
+		return permit;
+	}
+
+	void release(LoadProtection.Permit permit, long latencyNanos, boolean overloaded) {
+		release(permit, latencyNanos, overloaded, false);
+	}
+
+	/**
+	 * releases a request that failed, the failure reduces the limit and is counted by the circuit breaker.
+	 */
+	void fail(LoadProtection.Permit permit, long latencyNanos) {
+		release(permit, latencyNanos, true, true);
+	}
+
+	/**
+	 * releases a request that was not sent or whose outcome is not known, without changing the limit or the circuit
+	 * breaker.
+	 */
+	void cancel(LoadProtection.Permit permit) {
+
+		inFlight.remove(permit);
+		if (permit.markReleased()) {
+			inFlightCount.decrementAndGet();
+
+			if (permit.isTrial()) {
+				circuitBreaker.onTrialCancelled();
+			}
+		}
+	}
+
+	private void release(LoadProtection.Permit permit, long latencyNanos, boolean overloaded, boolean failed) {
+
+		inFlight.remove(permit);
+		if (!permit.markReleased()) {
+			return;
+		}
+
+		int inFlightAtResponse = inFlightCount.getAndDecrement();
+		limit.onSample(latencyNanos, inFlightAtResponse, overloaded);
+
+		if (failed) {
+			circuitBreaker.onFailure();
+		} else if (!overloaded) {
+			// an overload response does not tell that the host is down
+			circuitBreaker.onSuccess();
+		}
+	}
+
+	LoadProtection.CircuitState getCircuitState() {
+		return circuitBreaker.getState();
+	}
+
+	LoadProtection.HostStatus status(String host) {
+
+		expireInFlight();
+		return new LoadProtection.HostStatus(host, circuitBreaker.getState(), limit.getLimit(), inFlightCount.get());
+	}
+
+	/**
+	 * Requests that were neither released by a response nor by a failure, for example cancelled ones, are removed when
+	 * they are older than the in-flight timeout.
+	 */
+	private void expireInFlight() {
+
+		long now = System.nanoTime();
+		LoadProtection.Permit oldest;
+		while ((oldest = inFlight.peekFirst()) != null && now - oldest.getStart() > inFlightTimeoutNanos) {
+			if (inFlight.remove(oldest) && oldest.markReleased()) {
+				inFlightCount.decrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Client side load protection for the Elasticsearch hosts. For every host the number of concurrent requests is limited
+ * by an adaptive limit that is calculated from the observed latencies, and a circuit breaker stops sending requests to
+ * a host whose failure rate exceeds a threshold. A request is sent to the next host when the circuit of a host is open
+ * or its limit is reached; when no host is available, the request fails immediately instead of piling up.
+ * <p>
+ * An instance is set with {@link ClientConfiguration.TerminalClientConfigurationBuilder#withLoadProtection}. The
+ * application can keep a reference to it to read the current state of the hosts with {@link #getHostStatus()}. An
+ * instance keeps the state of the hosts it has seen, so it should not be shared between clients connected to different
+ * clusters.
+ * <p>
+ * The node selector of the low level REST client takes the permits for the hosts it selects, the permit of the host the
+ * request is sent to is passed to the request and the others are released. A request that is retried on another host
+ * after a failure takes a new permit and fails when there is none. The outcome of a request is registered by the
+ * interceptors of the HTTP client and, for failures without a response, by the response consumer that is set in the
+ * request options of the transport. A client configuration callback that sets its own node selector disables the load
+ * protection, a request with options that replace the response consumer factory keeps its permit until the in-flight
+ * timeout when it fails without a response.
+ * <p>
+ * Use {@link LoadProtection#builder()} to obtain a builder.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class LoadProtection {
+
+	private final LimitAlgorithm limitAlgorithm;
+	private final int initialLimit;
+	private final int minLimit;
+	private final int maxLimit;
+	private final double failureRateThreshold;
+	private final int failureRateWindow;
+	private final Duration openStateDuration;
+	private final Duration inFlightTimeout;
+	private final Map<String, HostLoadProtection> hosts = new ConcurrentHashMap<>();
+
+	private LoadProtection(Builder builder) {
+		this.limitAlgorithm = builder.limitAlgorithm;
+		this.initialLimit = builder.initialLimit;
+		this.minLimit = builder.minLimit;
+		this.maxLimit = builder.maxLimit;
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.failureRateWindow = builder.failureRateWindow;
+		this.openStateDuration = builder.openStateDuration;
+		this.inFlightTimeout = builder.inFlightTimeout;
+	}
+
+	/**
+	 * @return a new {@link Builder} with the default values: gradient limit starting at 20 concurrent requests and
+	 *         between 1 and 200, the circuit opens for 10 seconds when half of the last 20 requests failed.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public LimitAlgorithm getLimitAlgorithm() {
+		return limitAlgorithm;
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public double getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public int getFailureRateWindow() {
+		return failureRateWindow;
+	}
+
+	public Duration getOpenStateDuration() {
+		return openStateDuration;
+	}
+
+	public Duration getInFlightTimeout() {
+		return inFlightTimeout;
+	}
+
+	/**
+	 * @return the current state of all hosts that requests have been sent to, ordered by host.
+	 */
+	public List<HostStatus> getHostStatus() {
+		return hosts.entrySet().stream() //
+				.map(entry -> entry.getValue().status(entry.getKey())) //
+				.sorted(Comparator.comparing(HostStatus::host)) //
+				.toList();
+	}
+
+	/**
+	 * @param host the host in the form {@literal host:port}
+	 * @return the state of the circuit of the host, {@link CircuitState#CLOSED} for a host that has not been used yet.
+	 */
+	public CircuitState getCircuitState(String host) {
+
+		Assert.notNull(host, "host must not be null");
+
+		HostLoadProtection hostLoadProtection = hosts.get(host);
+		return hostLoadProtection != null ? hostLoadProtection.getCircuitState() : CircuitState.CLOSED;
+	}
+
+	/**
+	 * @param host the host in the form {@literal host:port}
+	 * @return {@literal true} if a request may be sent to the host.
+	 */
+	public boolean isAvailable(String host) {
+		return host(host).isAvailable();
+	}
+
+	/**
+	 * Takes a permit for a request to the host if the limit of concurrent requests is not reached and the circuit breaker
+	 * allows a request. Checking and taking the permit is one atomic step, and in the half open state only one trial
+	 * request gets a permit. The returned permit must be completed, failed or cancelled.
+	 *
+	 * @param host the host in the form {@literal host:port}
+	 * @return the permit for the request, {@literal null} if no request may be sent to the host
+	 */
+	public @Nullable Permit tryAcquire(String host) {
+		return host(host).tryAcquire();
+	}
+
+	private HostLoadProtection host(String host) {
+
+		Assert.notNull(host, "host must not be null");
+
+		return hosts.computeIfAbsent(host, key -> new HostLoadProtection(createLimit(),
+				new CircuitBreaker(failureRateThreshold, failureRateWindow, openStateDuration, inFlightTimeout),
+				inFlightTimeout));
+	}
+
+	private AdaptiveLimit createLimit() {
+		return switch (limitAlgorithm) {
+			case GRADIENT -> new GradientLimit(initialLimit, minLimit, maxLimit);
+			case VEGAS -> new VegasLimit(initialLimit, minLimit, maxLimit);
+		};
+	}
+
+	/**
+	 * A request that has been sent to a host.
+	 */
+	public static final class Permit {
+
+		private final HostLoadProtection host;
+		private final boolean trial;
+		private final long start = System.nanoTime();
+		private boolean released;
+
+		Permit(HostLoadProtection host, boolean trial) {
+			this.host = host;
+			this.trial = trial;
+		}
+
+		long getStart() {
+			return start;
+		}
+
+		boolean isTrial() {
+			return trial;
+		}
+
+		/**
+		 * Completes the request when a response was received. Calling this method more than once has no effect.
+		 *
+		 * @param overloaded {@literal true} if the response indicates that the host rejected the request because it is
+		 *          overloaded, this reduces the limit
+		 */
+		public void complete(boolean overloaded) {
+			host.release(this, System.nanoTime() - start, overloaded);
+		}
+
+		/**
+		 * Completes the request when a response was received that indicates that the host is not able to process
+		 * requests. This reduces the limit and counts as a failure for the circuit breaker. Calling this method after the
+		 * request was completed has no effect.
+		 */
+		public void fail() {
+			host.fail(this, System.nanoTime() - start);
+		}
+
+		/**
+		 * Releases the permit of a request that was not sent or whose outcome is not known, for example a cancelled one.
+		 * This changes neither the limit nor the circuit breaker. Calling this method after the request was completed has
+		 * no effect.
+		 */
+		public void cancel() {
+			host.cancel(this);
+		}
+
+		/**
+		 * @return {@literal true} if the permit was not released before
+		 */
+		synchronized boolean markReleased() {
+
+			if (released) {
+				return false;
+			}
+
+			released = true;
+			return true;
+		}
+	}
+
+	/**
+	 * The algorithm used to calculate the limit of concurrent requests to a host.
+	 */
+	public enum LimitAlgorithm {
+		/**
+		 * Compares the latency of the current requests with a long term average and reduces the limit when the current
+		 * latency is higher. Works well when the latency of a host varies over time.
+		 */
+		GRADIENT,
+		/**
+		 * Estimates the number of queued requests from the difference between the current and the minimal latency and
+		 * keeps it in a small range.
+		 */
+		VEGAS
+	}
+
+	/**
+	 * The state of the circuit breaker of a host.
+	 */
+	public enum CircuitState {
+		/**
+		 * Requests are sent to the host.
+		 */
+		CLOSED,
+		/**
+		 * No requests are sent to the host.
+		 */
+		OPEN,
+		/**
+		 * The open state duration has passed, one trial request is sent to the host to decide whether the circuit is
+		 * closed again.
+		 */
+		HALF_OPEN
+	}
+
+	/**
+	 * The current state of a host.
+	 *
+	 * @param host the host in the form {@literal host:port}
+	 * @param circuitState the state of the circuit breaker
+	 * @param limit the current limit of concurrent requests
+	 * @param inFlight the number of requests in flight
+	 */
+	public record HostStatus(String host, CircuitState circuitState, int limit, int inFlight) {
+	}
+
+	/**
+	 * Builder for {@link LoadProtection}.
+	 */
+	public static final class Builder {
+
+		private LimitAlgorithm limitAlgorithm = LimitAlgorithm.GRADIENT;
+		private int initialLimit = 20;
+		private int minLimit = 1;
+		private int maxLimit = 200;
+		private double failureRateThreshold = 0.5;
+		private int failureRateWindow = 20;
+		private Duration openStateDuration = Duration.ofSeconds(10);
+		private Duration inFlightTimeout = Duration.ofMinutes(1);
+
+		private Builder() {}
+
+		public Builder withLimitAlgorithm(LimitAlgorithm limitAlgorithm) {
+
+			Assert.notNull(limitAlgorithm, "limitAlgorithm must not be null");
+
+			this.limitAlgorithm = limitAlgorithm;
+			return this;
+		}
+
+		/**
+		 * @param initialLimit the limit of concurrent requests per host before any latency is observed
+		 */
+		public Builder withInitialLimit(int initialLimit) {
+
+			Assert.isTrue(initialLimit > 0, "initialLimit must be greater than 0");
+
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * @param minLimit the lower bound of the limit of concurrent requests per host
+		 */
+		public Builder withMinLimit(int minLimit) {
+
+			Assert.isTrue(minLimit > 0, "minLimit must be greater than 0");
+
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		/**
+		 * @param maxLimit the upper bound of the limit of concurrent requests per host
+		 */
+		public Builder withMaxLimit(int maxLimit) {
+
+			Assert.isTrue(maxLimit > 0, "maxLimit must be greater than 0");
+
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * @param failureRateThreshold the rate of failed requests, greater than 0 and at most 1, at which the circuit of a
+		 *          host is opened.
+		 */
+		public Builder withFailureRateThreshold(double failureRateThreshold) {
+
+			Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+					"failureRateThreshold must be greater than 0 and at most 1");
+
+			this.failureRateThreshold = failureRateThreshold;
+			return this;
+		}
+
+		/**
+		 * @param failureRateWindow the number of recent requests of which the failure rate is calculated. The circuit is
+		 *          not opened before that number of requests was sent to the host.
+		 */
+		public Builder withFailureRateWindow(int failureRateWindow) {
+
+			Assert.isTrue(failureRateWindow > 0, "failureRateWindow must be greater than 0");
+
+			this.failureRateWindow = failureRateWindow;
+			return this;
+		}
+
+		/**
+		 * @param openStateDuration how long no requests are sent to a host after its circuit was opened.
+		 */
+		public Builder withOpenStateDuration(Duration openStateDuration) {
+
+			Assert.notNull(openStateDuration, "openStateDuration must not be null");
+			Assert.isTrue(!openStateDuration.isNegative(), "openStateDuration must not be negative");
+
+			this.openStateDuration = openStateDuration;
+			return this;
+		}
+
+		/**
+		 * @param inFlightTimeout the time after which a request without response is no longer counted as in flight. This
+		 *          should be longer than the socket timeout of the client. Requests that fail or are cancelled are released
+		 *          when this is registered, this timeout only releases requests whose outcome is never registered, for
+		 *          example ones sent with request options that replace the response consumer factory of the client.
+		 */
+		public Builder withInFlightTimeout(Duration inFlightTimeout) {
+
+			Assert.notNull(inFlightTimeout, "inFlightTimeout must not be null");
+			Assert.isTrue(!inFlightTimeout.isNegative() && !inFlightTimeout.isZero(), "inFlightTimeout must be positive");
+
+			this.inFlightTimeout = inFlightTimeout;
+			return this;
+		}
+
+		public LoadProtection build() {
+
+			Assert.isTrue(minLimit <= maxLimit, "minLimit must not be greater than maxLimit");
+			Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+					"initialLimit must be between minLimit and maxLimit");
+
+			return new LoadProtection(this);
+		}
+	}
+}
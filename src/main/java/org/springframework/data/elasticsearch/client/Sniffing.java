@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the node sniffing of a client. When sniffing is enabled, the client periodically requests the HTTP
+ * enabled nodes of the cluster from the {@literal _nodes/http} endpoint and sends its requests to these nodes instead
+ * of the configured endpoints, which are only used to find the cluster. After a node failed, the nodes are sniffed
+ * again sooner.
+ * <p>
+ * The host selection skips nodes that are only master eligible. With latency aware selection, nodes whose recent
+ * latency is higher than the lowest recent latency multiplied by the latency tolerance are skipped as long as there are
+ * faster nodes; at least half of the nodes are always kept. Only the latencies of read requests are measured.
+ * <p>
+ * Use {@link Sniffing#builder()} to obtain a builder.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class Sniffing {
+
+	private final Duration interval;
+	private final Duration intervalAfterFailure;
+	private final Duration timeout;
+	private final boolean latencyAwareSelection;
+	private final double latencyTolerance;
+
+	private Sniffing(Duration interval, Duration intervalAfterFailure, Duration timeout, boolean latencyAwareSelection,
+			double latencyTolerance) {
+		this.interval = interval;
+		this.intervalAfterFailure = intervalAfterFailure;
+		this.timeout = timeout;
+		this.latencyAwareSelection = latencyAwareSelection;
+		this.latencyTolerance = latencyTolerance;
+	}
+
+	/**
+	 * @return a new {@link Builder} with the default values: sniffing every 5 minutes and 1 minute after a failure, a
+	 *         timeout of 1 second for the nodes request and latency aware selection with a tolerance of 2.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return the interval between two sniffing requests
+	 */
+	public Duration getInterval() {
+		return interval;
+	}
+
+	/**
+	 * @return the delay after a node failure after which the nodes are sniffed
+	 */
+	public Duration getIntervalAfterFailure() {
+		return intervalAfterFailure;
+	}
+
+	/**
+	 * @return the timeout for the nodes request
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @return {@literal true} if nodes with a high recent latency are skipped
+	 */
+	public boolean isLatencyAwareSelection() {
+		return latencyAwareSelection;
+	}
+
+	/**
+	 * @return the factor of the lowest recent latency up to which a node is selected
+	 */
+	public double getLatencyTolerance() {
+		return latencyTolerance;
+	}
+
+	/**
+	 * Builder for {@link Sniffing}.
+	 */
+	public static final class Builder {
+
+		private Duration interval = Duration.ofMinutes(5);
+		private Duration intervalAfterFailure = Duration.ofMinutes(1);
+		private Duration timeout = Duration.ofSeconds(1);
+		private boolean latencyAwareSelection = true;
+		private double latencyTolerance = 2.0;
+
+		private Builder() {}
+
+		public Builder withInterval(Duration interval) {
+
+			Assert.notNull(interval, "interval must not be null");
+			Assert.isTrue(!interval.isNegative() && !interval.isZero(), "interval must be positive");
+
+			this.interval = interval;
+			return this;
+		}
+
+		public Builder withIntervalAfterFailure(Duration intervalAfterFailure) {
+
+			Assert.notNull(intervalAfterFailure, "intervalAfterFailure must not be null");
+			Assert.isTrue(!intervalAfterFailure.isNegative(), "intervalAfterFailure must not be negative");
+
+			this.intervalAfterFailure = intervalAfterFailure;
+			return this;
+		}
+
+		public Builder withTimeout(Duration timeout) {
+
+			Assert.notNull(timeout, "timeout must not be null");
+			Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+
+			this.timeout = timeout;
+			return this;
+		}
+
+		public Builder withLatencyAwareSelection(boolean latencyAwareSelection) {
+			this.latencyAwareSelection = latencyAwareSelection;
+			return this;
+		}
+
+		/**
+		 * @param latencyTolerance the factor of the lowest recent latency up to which a node is selected, must be at least
+		 *          1
+		 */
+		public Builder withLatencyTolerance(double latencyTolerance) {
+
+			Assert.isTrue(latencyTolerance >= 1, "latencyTolerance must be at least 1");
+
+			this.latencyTolerance = latencyTolerance;
+			return this;
+		}
+
+		public Sniffing build() {
+			return new Sniffing(interval, intervalAfterFailure, timeout, latencyAwareSelection, latencyTolerance);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+/**
+ * Limit that estimates the number of requests queued at the host from the ratio of the minimal latency and the current
+ * latency. The limit is increased while the estimated queue is small and decreased when it grows, both by steps that
+ * grow with the logarithm of the limit. The minimal latency is measured again after a number of samples so that the
+ * limit can follow a host that became permanently slower.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class VegasLimit implements AdaptiveLimit {
+
+	private static final double DROP_FACTOR = 0.9;
+	private static final int PROBE_INTERVAL = 1000;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private double limit;
+	private long minLatency = Long.MAX_VALUE;
+	private long samplesSinceProbe;
+
+	VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+	}
+
+	@Override
+	public synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	@Override
+	public synchronized void onSample(long latencyNanos, int inFlight, boolean dropped) {
+
+		if (dropped) {
+			limit = clamp(limit * DROP_FACTOR);
+			return;
+		}
+
+		if (++samplesSinceProbe >= PROBE_INTERVAL) {
+			samplesSinceProbe = 0;
+			minLatency = Long.MAX_VALUE;
+		}
+
+		if (latencyNanos <= 0) {
+			return;
+		}
+
+		if (latencyNanos < minLatency) {
+			minLatency = latencyNanos;
+			return;
+		}
+
+		if (inFlight * 2 < limit) {
+			return;
+		}
+
+		double step = AdaptiveLimit.log10Step(limit);
+		double alpha = 3 * step;
+		double beta = 6 * step;
+		double queueSize = Math.ceil(limit * (1 - (double) minLatency / latencyNanos));
+
+		if (queueSize <= step) {
+			limit = clamp(limit + beta);
+		} else if (queueSize < alpha) {
+			limit = clamp(limit + step);
+		} else if (queueSize > beta) {
+			limit = clamp(limit - step);
+		}
+	}
+
+	private double clamp(double value) {
+		return Math.max(minLimit, Math.min(maxLimit, value));
+	}
+}
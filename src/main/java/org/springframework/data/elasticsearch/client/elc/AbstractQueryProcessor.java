@@ -19,6 +19,7 @@ import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
 
@@ -41,6 +42,20 @@ public abstract class AbstractQueryProcessor {
 
 	static co.elastic.clients.elasticsearch._types.query_dsl.@Nullable Query getEsQuery(@Nullable Query query,
 			@Nullable Consumer<Query> queryConverter) {
+		return getEsQuery(query, queryConverter, CriteriaQueryMode.DEFAULT);
+	}
+
+	/**
+	 * Convert a spring-data-elasticsearch {@literal query} to an Elasticsearch {@literal query}.
+	 *
+	 * @param query spring-data-elasticsearch {@literal query}.
+	 * @param queryConverter correct mapped field names and the values to the converted values.
+	 * @param criteriaQueryMode how to convert the criteria of a {@link CriteriaQuery}
+	 * @return an Elasticsearch {@literal query}.
+	 * @since 6.0
+	 */
+	static co.elastic.clients.elasticsearch._types.query_dsl.@Nullable Query getEsQuery(@Nullable Query query,
+			@Nullable Consumer<Query> queryConverter, CriteriaQueryMode criteriaQueryMode) {
 		if (query == null) {
 			return null;
 		}
@@ -52,14 +67,14 @@ public abstract class AbstractQueryProcessor {
 		co.elastic.clients.elasticsearch._types.query_dsl.Query esQuery = null;
 
 		if (query instanceof CriteriaQuery criteriaQuery) {
-			esQuery = CriteriaQueryProcessor.createQuery(criteriaQuery.getCriteria());
+			esQuery = CriteriaQueryProcessor.createQuery(criteriaQuery.getCriteria(), criteriaQueryMode);
 		} else if (query instanceof StringQuery stringQuery) {
 			esQuery = Queries.wrapperQueryAsQuery(stringQuery.getSource());
 		} else if (query instanceof NativeQuery nativeQuery) {
 			if (nativeQuery.getQuery() != null) {
 				esQuery = nativeQuery.getQuery();
 			} else if (nativeQuery.getSpringDataQuery() != null) {
-				esQuery = getEsQuery(nativeQuery.getSpringDataQuery(), queryConverter);
+				esQuery = getEsQuery(nativeQuery.getSpringDataQuery(), queryConverter, criteriaQueryMode);
 			}
 		} else {
 			throw new IllegalArgumentException("unhandled Query implementation " + query.getClass().getName());
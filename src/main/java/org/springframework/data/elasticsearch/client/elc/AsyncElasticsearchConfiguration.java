@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.transport.ElasticsearchTransport;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Extension of {@link ElasticsearchConfiguration} that additionally provides an {@link ElasticsearchAsyncClient} and
+ * an {@link AsyncElasticsearchOperations} bean. Applications that want to use the asynchronous operations derive their
+ * configuration class from this class instead of {@link ElasticsearchConfiguration}. The asynchronous client shares
+ * the transport with the imperative client.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public abstract class AsyncElasticsearchConfiguration extends ElasticsearchConfiguration {
+
+	/**
+	 * Provides the {@link ElasticsearchAsyncClient} to be used, it shares the transport with the
+	 * {@link co.elastic.clients.elasticsearch.ElasticsearchClient}.
+	 *
+	 * @param transport the {@link ElasticsearchTransport} to use
+	 * @return ElasticsearchAsyncClient instance
+	 */
+	@Bean
+	public ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchTransport transport) {
+
+		Assert.notNull(transport, "transport must not be null");
+
+		return ElasticsearchClients.createAsync(transport);
+	}
+
+	/**
+	 * Creates a {@link AsyncElasticsearchOperations} implementation using an {@link ElasticsearchAsyncClient}.
+	 *
+	 * @return never {@literal null}.
+	 */
+	@Bean(name = { "asyncElasticsearchOperations", "asyncElasticsearchTemplate" })
+	public AsyncElasticsearchOperations asyncElasticsearchOperations(ElasticsearchConverter elasticsearchConverter,
+			ElasticsearchAsyncClient elasticsearchAsyncClient) {
+
+		AsyncElasticsearchTemplate template = new AsyncElasticsearchTemplate(elasticsearchAsyncClient,
+				elasticsearchConverter);
+		template.setRefreshPolicy(refreshPolicy());
+		template.setCriteriaQueryMode(criteriaQueryMode());
+		template.setConversionExecutor(conversionExecutor());
+
+		return template;
+	}
+
+	/**
+	 * Override this method to provide the {@link Executor} on which the {@link AsyncElasticsearchTemplate} converts the
+	 * responses into entities.
+	 *
+	 * @return the executor to use, defaults to the {@link ForkJoinPool#commonPool() common pool}
+	 */
+	protected Executor conversionExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+}
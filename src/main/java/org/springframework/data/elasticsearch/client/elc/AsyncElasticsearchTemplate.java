@@ -0,0 +1,835 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.cluster.ElasticsearchClusterClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteRequest;
+import co.elastic.clients.elasticsearch.core.ExistsRequest;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.IndexRequest;
+import co.elastic.clients.elasticsearch.core.MgetRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.RefreshRequest;
+import co.elastic.clients.json.JsonpMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.EntityOperations;
+import org.springframework.data.elasticsearch.core.IndexedObjectInformation;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
+import org.springframework.data.elasticsearch.core.SearchHitMapping;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+import org.springframework.data.elasticsearch.core.event.AfterConvertCallback;
+import org.springframework.data.elasticsearch.core.event.AfterLoadCallback;
+import org.springframework.data.elasticsearch.core.event.AfterSaveCallback;
+import org.springframework.data.elasticsearch.core.event.BeforeConvertCallback;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.CreateIndexSettings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.SearchTemplateQuery;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.routing.DefaultRoutingResolver;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link AsyncElasticsearchOperations} using the {@link ElasticsearchAsyncClient}. Requests are
+ * created with the same {@link RequestConverter} and responses are processed with the same adapters and entity
+ * callbacks as in {@link ElasticsearchTemplate}, so an entity is stored and read in the same way by both templates.
+ * <p>
+ * The futures returned by the client are completed on the I/O threads of the transport. The conversion of the
+ * responses into entities is not done on these threads but on the {@link #setConversionExecutor(Executor) conversion
+ * executor}, which defaults to the {@link ForkJoinPool#commonPool() common pool}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class AsyncElasticsearchTemplate implements AsyncElasticsearchOperations, ApplicationContextAware {
+
+	private final ElasticsearchAsyncClient client;
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final JsonpMapper jsonpMapper;
+	private final RequestConverter requestConverter;
+	private final ElasticsearchExceptionTranslator exceptionTranslator;
+	private final EntityOperations entityOperations;
+
+	@Nullable private EntityCallbacks entityCallbacks;
+	@Nullable private RefreshPolicy refreshPolicy;
+	private RoutingResolver routingResolver;
+	private Executor conversionExecutor = ForkJoinPool.commonPool();
+
+	// region _initialization
+	public AsyncElasticsearchTemplate(ElasticsearchAsyncClient client) {
+		this(client, createElasticsearchConverter());
+	}
+
+	public AsyncElasticsearchTemplate(ElasticsearchAsyncClient client, ElasticsearchConverter elasticsearchConverter) {
+
+		Assert.notNull(client, "client must not be null");
+		Assert.notNull(elasticsearchConverter, "elasticsearchConverter must not be null");
+
+		this.client = client;
+		this.elasticsearchConverter = elasticsearchConverter;
+		this.jsonpMapper = client._transport().jsonpMapper();
+		this.requestConverter = new RequestConverter(elasticsearchConverter, jsonpMapper);
+		this.exceptionTranslator = new ElasticsearchExceptionTranslator(jsonpMapper);
+		this.entityOperations = new EntityOperations(elasticsearchConverter.getMappingContext());
+		this.routingResolver = new DefaultRoutingResolver(elasticsearchConverter.getMappingContext());
+	}
+
+	private static ElasticsearchConverter createElasticsearchConverter() {
+
+		MappingElasticsearchConverter mappingElasticsearchConverter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		mappingElasticsearchConverter.afterPropertiesSet();
+		return mappingElasticsearchConverter;
+	}
+
+	private AsyncElasticsearchTemplate copy() {
+
+		AsyncElasticsearchTemplate copy = new AsyncElasticsearchTemplate(client, elasticsearchConverter);
+		copy.entityCallbacks = entityCallbacks;
+		copy.refreshPolicy = refreshPolicy;
+		copy.routingResolver = routingResolver;
+		copy.conversionExecutor = conversionExecutor;
+		copy.setCriteriaQueryMode(getCriteriaQueryMode());
+		return copy;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+
+		if (entityCallbacks == null) {
+			setEntityCallbacks(EntityCallbacks.create(applicationContext));
+		}
+
+		if (elasticsearchConverter instanceof ApplicationContextAware contextAware) {
+			contextAware.setApplicationContext(applicationContext);
+		}
+	}
+
+	/**
+	 * Set the {@link EntityCallbacks} instance to use when invoking {@link EntityCallbacks callbacks} like the
+	 * {@link BeforeConvertCallback}. Overrides potentially existing {@link EntityCallbacks}.
+	 *
+	 * @param entityCallbacks must not be {@literal null}.
+	 */
+	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
+
+		Assert.notNull(entityCallbacks, "entityCallbacks must not be null");
+
+		this.entityCallbacks = entityCallbacks;
+	}
+
+	public void setRefreshPolicy(@Nullable RefreshPolicy refreshPolicy) {
+		this.refreshPolicy = refreshPolicy;
+	}
+
+	@Nullable
+	public RefreshPolicy getRefreshPolicy() {
+		return refreshPolicy;
+	}
+
+	/**
+	 * Sets how the criteria of a {@link org.springframework.data.elasticsearch.core.query.CriteriaQuery} are converted
+	 * into Elasticsearch queries, defaults to {@link CriteriaQueryMode#DEFAULT}.
+	 *
+	 * @param criteriaQueryMode the mode to use, must not be {@literal null}
+	 */
+	public void setCriteriaQueryMode(CriteriaQueryMode criteriaQueryMode) {
+		requestConverter.setCriteriaQueryMode(criteriaQueryMode);
+	}
+
+	/**
+	 * @return how the criteria of a {@link org.springframework.data.elasticsearch.core.query.CriteriaQuery} are converted
+	 *         into Elasticsearch queries
+	 */
+	public CriteriaQueryMode getCriteriaQueryMode() {
+		return requestConverter.getCriteriaQueryMode();
+	}
+
+	/**
+	 * Sets the {@link Executor} on which the responses are converted into entities and the entity callbacks are invoked,
+	 * so that this work does not block the I/O threads of the transport. Defaults to the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param conversionExecutor the executor to use, must not be {@literal null}
+	 */
+	public void setConversionExecutor(Executor conversionExecutor) {
+
+		Assert.notNull(conversionExecutor, "conversionExecutor must not be null");
+
+		this.conversionExecutor = conversionExecutor;
+	}
+
+	/**
+	 * @return the {@link Executor} on which the responses are converted into entities
+	 */
+	public Executor getConversionExecutor() {
+		return conversionExecutor;
+	}
+
+	@Override
+	public AsyncElasticsearchOperations withRouting(RoutingResolver routingResolver) {
+
+		Assert.notNull(routingResolver, "routingResolver must not be null");
+
+		AsyncElasticsearchTemplate copy = copy();
+		copy.routingResolver = routingResolver;
+		return copy;
+	}
+
+	@Override
+	public AsyncElasticsearchOperations withRefreshPolicy(@Nullable RefreshPolicy refreshPolicy) {
+
+		AsyncElasticsearchTemplate copy = copy();
+		copy.refreshPolicy = refreshPolicy;
+		return copy;
+	}
+	// endregion
+
+	// region document operations
+	@Override
+	public <T> CompletableFuture<T> save(T entity) {
+
+		Assert.notNull(entity, "entity must not be null");
+
+		return save(entity, getIndexCoordinatesFor(entity.getClass()));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T entity, IndexCoordinates index) {
+
+		Assert.notNull(entity, "entity must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		T entityAfterBeforeConvert = maybeCallbackBeforeConvert(entity, index);
+		IndexQuery query = getIndexQuery(entityAfterBeforeConvert);
+
+		// noinspection unchecked
+		return map(doIndex(query, index),
+				documentId -> (T) maybeCallbackAfterSave(Objects.requireNonNull(query.getObject()), index));
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> save(Iterable<T> entities) {
+
+		Assert.notNull(entities, "entities must not be null");
+
+		Iterator<T> iterator = entities.iterator();
+		if (iterator.hasNext()) {
+			return save(entities, getIndexCoordinatesFor(iterator.next().getClass()));
+		}
+
+		return CompletableFuture.completedFuture(Collections.emptyList());
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> save(Iterable<T> entities, IndexCoordinates index) {
+
+		Assert.notNull(entities, "entities must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		List<IndexQuery> indexQueries = Streamable.of(entities).stream().map(this::getIndexQuery).toList();
+
+		if (indexQueries.isEmpty()) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		// the bulk operation has updated the objects in the queries with the indexed object information
+		// noinspection unchecked
+		return map(bulkIndex(indexQueries, BulkOptions.defaultOptions(), index),
+				indexedObjectInformationList -> indexQueries.stream() //
+						.map(indexQuery -> (T) indexQuery.getObject()) //
+						.toList());
+	}
+
+	@Override
+	public CompletableFuture<String> index(IndexQuery query, IndexCoordinates index) {
+
+		maybeCallbackBeforeConvertWithQuery(query, index);
+
+		return map(doIndex(query, index), documentId -> {
+			maybeCallbackAfterSaveWithQuery(query, index);
+			return documentId;
+		});
+	}
+
+	private CompletableFuture<String> doIndex(IndexQuery query, IndexCoordinates index) {
+
+		IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, index, refreshPolicy);
+
+		return map(execute(client -> client.index(indexRequest)), indexResponse -> {
+			Object queryObject = query.getObject();
+
+			if (queryObject != null) {
+				query.setObject(entityOperations.updateIndexedObject( //
+						queryObject, //
+						new IndexedObjectInformation( //
+								indexResponse.id(), //
+								indexResponse.index(), //
+								indexResponse.seqNo(), //
+								indexResponse.primaryTerm(), //
+								indexResponse.version()), //
+						elasticsearchConverter, //
+						routingResolver));
+			}
+
+			return indexResponse.id();
+		});
+	}
+
+	@Override
+	public <T> CompletableFuture<@Nullable T> get(String id, Class<T> clazz) {
+		return get(id, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> CompletableFuture<@Nullable T> get(String id, Class<T> clazz, IndexCoordinates index) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
+				routingResolver.getRouting(), index);
+
+		return map(execute(client -> client.get(getRequest, EntityAsMap.class)),
+				getResponse -> readDocument(DocumentAdapters.from(getResponse), clazz, index));
+	}
+
+	@Override
+	public <T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz) {
+		return multiGet(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+
+		MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
+
+		return map(execute(client -> client.mget(request, EntityAsMap.class)),
+				mgetResponse -> DocumentAdapters.from(mgetResponse).stream() //
+						.map(multiGetItem -> MultiGetItem.of( //
+								multiGetItem.isFailed() ? null : readDocument(multiGetItem.getItem(), clazz, index),
+								multiGetItem.getFailure())) //
+						.toList());
+	}
+
+	@Override
+	public CompletableFuture<Boolean> exists(String id, Class<?> clazz) {
+		return exists(id, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> exists(String id, IndexCoordinates index) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		ExistsRequest request = requestConverter.documentExistsRequest(id, routingResolver.getRouting(), index);
+
+		return map(execute(client -> client.exists(request)), booleanResponse -> booleanResponse.value());
+	}
+
+	@Override
+	public CompletableFuture<String> delete(String id, Class<?> entityType) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(entityType, "entityType must not be null");
+
+		return delete(id, getIndexCoordinatesFor(entityType));
+	}
+
+	@Override
+	public CompletableFuture<String> delete(String id, IndexCoordinates index) {
+
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		DeleteRequest request = requestConverter.documentDeleteRequest(elasticsearchConverter.convertId(id),
+				routingResolver.getRouting(), index, refreshPolicy);
+
+		return map(execute(client -> client.delete(request)), deleteResponse -> deleteResponse.id());
+	}
+
+	@Override
+	public CompletableFuture<String> delete(Object entity) {
+
+		Assert.notNull(entity, "entity must not be null");
+
+		String entityId = getEntityId(entity);
+		Assert.notNull(entityId, "entity must have an id that is notnull");
+
+		return delete(entityId, getIndexCoordinatesFor(entity.getClass()));
+	}
+
+	@Override
+	public CompletableFuture<List<IndexedObjectInformation>> bulkIndex(List<IndexQuery> queries, Class<?> clazz) {
+		return bulkIndex(queries, BulkOptions.defaultOptions(), getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public CompletableFuture<List<IndexedObjectInformation>> bulkIndex(List<IndexQuery> queries,
+			BulkOptions bulkOptions, IndexCoordinates index) {
+
+		Assert.notNull(queries, "List of IndexQuery must not be null");
+		Assert.notNull(bulkOptions, "BulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return bulkOperation(queries, bulkOptions, index);
+	}
+
+	@Override
+	public CompletableFuture<Void> bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		Assert.notNull(queries, "queries must not be null");
+		Assert.notNull(bulkOptions, "bulkOptions must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		return map(bulkOperation(queries, bulkOptions, index), indexedObjectInformationList -> null);
+	}
+
+	private CompletableFuture<List<IndexedObjectInformation>> bulkOperation(List<?> queries, BulkOptions bulkOptions,
+			IndexCoordinates index) {
+
+		queries.forEach(query -> maybeCallbackBeforeConvertWithQuery(query, index));
+
+		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
+
+		return map(execute(client -> client.bulk(bulkRequest)), bulkResponse -> {
+			List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
+			updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
+			queries.forEach(query -> maybeCallbackAfterSaveWithQuery(query, index));
+			return indexedObjectInformationList;
+		});
+	}
+	// endregion
+
+	// region search operations
+	@Override
+	public CompletableFuture<Long> count(Query query, Class<?> clazz) {
+		return count(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public CompletableFuture<Long> count(Query query, @Nullable Class<?> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
+				true);
+
+		return map(execute(client -> client.search(searchRequest, EntityAsMap.class)),
+				searchResponse -> searchResponse.hits().total().value());
+	}
+
+	@Override
+	public <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz) {
+		return search(query, clazz, getIndexCoordinatesFor(clazz));
+	}
+
+	@Override
+	public <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz, IndexCoordinates index) {
+
+		Assert.notNull(query, "query must not be null");
+		Assert.notNull(clazz, "clazz must not be null");
+		Assert.notNull(index, "index must not be null");
+
+		SearchDocumentResponse.EntityCreator<T> entityCreator = searchDocument -> CompletableFuture
+				.completedFuture(readDocument(searchDocument, clazz, index));
+
+		if (query instanceof SearchTemplateQuery searchTemplateQuery) {
+			var searchTemplateRequest = requestConverter.searchTemplate(searchTemplateQuery, routingResolver.getRouting(),
+					index);
+			return map(execute(client -> client.searchTemplate(searchTemplateRequest, EntityAsMap.class)),
+					response -> mapHits(SearchDocumentResponseBuilder.from(response, entityCreator, jsonpMapper), clazz,
+							index, searchTemplateQuery.getCompactSearchHits()));
+		}
+
+		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
+				false);
+		return map(execute(client -> client.search(searchRequest, EntityAsMap.class)),
+				response -> mapHits(SearchDocumentResponseBuilder.from(response, entityCreator, jsonpMapper), clazz, index,
+						query.getCompactSearchHits()));
+	}
+
+	private <T> SearchHits<T> mapHits(SearchDocumentResponse response, Class<T> clazz, IndexCoordinates index,
+			boolean compact) {
+
+		List<T> entities = new ArrayList<>(response.getSearchDocuments().size());
+		response.getSearchDocuments().forEach(searchDocument -> entities.add(readDocument(searchDocument, clazz, index)));
+
+		SearchHitMapping<T> searchHitMapping = SearchHitMapping.mappingFor(clazz, elasticsearchConverter);
+		return compact ? searchHitMapping.mapCompactHits(response, entities)
+				: searchHitMapping.mapHits(response, entities);
+	}
+	// endregion
+
+	// region index operations
+	@Override
+	public CompletableFuture<Boolean> createIndex(Class<?> clazz) {
+
+		Assert.notNull(clazz, "clazz must not be null");
+
+		// the IndicesTemplate is only used to build settings, mapping and aliases, it does not send any request
+		var transport = client._transport();
+		var indicesTemplate = new IndicesTemplate(new ElasticsearchIndicesClient(transport, client._transportOptions()),
+				new ClusterTemplate(new ElasticsearchClusterClient(transport, client._transportOptions()),
+						elasticsearchConverter),
+				elasticsearchConverter, clazz);
+
+		Settings settings = indicesTemplate.createSettings(clazz);
+		Document mapping = indicesTemplate.createMapping(clazz);
+		CreateIndexSettings indexSettings = CreateIndexSettings.builder(getIndexCoordinatesFor(clazz)) //
+				.withAliases(indicesTemplate.getAliasesFor(clazz)) //
+				.withSettings(settings) //
+				.withMapping(mapping) //
+				.build();
+
+		CreateIndexRequest request = requestConverter.indicesCreateRequest(indexSettings);
+
+		return map(execute(client -> client.indices().create(request)),
+				response -> Boolean.TRUE.equals(response.acknowledged()));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> deleteIndex(IndexCoordinates index) {
+
+		Assert.notNull(index, "index must not be null");
+
+		DeleteIndexRequest request = requestConverter.indicesDeleteRequest(index);
+
+		return indexExists(index).thenCompose(exists -> exists //
+				? map(execute(client -> client.indices().delete(request)), response -> response.acknowledged()) //
+				: CompletableFuture.completedFuture(false));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> indexExists(IndexCoordinates index) {
+
+		Assert.notNull(index, "index must not be null");
+
+		var request = requestConverter.indicesExistsRequest(index);
+
+		return map(execute(client -> client.indices().exists(request)), booleanResponse -> booleanResponse.value());
+	}
+
+	@Override
+	public CompletableFuture<Void> refresh(IndexCoordinates index) {
+
+		Assert.notNull(index, "index must not be null");
+
+		RefreshRequest request = requestConverter.indicesRefreshRequest(index);
+
+		return map(execute(client -> client.indices().refresh(request)), response -> null);
+	}
+	// endregion
+
+	// region client callback
+	/**
+	 * Callback interface to be used with {@link #execute(AsyncClientCallback)} for operating directly on the
+	 * {@link ElasticsearchAsyncClient}.
+	 */
+	@FunctionalInterface
+	public interface AsyncClientCallback<T> {
+		CompletableFuture<T> doWithClient(ElasticsearchAsyncClient client);
+	}
+
+	/**
+	 * Execute a callback with the {@link ElasticsearchAsyncClient} and provide exception translation. Cancelling the
+	 * returned future cancels the future returned by the client.
+	 *
+	 * @param callback the callback to execute, must not be {@literal null}
+	 * @param <T> the type returned from the callback
+	 * @return a future with the callback result
+	 */
+	public <T> CompletableFuture<T> execute(AsyncClientCallback<T> callback) {
+
+		Assert.notNull(callback, "callback must not be null");
+
+		CompletableFuture<T> clientFuture;
+		try {
+			clientFuture = callback.doWithClient(client);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(exceptionTranslator.translateException(e));
+		}
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		clientFuture.whenComplete((value, throwable) -> {
+			if (throwable != null) {
+				result.completeExceptionally(exceptionTranslator.translateException(unwrap(throwable)));
+			} else {
+				result.complete(value);
+			}
+		});
+		result.whenComplete((value, throwable) -> {
+			if (result.isCancelled()) {
+				clientFuture.cancel(true);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * applies the mapper to the value of the source future on the conversion executor, cancelling the returned future
+	 * cancels the source future. Exceptions of the mapper are translated like the ones of the client.
+	 */
+	private <S, T> CompletableFuture<T> map(CompletableFuture<S> source, Function<? super S, T> mapper) {
+
+		CompletableFuture<T> result = source.thenApplyAsync(value -> {
+			try {
+				return mapper.apply(value);
+			} catch (RuntimeException e) {
+				throw exceptionTranslator.translateException(e);
+			}
+		}, conversionExecutor);
+		result.whenComplete((value, throwable) -> {
+			if (result.isCancelled()) {
+				source.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+				: throwable;
+	}
+	// endregion
+
+	// region helper methods
+	@Override
+	public ElasticsearchConverter getElasticsearchConverter() {
+		return elasticsearchConverter;
+	}
+
+	@Override
+	public IndexCoordinates getIndexCoordinatesFor(Class<?> clazz) {
+		return elasticsearchConverter.getMappingContext().getRequiredPersistentEntity(clazz).getIndexCoordinates();
+	}
+
+	@Nullable
+	private String getEntityId(Object entity) {
+
+		Object id = entityOperations.forEntity(entity, elasticsearchConverter.getConversionService(), routingResolver)
+				.getId();
+
+		return id != null ? elasticsearchConverter.convertId(id) : null;
+	}
+
+	private <T> IndexQuery getIndexQuery(T entity) {
+
+		EntityOperations.AdaptableEntity<T> adaptableEntity = entityOperations.forEntity(entity,
+				elasticsearchConverter.getConversionService(), routingResolver);
+
+		Object id = adaptableEntity.getId();
+		IndexQueryBuilder builder = new IndexQueryBuilder() //
+				.withId(id != null ? elasticsearchConverter.convertId(id) : null) //
+				.withObject(entity);
+
+		SeqNoPrimaryTerm seqNoPrimaryTerm = adaptableEntity.hasSeqNoPrimaryTerm() ? adaptableEntity.getSeqNoPrimaryTerm()
+				: null;
+
+		if (seqNoPrimaryTerm != null) {
+			builder.withSeqNoPrimaryTerm(seqNoPrimaryTerm);
+		} else {
+			// version cannot be used together with seq_no and primary_term
+			Number version = adaptableEntity.getVersion();
+			builder.withVersion(version instanceof Long longVersion ? longVersion : null);
+		}
+
+		String routing = adaptableEntity.getRouting();
+
+		if (routing != null) {
+			builder.withRouting(routing);
+		}
+
+		return builder.build();
+	}
+
+	@Nullable
+	private <T> T readDocument(@Nullable Document document, Class<T> type, IndexCoordinates index) {
+
+		if (document == null) {
+			return null;
+		}
+
+		Document documentAfterLoad = maybeCallbackAfterLoad(document, type, index);
+
+		T entity = elasticsearchConverter.read(type, documentAfterLoad);
+
+		IndexedObjectInformation indexedObjectInformation = new IndexedObjectInformation( //
+				documentAfterLoad.hasId() ? documentAfterLoad.getId() : null, //
+				documentAfterLoad.getIndex(), //
+				documentAfterLoad.hasSeqNo() ? documentAfterLoad.getSeqNo() : null, //
+				documentAfterLoad.hasPrimaryTerm() ? documentAfterLoad.getPrimaryTerm() : null, //
+				documentAfterLoad.hasVersion() ? documentAfterLoad.getVersion() : null); //
+		entity = entityOperations.updateIndexedObject(entity, indexedObjectInformation, elasticsearchConverter,
+				routingResolver);
+
+		return maybeCallbackAfterConvert(entity, documentAfterLoad, index);
+	}
+
+	private void updateIndexedObjectsWithQueries(List<?> queries,
+			List<IndexedObjectInformation> indexedObjectInformationList) {
+
+		for (int i = 0; i < queries.size(); i++) {
+
+			if (queries.get(i) instanceof IndexQuery indexQuery && indexQuery.getObject() != null) {
+				indexQuery.setObject(entityOperations.updateIndexedObject(indexQuery.getObject(),
+						indexedObjectInformationList.get(i), elasticsearchConverter, routingResolver));
+			}
+		}
+	}
+
+	private List<IndexedObjectInformation> checkForBulkOperationFailure(BulkResponse bulkResponse) {
+
+		if (bulkResponse.errors()) {
+			Map<String, BulkFailureException.FailureDetails> failedDocuments = new HashMap<>();
+			for (BulkResponseItem item : bulkResponse.items()) {
+
+				if (item.error() != null) {
+					failedDocuments.put(item.id(), new BulkFailureException.FailureDetails(item.status(), item.error().reason()));
+				}
+			}
+			throw new BulkFailureException(
+					"Bulk operation has failures. Use ElasticsearchException.getFailedDocuments() for detailed messages ["
+							+ failedDocuments + ']',
+					failedDocuments);
+		}
+
+		return bulkResponse.items().stream().map(
+				item -> new IndexedObjectInformation(item.id(), item.index(), item.seqNo(), item.primaryTerm(), item.version()))
+				.toList();
+	}
+	// endregion
+
+	// region entity callbacks
+	private <T> T maybeCallbackBeforeConvert(T entity, IndexCoordinates index) {
+
+		if (entityCallbacks != null) {
+			return entityCallbacks.callback(BeforeConvertCallback.class, entity, index);
+		}
+
+		return entity;
+	}
+
+	private void maybeCallbackBeforeConvertWithQuery(Object query, IndexCoordinates index) {
+
+		if (query instanceof IndexQuery indexQuery) {
+			Object queryObject = indexQuery.getObject();
+
+			if (queryObject != null) {
+				queryObject = maybeCallbackBeforeConvert(queryObject, index);
+				indexQuery.setObject(queryObject);
+				// the callback might have set some values relevant for the IndexQuery
+				IndexQuery newQuery = getIndexQuery(queryObject);
+
+				if (indexQuery.getRouting() == null && newQuery.getRouting() != null) {
+					indexQuery.setRouting(newQuery.getRouting());
+				}
+
+				if (indexQuery.getSeqNo() == null && newQuery.getSeqNo() != null) {
+					indexQuery.setSeqNo(newQuery.getSeqNo());
+				}
+
+				if (indexQuery.getPrimaryTerm() == null && newQuery.getPrimaryTerm() != null) {
+					indexQuery.setPrimaryTerm(newQuery.getPrimaryTerm());
+				}
+			}
+		}
+	}
+
+	private <T> T maybeCallbackAfterSave(T entity, IndexCoordinates index) {
+
+		if (entityCallbacks != null) {
+			return entityCallbacks.callback(AfterSaveCallback.class, entity, index);
+		}
+
+		return entity;
+	}
+
+	private void maybeCallbackAfterSaveWithQuery(Object query, IndexCoordinates index) {
+
+		if (query instanceof IndexQuery indexQuery && indexQuery.getObject() != null) {
+			indexQuery.setObject(maybeCallbackAfterSave(indexQuery.getObject(), index));
+		}
+	}
+
+	private <T> T maybeCallbackAfterConvert(T entity, Document document, IndexCoordinates index) {
+
+		if (entityCallbacks != null) {
+			return entityCallbacks.callback(AfterConvertCallback.class, entity, document, index);
+		}
+
+		return entity;
+	}
+
+	private <T> Document maybeCallbackAfterLoad(Document document, Class<T> type, IndexCoordinates index) {
+
+		if (entityCallbacks != null) {
+			return entityCallbacks.callback(AfterLoadCallback.class, document, type, index);
+		}
+
+		return document;
+	}
+	// endregion
+}
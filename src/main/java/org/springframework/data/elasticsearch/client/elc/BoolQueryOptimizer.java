@@ -0,0 +1,429 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBase;
+import co.elastic.clients.elasticsearch._types.query_dsl.RangeQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.TermsQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.UntypedRangeQuery;
+import co.elastic.clients.json.JsonData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Rewrites the {@code bool} queries that are created from nested {@link org.springframework.data.elasticsearch.core.query.Criteria}
+ * into a flatter form that is cheaper to parse and execute on the server:
+ * <ul>
+ * <li>nested {@code bool} queries are merged into their parent when this does not change which documents match,
+ * {@code bool} queries with a single clause are replaced by that clause</li>
+ * <li>{@code term} queries on the same field in {@code should} or {@code must_not} are merged into one {@code terms}
+ * query</li>
+ * <li>identical term level and match clauses of the same occurrence type are removed, for {@code should} clauses only when
+ * there is no {@code minimum_should_match}</li>
+ * <li>{@code must} clauses that do not need scoring and have no boost are moved to the {@code filter} context</li>
+ * </ul>
+ * The set of matching documents is not changed, but the scores are, so this is only used for
+ * {@link org.springframework.data.elasticsearch.core.query.CriteriaQueryMode#TERM_LEVEL}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class BoolQueryOptimizer {
+
+	private BoolQueryOptimizer() {}
+
+	/**
+	 * optimizes the given query and all the queries contained in it.
+	 *
+	 * @param query the query to optimize
+	 * @return the optimized query, may be the same instance when nothing could be optimized
+	 */
+	static Query optimize(Query query) {
+
+		Assert.notNull(query, "query must not be null");
+
+		if (!query.isBool()) {
+			return query;
+		}
+
+		BoolQuery bool = query.bool();
+		boolean plain = isPlain(bool);
+
+		List<Query> must = new ArrayList<>();
+		List<Query> filter = new ArrayList<>();
+		List<Query> should = new ArrayList<>();
+		List<Query> mustNot = new ArrayList<>();
+
+		for (Query clause : bool.must()) {
+			Query optimized = optimize(clause);
+			if (!(optimized.isBool() && hoistRequired(optimized.bool(), must, filter, mustNot, false))) {
+				must.add(optimized);
+			}
+		}
+
+		for (Query clause : bool.filter()) {
+			Query optimized = optimize(clause);
+			if (!(optimized.isBool() && hoistRequired(optimized.bool(), filter, filter, mustNot, true))) {
+				filter.add(optimized);
+			}
+		}
+
+		for (Query clause : bool.should()) {
+			Query optimized = optimize(clause);
+			if (!(bool.minimumShouldMatch() == null && optimized.isBool() && hoistShould(optimized.bool(), should))) {
+				should.add(optimized);
+			}
+		}
+
+		for (Query clause : bool.mustNot()) {
+			Query optimized = optimize(clause);
+			if (!(optimized.isBool() && hoistMustNot(optimized.bool(), mustNot))) {
+				mustNot.add(optimized);
+			}
+		}
+
+		// the must clauses that do not contribute a score can be evaluated as filters, this does not change the default
+		// for minimum_should_match as there still are required clauses
+		must.removeIf(clause -> {
+			if (isNonScoring(clause)) {
+				filter.add(clause);
+				return true;
+			}
+			return false;
+		});
+
+		if (bool.minimumShouldMatch() == null) {
+			mergeTerms(should);
+		}
+		mergeTerms(mustNot);
+
+		List<Query> finalMust = distinct(must);
+		List<Query> finalFilter = distinct(filter);
+		// with minimum_should_match, duplicate should clauses count more than once
+		List<Query> finalShould = bool.minimumShouldMatch() == null ? distinct(should) : should;
+		List<Query> finalMustNot = distinct(mustNot);
+
+		if (plain) {
+			int clauses = finalMust.size() + finalFilter.size() + finalShould.size() + finalMustNot.size();
+
+			if (clauses == 1 && finalMust.size() == 1) {
+				return finalMust.get(0);
+			}
+
+			if (clauses == 1 && finalShould.size() == 1 && bool.minimumShouldMatch() == null) {
+				return finalShould.get(0);
+			}
+		}
+
+		return Query.of(qb -> qb.bool(bb -> {
+
+			if (!finalMust.isEmpty()) {
+				bb.must(finalMust);
+			}
+
+			if (!finalFilter.isEmpty()) {
+				bb.filter(finalFilter);
+			}
+
+			if (!finalShould.isEmpty()) {
+				bb.should(finalShould);
+			}
+
+			if (!finalMustNot.isEmpty()) {
+				bb.mustNot(finalMustNot);
+			}
+
+			return bb //
+					.minimumShouldMatch(bool.minimumShouldMatch()) //
+					.boost(bool.boost()) //
+					.queryName(bool.queryName());
+		}));
+	}
+
+	/**
+	 * adds the clauses of a nested bool query that is a required clause of its parent to the parent's clauses. This is
+	 * only possible if the nested query has no should clauses and at least one required clause, otherwise the nested
+	 * query would be dropped or its parent's should clauses would become required.
+	 *
+	 * @param filterContext {@literal true} if the nested query is in the filter context, then its must clauses become
+	 *          filters
+	 * @return {@literal true} if the clauses were added
+	 */
+	private static boolean hoistRequired(BoolQuery nested, List<Query> must, List<Query> filter, List<Query> mustNot,
+			boolean filterContext) {
+
+		if (!isPlain(nested) || !nested.should().isEmpty() || (nested.must().isEmpty() && nested.filter().isEmpty())) {
+			return false;
+		}
+
+		(filterContext ? filter : must).addAll(nested.must());
+		filter.addAll(nested.filter());
+		mustNot.addAll(nested.mustNot());
+		return true;
+	}
+
+	/**
+	 * adds the clauses of a nested bool query that only has should clauses to the should clauses of its parent.
+	 */
+	private static boolean hoistShould(BoolQuery nested, List<Query> should) {
+
+		if (!isPlain(nested) || nested.minimumShouldMatch() != null) {
+			return false;
+		}
+
+		if (onlyShould(nested)) {
+			should.addAll(nested.should());
+			return true;
+		}
+
+		if (nested.must().size() == 1 && nested.filter().isEmpty() && nested.should().isEmpty()
+				&& nested.mustNot().isEmpty()) {
+			should.add(nested.must().get(0));
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * adds the clauses of a nested bool query in must_not to the must_not clauses of its parent: not (a or b) is the
+	 * same as not a and not b.
+	 */
+	private static boolean hoistMustNot(BoolQuery nested, List<Query> mustNot) {
+
+		if (!isPlain(nested) || nested.minimumShouldMatch() != null) {
+			return false;
+		}
+
+		if (onlyShould(nested)) {
+			mustNot.addAll(nested.should());
+			return true;
+		}
+
+		List<Query> required = new ArrayList<>(nested.must());
+		required.addAll(nested.filter());
+
+		if (required.size() == 1 && nested.should().isEmpty() && nested.mustNot().isEmpty()) {
+			mustNot.add(required.get(0));
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * replaces the term and terms queries on the same field by a single terms query, the merged query is placed where the
+	 * first of the merged queries was.
+	 */
+	private static void mergeTerms(List<Query> clauses) {
+
+		if (clauses.size() < 2) {
+			return;
+		}
+
+		Map<String, List<FieldValue>> valuesByField = new LinkedHashMap<>();
+		Map<String, Integer> queriesByField = new LinkedHashMap<>();
+
+		for (Query clause : clauses) {
+			TermValues termValues = mergeableTermValues(clause);
+			if (termValues != null) {
+				valuesByField.computeIfAbsent(termValues.field(), field -> new ArrayList<>()).addAll(termValues.values());
+				queriesByField.merge(termValues.field(), 1, Integer::sum);
+			}
+		}
+
+		if (queriesByField.values().stream().noneMatch(count -> count > 1)) {
+			return;
+		}
+
+		List<Query> merged = new ArrayList<>(clauses.size());
+		Set<String> mergedFields = new HashSet<>();
+
+		for (Query clause : clauses) {
+			TermValues termValues = mergeableTermValues(clause);
+
+			if (termValues == null || queriesByField.get(termValues.field()) == 1) {
+				merged.add(clause);
+			} else if (mergedFields.add(termValues.field())) {
+				List<FieldValue> values = valuesByField.get(termValues.field());
+				merged.add(TermsQuery.of(tq -> tq //
+						.field(termValues.field()) //
+						.terms(tf -> tf.value(values))) //
+						._toQuery());
+			}
+		}
+
+		clauses.clear();
+		clauses.addAll(merged);
+	}
+
+	@Nullable
+	private static TermValues mergeableTermValues(Query query) {
+
+		if (query.isTerm()) {
+			TermQuery term = query.term();
+			if (term.boost() == null && term.queryName() == null && !Boolean.TRUE.equals(term.caseInsensitive())) {
+				return new TermValues(term.field(), List.of(term.value()));
+			}
+		} else if (query.isTerms()) {
+			TermsQuery terms = query.terms();
+			if (terms.boost() == null && terms.queryName() == null && terms.terms().isValue()) {
+				return new TermValues(terms.field(), terms.terms().value());
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * removes duplicate clauses. Only term level and match queries are compared, by their field, values and options;
+	 * other queries, including nested bool queries, are always kept.
+	 */
+	private static List<Query> distinct(List<Query> clauses) {
+
+		if (clauses.size() < 2) {
+			return clauses;
+		}
+
+		List<Query> distinctClauses = new ArrayList<>(clauses.size());
+		Set<List<?>> keys = new HashSet<>();
+
+		for (Query clause : clauses) {
+			List<?> key = clauseKey(clause);
+
+			if (key == null || keys.add(key)) {
+				distinctClauses.add(clause);
+			}
+		}
+
+		return distinctClauses.size() == clauses.size() ? clauses : distinctClauses;
+	}
+
+	/**
+	 * @return a key that is equal for queries that are equal, {@literal null} for queries that are not compared.
+	 */
+	@Nullable
+	private static List<?> clauseKey(Query query) {
+
+		return switch (query._kind()) {
+			case Term -> {
+				TermQuery term = query.term();
+				yield Arrays.asList(query._kind(), term.field(), term.value()._get(), term.caseInsensitive(), term.boost(),
+						term.queryName());
+			}
+			case Terms -> {
+				TermsQuery terms = query.terms();
+				yield terms.terms().isValue() ? Arrays.asList(query._kind(), terms.field(),
+						terms.terms().value().stream().map(FieldValue::_get).collect(Collectors.toList()), terms.boost(),
+						terms.queryName()) : null;
+			}
+			case Range -> {
+				// the criteria create untyped range queries, the other variants are not compared
+				if (!query.range().isUntyped()) {
+					yield null;
+				}
+				UntypedRangeQuery range = query.range().untyped();
+				yield Arrays.asList(query._kind(), range.field(), rangeValue(range.gt()), rangeValue(range.gte()),
+						rangeValue(range.lt()), rangeValue(range.lte()), range.format(), range.timeZone(), range.relation(),
+						range.boost(), range.queryName());
+			}
+			case Exists -> Arrays.asList(query._kind(), query.exists().field(), query.exists().boost(),
+					query.exists().queryName());
+			case Prefix -> Arrays.asList(query._kind(), query.prefix().field(), query.prefix().value(),
+					query.prefix().caseInsensitive(), query.prefix().rewrite(), query.prefix().boost(),
+					query.prefix().queryName());
+			case Wildcard -> Arrays.asList(query._kind(), query.wildcard().field(), query.wildcard().value(),
+					query.wildcard().wildcard(), query.wildcard().caseInsensitive(), query.wildcard().rewrite(),
+					query.wildcard().boost(), query.wildcard().queryName());
+			case Match -> {
+				// the deprecated cutoff_frequency is not part of the key, it is never set by the criteria
+				MatchQuery match = query.match();
+				yield Arrays.asList(query._kind(), match.field(), match.query()._get(), match.analyzer(),
+						match.autoGenerateSynonymsPhraseQuery(), match.fuzziness(), match.fuzzyRewrite(),
+						match.fuzzyTranspositions(), match.lenient(), match.maxExpansions(), match.minimumShouldMatch(),
+						match.operator(), match.prefixLength(), match.zeroTermsQuery(), match.boost(), match.queryName());
+			}
+			case Ids -> Arrays.asList(query._kind(), query.ids().values(), query.ids().boost(), query.ids().queryName());
+			default -> null;
+		};
+	}
+
+	/**
+	 * @return the value a {@link JsonData} of a range query was created with, without serializing it.
+	 */
+	@Nullable
+	private static Object rangeValue(@Nullable JsonData value) {
+		return value != null ? value.to(Object.class) : null;
+	}
+
+	/**
+	 * checks if a query gives the same result when evaluated in filter context. This is the case for term level queries
+	 * without a boost and for bool queries without a boost whose must and should clauses are non-scoring as well.
+	 */
+	private static boolean isNonScoring(Query query) {
+
+		return switch (query._kind()) {
+			case Term, Terms, Range, Exists, Prefix, Wildcard, Ids -> boostOf(query) == null;
+			case Bool -> {
+				BoolQuery bool = query.bool();
+				yield bool.boost() == null && bool.must().stream().allMatch(BoolQueryOptimizer::isNonScoring)
+						&& bool.should().stream().allMatch(BoolQueryOptimizer::isNonScoring);
+			}
+			default -> false;
+		};
+	}
+
+	@Nullable
+	private static Float boostOf(Query query) {
+
+		Object variant = query._get();
+
+		if (variant instanceof RangeQuery rangeQuery) {
+			variant = rangeQuery._get();
+		}
+
+		return variant instanceof QueryBase queryBase ? queryBase.boost() : null;
+	}
+
+	/**
+	 * @return {@literal true} if the bool query has no properties that would be lost when its clauses are merged into
+	 *         another query.
+	 */
+	private static boolean isPlain(BoolQuery bool) {
+		return bool.boost() == null && bool.queryName() == null;
+	}
+
+	private static boolean onlyShould(BoolQuery bool) {
+		return !bool.should().isEmpty() && bool.must().isEmpty() && bool.filter().isEmpty() && bool.mustNot().isEmpty();
+	}
+
+	private record TermValues(String field, List<FieldValue> values) {}
+}
@@ -18,10 +18,16 @@ package org.springframework.data.elasticsearch.client.elc;
 import co.elastic.clients.elasticsearch.cluster.ElasticsearchClusterClient;
 import co.elastic.clients.elasticsearch.cluster.HealthRequest;
 import co.elastic.clients.elasticsearch.cluster.HealthResponse;
+import co.elastic.clients.elasticsearch.tasks.ElasticsearchTasksClient;
+import co.elastic.clients.elasticsearch.tasks.GetTasksRequest;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
 import co.elastic.clients.transport.ElasticsearchTransport;
 
+import java.io.IOException;
+
 import org.springframework.data.elasticsearch.core.cluster.ClusterHealth;
 import org.springframework.data.elasticsearch.core.cluster.ClusterOperations;
+import org.springframework.data.elasticsearch.core.cluster.TaskStatus;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 
 /**
@@ -45,4 +51,20 @@ public class ClusterTemplate extends ChildTemplate<ElasticsearchTransport, Elast
 		return responseConverter.clusterHealth(healthResponse);
 	}
 
+	@Override
+	public TaskStatus getTask(String taskId) {
+
+		GetTasksRequest getTasksRequest = requestConverter.tasksGetRequest(taskId);
+		// the tasks API has its own client, it uses the same transport
+		ElasticsearchTasksClient tasksClient = new ElasticsearchTasksClient(client._transport(),
+				client._transportOptions());
+
+		try {
+			GetTasksResponse getTasksResponse = tasksClient.get(getTasksRequest);
+			return responseConverter.taskStatus(taskId, getTasksResponse);
+		} catch (IOException | RuntimeException e) {
+			throw exceptionTranslator.translateException(e);
+		}
+	}
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * {@link OperationObserver} that passes the events to two observers.
+ *
+ * @author agent
+ * @since 6.0
+ */
+record CompositeOperationObserver(OperationObserver first, OperationObserver second) implements OperationObserver {
+
+	/**
+	 * @return the combination of the given observers, {@literal null} if both are {@literal null}
+	 */
+	@Nullable
+	static OperationObserver of(@Nullable OperationObserver first, @Nullable OperationObserver second) {
+
+		if (first == null) {
+			return second;
+		}
+
+		return second == null ? first : new CompositeOperationObserver(first, second);
+	}
+
+	@Override
+	public Observed start(Operation operation, @Nullable IndexCoordinates index, @Nullable Class<?> entityType,
+			Object request) {
+
+		Observed firstObserved = first.start(operation, index, entityType, request);
+		Observed secondObserved = second.start(operation, index, entityType, request);
+
+		return new Observed() {
+			@Override
+			public Scope openScope() {
+
+				Scope firstScope = firstObserved.openScope();
+				Scope secondScope = secondObserved.openScope();
+				return () -> {
+					secondScope.close();
+					firstScope.close();
+				};
+			}
+
+			@Override
+			public void onResponse(Object response) {
+				firstObserved.onResponse(response);
+				secondObserved.onResponse(response);
+			}
+
+			@Override
+			public void onError(Throwable error) {
+				firstObserved.onError(error);
+				secondObserved.onError(error);
+			}
+
+			@Override
+			public void onCancel() {
+				firstObserved.onCancel();
+				secondObserved.onCancel();
+			}
+
+			@Override
+			public void stop() {
+				secondObserved.stop();
+				firstObserved.stop();
+			}
+		};
+	}
+}
@@ -34,6 +34,7 @@ import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
 import org.springframework.data.elasticsearch.core.query.Field;
 import org.springframework.data.elasticsearch.core.query.HasChildQuery;
 import org.springframework.data.elasticsearch.core.query.HasParentQuery;
@@ -58,8 +59,35 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 	 */
 	@Nullable
 	public static Query createQuery(Criteria criteria) {
+		return createQuery(criteria, CriteriaQueryMode.DEFAULT);
+	}
+
+	/**
+	 * creates a query from the criteria
+	 *
+	 * @param criteria the {@link Criteria}
+	 * @param mode defines which queries are created for the criteria, for {@link CriteriaQueryMode#TERM_LEVEL} the
+	 *          created query is optimized with the {@link BoolQueryOptimizer}
+	 * @return the optional query, null if the criteria did not contain filter relevant elements
+	 * @since 6.0
+	 */
+	@Nullable
+	public static Query createQuery(Criteria criteria, CriteriaQueryMode mode) {
 
 		Assert.notNull(criteria, "criteria must not be null");
+		Assert.notNull(mode, "mode must not be null");
+
+		Query query = createBoolQuery(criteria, mode);
+
+		if (query != null && mode == CriteriaQueryMode.TERM_LEVEL) {
+			query = BoolQueryOptimizer.optimize(query);
+		}
+
+		return query;
+	}
+
+	@Nullable
+	private static Query createBoolQuery(Criteria criteria, CriteriaQueryMode mode) {
 
 		List<Query> shouldQueries = new ArrayList<>();
 		List<Query> mustNotQueries = new ArrayList<>();
@@ -69,7 +97,7 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 		boolean negateFirstQuery = false;
 
 		for (Criteria chainedCriteria : criteria.getCriteriaChain()) {
-			Query queryFragment = queryForEntries(chainedCriteria);
+			Query queryFragment = queryForEntries(chainedCriteria, mode);
 
 			if (queryFragment != null) {
 
@@ -90,7 +118,7 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 		}
 
 		for (Criteria subCriteria : criteria.getSubCriteria()) {
-			Query subQuery = createQuery(subCriteria);
+			Query subQuery = createBoolQuery(subCriteria, mode);
 			if (subQuery != null) {
 				if (criteria.isOr()) {
 					shouldQueries.add(subQuery);
@@ -147,8 +175,15 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 		}).build();
 	}
 
+	private static boolean isKeywordLike(Field field) {
+
+		FieldType fieldType = field.getFieldType();
+		return fieldType == FieldType.Keyword || fieldType == FieldType.Constant_Keyword
+				|| fieldType == FieldType.Wildcard;
+	}
+
 	@Nullable
-	private static Query queryForEntries(Criteria criteria) {
+	private static Query queryForEntries(Criteria criteria, CriteriaQueryMode mode) {
 
 		Field field = criteria.getField();
 
@@ -164,13 +199,13 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 		Query.Builder queryBuilder;
 
 		if (criteria.getQueryCriteriaEntries().size() == 1) {
-			queryBuilder = queryFor(it.next(), field, boost);
+			queryBuilder = queryFor(it.next(), field, boost, mode);
 		} else {
 			queryBuilder = new Query.Builder();
 			queryBuilder.bool(boolQueryBuilder -> {
 				while (it.hasNext()) {
 					Criteria.CriteriaEntry entry = it.next();
-					boolQueryBuilder.must(queryFor(entry, field, null).build());
+					boolQueryBuilder.must(queryFor(entry, field, null, mode).build());
 				}
 				boolQueryBuilder.boost(boost);
 				return boolQueryBuilder;
@@ -196,13 +231,23 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 		return queryBuilder.build();
 	}
 
-	private static Query.Builder queryFor(Criteria.CriteriaEntry entry, Field field, @Nullable Float boost) {
+	private static Query.Builder queryFor(Criteria.CriteriaEntry entry, Field field, @Nullable Float boost,
+			CriteriaQueryMode mode) {
 
 		String fieldName = field.getName();
 		boolean isKeywordField = FieldType.Keyword == field.getFieldType();
 
 		Criteria.OperationKey key = entry.getKey();
 		Object value = key.hasValue() ? entry.getValue() : null;
+
+		if (mode == CriteriaQueryMode.TERM_LEVEL && isKeywordLike(field) && value != null) {
+			Query.Builder termLevelQueryBuilder = termLevelQueryFor(key, fieldName, value, boost);
+
+			if (termLevelQueryBuilder != null) {
+				return termLevelQueryBuilder;
+			}
+		}
+
 		String searchText = value != null ? escape(value.toString()) : "UNKNOWN_VALUE";
 
 		Query.Builder queryBuilder = new Query.Builder();
@@ -366,7 +411,7 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 				if (value instanceof HasChildQuery query) {
 					queryBuilder.hasChild(hcb -> hcb
 							.type(query.getType())
-							.query(getEsQuery(query.getQuery(), null))
+							.query(getEsQuery(query.getQuery(), null, mode))
 							.innerHits(getInnerHits(query.getInnerHitsQuery()))
 							.ignoreUnmapped(query.getIgnoreUnmapped())
 							.minChildren(query.getMinChildren())
@@ -380,7 +425,7 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 				if (value instanceof HasParentQuery query) {
 					queryBuilder.hasParent(hpb -> hpb
 							.parentType(query.getParentType())
-							.query(getEsQuery(query.getQuery(), null))
+							.query(getEsQuery(query.getQuery(), null, mode))
 							.innerHits(getInnerHits(query.getInnerHitsQuery()))
 							.ignoreUnmapped(query.getIgnoreUnmapped())
 							.score(query.getScore()));
@@ -395,6 +440,60 @@ class CriteriaQueryProcessor extends AbstractQueryProcessor {
 		return queryBuilder;
 	}
 
+	/**
+	 * creates term level queries for criteria on keyword like fields; these fields are not analyzed, so the value can be
+	 * used as it is instead of being parsed by a {@code query_string} query.
+	 *
+	 * @return the query builder or {@literal null} if there is no term level query for the key
+	 */
+	private static Query.@Nullable Builder termLevelQueryFor(Criteria.OperationKey key, String fieldName, Object value,
+			@Nullable Float boost) {
+
+		Query.Builder queryBuilder = new Query.Builder();
+
+		switch (key) {
+			case EQUALS -> queryBuilder.term(tb -> tb //
+					.field(fieldName) //
+					.value(FieldValue.of(value.toString())) //
+					.boost(boost));
+			case STARTS_WITH -> queryBuilder.prefix(pb -> pb //
+					.field(fieldName) //
+					.value(value.toString()) //
+					.boost(boost));
+			case CONTAINS -> queryBuilder.wildcard(wb -> wb //
+					.field(fieldName) //
+					.wildcard('*' + escapeWildcard(value.toString()) + '*') //
+					.boost(boost));
+			case ENDS_WITH -> queryBuilder.wildcard(wb -> wb //
+					.field(fieldName) //
+					.wildcard('*' + escapeWildcard(value.toString())) //
+					.boost(boost));
+			default -> {
+				return null;
+			}
+		}
+
+		return queryBuilder;
+	}
+
+	/**
+	 * escapes the characters that have a special meaning in a {@code wildcard} query.
+	 */
+	static String escapeWildcard(String s) {
+
+		StringBuilder sb = new StringBuilder(s.length() + 8);
+
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+
+			if (c == '\\' || c == '*' || c == '?') {
+				sb.append('\\');
+			}
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
 	private static List<FieldValue> toFieldValueList(Iterable<?> iterable) {
 		List<FieldValue> list = new ArrayList<>();
 		for (Object item : iterable) {
@@ -34,6 +34,7 @@ import org.springframework.data.elasticsearch.core.document.NestedMetaData;
 import org.springframework.data.elasticsearch.core.document.SearchDocument;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentAdapter;
 import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+import org.springframework.data.elasticsearch.support.FieldNameDictionary;
 import org.springframework.util.Assert;
 
 import java.util.Collections;
@@ -67,8 +68,23 @@ final class DocumentAdapters {
      * @return the created {@link SearchDocument}
      */
     public static SearchDocument from(Hit<?> hit, JsonpMapper jsonpMapper) {
+        return from(hit, jsonpMapper, new FieldNameDictionary());
+    }
+
+    /**
+     * Creates a {@link SearchDocument} from a {@link Hit} returned by the Elasticsearch client. The field names of the
+     * document are canonicalized with the given dictionary, which should be shared by all hits of a response.
+     *
+     * @param hit         the hit object
+     * @param jsonpMapper to map JsonData objects
+     * @param dictionary  the dictionary for the field names
+     * @return the created {@link SearchDocument}
+     * @since 6.0
+     */
+    public static SearchDocument from(Hit<?> hit, JsonpMapper jsonpMapper, FieldNameDictionary dictionary) {
 
         Assert.notNull(hit, "hit must not be null");
+        Assert.notNull(dictionary, "dictionary must not be null");
 
         Map<String, List<String>> highlightFields = hit.highlight();
 
@@ -106,21 +122,21 @@ final class DocumentAdapters {
         hitFieldsAsMap.forEach((key, value) -> {
             if (value instanceof List) {
                 // noinspection unchecked
-                documentFields.put(key, (List<Object>) value);
+                documentFields.put(dictionary.canonicalize(key), (List<Object>) value);
             } else {
-                documentFields.put(key, Collections.singletonList(value));
+                documentFields.put(dictionary.canonicalize(key), Collections.singletonList(value));
             }
         });
 
         Document document;
         Object source = hit.source();
         if (source == null) {
-            document = Document.from(hitFieldsAsMap);
+            document = Document.from(dictionary.compact(hitFieldsAsMap));
         } else {
             if (source instanceof EntityAsMap entityAsMap) {
-                document = Document.from(entityAsMap);
+                document = Document.from(dictionary.compact(entityAsMap));
             } else if (source instanceof JsonData jsonData) {
-                document = Document.from(jsonData.to(EntityAsMap.class));
+                document = Document.from(dictionary.compact(jsonData.to(EntityAsMap.class)));
             } else {
 
                 if (LOGGER.isWarnEnabled()) {
@@ -195,6 +211,11 @@ final class DocumentAdapters {
      */
     @Nullable
     public static Document from(GetResult<EntityAsMap> getResponse) {
+        return from(getResponse, new FieldNameDictionary());
+    }
+
+    @Nullable
+    private static Document from(GetResult<EntityAsMap> getResponse, FieldNameDictionary dictionary) {
 
         Assert.notNull(getResponse, "getResponse must not be null");
 
@@ -202,7 +223,8 @@ final class DocumentAdapters {
             return null;
         }
 
-        Document document = getResponse.source() != null ? Document.from(getResponse.source()) : Document.create();
+        Document document = getResponse.source() != null ? Document.from(dictionary.compact(getResponse.source()))
+                : Document.create();
         document.setIndex(getResponse.index());
         document.setId(getResponse.id());
 
@@ -232,9 +254,10 @@ final class DocumentAdapters {
 
         Assert.notNull(mgetResponse, "mgetResponse must not be null");
 
+        FieldNameDictionary dictionary = new FieldNameDictionary();
         return mgetResponse.docs().stream() //
                 .map(itemResponse -> MultiGetItem.of( //
-                        itemResponse.isFailure() ? null : from(itemResponse.result()), //
+                        itemResponse.isFailure() ? null : from(itemResponse.result(), dictionary), //
                         ResponseConverter.getFailure(itemResponse)))
                 .collect(Collectors.toList());
     }
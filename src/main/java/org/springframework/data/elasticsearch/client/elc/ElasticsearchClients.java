@@ -15,6 +15,8 @@
  */
 package org.springframework.data.elasticsearch.client.elc;
 
+import co.elastic.clients.ApiClient;
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
@@ -22,11 +24,14 @@ import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.TransportOptions;
 import co.elastic.clients.transport.TransportUtils;
 import co.elastic.clients.transport.Version;
+import co.elastic.clients.transport.instrumentation.Instrumentation;
 import co.elastic.clients.transport.rest_client.RestClientOptions;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 
 import java.net.InetSocketAddress;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
@@ -34,20 +39,37 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
 import org.apache.http.HttpHost;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.HttpAsyncResponseConsumerFactory;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ConnectionPool;
+import org.springframework.data.elasticsearch.client.Sniffing;
 import org.springframework.data.elasticsearch.support.HttpHeaders;
 import org.springframework.util.Assert;
 
@@ -65,6 +87,7 @@ public final class ElasticsearchClients {
 	private static final String X_SPRING_DATA_ELASTICSEARCH_CLIENT = "X-SpringDataElasticsearch-Client";
 	public static final String IMPERATIVE_CLIENT = "imperative";
 	public static final String REACTIVE_CLIENT = "reactive";
+	public static final String ASYNC_CLIENT = "async";
 
 	private static final JsonpMapper DEFAULT_JSONP_MAPPER = new JacksonJsonpMapper();
 
@@ -220,6 +243,54 @@ public final class ElasticsearchClients {
 	}
 	// endregion
 
+	// region async client
+	/**
+	 * Creates a new {@link ElasticsearchAsyncClient}
+	 *
+	 * @param clientConfiguration configuration options, must not be {@literal null}.
+	 * @return the {@link ElasticsearchAsyncClient}
+	 * @since 6.0
+	 */
+	public static ElasticsearchAsyncClient createAsync(ClientConfiguration clientConfiguration) {
+
+		Assert.notNull(clientConfiguration, "clientConfiguration must not be null");
+
+		return createAsync(getRestClient(clientConfiguration), null, DEFAULT_JSONP_MAPPER);
+	}
+
+	/**
+	 * Creates a new {@link ElasticsearchAsyncClient}
+	 *
+	 * @param restClient the RestClient to use
+	 * @param transportOptions options to be added to each request.
+	 * @param jsonpMapper the mapper for the transport to use
+	 * @return the {@link ElasticsearchAsyncClient}
+	 * @since 6.0
+	 */
+	public static ElasticsearchAsyncClient createAsync(RestClient restClient, @Nullable TransportOptions transportOptions,
+			JsonpMapper jsonpMapper) {
+
+		Assert.notNull(restClient, "restClient must not be null");
+
+		return createAsync(getElasticsearchTransport(restClient, ASYNC_CLIENT, transportOptions, jsonpMapper));
+	}
+
+	/**
+	 * Creates a new {@link ElasticsearchAsyncClient} that uses the given {@link ElasticsearchTransport}. The transport
+	 * can be shared with an imperative client.
+	 *
+	 * @param transport the transport to use
+	 * @return the {@link ElasticsearchAsyncClient}
+	 * @since 6.0
+	 */
+	public static ElasticsearchAsyncClient createAsync(ElasticsearchTransport transport) {
+
+		Assert.notNull(transport, "transport must not be null");
+
+		return new ElasticsearchAsyncClient(transport);
+	}
+	// endregion
+
 	// region low level RestClient
 	private static RestClientOptions.Builder getRestClientOptionsBuilder(@Nullable TransportOptions transportOptions) {
 
@@ -245,10 +316,20 @@ public final class ElasticsearchClients {
 	 * @return the {@link RestClient}
 	 */
 	public static RestClient getRestClient(ClientConfiguration clientConfiguration) {
-		return getRestClientBuilder(clientConfiguration).build();
+
+		NodeSniffer nodeSniffer = clientConfiguration.getSniffing()
+				.map(sniffing -> new NodeSniffer(sniffing, clientConfiguration.useSsl() ? "https" : "http")).orElse(null);
+		RestClient restClient = getRestClientBuilder(clientConfiguration, nodeSniffer).build();
+
+		if (nodeSniffer != null) {
+			nodeSniffer.start(restClient);
+		}
+
+		return restClient;
 	}
 
-	private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration) {
+	private static RestClientBuilder getRestClientBuilder(ClientConfiguration clientConfiguration,
+			@Nullable NodeSniffer nodeSniffer) {
 		HttpHost[] httpHosts = formattedHosts(clientConfiguration.getEndpoints(), clientConfiguration.useSsl()).stream()
 				.map(HttpHost::create).toArray(HttpHost[]::new);
 		RestClientBuilder builder = RestClient.builder(httpHosts);
@@ -263,6 +344,36 @@ public final class ElasticsearchClients {
 			builder.setDefaultHeaders(toHeaderArray(headers));
 		}
 
+		LoadProtectionHandler loadProtectionHandler = clientConfiguration.getLoadProtection()
+				.map(LoadProtectionHandler::new).orElse(null);
+
+		LatencyAwareNodeSelector latencyAwareNodeSelector = clientConfiguration.getSniffing()
+				.filter(Sniffing::isLatencyAwareSelection)
+				.map(sniffing -> new LatencyAwareNodeSelector(sniffing.getLatencyTolerance())).orElse(null);
+
+		List<NodeSelector> nodeSelectors = new ArrayList<>();
+		List<Consumer<Node>> failureConsumers = new ArrayList<>();
+
+		if (loadProtectionHandler != null) {
+			nodeSelectors.add(loadProtectionHandler.nodeSelector());
+		}
+
+		if (latencyAwareNodeSelector != null) {
+			nodeSelectors.add(latencyAwareNodeSelector);
+		}
+
+		if (nodeSniffer != null) {
+			failureConsumers.add(nodeSniffer::onFailure);
+		}
+
+		if (!nodeSelectors.isEmpty()) {
+			builder.setNodeSelector(new NodeSelectors(nodeSelectors));
+		}
+
+		if (!failureConsumers.isEmpty()) {
+			builder.setFailureListener(new FailureListeners(failureConsumers));
+		}
+
 		builder.setHttpClientConfigCallback(clientBuilder -> {
 			if (clientConfiguration.getCaFingerprint().isPresent()) {
 				clientBuilder
@@ -272,6 +383,16 @@ public final class ElasticsearchClients {
 			clientConfiguration.getHostNameVerifier().ifPresent(clientBuilder::setSSLHostnameVerifier);
 			clientBuilder.addInterceptorLast(new CustomHeaderInjector(clientConfiguration.getHeadersSupplier()));
 
+			if (loadProtectionHandler != null) {
+				clientBuilder.addInterceptorFirst(loadProtectionHandler.requestInterceptor());
+				clientBuilder.addInterceptorFirst(loadProtectionHandler.responseInterceptor());
+			}
+
+			if (latencyAwareNodeSelector != null) {
+				clientBuilder.addInterceptorFirst(latencyAwareNodeSelector.requestInterceptor());
+				clientBuilder.addInterceptorFirst(latencyAwareNodeSelector.responseInterceptor());
+			}
+
 			RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
 			Duration connectTimeout = clientConfiguration.getConnectTimeout();
 
@@ -290,6 +411,10 @@ public final class ElasticsearchClients {
 
 			clientConfiguration.getProxy().map(HttpHost::create).ifPresent(clientBuilder::setProxy);
 
+			if (clientConfiguration.getConnectionPool().isPresent()) {
+				configureConnectionPool(clientBuilder, clientConfiguration, clientConfiguration.getConnectionPool().get());
+			}
+
 			for (ClientConfiguration.ClientConfigurationCallback<?> clientConfigurer : clientConfiguration
 					.getClientConfigurers()) {
 				if (clientConfigurer instanceof ElasticsearchHttpClientConfigurationCallback restClientConfigurationCallback) {
@@ -308,6 +433,51 @@ public final class ElasticsearchClients {
 		}
 		return builder;
 	}
+
+	/**
+	 * sets a connection manager with the settings of the connection pool. As the {@link HttpAsyncClientBuilder} ignores
+	 * its SSL settings when a connection manager is set, these are passed to the connection manager.
+	 */
+	private static void configureConnectionPool(HttpAsyncClientBuilder clientBuilder,
+			ClientConfiguration clientConfiguration, ConnectionPool connectionPool) {
+
+		SSLContext sslContext;
+		try {
+			sslContext = clientConfiguration.getCaFingerprint().isPresent()
+					? TransportUtils.sslContextFromCaFingerprint(clientConfiguration.getCaFingerprint().get())
+					: clientConfiguration.getSslContext().orElse(SSLContext.getDefault());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("could not get the default SSLContext", e);
+		}
+
+		HostnameVerifier hostnameVerifier = clientConfiguration.getHostNameVerifier()
+				.orElseGet(SSLIOSessionStrategy::getDefaultHostnameVerifier);
+		Registry<SchemeIOSessionStrategy> ioSessionStrategies = RegistryBuilder.<SchemeIOSessionStrategy> create() //
+				.register("http", NoopIOSessionStrategy.INSTANCE) //
+				.register("https", new SSLIOSessionStrategy(sslContext, null, null, hostnameVerifier)) //
+				.build();
+
+		MeasuredConnectionManager connectionManager;
+		try {
+			connectionManager = new MeasuredConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.custom() //
+					.setIoThreadCount(connectionPool.getIoThreadCount()) //
+					.build()), ioSessionStrategies, connectionPool);
+		} catch (IOReactorException e) {
+			throw new IllegalStateException("could not create the I/O reactor", e);
+		}
+
+		connectionManager.setMaxTotal(connectionPool.getMaxConnectionsTotal());
+		connectionManager.setDefaultMaxPerRoute(connectionPool.getMaxConnectionsPerRoute());
+		clientBuilder.setConnectionManager(connectionManager);
+
+		Duration keepAlive = connectionPool.getKeepAlive();
+		if (keepAlive != null) {
+			clientBuilder.setKeepAliveStrategy((response, context) -> {
+				long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+				return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive.toMillis()) : keepAlive.toMillis();
+			});
+		}
+	}
 	// endregion
 
 	// region Elasticsearch transport
@@ -323,6 +493,25 @@ public final class ElasticsearchClients {
 	 */
 	public static ElasticsearchTransport getElasticsearchTransport(RestClient restClient, String clientType,
 			@Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper) {
+		return getElasticsearchTransport(restClient, clientType, transportOptions, jsonpMapper, null);
+	}
+
+	/**
+	 * Creates an {@link ElasticsearchTransport} that will use the given client that additionally is customized with a
+	 * header to contain the clientType and that is instrumented with the given {@link Instrumentation}.
+	 *
+	 * @param restClient the client to use
+	 * @param clientType the client type to pass in each request as header
+	 * @param transportOptions options for the transport
+	 * @param jsonpMapper mapper for the transport
+	 * @param instrumentation instrumentation for the transport, if {@literal null} the Elasticsearch client uses
+	 *          OpenTelemetry when it is on the classpath
+	 * @return ElasticsearchTransport
+	 * @since 6.0
+	 */
+	public static ElasticsearchTransport getElasticsearchTransport(RestClient restClient, String clientType,
+			@Nullable TransportOptions transportOptions, JsonpMapper jsonpMapper,
+			@Nullable Instrumentation instrumentation) {
 
 		Assert.notNull(restClient, "restClient must not be null");
 		Assert.notNull(clientType, "clientType must not be null");
@@ -351,7 +540,36 @@ public final class ElasticsearchClients {
 
 		restClientOptionsBuilder.addHeader(X_SPRING_DATA_ELASTICSEARCH_CLIENT, clientType);
 
-		return new RestClientTransport(restClient, jsonpMapper, restClientOptionsBuilder.build());
+		// lets a load protection of the RestClient register the requests that fail without a response
+		HttpAsyncResponseConsumerFactory responseConsumerFactory = restClientOptionsBuilder.build()
+				.restClientRequestOptions().getHttpAsyncResponseConsumerFactory();
+		if (!(responseConsumerFactory instanceof LoadProtectionHandler.ResponseConsumerFactory)) {
+			restClientOptionsBuilder.restClientRequestOptionsBuilder().setHttpAsyncResponseConsumerFactory(
+					new LoadProtectionHandler.ResponseConsumerFactory(responseConsumerFactory));
+		}
+
+		return new RestClientTransport(restClient, jsonpMapper, restClientOptionsBuilder.build(), instrumentation);
+	}
+
+	/**
+	 * returns a client that sends the {@link OpaqueIdProvider#HEADER_NAME} header with every request. The header is set
+	 * in the options of the client and not by the {@link CustomHeaderInjector}, because the injector runs on a thread of
+	 * the HTTP client where the operation that sent the request is not known.
+	 *
+	 * @param client the client to use
+	 * @param opaqueId the value of the header, if {@literal null} the client is returned unchanged
+	 * @return a client using the same transport
+	 */
+	static <C extends ApiClient<ElasticsearchTransport, C>> C withOpaqueId(C client, @Nullable String opaqueId) {
+
+		if (opaqueId == null) {
+			return client;
+		}
+
+		TransportOptions transportOptions = client._transportOptions() != null ? client._transportOptions()
+				: client._transport().options();
+		return client.withTransportOptions(
+				transportOptions.with(options -> options.setHeader(OpaqueIdProvider.HEADER_NAME, opaqueId)));
 	}
 	// endregion
 
@@ -379,11 +597,48 @@ public final class ElasticsearchClients {
 			HttpHeaders httpHeaders = headersSupplier.get();
 
 			if (httpHeaders != null && !httpHeaders.isEmpty()) {
-				Arrays.stream(toHeaderArray(httpHeaders)).forEach(request::addHeader);
+				// a request specific opaque id set by the template takes precedence over the configured one
+				boolean hasOpaqueId = request.containsHeader(OpaqueIdProvider.HEADER_NAME);
+				Arrays.stream(toHeaderArray(httpHeaders)) //
+						.filter(header -> !hasOpaqueId || !OpaqueIdProvider.HEADER_NAME.equalsIgnoreCase(header.getName())) //
+						.forEach(request::addHeader);
 			}
 		}
 	}
 
+	/**
+	 * Applies the node selectors one after the other.
+	 */
+	private record NodeSelectors(List<NodeSelector> nodeSelectors) implements NodeSelector {
+
+		@Override
+		public void select(Iterable<Node> nodes) {
+			nodeSelectors.forEach(nodeSelector -> nodeSelector.select(nodes));
+		}
+
+		@Override
+		public String toString() {
+			return nodeSelectors.stream().map(Object::toString).collect(Collectors.joining(", "));
+		}
+	}
+
+	/**
+	 * Passes the failures of nodes to all consumers.
+	 */
+	private static final class FailureListeners extends RestClient.FailureListener {
+
+		private final List<Consumer<Node>> failureConsumers;
+
+		FailureListeners(List<Consumer<Node>> failureConsumers) {
+			this.failureConsumers = failureConsumers;
+		}
+
+		@Override
+		public void onFailure(Node node) {
+			failureConsumers.forEach(failureConsumer -> failureConsumer.accept(node));
+		}
+	}
+
 	/**
 	 * {@link org.springframework.data.elasticsearch.client.ClientConfiguration.ClientConfigurationCallback} to configure
 	 * the Elasticsearch RestClient's Http client with a {@link HttpAsyncClientBuilder}
@@ -110,6 +110,7 @@ public abstract class ElasticsearchConfiguration extends ElasticsearchConfigurat
 
 		ElasticsearchTemplate template = new ElasticsearchTemplate(elasticsearchClient, elasticsearchConverter);
 		template.setRefreshPolicy(refreshPolicy());
+		template.setCriteriaQueryMode(criteriaQueryMode());
 
 		return template;
 	}
@@ -21,6 +21,8 @@ import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetOperation;
+import co.elastic.clients.elasticsearch.core.mget.MultiGetResponseItem;
 import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
 import co.elastic.clients.elasticsearch.sql.ElasticsearchSqlClient;
@@ -31,12 +33,18 @@ import co.elastic.clients.transport.Version;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -75,6 +83,7 @@ import org.springframework.util.Assert;
 public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 	private static final Log LOGGER = LogFactory.getLog(ElasticsearchTemplate.class);
+	private static final int DEFAULT_FAN_OUT_BATCH_SIZE = 500;
 
 	private final ElasticsearchClient client;
 	private final ElasticsearchSqlClient sqlClient;
@@ -82,6 +91,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	private final ResponseConverter responseConverter;
 	private final JsonpMapper jsonpMapper;
 	private final ElasticsearchExceptionTranslator exceptionTranslator;
+	private FanOut fanOut = new FanOut(null, DEFAULT_FAN_OUT_BATCH_SIZE);
+	@Nullable private RequestHedger requestHedger;
+	@Nullable private OperationObserver operationObserver;
+	@Nullable private SlowOperationLogger slowOperationLogger;
+	@Nullable private OperationObserver observer;
+	@Nullable private OpaqueIdProvider opaqueIdProvider;
 
 	// region _initialization
 	public ElasticsearchTemplate(ElasticsearchClient client) {
@@ -111,7 +126,157 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 	@Override
 	protected AbstractElasticsearchTemplate doCopy() {
-		return new ElasticsearchTemplate(client, elasticsearchConverter);
+
+		ElasticsearchTemplate copy = new ElasticsearchTemplate(client, elasticsearchConverter);
+		copy.setCriteriaQueryMode(getCriteriaQueryMode());
+		copy.fanOut = fanOut;
+		copy.requestHedger = requestHedger;
+		copy.operationObserver = operationObserver;
+		copy.slowOperationLogger = slowOperationLogger;
+		copy.observer = observer;
+		copy.opaqueIdProvider = opaqueIdProvider;
+		return copy;
+	}
+
+	/**
+	 * Sets how the criteria of a {@link CriteriaQuery} are converted into Elasticsearch queries, defaults to
+	 * {@link CriteriaQueryMode#DEFAULT}.
+	 *
+	 * @param criteriaQueryMode the mode to use, must not be {@literal null}
+	 * @since 6.0
+	 */
+	public void setCriteriaQueryMode(CriteriaQueryMode criteriaQueryMode) {
+		requestConverter.setCriteriaQueryMode(criteriaQueryMode);
+	}
+
+	/**
+	 * @return how the criteria of a {@link CriteriaQuery} are converted into Elasticsearch queries
+	 * @since 6.0
+	 */
+	public CriteriaQueryMode getCriteriaQueryMode() {
+		return requestConverter.getCriteriaQueryMode();
+	}
+
+	/**
+	 * Sets the {@link Executor} that is used to split large requests into sub-requests that are sent in parallel: the ids
+	 * of a multiGet, the queries of a multiSearch and the operations of a bulk request are split into batches of
+	 * {@link #setFanOutBatchSize(int) fanOutBatchSize} items. The conversion of search hits into entities is split in the
+	 * same way. The calling thread waits until all batches are done, so the results are the same as without an
+	 * executor. The operations of a bulk request are split so that all operations on the same document, identified by
+	 * index, routing and id, are in the same batch and keep their order. Like a single bulk request, the split request is
+	 * not atomic: when the operations of one batch fail, the operations of the other batches are still applied and the
+	 * failed documents are reported in a {@link BulkFailureException}. As the tasks mostly wait for I/O, an executor that creates virtual threads like the one returned by
+	 * {@code Executors.newVirtualThreadPerTaskExecutor()} on Java 21 is a good fit.
+	 *
+	 * @param executor the executor to use, {@literal null} to send every request as a whole in the calling thread, which
+	 *          is the default.
+	 * @since 6.0
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		fanOut = new FanOut(executor, fanOut.getBatchSize());
+	}
+
+	/**
+	 * @return the {@link Executor} used to send sub-requests in parallel, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public Executor getExecutor() {
+		return fanOut.getExecutor();
+	}
+
+	/**
+	 * Sets the maximum number of items in a sub-request when an {@link #setExecutor(Executor) executor} is set, defaults
+	 * to 500.
+	 *
+	 * @param fanOutBatchSize must be greater than 0
+	 * @since 6.0
+	 */
+	public void setFanOutBatchSize(int fanOutBatchSize) {
+		fanOut = new FanOut(fanOut.getExecutor(), fanOutBatchSize);
+	}
+
+	/**
+	 * Sets the {@link HedgingPolicy} for get and search requests. When a request has not returned after the delay defined
+	 * by the policy, a second attempt is sent and the first response is used. Search requests using a point in time are
+	 * not hedged, as Elasticsearch does not accept a preference together with a point in time.
+	 *
+	 * @param hedgingPolicy the policy to use, {@literal null} to disable hedging, which is the default.
+	 * @since 6.0
+	 */
+	public void setHedgingPolicy(@Nullable HedgingPolicy hedgingPolicy) {
+		requestHedger = hedgingPolicy != null ? new RequestHedger(hedgingPolicy, client, exceptionTranslator) : null;
+	}
+
+	/**
+	 * @return the {@link HedgingPolicy} for get and search requests, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public HedgingPolicy getHedgingPolicy() {
+		return requestHedger != null ? requestHedger.getPolicy() : null;
+	}
+
+	/**
+	 * Sets the {@link OperationObserver} that observes the index, bulk, get, search, count, update and delete requests
+	 * sent by this template.
+	 *
+	 * @param operationObserver the observer to use, {@literal null} to disable the observation, which is the default.
+	 * @since 6.0
+	 */
+	public void setOperationObserver(@Nullable OperationObserver operationObserver) {
+		this.operationObserver = operationObserver;
+		this.observer = CompositeOperationObserver.of(operationObserver, slowOperationLogger);
+	}
+
+	/**
+	 * @return the {@link OperationObserver} of this template, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public OperationObserver getOperationObserver() {
+		return operationObserver;
+	}
+
+	/**
+	 * Sets the {@link SlowOperationLog} that defines when the index, bulk, get, search, count, update and delete
+	 * requests sent by this template are logged as slow.
+	 *
+	 * @param slowOperationLog the definition to use, {@literal null} to disable the log, which is the default.
+	 * @since 6.0
+	 */
+	public void setSlowOperationLog(@Nullable SlowOperationLog slowOperationLog) {
+		this.slowOperationLogger = slowOperationLog != null ? new SlowOperationLogger(slowOperationLog, jsonpMapper) : null;
+		this.observer = CompositeOperationObserver.of(operationObserver, slowOperationLogger);
+	}
+
+	/**
+	 * @return the {@link SlowOperationLog} of this template, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public SlowOperationLog getSlowOperationLog() {
+		return slowOperationLogger != null ? slowOperationLogger.getSlowOperationLog() : null;
+	}
+
+	/**
+	 * Sets the {@link OpaqueIdProvider} that provides the {@literal X-Opaque-Id} header of the index, bulk, get, search,
+	 * count, update and delete requests sent by this template.
+	 *
+	 * @param opaqueIdProvider the provider to use, {@literal null} to send no header, which is the default.
+	 * @since 6.0
+	 */
+	public void setOpaqueIdProvider(@Nullable OpaqueIdProvider opaqueIdProvider) {
+		this.opaqueIdProvider = opaqueIdProvider;
+	}
+
+	/**
+	 * @return the {@link OpaqueIdProvider} of this template, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public OpaqueIdProvider getOpaqueIdProvider() {
+		return opaqueIdProvider;
 	}
 	// endregion
 
@@ -143,7 +308,13 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		GetRequest getRequest = requestConverter.documentGetRequest(elasticsearchConverter.convertId(id),
 				routingResolver.getRouting(), index);
-		GetResponse<EntityAsMap> getResponse = execute(client -> client.get(getRequest, EntityAsMap.class));
+		String opaqueId = opaqueId(OperationObserver.Operation.GET, index, clazz);
+		GetResponse<EntityAsMap> getResponse = observe(OperationObserver.Operation.GET, index, clazz, getRequest,
+				() -> requestHedger != null
+						? requestHedger.execute(RequestHedger.Operation.GET, getRequest.preference() != null,
+								client -> ElasticsearchClients.withOpaqueId(client, opaqueId).get(getRequest, EntityAsMap.class))
+						: execute(client -> ElasticsearchClients.withOpaqueId(client, opaqueId).get(getRequest,
+								EntityAsMap.class)));
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		return callback.doWith(DocumentAdapters.from(getResponse));
@@ -156,7 +327,10 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		Assert.notNull(clazz, "clazz must not be null");
 
 		MgetRequest request = requestConverter.documentMgetRequest(query, clazz, index);
-		MgetResponse<EntityAsMap> result = execute(client -> client.mget(request, EntityAsMap.class));
+		MgetResponse<EntityAsMap> result = fanOut.getExecutor() != null
+				&& request.docs().size() > fanOut.getBatchSize() ? multiGetInBatches(request, clazz, index)
+						: execute(OperationObserver.Operation.MULTI_GET, index, clazz, request,
+								client -> client.mget(request, EntityAsMap.class));
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 
@@ -166,6 +340,35 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * sends the operations of the request in batches. The operations are sorted by routing so that a batch targets as few
+	 * shards as possible, the items of the returned response are in the order of the operations of the request.
+	 */
+	private MgetResponse<EntityAsMap> multiGetInBatches(MgetRequest request, Class<?> clazz, IndexCoordinates index) {
+
+		List<MultiGetOperation> operations = request.docs();
+		List<Integer> positions = new ArrayList<>(operations.size());
+		for (int i = 0; i < operations.size(); i++) {
+			positions.add(i);
+		}
+		positions.sort(Comparator.comparing(position -> operations.get(position).routing(),
+				Comparator.nullsFirst(Comparator.naturalOrder())));
+
+		List<MultiGetResponseItem<EntityAsMap>> sortedItems = fanOut.apply(positions, batch -> {
+			MgetRequest batchRequest = MgetRequest
+					.of(mg -> mg.docs(batch.stream().map(operations::get).collect(Collectors.toList())));
+			return execute(OperationObserver.Operation.MULTI_GET, index, clazz, batchRequest,
+					client -> client.mget(batchRequest, EntityAsMap.class)).docs();
+		});
+
+		List<MultiGetResponseItem<EntityAsMap>> items = new ArrayList<>(Collections.nCopies(operations.size(), null));
+		for (int i = 0; i < positions.size(); i++) {
+			items.set(positions.get(i), sortedItems.get(i));
+		}
+
+		return MgetResponse.of(mr -> mr.docs(items));
+	}
+
 	@Override
 	public void bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
@@ -188,7 +391,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
 				clazz, index, getRefreshPolicy());
 
-		DeleteByQueryResponse response = execute(client -> client.deleteByQuery(request));
+		DeleteByQueryResponse response = execute(OperationObserver.Operation.DELETE_BY_QUERY, index, clazz, request,
+				client -> client.deleteByQuery(request));
 
 		return responseConverter.byQueryResponse(response);
 	}
@@ -199,7 +403,7 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, getRefreshPolicy(),
 				routingResolver.getRouting());
 		co.elastic.clients.elasticsearch.core.UpdateResponse<Document> response = execute(
-				client -> client.update(request, Document.class));
+				OperationObserver.Operation.UPDATE, index, null, request, client -> client.update(request, Document.class));
 		return UpdateResponse.of(result(response.result()));
 	}
 
@@ -212,7 +416,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		UpdateByQueryRequest request = requestConverter.documentUpdateByQueryRequest(updateQuery, index,
 				getRefreshPolicy());
 
-		UpdateByQueryResponse byQueryResponse = execute(client -> client.updateByQuery(request));
+		UpdateByQueryResponse byQueryResponse = execute(OperationObserver.Operation.UPDATE_BY_QUERY, index, null,
+				request, client -> client.updateByQuery(request));
 		return responseConverter.byQueryResponse(byQueryResponse);
 	}
 
@@ -224,10 +429,11 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		IndexRequest<?> indexRequest = requestConverter.documentIndexRequest(query, indexCoordinates, refreshPolicy);
 
-		IndexResponse indexResponse = execute(client -> client.index(indexRequest));
-
 		Object queryObject = query.getObject();
 
+		IndexResponse indexResponse = execute(OperationObserver.Operation.INDEX, indexCoordinates,
+				queryObject != null ? queryObject.getClass() : null, indexRequest, client -> client.index(indexRequest));
+
 		if (queryObject != null) {
 			query.setObject(entityOperations.updateIndexedObject(
 					queryObject,
@@ -252,7 +458,7 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		ExistsRequest request = requestConverter.documentExistsRequest(id, routingResolver.getRouting(), index);
 
-		return execute(client -> client.exists(request)).value();
+		return execute(OperationObserver.Operation.EXISTS, index, null, request, client -> client.exists(request)).value();
 	}
 
 	@Override
@@ -263,7 +469,7 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		DeleteRequest request = requestConverter.documentDeleteRequest(elasticsearchConverter.convertId(id), routing, index,
 				getRefreshPolicy());
-		return execute(client -> client.delete(request)).id();
+		return execute(OperationObserver.Operation.DELETE, index, null, request, client -> client.delete(request)).id();
 	}
 
 	@Override
@@ -297,13 +503,98 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	public List<IndexedObjectInformation> doBulkOperation(List<?> queries, BulkOptions bulkOptions,
 			IndexCoordinates index) {
 
-		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
-		BulkResponse bulkResponse = execute(client -> client.bulk(bulkRequest));
+		BulkResponse bulkResponse = bulk(queries, bulkOptions, index);
 		List<IndexedObjectInformation> indexedObjectInformationList = checkForBulkOperationFailure(bulkResponse);
 		updateIndexedObjectsWithQueries(queries, indexedObjectInformationList);
 		return indexedObjectInformationList;
 	}
 
+	/**
+	 * sends the queries in one or more bulk requests, the items of the returned response are in the order of the queries.
+	 */
+	<Q> BulkResponse bulk(List<Q> queries, BulkOptions bulkOptions, IndexCoordinates index) {
+
+		if (fanOut.getExecutor() == null || queries.size() <= fanOut.getBatchSize()) {
+			BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, refreshPolicy);
+			return execute(OperationObserver.Operation.BULK, index, null, bulkRequest, client -> client.bulk(bulkRequest));
+		}
+
+		List<List<Integer>> batches = bulkBatches(queries, index);
+		List<BulkResponse> bulkResponses = fanOut.applyToBatches(batches, batch -> {
+			List<Q> batchQueries = batch.stream().map(queries::get).toList();
+			BulkRequest bulkRequest = requestConverter.documentBulkRequest(batchQueries, bulkOptions, index, refreshPolicy);
+			return Collections.singletonList(
+					execute(OperationObserver.Operation.BULK, index, null, bulkRequest, client -> client.bulk(bulkRequest)));
+		});
+
+		BulkResponseItem[] items = new BulkResponseItem[queries.size()];
+		for (int i = 0; i < batches.size(); i++) {
+			List<Integer> positions = batches.get(i);
+			List<BulkResponseItem> batchItems = bulkResponses.get(i).items();
+			Assert.isTrue(positions.size() == batchItems.size(),
+					"number of response items does not match number of requests");
+
+			for (int j = 0; j < positions.size(); j++) {
+				items[positions.get(j)] = batchItems.get(j);
+			}
+		}
+
+		return BulkResponse.of(br -> br //
+				.errors(bulkResponses.stream().anyMatch(BulkResponse::errors)) //
+				.took(bulkResponses.stream().mapToLong(BulkResponse::took).max().orElse(0)) //
+				.items(Arrays.asList(items)));
+	}
+
+	/**
+	 * splits the positions of the queries into batches of about the fan-out batch size. All queries for the same
+	 * document are put into the same batch in their original order, queries without an id can go into any batch.
+	 */
+	private <Q> List<List<Integer>> bulkBatches(List<Q> queries, IndexCoordinates index) {
+
+		Map<Object, List<Integer>> positionsByDocument = new LinkedHashMap<>();
+		for (int position = 0; position < queries.size(); position++) {
+			positionsByDocument.computeIfAbsent(documentKey(queries.get(position), index), key -> new ArrayList<>())
+					.add(position);
+		}
+
+		List<List<Integer>> batches = new ArrayList<>();
+		List<Integer> batch = new ArrayList<>();
+		for (List<Integer> positions : positionsByDocument.values()) {
+			batch.addAll(positions);
+			if (batch.size() >= fanOut.getBatchSize()) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+			}
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	private static Object documentKey(Object query, IndexCoordinates index) {
+
+		String id = null;
+		String routing = null;
+		String indexName = null;
+		if (query instanceof IndexQuery indexQuery) {
+			id = indexQuery.getId();
+			routing = indexQuery.getRouting();
+			indexName = indexQuery.getIndexName();
+		} else if (query instanceof UpdateQuery updateQuery) {
+			id = updateQuery.getId();
+			routing = updateQuery.getRouting();
+			indexName = updateQuery.getIndexName();
+		}
+
+		if (id == null) {
+			// the id is created by Elasticsearch, the document cannot be in another query
+			return new Object();
+		}
+
+		return Arrays.asList(indexName != null ? indexName : index.getIndexName(), routing, id);
+	}
+
 	// endregion
 
 	@Override
@@ -331,7 +622,8 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				true);
 
-		SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+		SearchResponse<EntityAsMap> searchResponse = execute(OperationObserver.Operation.COUNT, index, clazz,
+				searchRequest, client -> client.search(searchRequest, EntityAsMap.class));
 
 		return searchResponse.hits().total().value();
 	}
@@ -353,24 +645,36 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	protected <T> SearchHits<T> doSearch(Query query, Class<T> clazz, IndexCoordinates index) {
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				false);
-		SearchResponse<EntityAsMap> searchResponse = execute(client -> client.search(searchRequest, EntityAsMap.class));
+		String opaqueId = opaqueId(OperationObserver.Operation.SEARCH, index, clazz);
+		SearchResponse<EntityAsMap> searchResponse = observe(OperationObserver.Operation.SEARCH, index, clazz,
+				searchRequest,
+				// a point in time search must not get a preference
+				() -> requestHedger != null && searchRequest.pit() == null
+						? requestHedger.execute(RequestHedger.Operation.SEARCH, searchRequest.preference() != null,
+								client -> ElasticsearchClients.withOpaqueId(client, opaqueId).search(searchRequest,
+										EntityAsMap.class))
+						: execute(client -> ElasticsearchClients.withOpaqueId(client, opaqueId).search(searchRequest,
+								EntityAsMap.class)));
 
 		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
-		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				query.getCompactSearchHits());
 
 		return callback.doWith(SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
 	}
 
 	protected <T> SearchHits<T> doSearch(SearchTemplateQuery query, Class<T> clazz, IndexCoordinates index) {
 		var searchTemplateRequest = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
-		var searchTemplateResponse = execute(client -> client.searchTemplate(searchTemplateRequest, EntityAsMap.class));
+		var searchTemplateResponse = execute(OperationObserver.Operation.SEARCH, index, clazz, searchTemplateRequest,
+				client -> client.searchTemplate(searchTemplateRequest, EntityAsMap.class));
 
 		// noinspection DuplicatedCode
 		ReadDocumentCallback<T> readDocumentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponse.EntityCreator<T> entityCreator = getEntityCreator(readDocumentCallback);
-		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index);
+		SearchDocumentResponseCallback<SearchHits<T>> callback = new ReadSearchDocumentResponseCallback<>(clazz, index,
+				query.getCompactSearchHits());
 
 		return callback.doWith(SearchDocumentResponseBuilder.from(searchTemplateResponse, entityCreator, jsonpMapper));
 	}
@@ -397,9 +701,10 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		SearchRequest request = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index, false,
 				scrollTimeInMillis);
-		SearchResponse<EntityAsMap> response = execute(client -> client.search(request, EntityAsMap.class));
+		SearchResponse<EntityAsMap> response = execute(OperationObserver.Operation.SEARCH, index, clazz, request,
+				client -> client.search(request, EntityAsMap.class));
 
-		return getSearchScrollHits(clazz, index, response);
+		return getSearchScrollHits(clazz, index, response, query.getCompactSearchHits());
 	}
 
 	@Override
@@ -410,16 +715,17 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 		ScrollRequest request = ScrollRequest
 				.of(sr -> sr.scrollId(scrollId).scroll(Time.of(t -> t.time(scrollTimeInMillis + "ms"))));
-		ScrollResponse<EntityAsMap> response = execute(client -> client.scroll(request, EntityAsMap.class));
+		ScrollResponse<EntityAsMap> response = execute(OperationObserver.Operation.SCROLL, index, clazz, request,
+				client -> client.scroll(request, EntityAsMap.class));
 
-		return getSearchScrollHits(clazz, index, response);
+		return getSearchScrollHits(clazz, index, response, false);
 	}
 
 	private <T> SearchScrollHits<T> getSearchScrollHits(Class<T> clazz, IndexCoordinates index,
-			ResponseBody<EntityAsMap> response) {
+			ResponseBody<EntityAsMap> response, boolean compact) {
 		ReadDocumentCallback<T> documentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz, index);
 		SearchDocumentResponseCallback<SearchScrollHits<T>> callback = new ReadSearchScrollDocumentResponseCallback<>(clazz,
-				index);
+				index, compact);
 
 		return callback
 				.doWith(SearchDocumentResponseBuilder.from(response, getEntityCreator(documentCallback), jsonpMapper));
@@ -510,12 +816,13 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 	private List<SearchHits<?>> doMultiTemplateSearch(
 			List<MultiSearchTemplateQueryParameter> mSearchTemplateQueryParameters) {
-		MsearchTemplateRequest request = requestConverter.searchMsearchTemplateRequest(mSearchTemplateQueryParameters,
-				routingResolver.getRouting());
-
-		MsearchTemplateResponse<EntityAsMap> response = execute(
-				client -> client.msearchTemplate(request, EntityAsMap.class));
-		List<MultiSearchResponseItem<EntityAsMap>> responseItems = response.responses();
+		List<MultiSearchResponseItem<EntityAsMap>> responseItems = fanOut.apply(mSearchTemplateQueryParameters, batch -> {
+			MsearchTemplateRequest request = requestConverter.searchMsearchTemplateRequest(batch,
+					routingResolver.getRouting());
+			return execute(OperationObserver.Operation.MULTI_SEARCH,
+					indexCoordinatesOf(batch.stream().map(MultiSearchTemplateQueryParameter::index)), null, request,
+					client -> client.msearchTemplate(request, EntityAsMap.class)).responses();
+		});
 
 		Assert.isTrue(mSearchTemplateQueryParameters.size() == responseItems.size(),
 				"number of response items does not match number of requests");
@@ -525,17 +832,20 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 				.stream().map(MultiSearchTemplateQueryParameter::clazz).collect(Collectors.toList());
 		List<IndexCoordinates> indices = mSearchTemplateQueryParameters
 				.stream().map(MultiSearchTemplateQueryParameter::index).collect(Collectors.toList());
+		List<Boolean> compacts = mSearchTemplateQueryParameters
+				.stream().map(p -> p.query().getCompactSearchHits()).collect(Collectors.toList());
 
-		return getSearchHitsFromMsearchResponse(size, classes, indices, responseItems);
+		return getSearchHitsFromMsearchResponse(size, classes, indices, compacts, responseItems);
 	}
 
 	private List<SearchHits<?>> doMultiSearch(List<MultiSearchQueryParameter> multiSearchQueryParameters) {
 
-		MsearchRequest request = requestConverter.searchMsearchRequest(multiSearchQueryParameters,
-				routingResolver.getRouting());
-
-		MsearchResponse<EntityAsMap> msearchResponse = execute(client -> client.msearch(request, EntityAsMap.class));
-		List<MultiSearchResponseItem<EntityAsMap>> responseItems = msearchResponse.responses();
+		List<MultiSearchResponseItem<EntityAsMap>> responseItems = fanOut.apply(multiSearchQueryParameters, batch -> {
+			MsearchRequest request = requestConverter.searchMsearchRequest(batch, routingResolver.getRouting());
+			return execute(OperationObserver.Operation.MULTI_SEARCH,
+					indexCoordinatesOf(batch.stream().map(MultiSearchQueryParameter::index)), null, request,
+					client -> client.msearch(request, EntityAsMap.class)).responses();
+		});
 
 		Assert.isTrue(multiSearchQueryParameters.size() == responseItems.size(),
 				"number of response items does not match number of requests");
@@ -545,8 +855,10 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 				.stream().map(MultiSearchQueryParameter::clazz).collect(Collectors.toList());
 		List<IndexCoordinates> indices = multiSearchQueryParameters
 				.stream().map(MultiSearchQueryParameter::index).collect(Collectors.toList());
+		List<Boolean> compacts = multiSearchQueryParameters
+				.stream().map(p -> p.query().getCompactSearchHits()).collect(Collectors.toList());
 
-		return getSearchHitsFromMsearchResponse(size, classes, indices, responseItems);
+		return getSearchHitsFromMsearchResponse(size, classes, indices, compacts, responseItems);
 	}
 
 	/**
@@ -554,10 +866,12 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private List<SearchHits<?>> getSearchHitsFromMsearchResponse(int size, List<Class<?>> classes,
-			List<IndexCoordinates> indices, List<MultiSearchResponseItem<EntityAsMap>> responseItems) {
+			List<IndexCoordinates> indices, List<Boolean> compacts,
+			List<MultiSearchResponseItem<EntityAsMap>> responseItems) {
 		List<SearchHits<?>> searchHitsList = new ArrayList<>(size);
 		Iterator<Class<?>> clazzIter = classes.iterator();
 		Iterator<IndexCoordinates> indexIter = indices.iterator();
+		Iterator<Boolean> compactIter = compacts.iterator();
 		Iterator<MultiSearchResponseItem<EntityAsMap>> responseIterator = responseItems.iterator();
 
 		while (clazzIter.hasNext() && indexIter.hasNext()) {
@@ -567,10 +881,11 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 
 				Class clazz = clazzIter.next();
 				IndexCoordinates index = indexIter.next();
+				boolean compact = compactIter.next();
 				ReadDocumentCallback<?> documentCallback = new ReadDocumentCallback<>(elasticsearchConverter, clazz,
 						index);
 				SearchDocumentResponseCallback<SearchHits<?>> callback = new ReadSearchDocumentResponseCallback<>(clazz,
-						index);
+						index, compact);
 
 				SearchHits<?> searchHits = callback.doWith(
 						SearchDocumentResponseBuilder.from(responseItem.result(), getEntityCreator(documentCallback), jsonpMapper));
@@ -691,9 +1006,67 @@ public class ElasticsearchTemplate extends AbstractElasticsearchTemplate {
 			throw exceptionTranslator.translateException(e);
 		}
 	}
+
+	/**
+	 * Execute a callback with the {@link ElasticsearchClient} and provide exception translation. The request is observed
+	 * by the {@link OperationObserver} and the {@link SlowOperationLog} and tagged by the {@link OpaqueIdProvider} if
+	 * these are set.
+	 */
+	private <T> T execute(OperationObserver.Operation operation, @Nullable IndexCoordinates index,
+			@Nullable Class<?> entityType, Object request, ElasticsearchTemplate.ClientCallback<T> callback) {
+
+		String opaqueId = opaqueId(operation, index, entityType);
+		return observe(operation, index, entityType, request,
+				() -> execute(client -> callback.doWithClient(ElasticsearchClients.withOpaqueId(client, opaqueId))));
+	}
+
+	@Nullable
+	private String opaqueId(OperationObserver.Operation operation, @Nullable IndexCoordinates index,
+			@Nullable Class<?> entityType) {
+
+		OpaqueIdProvider opaqueIdProvider = this.opaqueIdProvider;
+		return opaqueIdProvider != null ? opaqueIdProvider.getOpaqueId(operation, index, entityType) : null;
+	}
+
+	/**
+	 * calls the supplier, which must send the request to Elasticsearch, in the scope of an observation of the
+	 * {@link OperationObserver} and the {@link SlowOperationLog} if these are set.
+	 */
+	private <T> T observe(OperationObserver.Operation operation, @Nullable IndexCoordinates index,
+			@Nullable Class<?> entityType, Object request, Supplier<T> execution) {
+
+		OperationObserver observer = this.observer;
+
+		if (observer == null) {
+			return execution.get();
+		}
+
+		OperationObserver.Observed observed = observer.start(operation, index, entityType, request);
+		try (OperationObserver.Scope ignored = observed.openScope()) {
+			T response = execution.get();
+			observed.onResponse(response);
+			return response;
+		} catch (RuntimeException e) {
+			observed.onError(e);
+			throw e;
+		} finally {
+			observed.stop();
+		}
+	}
 	// endregion
 
 	// region helper methods
+	@Override
+	protected <T> List<T> readEntities(List<? extends Document> documents, DocumentCallback<T> callback) {
+		return fanOut.apply(documents, batch -> super.readEntities(batch, callback));
+	}
+
+	private static IndexCoordinates indexCoordinatesOf(Stream<IndexCoordinates> indexes) {
+		return IndexCoordinates.of(indexes.flatMap(index -> Arrays.stream(index.getIndexNames())) //
+				.distinct() //
+				.toArray(String[]::new));
+	}
+
 	@Override
 	public Query matchAllQuery() {
 		return NativeQuery.builder().withQuery(qb -> qb.matchAll(mab -> mab)).build();
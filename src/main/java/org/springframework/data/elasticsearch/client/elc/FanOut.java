@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Splits a list of items into batches and processes the batches in parallel on an {@link Executor}. The caller waits
+ * until all batches are processed; when one batch fails, the batches that did not start yet are cancelled and the
+ * exception of the first failed batch is thrown in the calling thread. This keeps the lifetime of the parallel tasks
+ * within the call like structured concurrency does.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class FanOut {
+
+	@Nullable private final Executor executor;
+	private final int batchSize;
+
+	/**
+	 * @param executor the executor to run the batches on, if {@literal null} all items are processed in the calling
+	 *          thread as one batch
+	 * @param batchSize the maximum number of items in a batch
+	 */
+	FanOut(@Nullable Executor executor, int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+
+		this.executor = executor;
+		this.batchSize = batchSize;
+	}
+
+	@Nullable
+	Executor getExecutor() {
+		return executor;
+	}
+
+	int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * processes the items in batches.
+	 *
+	 * @param items the items to process
+	 * @param batchFunction function processing one batch
+	 * @return the results of all batches, concatenated in the order of the batches
+	 */
+	<I, R> List<R> apply(List<I> items, Function<List<I>, List<R>> batchFunction) {
+
+		if (executor == null || items.size() <= batchSize) {
+			return batchFunction.apply(items);
+		}
+
+		List<List<I>> batches = new ArrayList<>();
+		for (int from = 0; from < items.size(); from += batchSize) {
+			batches.add(items.subList(from, Math.min(from + batchSize, items.size())));
+		}
+		return applyToBatches(batches, batchFunction);
+	}
+
+	/**
+	 * processes batches that were built by the caller, for example to keep items that belong together in one batch.
+	 *
+	 * @param batches the batches to process
+	 * @param batchFunction function processing one batch
+	 * @return the results of all batches, concatenated in the order of the batches
+	 */
+	<I, R> List<R> applyToBatches(List<List<I>> batches, Function<List<I>, List<R>> batchFunction) {
+
+		if (executor == null || batches.size() == 1) {
+			List<R> results = new ArrayList<>();
+			batches.forEach(batch -> results.addAll(batchFunction.apply(batch)));
+			return results;
+		}
+
+		List<CompletableFuture<List<R>>> futures = new ArrayList<>();
+		for (List<I> batch : batches) {
+			futures.add(CompletableFuture.supplyAsync(() -> batchFunction.apply(batch), executor));
+		}
+
+		List<R> results = new ArrayList<>();
+		try {
+			for (CompletableFuture<List<R>> future : futures) {
+				results.addAll(future.join());
+			}
+		} catch (CompletionException e) {
+			futures.forEach(future -> future.cancel(false));
+			throw rethrow(e.getCause() != null ? e.getCause() : e);
+		}
+		return results;
+	}
+
+	private static RuntimeException rethrow(Throwable throwable) {
+
+		if (throwable instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+
+		if (throwable instanceof Error error) {
+			throw error;
+		}
+
+		return new CompletionException(throwable);
+	}
+}
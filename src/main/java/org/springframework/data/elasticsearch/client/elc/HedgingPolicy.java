@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Defines when {@link ElasticsearchTemplate} sends a second attempt of a get or search request. When the first attempt
+ * has not returned after a delay, the same request is sent again; the response that arrives first is used and the other
+ * attempt is cancelled, so its response is discarded. The delay is the configured percentile of the latencies of the
+ * recent requests of the same operation type, so only the slowest requests are hedged. Until enough latencies have been
+ * recorded, the initial delay is used.
+ * <p>
+ * The second attempt is sent by the same client, which selects the nodes round-robin, so it normally goes to another
+ * node than the first one. If the request has no {@literal preference}, the second attempt gets a custom preference so
+ * that it may be executed on other shard copies.
+ * <p>
+ * Use {@link HedgingPolicy#builder()} to obtain a builder.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class HedgingPolicy {
+
+	private final double percentile;
+	private final Duration initialDelay;
+	private final Duration minDelay;
+	private final int windowSize;
+
+	private HedgingPolicy(double percentile, Duration initialDelay, Duration minDelay, int windowSize) {
+		this.percentile = percentile;
+		this.initialDelay = initialDelay;
+		this.minDelay = minDelay;
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * @return the percentile of the recent latencies after which the second attempt is sent
+	 */
+	public double getPercentile() {
+		return percentile;
+	}
+
+	/**
+	 * @return the delay that is used until enough latencies are recorded
+	 */
+	public Duration getInitialDelay() {
+		return initialDelay;
+	}
+
+	/**
+	 * @return the minimal delay before a second attempt is sent
+	 */
+	public Duration getMinDelay() {
+		return minDelay;
+	}
+
+	/**
+	 * @return the number of recent latencies per operation type that are used to calculate the delay
+	 */
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	/**
+	 * @return a new {@link Builder} with the default values: 95th percentile, initial delay of 100ms, minimal delay of
+	 *         5ms and a window of 1000 latencies.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for {@link HedgingPolicy}.
+	 */
+	public static final class Builder {
+
+		private double percentile = 95.0;
+		private Duration initialDelay = Duration.ofMillis(100);
+		private Duration minDelay = Duration.ofMillis(5);
+		private int windowSize = 1000;
+
+		private Builder() {}
+
+		/**
+		 * @param percentile the percentile, must be greater than 0 and less than 100
+		 */
+		public Builder withPercentile(double percentile) {
+
+			Assert.isTrue(percentile > 0 && percentile < 100, "percentile must be greater than 0 and less than 100");
+
+			this.percentile = percentile;
+			return this;
+		}
+
+		public Builder withInitialDelay(Duration initialDelay) {
+
+			Assert.notNull(initialDelay, "initialDelay must not be null");
+			Assert.isTrue(!initialDelay.isNegative(), "initialDelay must not be negative");
+
+			this.initialDelay = initialDelay;
+			return this;
+		}
+
+		public Builder withMinDelay(Duration minDelay) {
+
+			Assert.notNull(minDelay, "minDelay must not be null");
+			Assert.isTrue(!minDelay.isNegative(), "minDelay must not be negative");
+
+			this.minDelay = minDelay;
+			return this;
+		}
+
+		/**
+		 * @param windowSize the number of latencies to keep per operation type, must be at least 10
+		 */
+		public Builder withWindowSize(int windowSize) {
+
+			Assert.isTrue(windowSize >= 10, "windowSize must be at least 10");
+
+			this.windowSize = windowSize;
+			return this;
+		}
+
+		public HedgingPolicy build() {
+			return new HedgingPolicy(percentile, initialDelay, minDelay, windowSize);
+		}
+	}
+}
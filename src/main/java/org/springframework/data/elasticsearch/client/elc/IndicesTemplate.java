@@ -61,6 +61,10 @@ import org.springframework.util.Assert;
 public class IndicesTemplate extends ChildTemplate<ElasticsearchTransport, ElasticsearchIndicesClient>
 		implements IndexOperations {
 
+	// keys of the files read for an entity in the IndexDocumentCache
+	private static final String MAPPING_PATH_KEY = "mappingPath:";
+	private static final String SETTING_PATH_KEY = "settingPath:";
+
 	// we need a cluster client as well because ES has put some methods from the indices API into the cluster client
 	// (component templates)
 	private final ClusterTemplate clusterTemplate;
@@ -204,7 +208,8 @@ public class IndicesTemplate extends ChildTemplate<ElasticsearchTransport, Elast
 			String mappingPath = mappingAnnotation.mappingPath();
 
 			if (hasText(mappingPath)) {
-				String mappings = ResourceUtil.readFileFromClasspath(mappingPath);
+				String mappings = IndexDocumentCache.get(getRequiredPersistentEntity(clazz), MAPPING_PATH_KEY + mappingPath,
+						() -> ResourceUtil.readFileFromClasspath(mappingPath));
 
 				if (hasText(mappings)) {
 					return Document.parse(mappings);
@@ -254,7 +259,8 @@ public class IndicesTemplate extends ChildTemplate<ElasticsearchTransport, Elast
 		ElasticsearchPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(clazz);
 		String settingPath = persistentEntity.settingPath();
 		return hasText(settingPath) //
-				? Settings.parse(ResourceUtil.readFileFromClasspath(settingPath)) //
+				? Settings.parse(IndexDocumentCache.get(persistentEntity, SETTING_PATH_KEY + settingPath,
+						() -> ResourceUtil.readFileFromClasspath(settingPath))) //
 				: persistentEntity.getDefaultSettings();
 
 	}
@@ -274,6 +280,16 @@ public class IndicesTemplate extends ChildTemplate<ElasticsearchTransport, Elast
 		return responseConverter.indicesGetSettings(getIndicesSettingsResponse, getIndexCoordinates().getIndexName());
 	}
 
+	@Override
+	public boolean putSettings(Settings settings) {
+
+		Assert.notNull(settings, "settings must not be null");
+
+		PutIndicesSettingsRequest putIndicesSettingsRequest = requestConverter
+				.indicesPutSettingsRequest(getIndexCoordinates(), settings);
+		return execute(client -> client.putSettings(putIndicesSettingsRequest)).acknowledged();
+	}
+
 	@Override
 	public boolean alias(AliasActions aliasActions) {
 
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+
+/**
+ * {@link NodeSelector} that skips nodes whose recent latency is higher than the lowest recent latency of the candidate
+ * nodes multiplied by a tolerance. At least half of the candidate nodes are kept, the slowest ones are skipped first, so
+ * that the requests are not all sent to a single node. The recent latency of a node is an exponentially weighted
+ * average of the response times measured by the interceptors. A skipped node gets no new measurements, so a latency is
+ * only used for a limited time, after that the node is selected again.
+ * <p>
+ * The node selector does not know the request it selects a node for, so the latencies of different requests are
+ * compared. To keep them comparable, only read requests are measured: {@literal GET} and {@literal HEAD} requests and
+ * searches, counts and multi gets. The latency of write requests mostly depends on their size.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class LatencyAwareNodeSelector implements NodeSelector {
+
+	private static final String START_ATTRIBUTE = LatencyAwareNodeSelector.class.getName() + ".start";
+	private static final double WEIGHT = 0.2;
+	private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(10);
+	private static final Set<String> READ_ENDPOINTS = Set.of("_search", "_msearch", "_count", "_mget");
+
+	private final double tolerance;
+	private final Map<HttpHost, Latency> latencies = new ConcurrentHashMap<>();
+
+	LatencyAwareNodeSelector(double tolerance) {
+		this.tolerance = tolerance;
+	}
+
+	@Override
+	public void select(Iterable<Node> nodes) {
+
+		long now = System.nanoTime();
+		double lowest = Double.MAX_VALUE;
+
+		for (Node node : nodes) {
+			Latency latency = latencies.get(node.getHost());
+			if (latency != null && latency.isRecent(now)) {
+				lowest = Math.min(lowest, latency.nanos());
+			}
+		}
+
+		if (lowest == Double.MAX_VALUE) {
+			return;
+		}
+
+		double threshold = lowest * tolerance;
+		int count = 0;
+		List<Node> slowNodes = new ArrayList<>();
+		for (Node node : nodes) {
+			count++;
+			Latency latency = latencies.get(node.getHost());
+			if (latency != null && latency.isRecent(now) && latency.nanos() > threshold) {
+				slowNodes.add(node);
+			}
+		}
+
+		int removable = Math.min(slowNodes.size(), count / 2);
+		if (removable == 0) {
+			return;
+		}
+
+		List<Node> removed = slowNodes.stream() //
+				.sorted(Comparator.comparingDouble((Node node) -> latencies.get(node.getHost()).nanos()).reversed()) //
+				.limit(removable) //
+				.toList();
+		for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+			if (removed.contains(iterator.next())) {
+				iterator.remove();
+			}
+		}
+	}
+
+	void record(HttpHost host, long nanos) {
+
+		long now = System.nanoTime();
+		latencies.merge(host, new Latency(nanos, now), (previous, sample) -> previous.isRecent(now)
+				? new Latency(previous.nanos() + (sample.nanos() - previous.nanos()) * WEIGHT, now)
+				: sample);
+	}
+
+	HttpRequestInterceptor requestInterceptor() {
+		return (HttpRequest request, HttpContext context) -> {
+			if (isRead(request)) {
+				context.setAttribute(START_ATTRIBUTE, System.nanoTime());
+			}
+		};
+	}
+
+	HttpResponseInterceptor responseInterceptor() {
+		return (HttpResponse response, HttpContext context) -> {
+			HttpHost targetHost = HttpClientContext.adapt(context).getTargetHost();
+
+			if (context.removeAttribute(START_ATTRIBUTE) instanceof Long start && targetHost != null) {
+				record(targetHost, System.nanoTime() - start);
+			}
+		};
+	}
+
+	private static boolean isRead(HttpRequest request) {
+
+		String method = request.getRequestLine().getMethod();
+		if ("GET".equals(method) || "HEAD".equals(method)) {
+			return true;
+		}
+
+		String path = request.getRequestLine().getUri();
+		int queryStart = path.indexOf('?');
+		if (queryStart >= 0) {
+			path = path.substring(0, queryStart);
+		}
+		return READ_ENDPOINTS.contains(path.substring(path.lastIndexOf('/') + 1));
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyAware(tolerance " + tolerance + ')';
+	}
+
+	private record Latency(double nanos, long updatedAt) {
+
+		boolean isRecent(long now) {
+			return now - updatedAt <= MAX_AGE_NANOS;
+		}
+	}
+}
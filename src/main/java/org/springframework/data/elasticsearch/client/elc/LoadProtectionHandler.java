@@ -0,0 +1,264 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.HttpAsyncResponseConsumerFactory;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+import org.elasticsearch.client.RestClient;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.LoadProtection;
+
+/**
+ * Connects a {@link LoadProtection} to the {@link RestClient}: the node selector takes the permits for the hosts it
+ * selects, the request interceptor passes the permit of the target host to the request, the response interceptor
+ * registers the responses and the {@link ResponseConsumerFactory} registers the requests that failed without a
+ * response.
+ * <p>
+ * The {@link RestClient} calls the node selector, creates the response consumer and runs the request interceptors in
+ * the thread that sends the request, one after the other, so the permits and the consumer are passed to the request
+ * interceptor in thread locals.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class LoadProtectionHandler {
+
+	private static final String PERMIT_ATTRIBUTE = LoadProtectionHandler.class.getName() + ".permit";
+	// the last response consumer created by the current thread, it is weakly referenced as it may not be used
+	private static final ThreadLocal<WeakReference<PermitReleasingResponseConsumer>> CREATED_CONSUMER = //
+			new ThreadLocal<>();
+
+	private final LoadProtection loadProtection;
+	// the permits taken by the node selector per host, for the request that is sent next by the current thread
+	private final ThreadLocal<Map<String, LoadProtection.Permit>> selectedPermits = new ThreadLocal<>();
+
+	LoadProtectionHandler(LoadProtection loadProtection) {
+		this.loadProtection = loadProtection;
+	}
+
+	NodeSelector nodeSelector() {
+		return new NodeSelector() {
+			@Override
+			public void select(Iterable<Node> nodes) {
+
+				// permits of a selection that was not followed by a request
+				cancel(selectedPermits.get());
+
+				Map<String, LoadProtection.Permit> permits = new HashMap<>();
+				for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext();) {
+					String host = key(iterator.next().getHost());
+					LoadProtection.Permit permit = permits.containsKey(host) ? permits.get(host)
+							: loadProtection.tryAcquire(host);
+
+					if (permit != null) {
+						permits.put(host, permit);
+					} else {
+						iterator.remove();
+					}
+				}
+
+				selectedPermits.set(permits);
+			}
+
+			@Override
+			public String toString() {
+				return "LoadProtection(circuit open or concurrency limit reached)";
+			}
+		};
+	}
+
+	HttpRequestInterceptor requestInterceptor() {
+		return (HttpRequest request, HttpContext context) -> {
+
+			if (context.getAttribute(PERMIT_ATTRIBUTE) != null) {
+				// the request is sent again after a redirect or an authentication challenge
+				return;
+			}
+
+			Map<String, LoadProtection.Permit> permits = selectedPermits.get();
+			selectedPermits.remove();
+			WeakReference<PermitReleasingResponseConsumer> consumer = CREATED_CONSUMER.get();
+			CREATED_CONSUMER.remove();
+
+			HttpHost targetHost = HttpClientContext.adapt(context).getTargetHost();
+			if (targetHost == null) {
+				cancel(permits);
+				return;
+			}
+
+			String host = key(targetHost);
+			LoadProtection.Permit permit = permits != null ? permits.remove(host) : null;
+			cancel(permits);
+
+			if (permit == null) {
+				// a retry on another host after a failure, the node selector is not called for it
+				permit = loadProtection.tryAcquire(host);
+
+				if (permit == null) {
+					throw new IOException(
+							"LoadProtection(circuit open or concurrency limit reached) rejected the request to " + host);
+				}
+			}
+
+			context.setAttribute(PERMIT_ATTRIBUTE, permit);
+
+			PermitReleasingResponseConsumer responseConsumer = consumer != null ? consumer.get() : null;
+			if (responseConsumer != null) {
+				responseConsumer.permit = permit;
+			}
+		};
+	}
+
+	HttpResponseInterceptor responseInterceptor() {
+		return (HttpResponse response, HttpContext context) -> {
+			if (context.getAttribute(PERMIT_ATTRIBUTE) instanceof LoadProtection.Permit permit) {
+				int statusCode = response.getStatusLine().getStatusCode();
+
+				if (isFailure(statusCode)) {
+					permit.fail();
+				} else {
+					permit.complete(statusCode == 429);
+				}
+			}
+		};
+	}
+
+	private static void cancel(@Nullable Map<String, LoadProtection.Permit> permits) {
+
+		if (permits != null) {
+			permits.values().forEach(LoadProtection.Permit::cancel);
+		}
+	}
+
+	/**
+	 * 502, 503 and 504 are the status codes the {@link RestClient} retries on another node, 429 is sent by an overloaded
+	 * node and only reduces the limit.
+	 */
+	private static boolean isFailure(int statusCode) {
+		return statusCode == 502 || statusCode == 503 || statusCode == 504;
+	}
+
+	private static String key(HttpHost host) {
+		return host.toHostString();
+	}
+
+	/**
+	 * Creates response consumers that release the permit of their request when it fails without a response or is
+	 * cancelled. It is set in the request options of the transport, requests sent with other options keep their permit
+	 * until the in-flight timeout of the {@link LoadProtection} when they fail without a response.
+	 */
+	static final class ResponseConsumerFactory implements HttpAsyncResponseConsumerFactory {
+
+		private final HttpAsyncResponseConsumerFactory delegate;
+
+		ResponseConsumerFactory(HttpAsyncResponseConsumerFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public HttpAsyncResponseConsumer<HttpResponse> createHttpAsyncResponseConsumer() {
+
+			PermitReleasingResponseConsumer consumer = new PermitReleasingResponseConsumer(
+					delegate.createHttpAsyncResponseConsumer());
+			CREATED_CONSUMER.set(new WeakReference<>(consumer));
+			return consumer;
+		}
+	}
+
+	private static final class PermitReleasingResponseConsumer implements HttpAsyncResponseConsumer<HttpResponse> {
+
+		private final HttpAsyncResponseConsumer<HttpResponse> delegate;
+		private volatile LoadProtection.@Nullable Permit permit;
+
+		PermitReleasingResponseConsumer(HttpAsyncResponseConsumer<HttpResponse> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void responseReceived(HttpResponse response) throws IOException, HttpException {
+			delegate.responseReceived(response);
+		}
+
+		@Override
+		public void consumeContent(ContentDecoder decoder, IOControl ioControl) throws IOException {
+			delegate.consumeContent(decoder, ioControl);
+		}
+
+		@Override
+		public void responseCompleted(HttpContext context) {
+			delegate.responseCompleted(context);
+		}
+
+		@Override
+		public void failed(Exception ex) {
+
+			LoadProtection.Permit permit = this.permit;
+			if (permit != null) {
+				// has no effect when the response interceptor already registered a response
+				permit.fail();
+			}
+			delegate.failed(ex);
+		}
+
+		@Override
+		public @Nullable Exception getException() {
+			return delegate.getException();
+		}
+
+		@Override
+		public @Nullable HttpResponse getResult() {
+			return delegate.getResult();
+		}
+
+		@Override
+		public boolean isDone() {
+			return delegate.isDone();
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+		@Override
+		public boolean cancel() {
+
+			LoadProtection.Permit permit = this.permit;
+			if (permit != null) {
+				permit.cancel();
+			}
+			return delegate.cancel();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.nio.NHttpClientConnection;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.reactor.IOEventDispatch;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.pool.PoolStats;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.ConnectionPool;
+import org.springframework.data.elasticsearch.client.ConnectionPool.RouteStatistics;
+
+/**
+ * {@link PoolingNHttpClientConnectionManager} that measures the time until a requested connection is leased and
+ * provides the statistics of the pool. It registers itself with the {@link ConnectionPool} when the client using it is
+ * started and unregisters when it is shut down, which happens when the client is closed. A manager that is replaced by
+ * a client configuration callback is never started and so does not show up in the statistics.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class MeasuredConnectionManager extends PoolingNHttpClientConnectionManager
+		implements ConnectionPool.StatisticsSource {
+
+	private final Map<HttpRoute, LeaseTimes> leaseTimes = new ConcurrentHashMap<>();
+	private final ConnectionPool connectionPool;
+
+	MeasuredConnectionManager(ConnectingIOReactor ioReactor, Registry<SchemeIOSessionStrategy> ioSessionFactoryRegistry,
+			ConnectionPool connectionPool) {
+		super(ioReactor, ioSessionFactoryRegistry);
+		this.connectionPool = connectionPool;
+	}
+
+	@Override
+	public void execute(IOEventDispatch eventDispatch) throws IOException {
+
+		// called by the client in its I/O reactor thread when it is started, returns when the manager is shut down
+		connectionPool.register(this);
+		try {
+			super.execute(eventDispatch);
+		} finally {
+			connectionPool.unregister(this);
+		}
+	}
+
+	@Override
+	public void shutdown(long waitMs) throws IOException {
+		connectionPool.unregister(this);
+		super.shutdown(waitMs);
+	}
+
+	@Override
+	public void shutdown() throws IOException {
+		connectionPool.unregister(this);
+		super.shutdown();
+	}
+
+	@Override
+	public Future<NHttpClientConnection> requestConnection(HttpRoute route, Object state, long connectTimeout,
+			long leaseTimeout, TimeUnit timeUnit, @Nullable FutureCallback<NHttpClientConnection> callback) {
+
+		long start = System.nanoTime();
+		LeaseTimes routeLeaseTimes = leaseTimes.computeIfAbsent(route, key -> new LeaseTimes());
+
+		return super.requestConnection(route, state, connectTimeout, leaseTimeout, timeUnit,
+				new FutureCallback<NHttpClientConnection>() {
+					@Override
+					public void completed(NHttpClientConnection result) {
+						routeLeaseTimes.record(System.nanoTime() - start);
+						if (callback != null) {
+							callback.completed(result);
+						}
+					}
+
+					@Override
+					public void failed(Exception ex) {
+						if (callback != null) {
+							callback.failed(ex);
+						}
+					}
+
+					@Override
+					public void cancelled() {
+						if (callback != null) {
+							callback.cancelled();
+						}
+					}
+				});
+	}
+
+	@Override
+	public List<RouteStatistics> getRouteStatistics() {
+		return getRoutes().stream() //
+				.map(route -> statistics(route.getTargetHost().toURI(), getStats(route), leaseTimes.get(route))) //
+				.toList();
+	}
+
+	@Override
+	public RouteStatistics getTotalStatistics() {
+
+		LeaseTimes total = new LeaseTimes();
+		leaseTimes.values().forEach(routeLeaseTimes -> {
+			total.count.add(routeLeaseTimes.count.sum());
+			total.nanos.add(routeLeaseTimes.nanos.sum());
+		});
+		return statistics(ConnectionPool.TOTAL, getTotalStats(), total);
+	}
+
+	private static RouteStatistics statistics(String route, PoolStats poolStats, @Nullable LeaseTimes leaseTimes) {
+		return new RouteStatistics(route, poolStats.getLeased(), poolStats.getPending(), poolStats.getAvailable(),
+				poolStats.getMax(), leaseTimes != null ? leaseTimes.count.sum() : 0,
+				leaseTimes != null ? Duration.ofNanos(leaseTimes.nanos.sum()) : Duration.ZERO);
+	}
+
+	private static final class LeaseTimes {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		void record(long leaseNanos) {
+			count.increment();
+			nanos.add(leaseNanos);
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.Sniffing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Periodically requests the HTTP enabled nodes of the cluster and sets them as the nodes of a {@link RestClient}.
+ * Nodes that are only master eligible are not used. The sniffing runs on a daemon thread and stops when the client is
+ * closed.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class NodeSniffer {
+
+	private static final Log LOGGER = LogFactory.getLog(NodeSniffer.class);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final Sniffing sniffing;
+	private final String scheme;
+	@Nullable private RestClient restClient;
+	@Nullable private ScheduledExecutorService executor;
+	@Nullable private ScheduledFuture<?> scheduled;
+
+	/**
+	 * @param sniffing the sniffing configuration
+	 * @param scheme the scheme to use for the sniffed nodes
+	 */
+	NodeSniffer(Sniffing sniffing, String scheme) {
+		this.sniffing = sniffing;
+		this.scheme = scheme;
+	}
+
+	/**
+	 * starts sniffing, the first request is sent immediately.
+	 */
+	synchronized void start(RestClient restClient) {
+
+		this.restClient = restClient;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "spring-data-elasticsearch-sniffer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		schedule(Duration.ZERO);
+	}
+
+	/**
+	 * sniffs again after the configured interval after failure, unless sniffing is scheduled earlier anyway.
+	 */
+	void onFailure(Node node) {
+		schedule(sniffing.getIntervalAfterFailure());
+	}
+
+	private synchronized void schedule(Duration delay) {
+
+		if (executor == null || executor.isShutdown()) {
+			return;
+		}
+
+		if (scheduled != null && !scheduled.isDone()) {
+			if (scheduled.getDelay(TimeUnit.NANOSECONDS) <= delay.toNanos()) {
+				return;
+			}
+			scheduled.cancel(false);
+		}
+
+		scheduled = executor.schedule(this::run, delay.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	private void run() {
+
+		RestClient client;
+		synchronized (this) {
+			client = restClient;
+		}
+
+		if (client == null || !client.isRunning()) {
+			stop();
+			return;
+		}
+
+		try {
+			List<Node> nodes = sniff(client);
+
+			if (nodes.isEmpty()) {
+				LOGGER.warn("sniffing returned no usable nodes, keeping the current nodes");
+			} else {
+				client.setNodes(nodes);
+			}
+		} catch (Exception e) {
+			LOGGER.warn("sniffing the nodes failed: " + e.getMessage());
+		}
+
+		synchronized (this) {
+			scheduled = null;
+		}
+		schedule(sniffing.getInterval());
+	}
+
+	private synchronized void stop() {
+
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private List<Node> sniff(RestClient client) throws IOException {
+
+		Request request = new Request("GET", "/_nodes/http");
+		request.addParameter("timeout", sniffing.getTimeout().toMillis() + "ms");
+		Response response = client.performRequest(request);
+
+		try (InputStream content = response.getEntity().getContent()) {
+			return parseNodes(content, scheme);
+		}
+	}
+
+	/**
+	 * parses the response of the {@literal _nodes/http} endpoint.
+	 *
+	 * @return the nodes with HTTP enabled that are not only master eligible
+	 */
+	static List<Node> parseNodes(InputStream content, String scheme) throws IOException {
+
+		JsonNode root = OBJECT_MAPPER.readTree(content);
+		List<Node> nodes = new ArrayList<>();
+
+		for (JsonNode nodeInfo : root.path("nodes")) {
+			String publishAddress = nodeInfo.path("http").path("publish_address").asText(null);
+
+			if (publishAddress == null) {
+				continue;
+			}
+
+			HttpHost publishHost = parseAddress(publishAddress, scheme);
+			Set<HttpHost> boundHosts = new HashSet<>();
+			nodeInfo.path("http").path("bound_address")
+					.forEach(boundAddress -> boundHosts.add(parseAddress(boundAddress.asText(), scheme)));
+
+			Set<String> roleNames = new HashSet<>();
+			nodeInfo.path("roles").forEach(role -> roleNames.add(role.asText()));
+			Node.Roles roles = new Node.Roles(roleNames);
+
+			if (roles.isMasterEligible() && !roles.canContainData() && !roles.isIngest()) {
+				continue;
+			}
+
+			Map<String, List<String>> attributes = new LinkedHashMap<>();
+			nodeInfo.path("attributes").properties()
+					.forEach(entry -> attributes.put(entry.getKey(), Collections.singletonList(entry.getValue().asText())));
+
+			nodes.add(new Node(publishHost, boundHosts, nodeInfo.path("name").asText(null),
+					nodeInfo.path("version").asText(null), roles, attributes));
+		}
+
+		return nodes;
+	}
+
+	/**
+	 * parses an address in the form {@literal host:port}, {@literal hostname/ip:port} or {@literal [ipv6]:port}; the
+	 * hostname is used when present.
+	 */
+	static HttpHost parseAddress(String address, String scheme) {
+
+		int slash = address.indexOf('/');
+		HttpHost host = HttpHost.create(scheme + "://" + (slash >= 0 ? address.substring(slash + 1) : address));
+
+		if (slash > 0) {
+			return new HttpHost(address.substring(0, slash), host.getPort(), scheme);
+		}
+		return host;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * Provides the value of the {@literal X-Opaque-Id} header that {@link ElasticsearchTemplate} and
+ * {@link ReactiveElasticsearchTemplate} send with a request. Elasticsearch shows this value in the search and index
+ * slowlogs, in the tasks API and in deprecation logs, so a slow or long running request can be traced back to the
+ * application code that sent it.
+ * <p>
+ * The provider is called on the thread that executes the template operation, for a reactive operation this is the
+ * thread that subscribes. An implementation that adds a trace id can read it from the current tracing context, for
+ * example {@code (operation, index, entityType) -> tracer.currentSpan().context().traceId()}. Elasticsearch keeps the
+ * values in its task and log data, so they should not have an unlimited number of different values when the tasks API
+ * is used to group requests.
+ * <p>
+ * A request specific header replaces an {@literal X-Opaque-Id} header that is set with
+ * {@link org.springframework.data.elasticsearch.client.ClientConfiguration.TerminalClientConfigurationBuilder#withHeaders}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+@FunctionalInterface
+public interface OpaqueIdProvider {
+
+	/**
+	 * The name of the header.
+	 */
+	String HEADER_NAME = "X-Opaque-Id";
+
+	/**
+	 * @param operation the type of the request
+	 * @param index the index the request is sent to, {@literal null} if the request does not target an index
+	 * @param entityType the entity class the request is sent for, may be {@literal null}
+	 * @return the value of the header, {@literal null} if no header should be sent
+	 */
+	@Nullable
+	String getOpaqueId(OperationObserver.Operation operation, @Nullable IndexCoordinates index,
+			@Nullable Class<?> entityType);
+
+	/**
+	 * @return a provider that returns the operation and the simple name of the entity class, or the index names if there
+	 *         is no entity class, like {@literal search:Person} or {@literal bulk:persons}.
+	 */
+	static OpaqueIdProvider operation() {
+		return (operation, index, entityType) -> {
+
+			if (entityType != null) {
+				return operation.getValue() + ':' + entityType.getSimpleName();
+			}
+
+			return index != null ? operation.getValue() + ':' + String.join(",", index.getIndexNames())
+					: operation.getValue();
+		};
+	}
+
+	/**
+	 * Returns a provider that returns the application method that called the template or the repository, like
+	 * {@literal PersonService.findAdults:search}. The method is the first one on the stack of the calling thread that does
+	 * not belong to Spring, the JDK, Reactor, Kotlin, the Elasticsearch client or a generated proxy class. When there is
+	 * no such method, the value of {@link #operation()} is returned.
+	 * <p>
+	 * This walks the stack of the calling thread for every request. For a reactive operation the stack of the
+	 * subscribing thread normally does not contain the application method.
+	 *
+	 * @return a provider that returns the calling application method and the operation
+	 */
+	static OpaqueIdProvider callSite() {
+
+		OpaqueIdProvider fallback = operation();
+		Set<String> excludedPrefixes = Set.of("org.springframework.", "java.", "javax.", "jdk.", "sun.", "com.sun.",
+				"reactor.", "kotlin.", "kotlinx.", "co.elastic.clients.");
+
+		return (operation, index, entityType) -> {
+			Optional<StackWalker.StackFrame> callSite = StackWalker.getInstance()
+					.walk(frames -> frames.filter(frame -> {
+						String className = frame.getClassName();
+						return excludedPrefixes.stream().noneMatch(className::startsWith) && !className.contains("$$")
+								&& !className.contains("$Proxy");
+					}).findFirst());
+
+			return callSite.map(frame -> {
+				String className = frame.getClassName();
+				return className.substring(className.lastIndexOf('.') + 1) + '.' + frame.getMethodName() + ':'
+						+ operation.getValue();
+			}).orElseGet(() -> fallback.getOpaqueId(operation, index, entityType));
+		};
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * Observes the requests that {@link ElasticsearchTemplate} and {@link ReactiveElasticsearchTemplate} send to
+ * Elasticsearch. Every request is observed on its own, so an operation that is split into several requests, like a
+ * multiGet with an executor set on the template, or a search that reads all pages of a point in time, results in one
+ * observation per request.
+ * <p>
+ * This interface does not depend on any metrics or tracing library. The implementation based on Micrometer's
+ * Observation API is
+ * {@link org.springframework.data.elasticsearch.client.elc.observation.ObservationOperationObserver}, it is only loaded
+ * when it is set on a template.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public interface OperationObserver {
+
+	/**
+	 * Starts the observation of a request.
+	 *
+	 * @param operation the type of the request
+	 * @param index the index the request is sent to, {@literal null} if the request does not target an index
+	 * @param entityType the entity class the request is sent for, may be {@literal null}
+	 * @param request the request object of the Elasticsearch client that is sent
+	 * @return the started observation, must be stopped by the caller
+	 */
+	Observed start(Operation operation, @Nullable IndexCoordinates index, @Nullable Class<?> entityType,
+			Object request);
+
+	/**
+	 * A started observation of a request.
+	 */
+	interface Observed {
+
+		/**
+		 * Makes the observation the current one of the calling thread until the returned scope is closed. The request must
+		 * be sent within this scope to be attributed to the observation.
+		 */
+		Scope openScope();
+
+		/**
+		 * Called with the response of Elasticsearch before the response is converted. {@link ResponseMetrics#of(Object)}
+		 * extracts the processing time and number of hits from it.
+		 */
+		void onResponse(Object response);
+
+		/**
+		 * Called when the request failed.
+		 */
+		void onError(Throwable error);
+
+		/**
+		 * Called when a reactive request was cancelled before the response was received.
+		 */
+		void onCancel();
+
+		/**
+		 * Stops the observation.
+		 */
+		void stop();
+	}
+
+	/**
+	 * The scope of an {@link Observed}, closing it must not throw an exception.
+	 */
+	interface Scope extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	/**
+	 * The types of requests that are observed.
+	 */
+	enum Operation {
+		INDEX("index"), //
+		BULK("bulk"), //
+		GET("get"), //
+		MULTI_GET("mget"), //
+		EXISTS("exists"), //
+		SEARCH("search"), //
+		MULTI_SEARCH("msearch"), //
+		SCROLL("scroll"), //
+		COUNT("count"), //
+		UPDATE("update"), //
+		UPDATE_BY_QUERY("update_by_query"), //
+		DELETE("delete"), //
+		DELETE_BY_QUERY("delete_by_query");
+
+		private final String value;
+
+		Operation(String value) {
+			this.value = value;
+		}
+
+		/**
+		 * @return the name of the operation as it is used in metrics and traces
+		 */
+		public String getValue() {
+			return value;
+		}
+	}
+}
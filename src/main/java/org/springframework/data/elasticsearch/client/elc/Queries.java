@@ -16,6 +16,7 @@
 package org.springframework.data.elasticsearch.client.elc;
 
 import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.KnnSearch;
 import co.elastic.clients.elasticsearch._types.LatLonGeoLocation;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.IdsQuery;
@@ -30,9 +31,13 @@ import co.elastic.clients.elasticsearch._types.query_dsl.WrapperQuery;
 import co.elastic.clients.util.ObjectBuilder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
@@ -172,6 +177,78 @@ public final class Queries {
 		return LatLonGeoLocation.of(_0 -> _0.lat(lat).lon(lon));
 	}
 
+	/**
+	 * Creates a {@link KnnSearch} for a vector given as primitive array.
+	 *
+	 * @param field the name of the dense_vector field
+	 * @param queryVector the query vector
+	 * @param k the number of nearest neighbours to return
+	 * @param numCandidates the number of candidates to consider per shard, may be {@literal null}
+	 * @return the KnnSearch
+	 * @since 6.0
+	 */
+	public static KnnSearch knnSearch(String field, float[] queryVector, int k, @Nullable Integer numCandidates) {
+
+		Assert.notNull(field, "field must not be null");
+
+		return KnnSearch.of(ks -> ks //
+				.field(field) //
+				.queryVector(queryVector(queryVector)) //
+				.k(k) //
+				.numCandidates(numCandidates));
+	}
+
+	/**
+	 * Creates a {@link KnnSearch} for a byte vector.
+	 *
+	 * @param field the name of the dense_vector field, with an element_type of byte
+	 * @param queryVector the query vector
+	 * @param k the number of nearest neighbours to return
+	 * @param numCandidates the number of candidates to consider per shard, may be {@literal null}
+	 * @return the KnnSearch
+	 * @since 6.0
+	 */
+	public static KnnSearch knnSearch(String field, byte[] queryVector, int k, @Nullable Integer numCandidates) {
+
+		Assert.notNull(field, "field must not be null");
+
+		return KnnSearch.of(ks -> ks //
+				.field(field) //
+				.queryVector(queryVector(queryVector)) //
+				.k(k) //
+				.numCandidates(numCandidates));
+	}
+
+	/**
+	 * Returns a list view of a vector as it is needed for the query vector of a {@link KnnSearch} or a kNN query. The
+	 * array is not copied, the elements are boxed one at a time when the query is serialized.
+	 *
+	 * @param vector the vector
+	 * @return the list view of the vector
+	 * @since 6.0
+	 */
+	public static List<Float> queryVector(float[] vector) {
+
+		Assert.notNull(vector, "vector must not be null");
+
+		return new FloatArrayList(vector.length, i -> vector[i]);
+	}
+
+	/**
+	 * Returns a list view of a byte vector as it is needed for the query vector of a {@link KnnSearch} or a kNN query.
+	 * The array is not copied.
+	 *
+	 * @param vector the vector
+	 * @return the list view of the vector
+	 * @since 6.0
+	 */
+	public static List<Float> queryVector(byte[] vector) {
+
+		Assert.notNull(vector, "vector must not be null");
+
+		return new FloatArrayList(vector.length, i -> vector[i]);
+	}
+
 	public static org.springframework.data.elasticsearch.core.query.Query getTermsAggsQuery(String aggsName,
 			String aggsField) {
 		return NativeQuery.builder() //
@@ -193,4 +270,26 @@ public final class Queries {
 	public static BaseQueryBuilder<?, ?> getBuilderWithTermQuery(String field, String value) {
 		return NativeQuery.builder().withQuery(termQueryAsQuery(field, value));
 	}
+
+	private static final class FloatArrayList extends AbstractList<Float> implements RandomAccess {
+
+		private final int size;
+		private final IntToDoubleFunction elements;
+
+		FloatArrayList(int size, IntToDoubleFunction elements) {
+			this.size = size;
+			this.elements = elements;
+		}
+
+		@Override
+		public Float get(int index) {
+			Objects.checkIndex(index, size);
+			return (float) elements.applyAsDouble(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
 }
@@ -17,11 +17,14 @@ package org.springframework.data.elasticsearch.client.elc;
 
 import co.elastic.clients.elasticsearch.cluster.HealthRequest;
 import co.elastic.clients.elasticsearch.cluster.HealthResponse;
+import co.elastic.clients.elasticsearch.tasks.GetTasksRequest;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import reactor.core.publisher.Mono;
 
 import org.springframework.data.elasticsearch.core.cluster.ClusterHealth;
 import org.springframework.data.elasticsearch.core.cluster.ReactiveClusterOperations;
+import org.springframework.data.elasticsearch.core.cluster.TaskStatus;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 
 /**
@@ -45,4 +48,12 @@ public class ReactiveClusterTemplate
 		return healthResponse.map(responseConverter::clusterHealth);
 	}
 
+	@Override
+	public Mono<TaskStatus> getTask(String taskId) {
+
+		GetTasksRequest getTasksRequest = requestConverter.tasksGetRequest(taskId);
+		Mono<GetTasksResponse> getTasksResponse = Mono.from(execute(client -> client.getTask(getTasksRequest)));
+		return getTasksResponse.map(response -> responseConverter.taskStatus(taskId, response));
+	}
+
 }
@@ -25,6 +25,8 @@ import co.elastic.clients.elasticsearch.cluster.HealthRequest;
 import co.elastic.clients.elasticsearch.cluster.HealthResponse;
 import co.elastic.clients.elasticsearch.cluster.PutComponentTemplateRequest;
 import co.elastic.clients.elasticsearch.cluster.PutComponentTemplateResponse;
+import co.elastic.clients.elasticsearch.tasks.GetTasksRequest;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.TransportOptions;
 import co.elastic.clients.transport.endpoints.BooleanResponse;
@@ -62,6 +64,14 @@ public class ReactiveElasticsearchClusterClient
 		return health(fn.apply(new HealthRequest.Builder()).build());
 	}
 
+	/**
+	 * @since 6.0
+	 */
+	public Mono<GetTasksResponse> getTask(GetTasksRequest getTasksRequest) {
+		return Mono.fromFuture(
+				transport.performRequestAsync(getTasksRequest, GetTasksRequest._ENDPOINT, transportOptions));
+	}
+
 	public Mono<PutComponentTemplateResponse> putComponentTemplate(
 			PutComponentTemplateRequest putComponentTemplateRequest) {
 		return Mono.fromFuture(transport.performRequestAsync(putComponentTemplateRequest,
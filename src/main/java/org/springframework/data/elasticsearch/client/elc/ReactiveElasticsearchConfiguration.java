@@ -105,6 +105,7 @@ public abstract class ReactiveElasticsearchConfiguration extends ElasticsearchCo
 		ReactiveElasticsearchTemplate template = new ReactiveElasticsearchTemplate(reactiveElasticsearchClient,
 				elasticsearchConverter);
 		template.setRefreshPolicy(refreshPolicy());
+		template.setCriteriaQueryMode(criteriaQueryMode());
 
 		return template;
 	}
@@ -21,6 +21,7 @@ import static org.springframework.data.elasticsearch.client.elc.TypeUtils.*;
 import co.elastic.clients.elasticsearch._types.Result;
 import co.elastic.clients.elasticsearch.core.*;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
 import co.elastic.clients.elasticsearch.core.search.ResponseBody;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.transport.Version;
@@ -64,6 +65,7 @@ import org.springframework.data.elasticsearch.core.reindex.ReindexRequest;
 import org.springframework.data.elasticsearch.core.reindex.ReindexResponse;
 import org.springframework.data.elasticsearch.core.script.Script;
 import org.springframework.data.elasticsearch.core.sql.SqlResponse;
+import org.springframework.data.elasticsearch.support.FieldNameDictionary;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -87,6 +89,10 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 	private final ResponseConverter responseConverter;
 	private final JsonpMapper jsonpMapper;
 	private final ElasticsearchExceptionTranslator exceptionTranslator;
+	@Nullable private OperationObserver operationObserver;
+	@Nullable private SlowOperationLogger slowOperationLogger;
+	@Nullable private OperationObserver observer;
+	@Nullable private OpaqueIdProvider opaqueIdProvider;
 
 	public ReactiveElasticsearchTemplate(ReactiveElasticsearchClient client, ElasticsearchConverter converter) {
 		super(converter);
@@ -109,7 +115,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				getRefreshPolicy());
 		return Mono.just(entity) //
 				.zipWith(//
-						Mono.from(execute(client -> client.index(indexRequest))) //
+						execute(OperationObserver.Operation.INDEX, index, entity.getClass(), indexRequest,
+								client -> client.index(indexRequest)) //
 								.map(indexResponse -> new IndexResponseMetaData(indexResponse.id(), //
 										indexResponse.index(), //
 										indexResponse.seqNo(), //
@@ -161,8 +168,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		ExistsRequest existsRequest = requestConverter.documentExistsRequest(id, routingResolver.getRouting(), index);
 
-		return Mono.from(execute(
-				((ClientCallback<Publisher<BooleanResponse>>) client -> client.exists(existsRequest))))
+		return execute(OperationObserver.Operation.EXISTS, index, null, existsRequest,
+				((ClientCallback<Publisher<BooleanResponse>>) client -> client.exists(existsRequest)))
 				.map(BooleanResponse::value) //
 				.onErrorReturn(NoSuchIndexException.class, false);
 	}
@@ -173,7 +180,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		DeleteByQueryRequest request = requestConverter.documentDeleteByQueryRequest(query, routingResolver.getRouting(),
 				entityType, index, getRefreshPolicy());
-		return Mono.from(execute(client -> client.deleteByQuery(request))).map(responseConverter::byQueryResponse);
+		return execute(OperationObserver.Operation.DELETE_BY_QUERY, index, entityType, request,
+				client -> client.deleteByQuery(request)).map(responseConverter::byQueryResponse);
 	}
 
 	@Override
@@ -185,8 +193,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		GetRequest getRequest = requestConverter.documentGetRequest(id, routingResolver.getRouting(), index);
 
-		Mono<GetResponse<EntityAsMap>> getResponse = Mono
-				.from(execute(client -> client.get(getRequest, EntityAsMap.class)));
+		Mono<GetResponse<EntityAsMap>> getResponse = execute(OperationObserver.Operation.GET, index, entityType,
+				getRequest, client -> client.get(getRequest, EntityAsMap.class));
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, entityType, index);
 		return getResponse.flatMap(response -> callback.toEntity(DocumentAdapters.from(response)));
@@ -229,10 +237,12 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		UpdateRequest<Document, ?> request = requestConverter.documentUpdateRequest(updateQuery, index, getRefreshPolicy(),
 				routingResolver.getRouting());
 
-		return Mono.from(execute(client -> client.update(request, Document.class))).flatMap(response -> {
-			UpdateResponse.Result result = result(response.result());
-			return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
-		});
+		return execute(OperationObserver.Operation.UPDATE, index, null, request,
+				client -> client.update(request, Document.class)) //
+				.flatMap(response -> {
+					UpdateResponse.Result result = result(response.result());
+					return result == null ? Mono.empty() : Mono.just(UpdateResponse.of(result));
+				});
 	}
 
 	@Override
@@ -253,7 +263,7 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 	private Flux<BulkResponseItem> doBulkOperation(List<?> queries, BulkOptions bulkOptions, IndexCoordinates index) {
 
 		BulkRequest bulkRequest = requestConverter.documentBulkRequest(queries, bulkOptions, index, getRefreshPolicy());
-		return client.bulk(bulkRequest)
+		return execute(OperationObserver.Operation.BULK, index, null, bulkRequest, client -> client.bulk(bulkRequest))
 				.onErrorMap(e -> new UncategorizedElasticsearchException("Error executing bulk request", e))
 				.flatMap(this::checkForBulkOperationFailure) //
 				.flatMapMany(response -> Flux.fromIterable(response.items()));
@@ -289,13 +299,13 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		return Mono.defer(() -> {
 			DeleteRequest deleteRequest = requestConverter.documentDeleteRequest(id, routing, index, getRefreshPolicy());
-			return doDelete(deleteRequest);
+			return doDelete(deleteRequest, index);
 		});
 	}
 
-	private Mono<String> doDelete(DeleteRequest request) {
+	private Mono<String> doDelete(DeleteRequest request, IndexCoordinates index) {
 
-		return Mono.from(execute(client -> client.delete(request))) //
+		return execute(OperationObserver.Operation.DELETE, index, null, request, client -> client.delete(request)) //
 				.flatMap(deleteResponse -> {
 					if (deleteResponse.result() == Result.NotFound) {
 						return Mono.empty();
@@ -314,9 +324,10 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 		ReadDocumentCallback<T> callback = new ReadDocumentCallback<>(converter, clazz, index);
 
-		Publisher<MgetResponse<EntityAsMap>> response = execute(client -> client.mget(request, EntityAsMap.class));
+		Mono<MgetResponse<EntityAsMap>> response = execute(OperationObserver.Operation.MULTI_GET, index, clazz,
+				request, client -> client.mget(request, EntityAsMap.class));
 
-		return Mono.from(response)//
+		return response //
 				.flatMapMany(it -> Flux.fromIterable(DocumentAdapters.from(it))) //
 				.flatMap(multiGetItem -> {
 					if (multiGetItem.isFailed()) {
@@ -332,7 +343,95 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 
 	@Override
 	protected ReactiveElasticsearchTemplate doCopy() {
-		return new ReactiveElasticsearchTemplate(client, converter);
+
+		ReactiveElasticsearchTemplate copy = new ReactiveElasticsearchTemplate(client, converter);
+		copy.setCriteriaQueryMode(getCriteriaQueryMode());
+		copy.operationObserver = operationObserver;
+		copy.slowOperationLogger = slowOperationLogger;
+		copy.observer = observer;
+		copy.opaqueIdProvider = opaqueIdProvider;
+		return copy;
+	}
+
+	/**
+	 * Sets how the criteria of a {@link CriteriaQuery} are converted into Elasticsearch queries, defaults to
+	 * {@link CriteriaQueryMode#DEFAULT}.
+	 *
+	 * @param criteriaQueryMode the mode to use, must not be {@literal null}
+	 * @since 6.0
+	 */
+	public void setCriteriaQueryMode(CriteriaQueryMode criteriaQueryMode) {
+		requestConverter.setCriteriaQueryMode(criteriaQueryMode);
+	}
+
+	/**
+	 * @return how the criteria of a {@link CriteriaQuery} are converted into Elasticsearch queries
+	 * @since 6.0
+	 */
+	public CriteriaQueryMode getCriteriaQueryMode() {
+		return requestConverter.getCriteriaQueryMode();
+	}
+
+	/**
+	 * Sets the {@link OperationObserver} that observes the index, bulk, get, search, count, update and delete requests
+	 * sent by this template.
+	 *
+	 * @param operationObserver the observer to use, {@literal null} to disable the observation, which is the default.
+	 * @since 6.0
+	 */
+	public void setOperationObserver(@Nullable OperationObserver operationObserver) {
+		this.operationObserver = operationObserver;
+		this.observer = CompositeOperationObserver.of(operationObserver, slowOperationLogger);
+	}
+
+	/**
+	 * @return the {@link OperationObserver} of this template, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public OperationObserver getOperationObserver() {
+		return operationObserver;
+	}
+
+	/**
+	 * Sets the {@link SlowOperationLog} that defines when the index, bulk, get, search, count, update and delete
+	 * requests sent by this template are logged as slow.
+	 *
+	 * @param slowOperationLog the definition to use, {@literal null} to disable the log, which is the default.
+	 * @since 6.0
+	 */
+	public void setSlowOperationLog(@Nullable SlowOperationLog slowOperationLog) {
+		this.slowOperationLogger = slowOperationLog != null ? new SlowOperationLogger(slowOperationLog, jsonpMapper) : null;
+		this.observer = CompositeOperationObserver.of(operationObserver, slowOperationLogger);
+	}
+
+	/**
+	 * @return the {@link SlowOperationLog} of this template, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public SlowOperationLog getSlowOperationLog() {
+		return slowOperationLogger != null ? slowOperationLogger.getSlowOperationLog() : null;
+	}
+
+	/**
+	 * Sets the {@link OpaqueIdProvider} that provides the {@literal X-Opaque-Id} header of the index, bulk, get, search,
+	 * count, update and delete requests sent by this template.
+	 *
+	 * @param opaqueIdProvider the provider to use, {@literal null} to send no header, which is the default.
+	 * @since 6.0
+	 */
+	public void setOpaqueIdProvider(@Nullable OpaqueIdProvider opaqueIdProvider) {
+		this.opaqueIdProvider = opaqueIdProvider;
+	}
+
+	/**
+	 * @return the {@link OpaqueIdProvider} of this template, may be {@literal null}
+	 * @since 6.0
+	 */
+	@Nullable
+	public OpaqueIdProvider getOpaqueIdProvider() {
+		return opaqueIdProvider;
 	}
 
 	// region search operations
@@ -406,7 +505,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 				SearchRequest firstSearchRequest = requestConverter.searchRequest(baseQuery, routingResolver.getRouting(),
 						clazz, index, false, true);
 
-				return Mono.from(execute(client -> client.search(firstSearchRequest, EntityAsMap.class)))
+				return execute(OperationObserver.Operation.SEARCH, index, clazz, firstSearchRequest,
+						client -> client.search(firstSearchRequest, EntityAsMap.class))
 						.expand(entityAsMapSearchResponse -> {
 
 							var hits = entityAsMapSearchResponse.hits().hits();
@@ -419,20 +519,30 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 							baseQuery.setSearchAfter(sortOptions);
 							SearchRequest followSearchRequest = requestConverter.searchRequest(baseQuery,
 									routingResolver.getRouting(), clazz, index, false, true);
-							return Mono.from(execute(client -> client.search(followSearchRequest, EntityAsMap.class)));
+							return execute(OperationObserver.Operation.SEARCH, index, clazz, followSearchRequest,
+									client -> client.search(followSearchRequest, EntityAsMap.class));
 						});
 
 			};
 
 			Flux<ResponseBody<EntityAsMap>> searchResponses = Flux.usingWhen(resourceSupplier, resourceClosure, asyncComplete,
 					asyncError, asyncCancel);
-			return searchResponses.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits())
-					.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
+			return searchResponses.concatMap(response -> searchDocumentsFrom(response.hits()));
 		} else {
 			return Flux.error(new IllegalArgumentException("Query must be derived from BaseQuery"));
 		}
 	}
 
+	/**
+	 * creates the {@link SearchDocument}s for the hits of a response, sharing the field names between the documents.
+	 */
+	private Flux<SearchDocument> searchDocumentsFrom(HitsMetadata<EntityAsMap> hitsMetadata) {
+
+		FieldNameDictionary dictionary = new FieldNameDictionary();
+		return Flux.fromIterable(hitsMetadata.hits()) //
+				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper, dictionary));
+	}
+
 	private Publisher<?> cleanupPit(PitSearchAfter psa) {
 		var baseQuery = psa.getBaseQuery();
 		baseQuery.setPointInTime(null);
@@ -476,7 +586,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), entityType, index,
 				true);
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+		return execute(OperationObserver.Operation.COUNT, index, entityType, searchRequest,
+				client -> client.search(searchRequest, EntityAsMap.class))
 				.map(searchResponse -> searchResponse.hits().total() != null ? searchResponse.hits().total().value() : 0L);
 	}
 
@@ -485,18 +596,18 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchRequest searchRequest = requestConverter.searchRequest(query, routingResolver.getRouting(), clazz, index,
 				false, false);
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class))) //
-				.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
-				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
+		return execute(OperationObserver.Operation.SEARCH, index, clazz, searchRequest,
+				client -> client.search(searchRequest, EntityAsMap.class)) //
+				.flatMapMany(response -> searchDocumentsFrom(response.hits()));
 	}
 
 	private Flux<SearchDocument> doSearch(SearchTemplateQuery query, Class<?> clazz, IndexCoordinates index) {
 
 		var request = requestConverter.searchTemplate(query, routingResolver.getRouting(), index);
 
-		return Mono.from(execute(client -> client.searchTemplate(request, EntityAsMap.class))) //
-				.flatMapIterable(entityAsMapSearchResponse -> entityAsMapSearchResponse.hits().hits()) //
-				.map(entityAsMapHit -> DocumentAdapters.from(entityAsMapHit, jsonpMapper));
+		return execute(OperationObserver.Operation.SEARCH, index, clazz, request,
+				client -> client.searchTemplate(request, EntityAsMap.class)) //
+				.flatMapMany(response -> searchDocumentsFrom(response.hits()));
 	}
 
 	@Override
@@ -513,7 +624,8 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		SearchDocumentResponse.EntityCreator<T> entityCreator = searchDocument -> callback.toEntity(searchDocument)
 				.toFuture();
 
-		return Mono.from(execute(client -> client.search(searchRequest, EntityAsMap.class)))
+		return execute(OperationObserver.Operation.SEARCH, index, clazz, searchRequest,
+				client -> client.search(searchRequest, EntityAsMap.class))
 				.map(searchResponse -> SearchDocumentResponseBuilder.from(searchResponse, entityCreator, jsonpMapper));
 	}
 
@@ -662,6 +774,45 @@ public class ReactiveElasticsearchTemplate extends AbstractReactiveElasticsearch
 		return Flux.defer(() -> callback.doWithClient(client)).onErrorMap(this::translateException);
 	}
 
+	/**
+	 * Execute a callback with the {@link ReactiveElasticsearchClient} and provide exception translation. The request is
+	 * observed by the {@link OperationObserver} and the {@link SlowOperationLog} and tagged by the
+	 * {@link OpaqueIdProvider} if these are set.
+	 */
+	private <T> Mono<T> execute(OperationObserver.Operation operation, @Nullable IndexCoordinates index,
+			@Nullable Class<?> entityType, Object request,
+			ReactiveElasticsearchTemplate.ClientCallback<Publisher<T>> callback) {
+
+		OperationObserver observer = this.observer;
+		OpaqueIdProvider opaqueIdProvider = this.opaqueIdProvider;
+		ReactiveElasticsearchTemplate.ClientCallback<Publisher<T>> clientCallback = opaqueIdProvider == null ? callback
+				: client -> callback.doWithClient(ElasticsearchClients.withOpaqueId(client,
+						opaqueIdProvider.getOpaqueId(operation, index, entityType)));
+
+		if (observer == null) {
+			return Mono.from(execute(clientCallback));
+		}
+
+		return Mono.defer(() -> {
+			OperationObserver.Observed observed = observer.start(operation, index, entityType, request);
+
+			// the client sends the request when the publisher is created, so the scope is only needed for the callback
+			Publisher<T> response;
+			try (OperationObserver.Scope ignored = observed.openScope()) {
+				response = clientCallback.doWithClient(client);
+			} catch (RuntimeException e) {
+				response = Mono.error(e);
+			}
+
+			return Mono.from(response) //
+					.onErrorMap(this::translateException) //
+					.doOnNext(observed::onResponse) //
+					.doOnError(observed::onError) //
+					.doOnCancel(observed::onCancel) //
+					.doFinally(signalType -> observed.stop());
+		});
+	}
+
 	/**
 	 * translates an Exception if possible. Exceptions that are no {@link RuntimeException}s are wrapped in a
 	 * RuntimeException
@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotatedElementUtils;
@@ -61,6 +62,10 @@ public class ReactiveIndicesTemplate
 		extends ReactiveChildTemplate<ElasticsearchTransport, ReactiveElasticsearchIndicesClient>
 		implements ReactiveIndexOperations {
 
+	// keys of the files read for an entity in the IndexDocumentCache
+	private static final String MAPPING_PATH_KEY = "mappingPath:";
+	private static final String SETTING_PATH_KEY = "settingPath:";
+
 	// we need a cluster client as well because ES has put some methods from the indices API into the cluster client
 	// (component templates)
 	private final ReactiveClusterTemplate clusterTemplate;
@@ -191,7 +196,8 @@ public class ReactiveIndicesTemplate
 			String mappingPath = mappingAnnotation.mappingPath();
 
 			if (hasText(mappingPath)) {
-				return ReactiveResourceUtil.loadDocument(mappingAnnotation.mappingPath(), "@Mapping");
+				return loadCachedDocument(clazz, MAPPING_PATH_KEY + mappingPath,
+						() -> ReactiveResourceUtil.loadDocument(mappingPath, "@Mapping"));
 			}
 		}
 
@@ -232,11 +238,29 @@ public class ReactiveIndicesTemplate
 				.getRequiredPersistentEntity(clazz);
 		String settingPath = persistentEntity.settingPath();
 		return hasText(settingPath) //
-				? ReactiveResourceUtil.loadDocument(settingPath, "@Setting") //
+				? loadCachedDocument(clazz, SETTING_PATH_KEY + settingPath,
+						() -> ReactiveResourceUtil.loadDocument(settingPath, "@Setting")) //
 						.map(Settings::new) //
 				: Mono.just(persistentEntity.getDefaultSettings());
 	}
 
+	/**
+	 * loads a document of an entity from a file only if it is not in the {@link IndexDocumentCache}, every subscriber
+	 * gets its own copy.
+	 */
+	private Mono<Document> loadCachedDocument(Class<?> clazz, String key, Supplier<Mono<Document>> loader) {
+
+		ElasticsearchPersistentEntity<?> persistentEntity = elasticsearchConverter.getMappingContext()
+				.getRequiredPersistentEntity(clazz);
+
+		return Mono.defer(() -> {
+			String json = IndexDocumentCache.getIfPresent(persistentEntity, key);
+			return json != null //
+					? Mono.just(Document.parse(json)) //
+					: loader.get().doOnNext(document -> IndexDocumentCache.put(persistentEntity, key, document.toJson()));
+		});
+	}
+
 	@Override
 	public Mono<Settings> getSettings(boolean includeDefaults) {
 
@@ -248,6 +272,18 @@ public class ReactiveIndicesTemplate
 				.map(response -> responseConverter.indicesGetSettings(response, getIndexCoordinates().getIndexName()));
 	}
 
+	@Override
+	public Mono<Boolean> putSettings(Settings settings) {
+
+		Assert.notNull(settings, "settings must not be null");
+
+		PutIndicesSettingsRequest putIndicesSettingsRequest = requestConverter
+				.indicesPutSettingsRequest(getIndexCoordinates(), settings);
+		Mono<PutIndicesSettingsResponse> putIndicesSettingsResponse = Mono
+				.from(execute(client -> client.putSettings(putIndicesSettingsRequest)));
+		return putIndicesSettingsResponse.map(AcknowledgedResponseBase::acknowledged);
+	}
+
 	@Override
 	public Mono<Boolean> alias(AliasActions aliasActions) {
 
@@ -52,6 +52,7 @@ import co.elastic.clients.elasticsearch.indices.ExistsIndexTemplateRequest;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
 import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
 import co.elastic.clients.elasticsearch.sql.query.SqlFormat;
+import co.elastic.clients.elasticsearch.tasks.GetTasksRequest;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.JsonpDeserializer;
 import co.elastic.clients.json.JsonpMapper;
@@ -125,6 +126,7 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	protected final JsonpMapper jsonpMapper;
 	protected final ElasticsearchConverter elasticsearchConverter;
+	private CriteriaQueryMode criteriaQueryMode = CriteriaQueryMode.DEFAULT;
 
 	public RequestConverter(ElasticsearchConverter elasticsearchConverter, JsonpMapper jsonpMapper) {
 		this.elasticsearchConverter = elasticsearchConverter;
@@ -134,11 +136,36 @@ class RequestConverter extends AbstractQueryProcessor {
 		this.jsonpMapper = jsonpMapper;
 	}
 
+	/**
+	 * @param criteriaQueryMode defines how the criteria of a {@link CriteriaQuery} are converted
+	 * @since 6.0
+	 */
+	public void setCriteriaQueryMode(CriteriaQueryMode criteriaQueryMode) {
+
+		Assert.notNull(criteriaQueryMode, "criteriaQueryMode must not be null");
+
+		this.criteriaQueryMode = criteriaQueryMode;
+	}
+
+	/**
+	 * @since 6.0
+	 */
+	public CriteriaQueryMode getCriteriaQueryMode() {
+		return criteriaQueryMode;
+	}
+
 	// region Cluster client
 	public co.elastic.clients.elasticsearch.cluster.HealthRequest clusterHealthRequest() {
 		return new HealthRequest.Builder().build();
 	}
 
+	public GetTasksRequest tasksGetRequest(String taskId) {
+
+		Assert.notNull(taskId, "taskId must not be null");
+
+		return GetTasksRequest.of(gtr -> gtr.taskId(taskId));
+	}
+
 	public co.elastic.clients.elasticsearch.cluster.PutComponentTemplateRequest clusterPutComponentTemplateRequest(
 			org.springframework.data.elasticsearch.core.index.PutComponentTemplateRequest putComponentTemplateRequest) {
 
@@ -376,6 +403,20 @@ class RequestConverter extends AbstractQueryProcessor {
 				.build();
 	}
 
+	/**
+	 * @since 6.0
+	 */
+	public PutIndicesSettingsRequest indicesPutSettingsRequest(IndexCoordinates indexCoordinates, Settings settings) {
+
+		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
+		Assert.notNull(settings, "settings must not be null");
+
+		return new PutIndicesSettingsRequest.Builder() //
+				.index(Arrays.asList(indexCoordinates.getIndexNames())) //
+				.settings(indexSettings(settings)) //
+				.build();
+	}
+
 	public GetIndexRequest indicesGetIndexRequest(IndexCoordinates indexCoordinates) {
 
 		Assert.notNull(indexCoordinates, "indexCoordinates must not be null");
@@ -948,7 +989,7 @@ class RequestConverter extends AbstractQueryProcessor {
 				.refresh(reindexRequest.getRefresh()) //
 				.requireAlias(reindexRequest.getRequireAlias()) //
 				.requestsPerSecond(toFloat(reindexRequest.getRequestsPerSecond())) //
-				.slices(slices(reindexRequest.getSlices()));
+				.slices(reindexRequest.isAutoSlices() ? autoSlices() : slices(reindexRequest.getSlices()));
 
 		return builder.build();
 	}
@@ -1800,7 +1841,7 @@ class RequestConverter extends AbstractQueryProcessor {
 
 	co.elastic.clients.elasticsearch._types.query_dsl.@Nullable Query getQuery(@Nullable Query query,
 			@Nullable Class<?> clazz) {
-		return getEsQuery(query, (q) -> elasticsearchConverter.updateQuery(q, clazz));
+		return getEsQuery(query, (q) -> elasticsearchConverter.updateQuery(q, clazz), criteriaQueryMode);
 	}
 
 	private void addPostFilter(Query query, SearchRequest.Builder builder) {
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.transport.TransportOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Executes get and search requests according to a {@link HedgingPolicy}. The requests are sent with an
+ * {@link ElasticsearchAsyncClient} that uses the transport of the imperative client, the calling thread waits for the
+ * first successful response.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class RequestHedger {
+
+	private static final String PREFERENCE_PARAMETER = "preference";
+
+	private final HedgingPolicy policy;
+	private final ElasticsearchAsyncClient asyncClient;
+	private final TransportOptions transportOptions;
+	private final ElasticsearchExceptionTranslator exceptionTranslator;
+	private final Map<Operation, LatencyWindow> latencies = new EnumMap<>(Operation.class);
+
+	RequestHedger(HedgingPolicy policy, ElasticsearchClient client, ElasticsearchExceptionTranslator exceptionTranslator) {
+
+		Assert.notNull(policy, "policy must not be null");
+		Assert.notNull(client, "client must not be null");
+		Assert.notNull(exceptionTranslator, "exceptionTranslator must not be null");
+
+		this.policy = policy;
+		this.transportOptions = client._transportOptions() != null ? client._transportOptions()
+				: client._transport().options();
+		this.asyncClient = new ElasticsearchAsyncClient(client._transport(), transportOptions);
+		this.exceptionTranslator = exceptionTranslator;
+
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new LatencyWindow(policy.getWindowSize()));
+		}
+	}
+
+	HedgingPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * the delay after which a second attempt of the operation is sent.
+	 */
+	long delayNanos(Operation operation) {
+
+		long delay = latencies.get(operation).percentile(policy.getPercentile(), policy.getInitialDelay().toNanos());
+		return Math.max(delay, policy.getMinDelay().toNanos());
+	}
+
+	/**
+	 * executes the request and waits for the result.
+	 *
+	 * @param operation the type of the operation
+	 * @param hasPreference {@literal true} if the request already has a preference, then the second attempt is sent with
+	 *          the same preference.
+	 * @param request function sending the request with the given client
+	 * @return the response of the attempt that succeeded first
+	 */
+	<T> T execute(Operation operation, boolean hasPreference,
+			Function<ElasticsearchAsyncClient, CompletableFuture<T>> request) {
+
+		ElasticsearchAsyncClient hedgeClient = hasPreference ? asyncClient
+				: asyncClient.withTransportOptions(transportOptions.with(options -> options
+						.setParameter(PREFERENCE_PARAMETER, "hedge-" + ThreadLocalRandom.current().nextInt(1 << 16))));
+
+		Attempts<T> attempts = new Attempts<>(latencies.get(operation));
+		attempts.start(() -> request.apply(asyncClient));
+		CompletableFuture.delayedExecutor(delayNanos(operation), TimeUnit.NANOSECONDS)
+				.execute(() -> attempts.start(() -> request.apply(hedgeClient)));
+
+		try {
+			return attempts.result.join();
+		} catch (CompletionException e) {
+			throw exceptionTranslator.translateException(e.getCause() != null ? e.getCause() : e);
+		}
+	}
+
+	enum Operation {
+		GET, SEARCH
+	}
+
+	/**
+	 * The attempts of one request. The first successful attempt completes the result and cancels the other one, the
+	 * result fails when all started attempts have failed. The recorded latency is the one seen by the caller, measured
+	 * from the start of the first attempt.
+	 */
+	private static final class Attempts<T> {
+
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private final List<CompletableFuture<T>> futures = new ArrayList<>(2);
+		private final LatencyWindow latencyWindow;
+		private final long start = System.nanoTime();
+		private int pending;
+		@Nullable private Throwable failure;
+
+		Attempts(LatencyWindow latencyWindow) {
+			this.latencyWindow = latencyWindow;
+			result.whenComplete((value, throwable) -> cancelAll());
+		}
+
+		void start(Supplier<CompletableFuture<T>> attempt) {
+
+			synchronized (this) {
+				// no second attempt after the first one has completed
+				if (result.isDone()) {
+					return;
+				}
+				pending++;
+			}
+
+			CompletableFuture<T> future;
+			try {
+				future = attempt.get();
+			} catch (RuntimeException e) {
+				future = CompletableFuture.failedFuture(e);
+			}
+
+			synchronized (this) {
+				futures.add(future);
+			}
+
+			future.whenComplete((value, throwable) -> {
+				if (throwable == null) {
+					latencyWindow.record(System.nanoTime() - start);
+					result.complete(value);
+				} else {
+					failed(throwable);
+				}
+			});
+
+			if (result.isDone()) {
+				future.cancel(true);
+			}
+		}
+
+		private void failed(Throwable throwable) {
+
+			Throwable failure;
+			synchronized (this) {
+				if (this.failure == null) {
+					this.failure = throwable;
+				}
+				failure = --pending == 0 ? this.failure : null;
+			}
+
+			if (failure != null) {
+				result.completeExceptionally(failure);
+			}
+		}
+
+		private void cancelAll() {
+
+			List<CompletableFuture<T>> toCancel;
+			synchronized (this) {
+				toCancel = new ArrayList<>(futures);
+			}
+			toCancel.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * Keeps the most recent latencies in a ring buffer. The percentile is recalculated after a tenth of the window has
+	 * been replaced.
+	 */
+	static final class LatencyWindow {
+
+		private final long[] samples;
+		private final int recalculateInterval;
+		private long count;
+		private long sinceRecalculation;
+		private double percentile = -1;
+		private long percentileValue = -1;
+
+		LatencyWindow(int size) {
+			this.samples = new long[size];
+			this.recalculateInterval = Math.max(1, size / 10);
+		}
+
+		synchronized void record(long nanos) {
+			samples[(int) (count++ % samples.length)] = nanos;
+			sinceRecalculation++;
+		}
+
+		/**
+		 * @return the percentile of the recorded latencies, the default value if less than a tenth of the window is filled
+		 */
+		synchronized long percentile(double percentile, long defaultValue) {
+
+			if (count < recalculateInterval) {
+				return defaultValue;
+			}
+
+			if (percentile != this.percentile || sinceRecalculation >= recalculateInterval) {
+				int size = (int) Math.min(count, samples.length);
+				long[] sorted = Arrays.copyOf(samples, size);
+				Arrays.sort(sorted);
+				int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+				this.percentileValue = sorted[Math.max(0, Math.min(index, size - 1))];
+				this.percentile = percentile;
+				this.sinceRecalculation = 0;
+			}
+
+			return percentileValue;
+		}
+	}
+}
@@ -34,9 +34,12 @@ import co.elastic.clients.elasticsearch.indices.*;
 import co.elastic.clients.elasticsearch.indices.get_index_template.IndexTemplateItem;
 import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
 import co.elastic.clients.elasticsearch.sql.QueryResponse;
+import co.elastic.clients.elasticsearch.tasks.GetTasksResponse;
+import co.elastic.clients.elasticsearch.tasks.TaskInfo;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.JsonpMapper;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -53,6 +56,7 @@ import org.springframework.data.elasticsearch.ElasticsearchErrorCause;
 import org.springframework.data.elasticsearch.core.IndexInformation;
 import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.cluster.ClusterHealth;
+import org.springframework.data.elasticsearch.core.cluster.TaskStatus;
 import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.index.AliasData;
 import org.springframework.data.elasticsearch.core.index.Settings;
@@ -108,6 +112,54 @@ class ResponseConverter {
 				.build(); //
 	}
 
+	public TaskStatus taskStatus(String taskId, GetTasksResponse getTasksResponse) {
+
+		Assert.notNull(getTasksResponse, "getTasksResponse must not be null");
+
+		TaskInfo taskInfo = getTasksResponse.task();
+		// the response of a completed task has the final counts and the failures, the status the current counts
+		JsonData counts = getTasksResponse.response() != null ? getTasksResponse.response() : taskInfo.status();
+		Map<String, Object> values = counts != null ? Document.parse(toJson(counts, jsonpMapper)) : Map.of();
+
+		List<String> failures = new ArrayList<>();
+
+		if (values.get("failures") instanceof List<?> failureList) {
+			for (Object failure : failureList) {
+				failures.add(failureReason(failure));
+			}
+		}
+
+		ErrorCause error = getTasksResponse.error();
+		return TaskStatus.builder(taskId) //
+				.withAction(taskInfo.action()) //
+				.withCompleted(getTasksResponse.completed()) //
+				.withRunningTime(Duration.ofNanos(taskInfo.runningTimeInNanos())) //
+				.withTotal(longValue(values, "total")) //
+				.withCreated(longValue(values, "created")) //
+				.withUpdated(longValue(values, "updated")) //
+				.withDeleted(longValue(values, "deleted")) //
+				.withBatches(longValue(values, "batches")) //
+				.withVersionConflicts(longValue(values, "version_conflicts")) //
+				.withNoops(longValue(values, "noops")) //
+				.withError(error != null ? error.type() + ": " + error.reason() : null) //
+				.withFailures(failures) //
+				.build();
+	}
+
+	private static long longValue(Map<String, Object> values, String key) {
+		return values.get(key) instanceof Number number ? number.longValue() : 0L;
+	}
+
+	private static String failureReason(Object failure) {
+
+		if (failure instanceof Map<?, ?> failureMap && failureMap.get("cause") instanceof Map<?, ?> cause
+				&& cause.get("reason") != null) {
+			return failureMap.get("index") + "/" + failureMap.get("id") + ": " + cause.get("reason");
+		}
+
+		return String.valueOf(failure);
+	}
+
 	public List<TemplateResponse> clusterGetComponentTemplates(
 			GetComponentTemplateResponse getComponentTemplateResponse) {
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.MgetResponse;
+import co.elastic.clients.elasticsearch.core.SearchTemplateResponse;
+import co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
+import co.elastic.clients.elasticsearch.core.get.GetResult;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResult;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The processing time reported by Elasticsearch and the number of hits of a response, as far as the response contains
+ * them. Used by {@link OperationObserver} implementations.
+ *
+ * @param took the time Elasticsearch reports to have needed to process the request
+ * @param hits the number of hits of a search or count request, the number of documents returned by a get or multiGet
+ *          request, the number of items of a bulk request or the number of documents changed by a by-query request
+ * @author agent
+ * @since 6.0
+ */
+public record ResponseMetrics(@Nullable Duration took, @Nullable Long hits) {
+
+	private static final ResponseMetrics NONE = new ResponseMetrics(null, null);
+
+	/**
+	 * @param response a response of the Elasticsearch client
+	 * @return the metrics of the response, with {@literal null} values for the metrics the response does not contain
+	 */
+	public static ResponseMetrics of(Object response) {
+
+		if (response instanceof ResponseBody<?> responseBody) {
+			return new ResponseMetrics(Duration.ofMillis(responseBody.took()), hits(responseBody.hits()));
+		} else if (response instanceof SearchTemplateResponse<?> searchTemplateResponse) {
+			return new ResponseMetrics(Duration.ofMillis(searchTemplateResponse.took()),
+					hits(searchTemplateResponse.hits()));
+		} else if (response instanceof MultiSearchResult<?> multiSearchResult) {
+			return new ResponseMetrics(Duration.ofMillis(multiSearchResult.took()), null);
+		} else if (response instanceof BulkResponse bulkResponse) {
+			return new ResponseMetrics(Duration.ofMillis(bulkResponse.took()), (long) bulkResponse.items().size());
+		} else if (response instanceof DeleteByQueryResponse deleteByQueryResponse) {
+			return new ResponseMetrics(millis(deleteByQueryResponse.took()), deleteByQueryResponse.deleted());
+		} else if (response instanceof UpdateByQueryResponse updateByQueryResponse) {
+			return new ResponseMetrics(millis(updateByQueryResponse.took()), updateByQueryResponse.updated());
+		} else if (response instanceof GetResult<?> getResult) {
+			return new ResponseMetrics(null, getResult.found() ? 1L : 0L);
+		} else if (response instanceof MgetResponse<?> mgetResponse) {
+			return new ResponseMetrics(null, mgetResponse.docs().stream() //
+					.filter(item -> item.isResult() && item.result().found()) //
+					.count());
+		}
+
+		return NONE;
+	}
+
+	private static long hits(HitsMetadata<?> hitsMetadata) {
+		return hitsMetadata.total() != null ? hitsMetadata.total().value() : hitsMetadata.hits().size();
+	}
+
+	@Nullable
+	private static Duration millis(@Nullable Long millis) {
+		return millis != null ? Duration.ofMillis(millis) : null;
+	}
+}
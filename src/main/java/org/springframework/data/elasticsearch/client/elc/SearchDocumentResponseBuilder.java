@@ -48,6 +48,7 @@ import org.springframework.data.elasticsearch.core.suggest.response.CompletionSu
 import org.springframework.data.elasticsearch.core.suggest.response.PhraseSuggestion;
 import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
 import org.springframework.data.elasticsearch.core.suggest.response.TermSuggestion;
+import org.springframework.data.elasticsearch.support.FieldNameDictionary;
 import org.springframework.data.elasticsearch.support.ScoreDoc;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -160,9 +161,11 @@ class SearchDocumentResponseBuilder {
 
 		Duration executionDuration = Duration.ofMillis(executionDurationInMillis);
 
-		List<SearchDocument> searchDocuments = new ArrayList<>();
+		// all hits of a response share their field names
+		FieldNameDictionary dictionary = new FieldNameDictionary();
+		List<SearchDocument> searchDocuments = new ArrayList<>(hitsMetadata.hits().size());
 		for (Hit<?> hit : hitsMetadata.hits()) {
-			searchDocuments.add(DocumentAdapters.from(hit, jsonpMapper));
+			searchDocuments.add(DocumentAdapters.from(hit, jsonpMapper, dictionary));
 		}
 
 		ElasticsearchAggregations aggregationsContainer = aggregations != null ? new ElasticsearchAggregations(aggregations)
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Defines when {@link ElasticsearchTemplate} and {@link ReactiveElasticsearchTemplate} log a request as slow. A request
+ * is slow when the time from sending it until the response is received exceeds the threshold of its operation. It is
+ * logged with the level {@literal WARN} in the category of this class with the operation, the index, the client side
+ * latency, the time Elasticsearch reports to have needed, the number of hits and the request body, truncated to the
+ * maximum request length.
+ * <p>
+ * The request body may contain the documents that are indexed; when these contain sensitive data, the maximum request
+ * length can be set to 0.
+ * <p>
+ * Use {@link SlowOperationLog#builder()} to obtain a builder.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class SlowOperationLog {
+
+	private final Duration threshold;
+	private final Map<OperationObserver.Operation, Duration> thresholds;
+	private final int maxRequestLength;
+
+	private SlowOperationLog(Builder builder) {
+		this.threshold = builder.threshold;
+		this.thresholds = new EnumMap<>(builder.thresholds);
+		this.maxRequestLength = builder.maxRequestLength;
+	}
+
+	/**
+	 * @return a new {@link Builder} with the default values: threshold of 1 second for all operations and a maximum
+	 *         request length of 1000 characters.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return the threshold of the operations that have no threshold of their own
+	 */
+	public Duration getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * @return the threshold of the operation
+	 */
+	public Duration getThreshold(OperationObserver.Operation operation) {
+		return thresholds.getOrDefault(operation, threshold);
+	}
+
+	/**
+	 * @return the maximum number of characters of the request body that are logged
+	 */
+	public int getMaxRequestLength() {
+		return maxRequestLength;
+	}
+
+	/**
+	 * Builder for {@link SlowOperationLog}.
+	 */
+	public static final class Builder {
+
+		private Duration threshold = Duration.ofSeconds(1);
+		private final Map<OperationObserver.Operation, Duration> thresholds = new EnumMap<>(
+				OperationObserver.Operation.class);
+		private int maxRequestLength = 1000;
+
+		private Builder() {}
+
+		/**
+		 * @param threshold the threshold of the operations that have no threshold of their own
+		 */
+		public Builder withThreshold(Duration threshold) {
+
+			Assert.notNull(threshold, "threshold must not be null");
+			Assert.isTrue(!threshold.isNegative(), "threshold must not be negative");
+
+			this.threshold = threshold;
+			return this;
+		}
+
+		/**
+		 * @param operation the operation to set the threshold for
+		 * @param threshold the threshold of the operation
+		 */
+		public Builder withThreshold(OperationObserver.Operation operation, Duration threshold) {
+
+			Assert.notNull(operation, "operation must not be null");
+			Assert.notNull(threshold, "threshold must not be null");
+			Assert.isTrue(!threshold.isNegative(), "threshold must not be negative");
+
+			this.thresholds.put(operation, threshold);
+			return this;
+		}
+
+		/**
+		 * @param maxRequestLength the maximum number of characters of the request body that are logged, 0 to not log the
+		 *          request body.
+		 */
+		public Builder withMaxRequestLength(int maxRequestLength) {
+
+			Assert.isTrue(maxRequestLength >= 0, "maxRequestLength must not be negative");
+
+			this.maxRequestLength = maxRequestLength;
+			return this;
+		}
+
+		public SlowOperationLog build() {
+			return new SlowOperationLog(this);
+		}
+	}
+}
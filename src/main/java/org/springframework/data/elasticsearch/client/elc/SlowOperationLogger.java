@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.JsonpSerializable;
+import co.elastic.clients.json.NdJsonpSerializable;
+
+import java.time.Duration;
+import java.util.Iterator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * {@link OperationObserver} that logs the requests that are slower than defined in a {@link SlowOperationLog}, the
+ * successful ones as well as the failed ones. The request body is only serialized when a request is logged.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class SlowOperationLogger implements OperationObserver {
+
+	private static final Log LOGGER = LogFactory.getLog(SlowOperationLog.class);
+	private static final Scope NO_SCOPE = () -> {};
+
+	private final SlowOperationLog slowOperationLog;
+	private final JsonpMapper jsonpMapper;
+
+	SlowOperationLogger(SlowOperationLog slowOperationLog, JsonpMapper jsonpMapper) {
+		this.slowOperationLog = slowOperationLog;
+		this.jsonpMapper = jsonpMapper;
+	}
+
+	SlowOperationLog getSlowOperationLog() {
+		return slowOperationLog;
+	}
+
+	@Override
+	public Observed start(Operation operation, @Nullable IndexCoordinates index, @Nullable Class<?> entityType,
+			Object request) {
+		return new TimedRequest(operation, index, request);
+	}
+
+	/**
+	 * the body of the request, truncated to the maximum length. The items of a bulk request are serialized one after the
+	 * other until the maximum length is reached.
+	 */
+	String requestBody(Object request) {
+
+		int maxLength = slowOperationLog.getMaxRequestLength();
+
+		if (maxLength == 0) {
+			return "";
+		}
+
+		StringBuilder body = new StringBuilder();
+		try {
+			if (request instanceof NdJsonpSerializable ndJsonpSerializable) {
+				Iterator<?> items = ndJsonpSerializable._serializables();
+				while (items.hasNext() && body.length() <= maxLength) {
+					body.append(JsonUtils.toJson(items.next(), jsonpMapper)).append('\n');
+				}
+			} else if (request instanceof JsonpSerializable) {
+				body.append(JsonUtils.toJson(request, jsonpMapper));
+			}
+		} catch (RuntimeException e) {
+			return "<request body could not be serialized: " + e.getMessage() + '>';
+		}
+
+		if (body.length() > maxLength) {
+			body.setLength(maxLength);
+			body.append("...");
+		}
+
+		return body.toString();
+	}
+
+	/**
+	 * the log message of a slow request that failed.
+	 */
+	String failureMessage(Operation operation, @Nullable IndexCoordinates index, Duration latency, Throwable error,
+			Object request) {
+		return String.format("slow failed %s request to [%s]: latency %dms, error %s, request: %s", //
+				operation.getValue(), //
+				indexNames(index), //
+				latency.toMillis(), //
+				error.getClass().getName(), //
+				requestBody(request));
+	}
+
+	private static String indexNames(@Nullable IndexCoordinates index) {
+		return index != null ? String.join(",", index.getIndexNames()) : "";
+	}
+
+	private final class TimedRequest implements Observed {
+
+		private final Operation operation;
+		@Nullable private final IndexCoordinates index;
+		private final Object request;
+		private final long start = System.nanoTime();
+
+		private TimedRequest(Operation operation, @Nullable IndexCoordinates index, Object request) {
+			this.operation = operation;
+			this.index = index;
+			this.request = request;
+		}
+
+		@Override
+		public Scope openScope() {
+			return NO_SCOPE;
+		}
+
+		@Override
+		public void onResponse(Object response) {
+
+			Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+			if (LOGGER.isWarnEnabled() && latency.compareTo(slowOperationLog.getThreshold(operation)) > 0) {
+				ResponseMetrics metrics = ResponseMetrics.of(response);
+				LOGGER.warn(String.format("slow %s request to [%s]: latency %dms, took %s, hits %s, request: %s",
+						operation.getValue(), //
+						indexNames(index), //
+						latency.toMillis(), //
+						metrics.took() != null ? metrics.took().toMillis() + "ms" : "-", //
+						metrics.hits() != null ? metrics.hits() : "-", //
+						requestBody(request)));
+			}
+		}
+
+		@Override
+		public void onError(Throwable error) {
+
+			Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+			if (LOGGER.isWarnEnabled() && latency.compareTo(slowOperationLog.getThreshold(operation)) > 0) {
+				LOGGER.warn(failureMessage(operation, index, latency, error, request));
+			}
+		}
+
+		@Override
+		public void onCancel() {}
+
+		@Override
+		public void stop() {}
+	}
+}
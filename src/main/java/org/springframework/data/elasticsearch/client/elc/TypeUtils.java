@@ -383,6 +383,10 @@ final class TypeUtils {
 		return Slices.of(s -> s.value(Math.toIntExact(count)));
 	}
 
+	static Slices autoSlices() {
+		return Slices.of(s -> s.computed(SlicesCalculation.Auto));
+	}
+
 	@Nullable
 	static SortMode sortMode(Order.Mode mode) {
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.data.elasticsearch.core.convert.ConversionObserver;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Observation.Context} of the conversion of a document by the
+ * {@link org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter}. A conversion runs on one
+ * thread, so the counts are plain values.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class ConversionObservationContext extends Observation.Context {
+
+	private final Class<?> entityType;
+	private final ConversionObserver.Direction direction;
+	private int customConversions;
+	private int typeHints;
+
+	public ConversionObservationContext(Class<?> entityType, ConversionObserver.Direction direction) {
+
+		Assert.notNull(entityType, "entityType must not be null");
+		Assert.notNull(direction, "direction must not be null");
+
+		this.entityType = entityType;
+		this.direction = direction;
+	}
+
+	public Class<?> getEntityType() {
+		return entityType;
+	}
+
+	public ConversionObserver.Direction getDirection() {
+		return direction;
+	}
+
+	/**
+	 * @return the number of custom converters invoked during the conversion
+	 */
+	public int getCustomConversions() {
+		return customConversions;
+	}
+
+	void customConversion() {
+		customConversions++;
+	}
+
+	/**
+	 * @return the number of type hints that resolved to another class than the declared one
+	 */
+	public int getTypeHints() {
+		return typeHints;
+	}
+
+	void typeHint() {
+		typeHints++;
+	}
+}
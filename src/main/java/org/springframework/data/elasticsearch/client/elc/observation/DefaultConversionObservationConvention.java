@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import io.micrometer.common.KeyValues;
+
+import org.springframework.data.elasticsearch.client.elc.observation.ElasticsearchObservation.ConversionHighCardinalityKeyNames;
+import org.springframework.data.elasticsearch.client.elc.observation.ElasticsearchObservation.ConversionLowCardinalityKeyNames;
+
+/**
+ * Default {@link ConversionObservationConvention}. The observation is named
+ * {@literal spring.data.elasticsearch.conversion}, the contextual name is the direction followed by the simple name of
+ * the entity class.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class DefaultConversionObservationConvention implements ConversionObservationConvention {
+
+	public static final DefaultConversionObservationConvention INSTANCE = new DefaultConversionObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.elasticsearch.conversion";
+	}
+
+	@Override
+	public String getContextualName(ConversionObservationContext context) {
+		return context.getDirection().getValue() + ' ' + context.getEntityType().getSimpleName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ConversionObservationContext context) {
+		return KeyValues.of( //
+				ConversionLowCardinalityKeyNames.ENTITY.withValue(context.getEntityType().getName()), //
+				ConversionLowCardinalityKeyNames.DIRECTION.withValue(context.getDirection().getValue()));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ConversionObservationContext context) {
+		return KeyValues.of( //
+				ConversionHighCardinalityKeyNames.CUSTOM_CONVERSIONS.withValue(String.valueOf(context.getCustomConversions())), //
+				ConversionHighCardinalityKeyNames.TYPE_HINTS.withValue(String.valueOf(context.getTypeHints())));
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.elasticsearch.client.elc.observation.ElasticsearchObservation.HighCardinalityKeyNames;
+import org.springframework.data.elasticsearch.client.elc.observation.ElasticsearchObservation.LowCardinalityKeyNames;
+
+/**
+ * Default {@link ElasticsearchObservationConvention}. The observation is named {@literal spring.data.elasticsearch},
+ * the contextual name is the operation followed by the index names. The concrete index names, which change over time
+ * for time based indices, are a high cardinality value, the low cardinality index value is the index name defined on
+ * the entity. The values that are not known for a request, like the sizes when the transport was not created with the
+ * {@link ObservationOperationObserver#getInstrumentation() instrumentation} of the observer, are left out.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class DefaultElasticsearchObservationConvention implements ElasticsearchObservationConvention {
+
+	public static final DefaultElasticsearchObservationConvention INSTANCE = //
+			new DefaultElasticsearchObservationConvention();
+
+	private static final String NONE = "none";
+
+	@Override
+	public String getName() {
+		return "spring.data.elasticsearch";
+	}
+
+	@Override
+	public String getContextualName(ElasticsearchObservationContext context) {
+		return context.getIndexName() != null ? context.getOperation().getValue() + ' ' + context.getIndexName()
+				: context.getOperation().getValue();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ElasticsearchObservationContext context) {
+
+		Class<?> entityType = context.getEntityType();
+		return KeyValues.of( //
+				LowCardinalityKeyNames.OPERATION.withValue(context.getOperation().getValue()), //
+				LowCardinalityKeyNames.INDEX.withValue(context.getIndexPattern() != null ? context.getIndexPattern() : NONE), //
+				LowCardinalityKeyNames.ENTITY.withValue(entityType != null ? entityType.getName() : NONE), //
+				LowCardinalityKeyNames.OUTCOME.withValue(context.getOutcome().name()));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ElasticsearchObservationContext context) {
+
+		List<KeyValue> keyValues = new ArrayList<>(6);
+
+		if (context.getIndexName() != null) {
+			keyValues.add(HighCardinalityKeyNames.INDEX_NAMES.withValue(context.getIndexName()));
+		}
+
+		if (context.getRequestSize() >= 0) {
+			keyValues.add(HighCardinalityKeyNames.REQUEST_SIZE.withValue(String.valueOf(context.getRequestSize())));
+		}
+
+		if (context.getResponseSize() >= 0) {
+			keyValues.add(HighCardinalityKeyNames.RESPONSE_SIZE.withValue(String.valueOf(context.getResponseSize())));
+		}
+
+		if (context.getHits() != null) {
+			keyValues.add(HighCardinalityKeyNames.HITS.withValue(String.valueOf(context.getHits())));
+		}
+
+		if (context.getTook() != null) {
+			keyValues.add(HighCardinalityKeyNames.TOOK.withValue(String.valueOf(context.getTook().toMillis())));
+		}
+
+		if (context.getClientLatency() != null) {
+			keyValues
+					.add(HighCardinalityKeyNames.CLIENT_LATENCY.withValue(String.valueOf(context.getClientLatency().toMillis())));
+		}
+
+		return KeyValues.of(keyValues);
+	}
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * The observations of Spring Data Elasticsearch.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public enum ElasticsearchObservation implements ObservationDocumentation {
+
+	/**
+	 * A request sent by one of the Elasticsearch templates.
+	 */
+	OPERATION {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultElasticsearchObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+	},
+
+	/**
+	 * The conversion of a document by the {@link org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter}.
+	 */
+	CONVERSION {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultConversionObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return ConversionLowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return ConversionHighCardinalityKeyNames.values();
+		}
+
+		@Override
+		public Observation.Event[] getEvents() {
+			return ConversionEvents.values();
+		}
+	};
+
+	enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The type of the request, like {@literal search} or {@literal bulk}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.operation";
+			}
+		},
+
+		/**
+		 * The index name of the entity as defined in its
+		 * {@link org.springframework.data.elasticsearch.annotations.Document} annotation without evaluating an expression
+		 * in it, {@literal none} for requests without an annotated entity.
+		 */
+		INDEX {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.index";
+			}
+		},
+
+		/**
+		 * The entity class the request is sent for, {@literal none} if there is none.
+		 */
+		ENTITY {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.entity";
+			}
+		},
+
+		/**
+		 * The outcome of the request: {@literal SUCCESS}, {@literal ERROR} or {@literal CANCELLED}.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.outcome";
+			}
+		}
+	}
+
+	enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The names of the indices the request is sent to, separated by commas.
+		 */
+		INDEX_NAMES {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.index.names";
+			}
+		},
+
+		/**
+		 * The size of the request body in bytes.
+		 */
+		REQUEST_SIZE {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.request.size";
+			}
+		},
+
+		/**
+		 * The size of the response body in bytes.
+		 */
+		RESPONSE_SIZE {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.response.size";
+			}
+		},
+
+		/**
+		 * The number of hits of a search or count request, the number of documents returned by a get or multiGet request
+		 * or the number of items of a bulk request.
+		 */
+		HITS {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.hits";
+			}
+		},
+
+		/**
+		 * The time in milliseconds Elasticsearch reports to have needed to process the request.
+		 */
+		TOOK {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.took";
+			}
+		},
+
+		/**
+		 * The time in milliseconds from sending the request until the response was received, including the time in the
+		 * network and the decoding of the response.
+		 */
+		CLIENT_LATENCY {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.client.latency";
+			}
+		}
+	}
+
+	enum ConversionLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The entity class that is read or written.
+		 */
+		ENTITY {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.entity";
+			}
+		},
+
+		/**
+		 * The direction of the conversion: {@literal read} or {@literal write}.
+		 */
+		DIRECTION {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.conversion.direction";
+			}
+		}
+	}
+
+	enum ConversionHighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The number of custom converters invoked during the conversion.
+		 */
+		CUSTOM_CONVERSIONS {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.conversion.custom.conversions";
+			}
+		},
+
+		/**
+		 * The number of type hints that resolved to another class than the declared one.
+		 */
+		TYPE_HINTS {
+			@Override
+			public String asString() {
+				return "spring.data.elasticsearch.conversion.type.hints";
+			}
+		}
+	}
+
+	/**
+	 * The events of a conversion. A meter handler counts them per entity class and direction.
+	 */
+	enum ConversionEvents implements Observation.Event {
+
+		/**
+		 * A custom converter was invoked.
+		 */
+		CUSTOM_CONVERSION {
+			@Override
+			public String getName() {
+				return "custom.conversion";
+			}
+		},
+
+		/**
+		 * A type hint resolved to another class than the declared one.
+		 */
+		TYPE_HINT {
+			@Override
+			public String getName() {
+				return "type.hint";
+			}
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import io.micrometer.observation.Observation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.client.elc.OperationObserver;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Observation.Context} of a request sent by one of the Elasticsearch templates. The sizes are added by the
+ * {@link ObservationOperationObserver#getInstrumentation() instrumentation} of the transport, which may run on another
+ * thread than the template, so they are kept in atomic values.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class ElasticsearchObservationContext extends Observation.Context {
+
+	private final OperationObserver.Operation operation;
+	@Nullable private final String indexName;
+	@Nullable private final String indexPattern;
+	@Nullable private final Class<?> entityType;
+	private final long startNanos = System.nanoTime();
+	private final AtomicLong requestSize = new AtomicLong(-1);
+	private final AtomicLong responseSize = new AtomicLong(-1);
+	private volatile Outcome outcome = Outcome.SUCCESS;
+	@Nullable private volatile Long hits;
+	@Nullable private volatile Duration took;
+	@Nullable private volatile Duration clientLatency;
+
+	public ElasticsearchObservationContext(OperationObserver.Operation operation, @Nullable IndexCoordinates index,
+			@Nullable Class<?> entityType) {
+
+		Assert.notNull(operation, "operation must not be null");
+
+		this.operation = operation;
+		this.indexName = index != null ? String.join(",", index.getIndexNames()) : null;
+		this.entityType = entityType;
+
+		Document document = entityType != null ? AnnotatedElementUtils.findMergedAnnotation(entityType, Document.class)
+				: null;
+		this.indexPattern = document != null ? document.indexName() : null;
+	}
+
+	public OperationObserver.Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the names of the indices the request is sent to, separated by commas
+	 */
+	@Nullable
+	public String getIndexName() {
+		return indexName;
+	}
+
+	/**
+	 * @return the index name of the entity as it is defined in its {@link Document} annotation, before an expression in
+	 *         it is evaluated, so that it is the same for all the indices of a time based index pattern. {@literal null}
+	 *         if there is no entity or it has no {@link Document} annotation.
+	 */
+	@Nullable
+	public String getIndexPattern() {
+		return indexPattern;
+	}
+
+	@Nullable
+	public Class<?> getEntityType() {
+		return entityType;
+	}
+
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	public void setOutcome(Outcome outcome) {
+
+		Assert.notNull(outcome, "outcome must not be null");
+
+		this.outcome = outcome;
+	}
+
+	/**
+	 * @return the size of the request bodies in bytes, -1 if unknown
+	 */
+	public long getRequestSize() {
+		return requestSize.get();
+	}
+
+	/**
+	 * @return the size of the response bodies in bytes, -1 if unknown
+	 */
+	public long getResponseSize() {
+		return responseSize.get();
+	}
+
+	/**
+	 * adds the size of a request body, a request may be sent more than once when the client retries it on another node.
+	 */
+	void addRequestSize(long bytes) {
+		requestSize.accumulateAndGet(bytes, (current, added) -> Math.max(current, 0) + added);
+	}
+
+	void addResponseSize(long bytes) {
+		responseSize.accumulateAndGet(bytes, (current, added) -> Math.max(current, 0) + added);
+	}
+
+	@Nullable
+	public Long getHits() {
+		return hits;
+	}
+
+	void setHits(@Nullable Long hits) {
+		this.hits = hits;
+	}
+
+	/**
+	 * @return the time Elasticsearch reported to have needed to process the request
+	 */
+	@Nullable
+	public Duration getTook() {
+		return took;
+	}
+
+	void setTook(@Nullable Duration took) {
+		this.took = took;
+	}
+
+	/**
+	 * @return the time from the start of the observation until the response was received
+	 */
+	@Nullable
+	public Duration getClientLatency() {
+		return clientLatency;
+	}
+
+	void responseReceived() {
+		this.clientLatency = Duration.ofNanos(System.nanoTime() - startNanos);
+	}
+
+	/**
+	 * The outcome of a request.
+	 */
+	public enum Outcome {
+		SUCCESS, ERROR, CANCELLED
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.elc.observation.ElasticsearchObservation.ConversionEvents;
+import org.springframework.data.elasticsearch.core.convert.ConversionObserver;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConversionObserver} that creates a Micrometer {@link Observation} for every document that is read or written
+ * by the {@link org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter}. The observation has
+ * the entity class and the direction as low cardinality values, so with a meter handler registered there is a timer
+ * with the number of converted documents and the time spent per entity class and direction. The invocations of custom
+ * converters and the resolved type hints are signalled as {@link ConversionEvents events}, which a meter handler counts
+ * with the same tags; their numbers per conversion are available as high cardinality values.
+ *
+ * <pre class="code">
+ * MappingElasticsearchConverter converter = ...;
+ * converter.setConversionObserver(new ObservationConversionObserver(observationRegistry));
+ * </pre>
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class ObservationConversionObserver implements ConversionObserver {
+
+	private final ObservationRegistry observationRegistry;
+	@Nullable private final ConversionObservationConvention observationConvention;
+
+	public ObservationConversionObserver(ObservationRegistry observationRegistry) {
+		this(observationRegistry, null);
+	}
+
+	/**
+	 * @param observationRegistry the registry to use
+	 * @param observationConvention a custom convention, {@literal null} to use the
+	 *          {@link DefaultConversionObservationConvention}
+	 */
+	public ObservationConversionObserver(ObservationRegistry observationRegistry,
+			@Nullable ConversionObservationConvention observationConvention) {
+
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+		this.observationConvention = observationConvention;
+	}
+
+	@Override
+	public Observed start(Class<?> entityType, Direction direction) {
+
+		ConversionObservationContext context = new ConversionObservationContext(entityType, direction);
+		Observation observation = ElasticsearchObservation.CONVERSION.observation(observationConvention,
+				DefaultConversionObservationConvention.INSTANCE, () -> context, observationRegistry).start();
+		return new ObservedConversion(observation, context);
+	}
+
+	private record ObservedConversion(Observation observation, ConversionObservationContext context)
+			implements Observed {
+
+		@Override
+		public void onCustomConversion(Class<?> sourceType, Class<?> targetType) {
+			context.customConversion();
+			observation.event(ConversionEvents.CUSTOM_CONVERSION);
+		}
+
+		@Override
+		public void onTypeHintResolved(Class<?> declaredType, Class<?> resolvedType) {
+			context.typeHint();
+			observation.event(ConversionEvents.TYPE_HINT);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			observation.error(error);
+		}
+
+		@Override
+		public void stop() {
+			observation.stop();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.instrumentation.Instrumentation;
+import co.elastic.clients.transport.instrumentation.NoopInstrumentation;
+import co.elastic.clients.util.BinaryData;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Instrumentation} of the Elasticsearch transport that adds the sizes of the request and response bodies to the
+ * {@link ElasticsearchObservationContext} that is current when the request is sent. Requests that are sent outside of
+ * an observation of the templates are not instrumented.
+ *
+ * @author agent
+ * @since 6.0
+ */
+class ObservationInstrumentation implements Instrumentation {
+
+	private static final String CONTENT_LENGTH = "content-length";
+
+	private final ObservationRegistry observationRegistry;
+
+	ObservationInstrumentation(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	@Override
+	public <TRequest> Context newContext(TRequest request, Endpoint<TRequest, ?, ?> endpoint) {
+
+		Observation observation = observationRegistry.getCurrentObservation();
+
+		if (observation != null && observation.getContext() instanceof ElasticsearchObservationContext context) {
+			return new SizeRecordingContext(context);
+		}
+
+		return NoopInstrumentation.INSTANCE.newContext(request, endpoint);
+	}
+
+	private record SizeRecordingContext(ElasticsearchObservationContext observationContext) implements Context {
+
+		@Override
+		public ThreadScope makeCurrent() {
+			return () -> {};
+		}
+
+		@Override
+		public void beforeSendingHttpRequest(TransportHttpClient.Request httpRequest, TransportOptions options) {
+
+			long size = 0;
+
+			if (httpRequest.body() != null) {
+				for (ByteBuffer buffer : httpRequest.body()) {
+					size += buffer.remaining();
+				}
+			}
+
+			observationContext.addRequestSize(size);
+		}
+
+		@Override
+		public void afterReceivingHttpResponse(TransportHttpClient.Response httpResponse) {
+
+			long size = responseSize(httpResponse);
+
+			if (size >= 0) {
+				observationContext.addResponseSize(size);
+			}
+		}
+
+		@Override
+		public <TResponse> void afterDecodingApiResponse(TResponse apiResponse) {}
+
+		@Override
+		public void recordException(Throwable thrown) {}
+
+		@Override
+		public void close() {}
+
+		/**
+		 * the size of the response body from the entity, or from the header when the entity does not know it.
+		 */
+		private static long responseSize(TransportHttpClient.Response httpResponse) {
+
+			try {
+				BinaryData body = httpResponse.body();
+
+				if (body == null) {
+					return 0;
+				}
+
+				if (body.size() >= 0) {
+					return body.size();
+				}
+			} catch (IOException e) {
+				return -1;
+			}
+
+			String contentLength = httpResponse.header(CONTENT_LENGTH);
+			try {
+				return contentLength != null ? Long.parseLong(contentLength) : -1;
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+	}
+}
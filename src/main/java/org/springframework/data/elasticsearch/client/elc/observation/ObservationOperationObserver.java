@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import co.elastic.clients.transport.instrumentation.Instrumentation;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.OperationObserver;
+import org.springframework.data.elasticsearch.client.elc.ResponseMetrics;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * {@link OperationObserver} that creates a Micrometer {@link Observation} for every request. The observation has the
+ * operation, the index name defined on the entity, the entity class and the outcome as low cardinality values, these
+ * are the tags of the timer when a meter handler is registered. The concrete index names, the number of hits, the time
+ * Elasticsearch reports to have needed for the request, the client side latency and the sizes of the request and
+ * response bodies are available as high cardinality values and in the {@link ElasticsearchObservationContext}.
+ * <p>
+ * The sizes are recorded by the {@link #getInstrumentation() instrumentation} of this observer, which must be set on
+ * the transport of the client with
+ * {@link ElasticsearchClients#getElasticsearchTransport(org.elasticsearch.client.RestClient, String, co.elastic.clients.transport.TransportOptions, co.elastic.clients.json.JsonpMapper, Instrumentation)}.
+ * When a transport is created without it, the other values are still recorded.
+ *
+ * <pre class="code">
+ * ObservationOperationObserver observer = new ObservationOperationObserver(observationRegistry);
+ * ElasticsearchTransport transport = ElasticsearchClients.getElasticsearchTransport(restClient,
+ * 		ElasticsearchClients.IMPERATIVE_CLIENT, null, jsonpMapper, observer.getInstrumentation());
+ * ElasticsearchTemplate template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(transport));
+ * template.setOperationObserver(observer);
+ * </pre>
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class ObservationOperationObserver implements OperationObserver {
+
+	private final ObservationRegistry observationRegistry;
+	@Nullable private final ElasticsearchObservationConvention observationConvention;
+	private final Instrumentation instrumentation;
+
+	public ObservationOperationObserver(ObservationRegistry observationRegistry) {
+		this(observationRegistry, null);
+	}
+
+	/**
+	 * @param observationRegistry the registry to use
+	 * @param observationConvention a custom convention, {@literal null} to use the
+	 *          {@link DefaultElasticsearchObservationConvention}
+	 */
+	public ObservationOperationObserver(ObservationRegistry observationRegistry,
+			@Nullable ElasticsearchObservationConvention observationConvention) {
+
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+		this.observationConvention = observationConvention;
+		this.instrumentation = new ObservationInstrumentation(observationRegistry);
+	}
+
+	/**
+	 * @return the {@link Instrumentation} to set on the transport of the client to record the sizes of the requests and
+	 *         responses.
+	 */
+	public Instrumentation getInstrumentation() {
+		return instrumentation;
+	}
+
+	@Override
+	public Observed start(Operation operation, @Nullable IndexCoordinates index, @Nullable Class<?> entityType,
+			Object request) {
+
+		ElasticsearchObservationContext context = new ElasticsearchObservationContext(operation, index, entityType);
+		Observation observation = ElasticsearchObservation.OPERATION.observation(observationConvention,
+				DefaultElasticsearchObservationConvention.INSTANCE, () -> context, observationRegistry).start();
+		return new ObservedRequest(observation, context);
+	}
+
+	private record ObservedRequest(Observation observation, ElasticsearchObservationContext context)
+			implements Observed {
+
+		@Override
+		public Scope openScope() {
+			return observation.openScope()::close;
+		}
+
+		@Override
+		public void onResponse(Object response) {
+
+			context.responseReceived();
+
+			ResponseMetrics metrics = ResponseMetrics.of(response);
+			context.setTook(metrics.took());
+			context.setHits(metrics.hits());
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			context.setOutcome(ElasticsearchObservationContext.Outcome.ERROR);
+			observation.error(error);
+		}
+
+		@Override
+		public void onCancel() {
+
+			if (context.getClientLatency() == null) {
+				context.setOutcome(ElasticsearchObservationContext.Outcome.CANCELLED);
+			}
+		}
+
+		@Override
+		public void stop() {
+			observation.stop();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+/**
+ * Instrumentation of the Elasticsearch templates and the converter with Micrometer's Observation API. The classes in
+ * this package are only used when an
+ * {@link org.springframework.data.elasticsearch.client.elc.observation.ObservationOperationObserver} is set on a
+ * template or an {@link org.springframework.data.elasticsearch.client.elc.observation.ObservationConversionObserver} on
+ * a converter, so Micrometer is an optional dependency.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.elasticsearch.client.elc.observation;
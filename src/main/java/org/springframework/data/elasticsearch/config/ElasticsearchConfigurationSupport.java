@@ -33,6 +33,7 @@ import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverte
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchCustomConversions;
 import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
 import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
 import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
 import org.springframework.util.ClassUtils;
@@ -162,6 +163,17 @@ public class ElasticsearchConfigurationSupport {
 		return null;
 	}
 
+	/**
+	 * Defines how the criteria of a {@link org.springframework.data.elasticsearch.core.query.CriteriaQuery} - and so of
+	 * the derived repository queries - are converted into Elasticsearch queries.
+	 *
+	 * @return the {@link CriteriaQueryMode} to use, defaults to {@link CriteriaQueryMode#DEFAULT}
+	 * @since 6.0
+	 */
+	protected CriteriaQueryMode criteriaQueryMode() {
+		return CriteriaQueryMode.DEFAULT;
+	}
+
 	/**
 	 * Configures a {@link FieldNamingStrategy} on the {@link SimpleElasticsearchMappingContext} instance created.
 	 *
@@ -772,6 +772,18 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 		}
 	}
 
+	/**
+	 * reads the entities from the given documents with the callback.
+	 *
+	 * @param documents the documents to read
+	 * @param callback the callback that creates an entity from a document
+	 * @return the entities in the order of the documents
+	 * @since 6.0
+	 */
+	protected <T> List<T> readEntities(List<? extends Document> documents, DocumentCallback<T> callback) {
+		return documents.stream().map(callback::doWith).collect(Collectors.toList());
+	}
+
 	protected interface SearchDocumentResponseCallback<T> {
 		T doWith(SearchDocumentResponse response);
 	}
@@ -779,19 +791,31 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 	protected class ReadSearchDocumentResponseCallback<T> implements SearchDocumentResponseCallback<SearchHits<T>> {
 		private final DocumentCallback<T> delegate;
 		private final Class<T> type;
+		private final boolean compact;
 
 		public ReadSearchDocumentResponseCallback(Class<T> type, IndexCoordinates index) {
+			this(type, index, false);
+		}
+
+		/**
+		 * @param compact {@literal true} if the hits should be returned as {@link CompactSearchHits}
+		 * @since 6.0
+		 */
+		public ReadSearchDocumentResponseCallback(Class<T> type, IndexCoordinates index, boolean compact) {
 
 			Assert.notNull(type, "type is null");
 
 			this.delegate = new ReadDocumentCallback<>(elasticsearchConverter, type, index);
 			this.type = type;
+			this.compact = compact;
 		}
 
 		@Override
 		public SearchHits<T> doWith(SearchDocumentResponse response) {
-			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
-			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapHits(response, entities);
+			List<T> entities = readEntities(response.getSearchDocuments(), delegate);
+			SearchHitMapping<T> searchHitMapping = SearchHitMapping.mappingFor(type, elasticsearchConverter);
+			return compact ? searchHitMapping.mapCompactHits(response, entities)
+					: searchHitMapping.mapHits(response, entities);
 		}
 	}
 
@@ -799,19 +823,31 @@ public abstract class AbstractElasticsearchTemplate implements ElasticsearchOper
 			implements SearchDocumentResponseCallback<SearchScrollHits<T>> {
 		private final DocumentCallback<T> delegate;
 		private final Class<T> type;
+		private final boolean compact;
 
 		public ReadSearchScrollDocumentResponseCallback(Class<T> type, IndexCoordinates index) {
+			this(type, index, false);
+		}
+
+		/**
+		 * @param compact {@literal true} if the hits should be returned as {@link CompactSearchHits}
+		 * @since 6.0
+		 */
+		public ReadSearchScrollDocumentResponseCallback(Class<T> type, IndexCoordinates index, boolean compact) {
 
 			Assert.notNull(type, "type is null");
 
 			this.delegate = new ReadDocumentCallback<>(elasticsearchConverter, type, index);
 			this.type = type;
+			this.compact = compact;
 		}
 
 		@Override
 		public SearchScrollHits<T> doWith(SearchDocumentResponse response) {
-			List<T> entities = response.getSearchDocuments().stream().map(delegate::doWith).collect(Collectors.toList());
-			return SearchHitMapping.mappingFor(type, elasticsearchConverter).mapScrollHits(response, entities);
+			List<T> entities = readEntities(response.getSearchDocuments(), delegate);
+			SearchHitMapping<T> searchHitMapping = SearchHitMapping.mappingFor(type, elasticsearchConverter);
+			return compact ? searchHitMapping.mapCompactHits(response, entities)
+					: searchHitMapping.mapScrollHits(response, entities);
 		}
 	}
 	// endregion
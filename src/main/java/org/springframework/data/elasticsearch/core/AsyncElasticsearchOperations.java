@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.data.elasticsearch.core.routing.RoutingResolver;
+
+/**
+ * Interface that specifies a basic set of Elasticsearch document, search and index operations that are executed
+ * asynchronously. Each method sends its request without blocking the calling thread and returns a
+ * {@link CompletableFuture} that is completed with the result, so independent requests can be issued in parallel and
+ * be combined with {@link CompletableFuture#allOf(CompletableFuture[])} without using a reactive library.
+ * <p>
+ * Futures are completed exceptionally with the same exceptions that the blocking {@link ElasticsearchOperations}
+ * throw. Cancelling a returned future cancels the underlying request if it is still in progress.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public interface AsyncElasticsearchOperations {
+
+	/**
+	 * @return the {@link ElasticsearchConverter} used, never {@literal null}
+	 */
+	ElasticsearchConverter getElasticsearchConverter();
+
+	/**
+	 * @param clazz the entity class
+	 * @return the IndexCoordinates defined on the entity.
+	 */
+	IndexCoordinates getIndexCoordinatesFor(Class<?> clazz);
+
+	/**
+	 * Creates a copy of this instance that uses the given {@link RoutingResolver}.
+	 *
+	 * @param routingResolver the {@link RoutingResolver} value, must not be {@literal null}.
+	 * @return new instance
+	 */
+	AsyncElasticsearchOperations withRouting(RoutingResolver routingResolver);
+
+	/**
+	 * Creates a copy of this instance that uses the given {@link RefreshPolicy}.
+	 *
+	 * @param refreshPolicy the refresh policy to use, may be {@literal null} to use the default of the cluster
+	 * @return new instance
+	 */
+	AsyncElasticsearchOperations withRefreshPolicy(@Nullable RefreshPolicy refreshPolicy);
+
+	// region document operations
+	/**
+	 * Saves an entity to the index specified in the entity's Document annotation.
+	 *
+	 * @param entity the entity to save, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entity
+	 */
+	<T> CompletableFuture<T> save(T entity);
+
+	/**
+	 * Saves an entity to the given index.
+	 *
+	 * @param entity the entity to save, must not be {@literal null}
+	 * @param index the index to save the entity in, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entity
+	 */
+	<T> CompletableFuture<T> save(T entity, IndexCoordinates index);
+
+	/**
+	 * Saves the given entities in one bulk request to the index specified in the Document annotation of the first
+	 * entity.
+	 *
+	 * @param entities must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entities
+	 */
+	<T> CompletableFuture<List<T>> save(Iterable<T> entities);
+
+	/**
+	 * Saves the given entities in one bulk request to the given index.
+	 *
+	 * @param entities must not be {@literal null}
+	 * @param index the index to save the entities in, must not be {@literal null}
+	 * @param <T> the entity type
+	 * @return a future with the saved entities
+	 */
+	<T> CompletableFuture<List<T>> save(Iterable<T> entities, IndexCoordinates index);
+
+	/**
+	 * Index an object. Will do save or update.
+	 *
+	 * @param query the query defining the object
+	 * @param index the index where the object is stored.
+	 * @return a future with the id of the indexed document
+	 */
+	CompletableFuture<String> index(IndexQuery query, IndexCoordinates index);
+
+	/**
+	 * Retrieves an object from the index specified in the entity's Document annotation.
+	 *
+	 * @param id the id of the object
+	 * @param clazz the entity class,
+	 * @param <T> the entity type
+	 * @return a future with the entity, the value is {@literal null} if the document does not exist
+	 */
+	<T> CompletableFuture<@Nullable T> get(String id, Class<T> clazz);
+
+	/**
+	 * Retrieves an object from the given index.
+	 *
+	 * @param id the id of the object
+	 * @param clazz the entity class,
+	 * @param index the index from which the object is read.
+	 * @param <T> the entity type
+	 * @return a future with the entity, the value is {@literal null} if the document does not exist
+	 */
+	<T> CompletableFuture<@Nullable T> get(String id, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids.
+	 *
+	 * @param query the query defining the ids of the objects to get
+	 * @param clazz the type of the object to be returned
+	 * @param <T> the entity type
+	 * @return a future with the list of {@link MultiGetItem}s
+	 */
+	<T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz);
+
+	/**
+	 * Execute a multiGet against elasticsearch for the given ids.
+	 *
+	 * @param query the query defining the ids of the objects to get
+	 * @param clazz the type of the object to be returned
+	 * @param index the index(es) from which the objects are read.
+	 * @param <T> the entity type
+	 * @return a future with the list of {@link MultiGetItem}s
+	 */
+	<T> CompletableFuture<List<MultiGetItem<T>>> multiGet(Query query, Class<T> clazz, IndexCoordinates index);
+
+	/**
+	 * Check if an entity with given {@literal id} exists.
+	 *
+	 * @param id the {@literal _id} of the document to look for.
+	 * @param clazz the domain type used.
+	 * @return a future with {@literal true} if a matching document exists, {@literal false} otherwise.
+	 */
+	CompletableFuture<Boolean> exists(String id, Class<?> clazz);
+
+	/**
+	 * Check if an entity with given {@literal id} exists.
+	 *
+	 * @param id the {@literal _id} of the document to look for.
+	 * @param index the target index, must not be {@literal null}
+	 * @return a future with {@literal true} if a matching document exists, {@literal false} otherwise.
+	 */
+	CompletableFuture<Boolean> exists(String id, IndexCoordinates index);
+
+	/**
+	 * Delete the one object with provided id.
+	 *
+	 * @param id the document id
+	 * @param entityType must not be {@literal null}.
+	 * @return a future with the documentId of the deleted document
+	 */
+	CompletableFuture<String> delete(String id, Class<?> entityType);
+
+	/**
+	 * Delete the one object with provided id.
+	 *
+	 * @param id the document to delete
+	 * @param index the index from which to delete
+	 * @return a future with the documentId of the deleted document
+	 */
+	CompletableFuture<String> delete(String id, IndexCoordinates index);
+
+	/**
+	 * Deletes the given entity.
+	 *
+	 * @param entity the entity to delete
+	 * @return a future with the documentId of the deleted document
+	 */
+	CompletableFuture<String> delete(Object entity);
+
+	/**
+	 * Bulk index all objects. Will do save or update.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param clazz the entity class
+	 * @return a future with the information about the indexed objects
+	 * @throws org.springframework.data.elasticsearch.BulkFailureException with information about the failed operation
+	 *           as cause of the future's exception
+	 */
+	CompletableFuture<List<IndexedObjectInformation>> bulkIndex(List<IndexQuery> queries, Class<?> clazz);
+
+	/**
+	 * Bulk index all objects. Will do save or update.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to write to
+	 * @return a future with the information about the indexed objects
+	 */
+	CompletableFuture<List<IndexedObjectInformation>> bulkIndex(List<IndexQuery> queries, BulkOptions bulkOptions,
+			IndexCoordinates index);
+
+	/**
+	 * Bulk update all objects. Will do update.
+	 *
+	 * @param queries the queries to execute in bulk
+	 * @param bulkOptions options to be added to the bulk request
+	 * @param index the index to write to
+	 * @return a future that is completed when the request has finished
+	 */
+	CompletableFuture<Void> bulkUpdate(List<UpdateQuery> queries, BulkOptions bulkOptions, IndexCoordinates index);
+	// endregion
+
+	// region search operations
+	/**
+	 * return number of elements found by given query.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @return a future with the count
+	 */
+	CompletableFuture<Long> count(Query query, Class<?> clazz);
+
+	/**
+	 * return number of elements found by given query.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping, may be {@literal null}
+	 * @param index the index to run the query against
+	 * @return a future with the count
+	 */
+	CompletableFuture<Long> count(Query query, @Nullable Class<?> clazz, IndexCoordinates index);
+
+	/**
+	 * Execute the query against elasticsearch and return the result.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping and index name extraction
+	 * @param <T> the entity type
+	 * @return a future with the {@link SearchHits}
+	 */
+	<T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz);
+
+	/**
+	 * Execute the query against elasticsearch and return the result.
+	 *
+	 * @param query the query to execute
+	 * @param clazz the entity clazz used for property mapping
+	 * @param index the index to run the query against
+	 * @param <T> the entity type
+	 * @return a future with the {@link SearchHits}
+	 */
+	<T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz, IndexCoordinates index);
+	// endregion
+
+	// region index operations
+	/**
+	 * Creates the index for the given entity class with the settings, mapping and aliases defined on the class.
+	 *
+	 * @param clazz the entity class
+	 * @return a future with {@literal true} if the index was created
+	 */
+	CompletableFuture<Boolean> createIndex(Class<?> clazz);
+
+	/**
+	 * Deletes the index, if it exists.
+	 *
+	 * @param index the index to delete
+	 * @return a future with {@literal true} if the index was deleted
+	 */
+	CompletableFuture<Boolean> deleteIndex(IndexCoordinates index);
+
+	/**
+	 * Checks if the index exists.
+	 *
+	 * @param index the index to check
+	 * @return a future with {@literal true} if the index exists
+	 */
+	CompletableFuture<Boolean> indexExists(IndexCoordinates index);
+
+	/**
+	 * Refreshes the index.
+	 *
+	 * @param index the index to refresh
+	 * @return a future that is completed when the refresh has finished
+	 */
+	CompletableFuture<Void> refresh(IndexCoordinates index);
+	// endregion
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.document.Explanation;
+import org.springframework.data.elasticsearch.core.document.NestedMetaData;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SearchScrollHits} implementation that stores the hits column by column in parallel arrays instead of keeping
+ * one {@link SearchHit} object per hit. Ids, scores, seq_no values and sort values are held in arrays, highlight
+ * fields, inner hits, nested metadata, explanations and matched queries are only stored for the hits that have them.
+ * The {@link SearchHit} objects returned from {@link #getSearchHit(int)} and {@link #getSearchHits()} are views that
+ * are created on each access.
+ * <p>
+ * This is used when a query is created with {@link org.springframework.data.elasticsearch.core.query.Query#getCompactSearchHits()}
+ * set to {@literal true}. It is intended for large result pages that are processed column-wise, for example with
+ * {@link #getScores()} and {@link #getIds()}.
+ *
+ * @param <T> the result data class.
+ * @author agent
+ * @since 6.0
+ */
+public final class CompactSearchHits<T> implements SearchScrollHits<T> {
+
+	/**
+	 * the seq_no value of a hit for which no seq_no was returned.
+	 */
+	public static final long UNASSIGNED_SEQ_NO = -2;
+
+	private final long totalHits;
+	private final TotalHitsRelation totalHitsRelation;
+	private final float maxScore;
+	private final Duration executionDuration;
+	@Nullable private final String scrollId;
+	@Nullable private final String pointInTimeId;
+	@Nullable private final AggregationsContainer<?> aggregations;
+	@Nullable private final Suggest suggest;
+	@Nullable private final SearchShardStatistics searchShardStatistics;
+
+	private final int size;
+	private final String[] ids;
+	private final float[] scores;
+	private final long[] seqNos;
+	private final String[] indices;
+	@Nullable private final String[] routings;
+	private final Object[][] sortValueColumns;
+	private final int @Nullable [] sortValueCounts;
+	private final Object[] contents;
+	@Nullable private final HitDetails[] details;
+	private final List<SearchHit<T>> searchHitViews = new SearchHitViews();
+
+	private CompactSearchHits(Builder<T> builder, long totalHits, TotalHitsRelation totalHitsRelation, float maxScore,
+			Duration executionDuration, @Nullable String scrollId, @Nullable String pointInTimeId,
+			@Nullable AggregationsContainer<?> aggregations, @Nullable Suggest suggest,
+			@Nullable SearchShardStatistics searchShardStatistics) {
+
+		this.totalHits = totalHits;
+		this.totalHitsRelation = totalHitsRelation;
+		this.maxScore = maxScore;
+		this.executionDuration = executionDuration;
+		this.scrollId = scrollId;
+		this.pointInTimeId = pointInTimeId;
+		this.aggregations = aggregations;
+		this.suggest = suggest;
+		this.searchShardStatistics = searchShardStatistics;
+
+		this.size = builder.size;
+		this.ids = builder.ids;
+		this.scores = builder.scores;
+		this.seqNos = builder.seqNos;
+		this.indices = builder.indices;
+		this.routings = builder.routings;
+		this.contents = builder.contents;
+		this.details = builder.details;
+
+		// the sort values are transposed into one column per sort value position
+		int columns = 0;
+		boolean sameCount = true;
+		for (int i = 0; i < size; i++) {
+			int count = builder.sortValues[i] != null ? builder.sortValues[i].length : 0;
+			sameCount &= i == 0 || count == columns;
+			columns = Math.max(columns, count);
+		}
+
+		this.sortValueColumns = new Object[columns][size];
+		for (int i = 0; i < size; i++) {
+			Object[] hitSortValues = builder.sortValues[i];
+			if (hitSortValues != null) {
+				for (int column = 0; column < hitSortValues.length; column++) {
+					sortValueColumns[column][i] = hitSortValues[column];
+				}
+			}
+		}
+
+		if (sameCount) {
+			this.sortValueCounts = null;
+		} else {
+			this.sortValueCounts = new int[size];
+			for (int i = 0; i < size; i++) {
+				sortValueCounts[i] = builder.sortValues[i] != null ? builder.sortValues[i].length : 0;
+			}
+		}
+	}
+
+	// region getter
+	@Override
+	public long getTotalHits() {
+		return totalHits;
+	}
+
+	@Override
+	public TotalHitsRelation getTotalHitsRelation() {
+		return totalHitsRelation;
+	}
+
+	@Override
+	public float getMaxScore() {
+		return maxScore;
+	}
+
+	@Override
+	public Duration getExecutionDuration() {
+		return executionDuration;
+	}
+
+	@Override
+	@Nullable
+	public String getScrollId() {
+		return scrollId;
+	}
+
+	/**
+	 * @return a list of {@link SearchHit} views, the elements are created when they are accessed.
+	 */
+	@Override
+	public List<SearchHit<T>> getSearchHits() {
+		return searchHitViews;
+	}
+
+	/**
+	 * @return a new {@link SearchHit} view for the hit at the given position.
+	 */
+	@Override
+	public SearchHit<T> getSearchHit(int index) {
+
+		Objects.checkIndex(index, size);
+
+		HitDetails hitDetails = details != null ? details[index] : null;
+
+		return new SearchHit<>(indices[index], //
+				ids[index], //
+				routings != null ? routings[index] : null, //
+				scores[index], //
+				getSortValues(index), //
+				hitDetails != null ? hitDetails.highlightFields() : null, //
+				hitDetails != null ? hitDetails.innerHits() : null, //
+				hitDetails != null ? hitDetails.nestedMetaData() : null, //
+				hitDetails != null ? hitDetails.explanation() : null, //
+				hitDetails != null ? hitDetails.matchedQueries() : null, //
+				getContent(index));
+	}
+
+	/**
+	 * @return the number of hits.
+	 */
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean hasSearchHits() {
+		return size > 0;
+	}
+
+	@Override
+	public float[] getScores() {
+		return scores.clone();
+	}
+
+	@Override
+	public @Nullable String[] getIds() {
+		return ids.clone();
+	}
+
+	/**
+	 * @return the seq_no values of the hits in a new array, {@link #UNASSIGNED_SEQ_NO} for hits without a seq_no.
+	 */
+	public long[] getSeqNos() {
+		return seqNos.clone();
+	}
+
+	/**
+	 * @return the maximum number of sort values of the hits, this is the number of sort criteria of the query.
+	 */
+	public int getSortValueColumnCount() {
+		return sortValueColumns.length;
+	}
+
+	/**
+	 * @param column the position of the sort value
+	 * @return the sort values at the given position for all hits in the order of the hits. The list is backed by the
+	 *         stored column and cannot be modified.
+	 * @throws IndexOutOfBoundsException on invalid column
+	 */
+	public List<Object> getSortValueColumn(int column) {
+		return Collections.unmodifiableList(Arrays.asList(sortValueColumns[column]));
+	}
+
+	/**
+	 * @param index position of the hit
+	 * @return the content of the hit at the given position
+	 */
+	@SuppressWarnings("unchecked")
+	public T getContent(int index) {
+		return (T) contents[index];
+	}
+
+	@Override
+	@Nullable
+	public AggregationsContainer<?> getAggregations() {
+		return aggregations;
+	}
+
+	@Override
+	@Nullable
+	public Suggest getSuggest() {
+		return suggest;
+	}
+
+	@Nullable
+	@Override
+	public String getPointInTimeId() {
+		return pointInTimeId;
+	}
+
+	@Override
+	@Nullable
+	public SearchShardStatistics getSearchShardStatistics() {
+		return searchShardStatistics;
+	}
+	// endregion
+
+	@Nullable
+	private Object[] getSortValues(int index) {
+
+		int count = sortValueCounts != null ? sortValueCounts[index] : sortValueColumns.length;
+
+		if (count == 0) {
+			return null;
+		}
+
+		Object[] sortValues = new Object[count];
+		for (int column = 0; column < count; column++) {
+			sortValues[column] = sortValueColumns[column][index];
+		}
+		return sortValues;
+	}
+
+	@Override
+	public String toString() {
+		return "CompactSearchHits{" + //
+				"totalHits=" + totalHits + //
+				", totalHitsRelation=" + totalHitsRelation + //
+				", maxScore=" + maxScore + //
+				", executionDuration=" + executionDuration + //
+				", scrollId='" + scrollId + '\'' + //
+				", pointInTimeId='" + pointInTimeId + '\'' + //
+				", searchHits={" + size + " elements}" + //
+				", aggregations=" + aggregations + //
+				", shardStatistics=" + searchShardStatistics + //
+				'}';
+	}
+
+	private final class SearchHitViews extends AbstractList<SearchHit<T>> implements RandomAccess {
+
+		@Override
+		public SearchHit<T> get(int index) {
+			return getSearchHit(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * The per-hit information that most hits do not have.
+	 */
+	private record HitDetails(@Nullable Map<String, List<String>> highlightFields,
+			@Nullable Map<String, SearchHits<?>> innerHits, @Nullable NestedMetaData nestedMetaData,
+			@Nullable Explanation explanation, @Nullable Map<String, Double> matchedQueries) {
+	}
+
+	/**
+	 * Collects the hits of a search response into the columns.
+	 *
+	 * @param <T> the result data class.
+	 */
+	static final class Builder<T> {
+
+		private final int capacity;
+		private int size = 0;
+		private final String[] ids;
+		private final float[] scores;
+		private final long[] seqNos;
+		private final String[] indices;
+		@Nullable private String[] routings;
+		private final Object[][] sortValues;
+		private final Object[] contents;
+		@Nullable private HitDetails[] details;
+
+		Builder(int capacity) {
+			this.capacity = capacity;
+			this.ids = new String[capacity];
+			this.scores = new float[capacity];
+			this.seqNos = new long[capacity];
+			this.indices = new String[capacity];
+			this.sortValues = new Object[capacity][];
+			this.contents = new Object[capacity];
+		}
+
+		/**
+		 * adds a hit.
+		 *
+		 * @param document the document of the hit
+		 * @param highlightFields the highlight fields with the names of the properties
+		 * @param innerHits the mapped inner hits
+		 * @param content the entity of the hit
+		 */
+		Builder<T> add(SearchDocument document, @Nullable Map<String, List<String>> highlightFields,
+				@Nullable Map<String, SearchHits<?>> innerHits, T content) {
+
+			Assert.notNull(document, "document is null");
+			Assert.notNull(content, "content is null");
+			Assert.state(size < capacity, "capacity exceeded");
+
+			int index = size++;
+			ids[index] = document.hasId() ? document.getId() : null;
+			scores[index] = document.getScore();
+			seqNos[index] = document.hasSeqNo() ? document.getSeqNo() : UNASSIGNED_SEQ_NO;
+			indices[index] = document.getIndex();
+			sortValues[index] = document.getSortValues();
+			contents[index] = content;
+
+			String routing = document.getRouting();
+			if (routing != null) {
+				if (routings == null) {
+					routings = new String[capacity];
+				}
+				routings[index] = routing;
+			}
+
+			if ((highlightFields != null && !highlightFields.isEmpty()) || (innerHits != null && !innerHits.isEmpty())
+					|| document.getNestedMetaData() != null || document.getExplanation() != null
+					|| (document.getMatchedQueries() != null && !document.getMatchedQueries().isEmpty())) {
+				if (details == null) {
+					details = new HitDetails[capacity];
+				}
+				details[index] = new HitDetails(highlightFields, innerHits, document.getNestedMetaData(),
+						document.getExplanation(), document.getMatchedQueries());
+			}
+
+			return this;
+		}
+
+		CompactSearchHits<T> build(long totalHits, TotalHitsRelation totalHitsRelation, float maxScore,
+				Duration executionDuration, @Nullable String scrollId, @Nullable String pointInTimeId,
+				@Nullable AggregationsContainer<?> aggregations, @Nullable Suggest suggest,
+				@Nullable SearchShardStatistics searchShardStatistics) {
+
+			Assert.state(size == capacity, "not all hits have been added");
+
+			return new CompactSearchHits<>(this, totalHits, totalHitsRelation, maxScore, executionDuration, scrollId,
+					pointInTimeId, aggregations, suggest, searchShardStatistics);
+		}
+	}
+}
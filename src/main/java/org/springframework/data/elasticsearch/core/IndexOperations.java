@@ -178,6 +178,16 @@ public interface IndexOperations {
 	 * @return the settings
 	 */
 	Settings getSettings(boolean includeDefaults);
+
+	/**
+	 * Updates dynamic settings of the index, for example {@literal index.blocks.write} or
+	 * {@literal index.number_of_replicas}.
+	 *
+	 * @param settings the settings to update
+	 * @return {@literal true} if the settings were updated
+	 * @since 6.0
+	 */
+	boolean putSettings(Settings settings);
 	// endregion
 
 	// region aliases
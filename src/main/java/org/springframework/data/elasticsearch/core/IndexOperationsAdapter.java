@@ -116,6 +116,11 @@ public interface IndexOperationsAdapter extends IndexOperations {
 				return Objects.requireNonNull(reactiveIndexOperations.getSettings(includeDefaults).block());
 			}
 
+			@Override
+			public boolean putSettings(Settings settings) {
+				return Boolean.TRUE.equals(reactiveIndexOperations.putSettings(settings).block());
+			}
+
 			@Override
 			public boolean alias(AliasActions aliasActions) {
 				return Boolean.TRUE.equals(reactiveIndexOperations.alias(aliasActions).block());
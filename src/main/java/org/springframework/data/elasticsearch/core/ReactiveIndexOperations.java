@@ -180,6 +180,16 @@ public interface ReactiveIndexOperations {
 	 * @return a {@link Mono} with a {@link Document} containing the index settings
 	 */
 	Mono<Settings> getSettings(boolean includeDefaults);
+
+	/**
+	 * Updates dynamic settings of the index, for example {@literal index.blocks.write} or
+	 * {@literal index.number_of_replicas}.
+	 *
+	 * @param settings the settings to update
+	 * @return a {@link Mono} signalling if the settings were updated
+	 * @since 6.0
+	 */
+	Mono<Boolean> putSettings(Settings settings);
 	// endregion
 
 	// region aliases
@@ -78,6 +78,40 @@ public class SearchHitMapping<T> {
 		return mapHitsFromResponse(searchDocumentResponse, contents);
 	}
 
+	/**
+	 * maps the response into a {@link CompactSearchHits} instance that does not create a {@link SearchHit} object for
+	 * each hit.
+	 *
+	 * @since 6.0
+	 */
+	public CompactSearchHits<T> mapCompactHits(SearchDocumentResponse searchDocumentResponse, List<T> contents) {
+
+		Assert.notNull(searchDocumentResponse, "searchDocumentResponse is null");
+		Assert.notNull(contents, "contents is null");
+
+		List<SearchDocument> searchDocuments = searchDocumentResponse.getSearchDocuments();
+		Assert.isTrue(searchDocuments.size() == contents.size(), "Count of documents must match the count of entities");
+
+		CompactSearchHits.Builder<T> builder = new CompactSearchHits.Builder<>(searchDocuments.size());
+		for (int i = 0; i < searchDocuments.size(); i++) {
+			SearchDocument document = searchDocuments.get(i);
+			builder.add(document, getHighlightsAndRemapFieldNames(document), mapInnerHits(document), contents.get(i));
+		}
+
+		Suggest suggest = searchDocumentResponse.getSuggest();
+		mapHitsInCompletionSuggestion(suggest);
+
+		return builder.build(searchDocumentResponse.getTotalHits(), //
+				TotalHitsRelation.valueOf(searchDocumentResponse.getTotalHitsRelation()), //
+				searchDocumentResponse.getMaxScore(), //
+				searchDocumentResponse.getExecutionDuration(), //
+				searchDocumentResponse.getScrollId(), //
+				searchDocumentResponse.getPointInTimeId(), //
+				searchDocumentResponse.getAggregations(), //
+				suggest, //
+				searchDocumentResponse.getSearchShardStatistics());
+	}
+
 	private SearchHitsImpl<T> mapHitsFromResponse(SearchDocumentResponse searchDocumentResponse, List<T> contents) {
 
 		Assert.notNull(searchDocumentResponse, "searchDocumentResponse is null");
@@ -62,6 +62,37 @@ public interface SearchHits<T> extends Streamable<SearchHit<T>> {
 	 */
 	List<SearchHit<T>> getSearchHits();
 
+	/**
+	 * @return the scores of the contained {@link SearchHit}s in a new array, in the order of the hits.
+	 * @since 6.0
+	 */
+	default float[] getScores() {
+
+		List<SearchHit<T>> searchHits = getSearchHits();
+		float[] scores = new float[searchHits.size()];
+
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = searchHits.get(i).getScore();
+		}
+		return scores;
+	}
+
+	/**
+	 * @return the ids of the contained {@link SearchHit}s in a new array, in the order of the hits. Elements are
+	 *         {@literal null} for hits without an id.
+	 * @since 6.0
+	 */
+	default @Nullable String[] getIds() {
+
+		List<SearchHit<T>> searchHits = getSearchHits();
+		String[] ids = new String[searchHits.size()];
+
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = searchHits.get(i).getId();
+		}
+		return ids;
+	}
+
 	/**
 	 * @return the number of total hits.
 	 */
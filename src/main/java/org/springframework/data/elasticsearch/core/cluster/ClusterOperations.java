@@ -29,4 +29,14 @@ public interface ClusterOperations {
 	 * @return health information for the cluster.
 	 */
 	ClusterHealth health();
+
+	/**
+	 * get the status of a task, for example one that was started with
+	 * {@link org.springframework.data.elasticsearch.core.DocumentOperations#submitReindex}.
+	 *
+	 * @param taskId the id of the task in the form {@literal nodeId:taskNumber}
+	 * @return the status of the task
+	 * @since 6.0
+	 */
+	TaskStatus getTask(String taskId);
 }
@@ -31,4 +31,14 @@ public interface ReactiveClusterOperations {
 	 * @return a Mono emitting the health information for the cluster.
 	 */
 	Mono<ClusterHealth> health();
+
+	/**
+	 * get the status of a task, for example one that was started with
+	 * {@link org.springframework.data.elasticsearch.core.ReactiveDocumentOperations#submitReindex}.
+	 *
+	 * @param taskId the id of the task in the form {@literal nodeId:taskNumber}
+	 * @return a Mono emitting the status of the task
+	 * @since 6.0
+	 */
+	Mono<TaskStatus> getTask(String taskId);
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The status of a task running in the cluster, as returned from the tasks API. The document counts are those of
+ * reindex, update by query and delete by query tasks; for a sliced task they are the sums over all slices. When the
+ * task is completed, the counts are those of the final response.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class TaskStatus {
+
+	private final String taskId;
+	private final String action;
+	private final boolean completed;
+	private final Duration runningTime;
+	private final long total;
+	private final long created;
+	private final long updated;
+	private final long deleted;
+	private final long batches;
+	private final long versionConflicts;
+	private final long noops;
+	@Nullable private final String error;
+	private final List<String> failures;
+
+	private TaskStatus(TaskStatusBuilder builder) {
+		this.taskId = builder.taskId;
+		this.action = builder.action;
+		this.completed = builder.completed;
+		this.runningTime = builder.runningTime;
+		this.total = builder.total;
+		this.created = builder.created;
+		this.updated = builder.updated;
+		this.deleted = builder.deleted;
+		this.batches = builder.batches;
+		this.versionConflicts = builder.versionConflicts;
+		this.noops = builder.noops;
+		this.error = builder.error;
+		this.failures = List.copyOf(builder.failures);
+	}
+
+	public String getTaskId() {
+		return taskId;
+	}
+
+	public String getAction() {
+		return action;
+	}
+
+	public boolean isCompleted() {
+		return completed;
+	}
+
+	public Duration getRunningTime() {
+		return runningTime;
+	}
+
+	/**
+	 * @return the number of documents the task will process
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	public long getCreated() {
+		return created;
+	}
+
+	public long getUpdated() {
+		return updated;
+	}
+
+	public long getDeleted() {
+		return deleted;
+	}
+
+	public long getBatches() {
+		return batches;
+	}
+
+	public long getVersionConflicts() {
+		return versionConflicts;
+	}
+
+	public long getNoops() {
+		return noops;
+	}
+
+	/**
+	 * @return the number of documents that have been processed so far
+	 */
+	public long getProcessed() {
+		return created + updated + deleted + versionConflicts + noops;
+	}
+
+	/**
+	 * @return the reason why the task failed, {@literal null} if it did not fail
+	 */
+	@Nullable
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * @return the reasons of the documents that could not be processed by a completed task
+	 */
+	public List<String> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return {@literal true} if the task failed or could not process all documents
+	 */
+	public boolean hasFailed() {
+		return error != null || !failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "TaskStatus{" + //
+				"taskId='" + taskId + '\'' + //
+				", action='" + action + '\'' + //
+				", completed=" + completed + //
+				", runningTime=" + runningTime + //
+				", total=" + total + //
+				", created=" + created + //
+				", updated=" + updated + //
+				", deleted=" + deleted + //
+				", batches=" + batches + //
+				", versionConflicts=" + versionConflicts + //
+				", noops=" + noops + //
+				", error='" + error + '\'' + //
+				", failures=" + failures + //
+				'}'; //
+	}
+
+	public static TaskStatusBuilder builder(String taskId) {
+		return new TaskStatusBuilder(taskId);
+	}
+
+	public static final class TaskStatusBuilder {
+		private final String taskId;
+		private String action = "";
+		private boolean completed;
+		private Duration runningTime = Duration.ZERO;
+		private long total;
+		private long created;
+		private long updated;
+		private long deleted;
+		private long batches;
+		private long versionConflicts;
+		private long noops;
+		@Nullable private String error;
+		private final List<String> failures = new ArrayList<>();
+
+		private TaskStatusBuilder(String taskId) {
+
+			Assert.notNull(taskId, "taskId must not be null");
+
+			this.taskId = taskId;
+		}
+
+		public TaskStatusBuilder withAction(String action) {
+			this.action = action;
+			return this;
+		}
+
+		public TaskStatusBuilder withCompleted(boolean completed) {
+			this.completed = completed;
+			return this;
+		}
+
+		public TaskStatusBuilder withRunningTime(Duration runningTime) {
+			this.runningTime = runningTime;
+			return this;
+		}
+
+		public TaskStatusBuilder withTotal(long total) {
+			this.total = total;
+			return this;
+		}
+
+		public TaskStatusBuilder withCreated(long created) {
+			this.created = created;
+			return this;
+		}
+
+		public TaskStatusBuilder withUpdated(long updated) {
+			this.updated = updated;
+			return this;
+		}
+
+		public TaskStatusBuilder withDeleted(long deleted) {
+			this.deleted = deleted;
+			return this;
+		}
+
+		public TaskStatusBuilder withBatches(long batches) {
+			this.batches = batches;
+			return this;
+		}
+
+		public TaskStatusBuilder withVersionConflicts(long versionConflicts) {
+			this.versionConflicts = versionConflicts;
+			return this;
+		}
+
+		public TaskStatusBuilder withNoops(long noops) {
+			this.noops = noops;
+			return this;
+		}
+
+		public TaskStatusBuilder withError(@Nullable String error) {
+			this.error = error;
+			return this;
+		}
+
+		public TaskStatusBuilder withFailures(List<String> failures) {
+			this.failures.addAll(failures);
+			return this;
+		}
+
+		public TaskStatus build() {
+			return new TaskStatus(this);
+		}
+	}
+}
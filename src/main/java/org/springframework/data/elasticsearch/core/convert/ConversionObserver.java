@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+/**
+ * Observes the conversions that {@link MappingElasticsearchConverter} does between entities and documents. Every call
+ * to {@link MappingElasticsearchConverter#read(Class, org.springframework.data.elasticsearch.core.document.Document)}
+ * and {@link MappingElasticsearchConverter#write(Object, org.springframework.data.elasticsearch.core.document.Document)}
+ * is observed on its own; the conversions of nested objects and the custom converters invoked for them are attributed
+ * to the entity class of the top level object.
+ * <p>
+ * When no observer is set on the converter, nothing is measured. This interface does not depend on any metrics or
+ * tracing library. The implementation based on Micrometer's Observation API is
+ * {@link org.springframework.data.elasticsearch.client.elc.observation.ObservationConversionObserver}, it is only
+ * loaded when it is set on a converter.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public interface ConversionObserver {
+
+	/**
+	 * Starts the observation of a conversion. This is called for every document that is read or written, so
+	 * implementations should be cheap.
+	 *
+	 * @param entityType the class that is read or the class of the object that is written
+	 * @param direction whether a document is read or written
+	 * @return the started observation, must be stopped by the caller
+	 */
+	Observed start(Class<?> entityType, Direction direction);
+
+	/**
+	 * A started observation of a conversion. It is only used by the thread doing the conversion.
+	 */
+	interface Observed {
+
+		/**
+		 * Called when a custom converter is invoked.
+		 *
+		 * @param sourceType the class of the value that is converted
+		 * @param targetType the class the value is converted to
+		 */
+		void onCustomConversion(Class<?> sourceType, Class<?> targetType);
+
+		/**
+		 * Called when a type hint in a document that is read resolves to another class than the declared one.
+		 *
+		 * @param declaredType the class of the entity or property
+		 * @param resolvedType the class from the type hint
+		 */
+		void onTypeHintResolved(Class<?> declaredType, Class<?> resolvedType);
+
+		/**
+		 * Called when the conversion failed.
+		 */
+		void onError(Throwable error);
+
+		/**
+		 * Stops the observation.
+		 */
+		void stop();
+	}
+
+	/**
+	 * The direction of a conversion.
+	 */
+	enum Direction {
+		/**
+		 * A document is read into an entity.
+		 */
+		READ("read"), //
+		/**
+		 * An entity is written into a document.
+		 */
+		WRITE("write");
+
+		private final String value;
+
+		Direction(String value) {
+			this.value = value;
+		}
+
+		/**
+		 * @return the name of the direction as it is used in metrics and traces
+		 */
+		public String getValue() {
+			return value;
+		}
+	}
+}
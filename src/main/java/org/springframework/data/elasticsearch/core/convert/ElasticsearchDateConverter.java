@@ -17,8 +17,10 @@ package org.springframework.data.elasticsearch.core.convert;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -29,6 +31,7 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.util.Assert;
 
@@ -42,6 +45,7 @@ import org.springframework.util.Assert;
 final public class ElasticsearchDateConverter {
 
 	private static final ConcurrentHashMap<String, ElasticsearchDateConverter> converters = new ConcurrentHashMap<>();
+	private static final ZoneId UTC = ZoneId.of("UTC");
 
 	private final DateFormatter dateFormatter;
 
@@ -68,9 +72,17 @@ final public class ElasticsearchDateConverter {
 
 		Assert.hasText(pattern, "pattern must not be empty");
 
-		String[] subPatterns = pattern.split("\\|\\|");
+		// look up the full pattern first, so that it only is split when the converter is created
+		ElasticsearchDateConverter converter = converters.get(pattern);
+
+		if (converter != null) {
+			return converter;
+		}
 
-		return converters.computeIfAbsent(subPatterns[0].trim(), p -> new ElasticsearchDateConverter(forPattern(p)));
+		String[] subPatterns = pattern.split("\\|\\|");
+		converter = converters.computeIfAbsent(subPatterns[0].trim(), p -> new ElasticsearchDateConverter(forPattern(p)));
+		converters.putIfAbsent(pattern, converter);
+		return converter;
 	}
 
 	private ElasticsearchDateConverter(DateFormatter dateFormatter) {
@@ -87,8 +99,8 @@ final public class ElasticsearchDateConverter {
 
 		Assert.notNull(accessor, "accessor must not be null");
 
-		if (accessor instanceof Instant instant) {
-			ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, ZoneId.of("UTC"));
+		if (accessor instanceof Instant instant && dateFormatter instanceof PatternDateFormatter) {
+			ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, UTC);
 			return dateFormatter.format(zonedDateTime);
 		}
 
@@ -105,7 +117,7 @@ final public class ElasticsearchDateConverter {
 
 		Assert.notNull(date, "accessor must not be null");
 
-		return dateFormatter.format(Instant.ofEpochMilli(date.getTime()));
+		return format(Instant.ofEpochMilli(date.getTime()));
 	}
 
 	/**
@@ -149,6 +161,16 @@ final public class ElasticsearchDateConverter {
 			return new EpochSecondDateFormatter();
 		}
 
+		if (DateFormat.date_optional_time.name().equals(pattern)
+				|| DateFormat.strict_date_optional_time.name().equals(pattern)
+				|| DateFormat.date_time.name().equals(pattern) || DateFormat.strict_date_time.name().equals(pattern)) {
+			return new IsoDateTimeFormatter(false, DateFormat.valueOf(pattern).getPattern());
+		}
+
+		if (DateFormat.basic_date_time.name().equals(pattern)) {
+			return new IsoDateTimeFormatter(true, DateFormat.basic_date_time.getPattern());
+		}
+
 		// check the enum values
 		for (DateFormat dateFormat : DateFormat.values()) {
 
@@ -269,6 +291,11 @@ final public class ElasticsearchDateConverter {
 			Assert.notNull(type, "type must not be null");
 
 			Instant instant = Instant.ofEpochMilli(Long.parseLong(input));
+
+			if (type == Instant.class) {
+				return type.cast(instant);
+			}
+
 			TemporalQuery<T> query = getTemporalQuery(type);
 			return query.queryFrom(instant);
 		}
@@ -288,6 +315,13 @@ final public class ElasticsearchDateConverter {
 			long fraction = epochMilli % 1_000;
 			if (fraction == 0) {
 				return Long.toString(epochMilli / 1_000);
+			} else if (epochMilli > 0) {
+				// same output as the String.format below, without the detour through a double
+				StringBuilder sb = new StringBuilder(24).append(epochMilli / 1_000).append('.');
+				if (fraction < 100) {
+					sb.append(fraction < 10 ? "00" : "0");
+				}
+				return sb.append(fraction).toString();
 			} else {
 				Double d = ((double) epochMilli) / 1_000;
 				return String.format(Locale.ROOT, "%.03f", d);
@@ -325,7 +359,7 @@ final public class ElasticsearchDateConverter {
 			} catch (Exception e) {
 				if (accessor instanceof Instant instant) {
 					// as alternatives try to format a ZonedDateTime or LocalDateTime
-					return dateTimeFormatter.format(ZonedDateTime.ofInstant(instant, ZoneId.of("UTC")));
+					return dateTimeFormatter.format(ZonedDateTime.ofInstant(instant, UTC));
 				} else {
 					throw e;
 				}
@@ -359,4 +393,204 @@ final public class ElasticsearchDateConverter {
 			}
 		}
 	}
+
+	/**
+	 * a DateFormatter for the formats {@code uuuu-MM-dd'T'HH:mm:ss.SSSXXX} and - when basic is set -
+	 * {@code uuuuMMdd'T'HHmmss.SSSXXX}. {@link Instant}, {@link ZonedDateTime} and {@link OffsetDateTime} values are
+	 * written and parsed directly without using a {@link DateTimeFormatter}; other types and input that is not in exactly
+	 * this form are processed by a {@link PatternDateFormatter} for the pattern of the format.
+	 */
+	static class IsoDateTimeFormatter implements DateFormatter {
+
+		private static final int[] EXTENDED_POSITIONS = { 5, 8, 11, 14, 17, 20, 23 };
+		private static final int[] BASIC_POSITIONS = { 4, 6, 9, 11, 13, 16, 19 };
+
+		private final boolean basic;
+		private final PatternDateFormatter patternDateFormatter;
+
+		IsoDateTimeFormatter(boolean basic, String pattern) {
+			this.basic = basic;
+			this.patternDateFormatter = new PatternDateFormatter(DateTimeFormatter.ofPattern(pattern));
+		}
+
+		@Override
+		public String format(TemporalAccessor accessor) {
+
+			Assert.notNull(accessor, "accessor must not be null");
+
+			LocalDateTime localDateTime;
+			int offsetSeconds;
+
+			if (accessor instanceof Instant instant) {
+				localDateTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), ZoneOffset.UTC);
+				offsetSeconds = 0;
+			} else if (accessor instanceof ZonedDateTime zonedDateTime) {
+				localDateTime = zonedDateTime.toLocalDateTime();
+				offsetSeconds = zonedDateTime.getOffset().getTotalSeconds();
+			} else if (accessor instanceof OffsetDateTime offsetDateTime) {
+				localDateTime = offsetDateTime.toLocalDateTime();
+				offsetSeconds = offsetDateTime.getOffset().getTotalSeconds();
+			} else {
+				return patternDateFormatter.format(accessor);
+			}
+
+			int year = localDateTime.getYear();
+
+			// years that need a sign or more than 4 digits and offsets with seconds are left to the DateTimeFormatter
+			if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+				return patternDateFormatter.format(accessor instanceof Instant instant //
+						? ZonedDateTime.ofInstant(instant, UTC) //
+						: accessor);
+			}
+
+			char[] chars = new char[29];
+			int pos = 0;
+			pos = writeDigits(chars, pos, year, 4);
+			pos = writeSeparator(chars, pos, '-');
+			pos = writeDigits(chars, pos, localDateTime.getMonthValue(), 2);
+			pos = writeSeparator(chars, pos, '-');
+			pos = writeDigits(chars, pos, localDateTime.getDayOfMonth(), 2);
+			chars[pos++] = 'T';
+			pos = writeDigits(chars, pos, localDateTime.getHour(), 2);
+			pos = writeSeparator(chars, pos, ':');
+			pos = writeDigits(chars, pos, localDateTime.getMinute(), 2);
+			pos = writeSeparator(chars, pos, ':');
+			pos = writeDigits(chars, pos, localDateTime.getSecond(), 2);
+			chars[pos++] = '.';
+			pos = writeDigits(chars, pos, localDateTime.getNano() / 1_000_000, 3);
+
+			if (offsetSeconds == 0) {
+				chars[pos++] = 'Z';
+			} else {
+				chars[pos++] = offsetSeconds < 0 ? '-' : '+';
+				int absoluteOffsetMinutes = Math.abs(offsetSeconds) / 60;
+				pos = writeDigits(chars, pos, absoluteOffsetMinutes / 60, 2);
+				chars[pos++] = ':';
+				pos = writeDigits(chars, pos, absoluteOffsetMinutes % 60, 2);
+			}
+
+			return new String(chars, 0, pos);
+		}
+
+		@Override
+		public <T extends TemporalAccessor> T parse(String input, Class<T> type) {
+
+			Assert.notNull(input, "input must not be null");
+			Assert.notNull(type, "type must not be null");
+
+			OffsetDateTime offsetDateTime = parseOffsetDateTime(input);
+
+			if (offsetDateTime == null) {
+				return patternDateFormatter.parse(input, type);
+			}
+
+			if (type == Instant.class) {
+				return type.cast(offsetDateTime.toInstant());
+			}
+
+			if (type == OffsetDateTime.class) {
+				return type.cast(offsetDateTime);
+			}
+
+			return getTemporalQuery(type).queryFrom(offsetDateTime);
+		}
+
+		/**
+		 * @return the parsed value or {@literal null} if the input is not exactly in the expected form.
+		 */
+		@Nullable
+		private OffsetDateTime parseOffsetDateTime(String input) {
+
+			// the positions of month, day, hour, minute, second, millis and offset, the year always starts at 0
+			int[] positions = basic ? BASIC_POSITIONS : EXTENDED_POSITIONS;
+			int length = input.length();
+			int pos = positions[6];
+
+			if (length != pos + 1 && length != pos + 6) {
+				return null;
+			}
+
+			if (!basic && (input.charAt(4) != '-' || input.charAt(7) != '-' || input.charAt(13) != ':'
+					|| input.charAt(16) != ':')) {
+				return null;
+			}
+
+			if (input.charAt(positions[2] - 1) != 'T' || input.charAt(positions[5] - 1) != '.') {
+				return null;
+			}
+
+			int year = readDigits(input, 0, 4);
+			int month = readDigits(input, positions[0], 2);
+			int day = readDigits(input, positions[1], 2);
+			int hour = readDigits(input, positions[2], 2);
+			int minute = readDigits(input, positions[3], 2);
+			int second = readDigits(input, positions[4], 2);
+			int millis = readDigits(input, positions[5], 3);
+
+			if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+					|| second < 0 || second > 59 || millis < 0) {
+				return null;
+			}
+
+			ZoneOffset offset;
+			char offsetSign = input.charAt(pos);
+
+			if (offsetSign == 'Z' && length == pos + 1) {
+				offset = ZoneOffset.UTC;
+			} else if ((offsetSign == '+' || offsetSign == '-') && length == pos + 6 && input.charAt(pos + 3) == ':') {
+				int offsetHours = readDigits(input, pos + 1, 2);
+				int offsetMinutes = readDigits(input, pos + 4, 2);
+
+				if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+					return null;
+				}
+
+				int offsetSeconds = offsetHours * 3600 + offsetMinutes * 60;
+				offset = ZoneOffset.ofTotalSeconds(offsetSign == '-' ? -offsetSeconds : offsetSeconds);
+			} else {
+				return null;
+			}
+
+			try {
+				return OffsetDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000, offset);
+			} catch (DateTimeException e) {
+				// an invalid day of month, the DateTimeFormatter might resolve this
+				return null;
+			}
+		}
+
+		private int writeSeparator(char[] chars, int pos, char separator) {
+
+			if (!basic) {
+				chars[pos++] = separator;
+			}
+			return pos;
+		}
+
+		private static int writeDigits(char[] chars, int pos, int value, int digits) {
+
+			for (int i = digits - 1; i >= 0; i--) {
+				chars[pos + i] = (char) ('0' + value % 10);
+				value /= 10;
+			}
+			return pos + digits;
+		}
+
+		/**
+		 * @return the value of the digits or -1 if there are non-digit characters
+		 */
+		private static int readDigits(String input, int pos, int digits) {
+
+			int value = 0;
+			for (int i = pos; i < pos + digits; i++) {
+				char c = input.charAt(i);
+
+				if (c < '0' || c > '9') {
+					return -1;
+				}
+				value = value * 10 + (c - '0');
+			}
+			return value;
+		}
+	}
 }
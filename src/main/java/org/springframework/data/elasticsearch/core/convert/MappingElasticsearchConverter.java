@@ -69,6 +69,7 @@ import org.springframework.format.datetime.DateFormatterRegistrar;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.NumberUtils;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -97,6 +98,7 @@ public class MappingElasticsearchConverter
 	private static final String INVALID_TYPE_TO_READ = "Expected to read Document %s into type %s but didn't find a PersistentEntity for the latter!";
 
 	private static final Log LOGGER = LogFactory.getLog(MappingElasticsearchConverter.class);
+	private static final int MAX_CACHED_PROPERTY_PATHS_PER_ENTITY = 1000;
 
 	private final MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext;
 	private final GenericConversionService conversionService;
@@ -111,6 +113,8 @@ public class MappingElasticsearchConverter
 
 	private final EntityInstantiators instantiators = new EntityInstantiators();
 	private final ElasticsearchTypeMapper typeMapper;
+	private final Map<ElasticsearchPersistentEntity<?>, Map<String, PropertyNamesUpdate>> propertyNamesUpdates = new ConcurrentHashMap<>();
+	private @Nullable ConversionObserver conversionObserver;
 
 	public MappingElasticsearchConverter(
 			MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext) {
@@ -177,14 +181,48 @@ public class MappingElasticsearchConverter
 		return typeMapper;
 	}
 
+	/**
+	 * Sets the {@link ConversionObserver} that measures the reading and writing of documents per entity class.
+	 *
+	 * @param conversionObserver the observer, {@literal null} to disable the observation
+	 * @since 6.0
+	 */
+	public void setConversionObserver(@Nullable ConversionObserver conversionObserver) {
+		this.conversionObserver = conversionObserver;
+	}
+
+	/**
+	 * @return the {@link ConversionObserver}, {@literal null} if none is set
+	 * @since 6.0
+	 */
+	@Nullable
+	public ConversionObserver getConversionObserver() {
+		return conversionObserver;
+	}
+
 	// region read/write
 
 	@Override
 	public <R> R read(Class<R> type, Document source) {
 
-		Reader reader = new Reader(mappingContext, conversionService, conversions, typeMapper, expressionEvaluatorFactory,
-				instantiators);
-		return reader.read(type, source);
+		ConversionObserver observer = conversionObserver;
+
+		if (observer == null) {
+			return new Reader(mappingContext, conversionService, conversions, typeMapper, expressionEvaluatorFactory,
+					instantiators, null).read(type, source);
+		}
+
+		ConversionObserver.Observed observed = observer.start(ClassUtils.getUserClass(type),
+				ConversionObserver.Direction.READ);
+		try {
+			return new Reader(mappingContext, conversionService, conversions, typeMapper, expressionEvaluatorFactory,
+					instantiators, observed).read(type, source);
+		} catch (RuntimeException e) {
+			observed.onError(e);
+			throw e;
+		} finally {
+			observed.stop();
+		}
 	}
 
 	@Override
@@ -192,8 +230,23 @@ public class MappingElasticsearchConverter
 
 		Assert.notNull(source, "source to map must not be null");
 
-		Writer writer = new Writer(mappingContext, conversionService, conversions, typeMapper);
-		writer.write(source, sink);
+		ConversionObserver observer = conversionObserver;
+
+		if (observer == null) {
+			new Writer(mappingContext, conversionService, conversions, typeMapper, null).write(source, sink);
+			return;
+		}
+
+		ConversionObserver.Observed observed = observer.start(ClassUtils.getUserClass(source.getClass()),
+				ConversionObserver.Direction.WRITE);
+		try {
+			new Writer(mappingContext, conversionService, conversions, typeMapper, observed).write(source, sink);
+		} catch (RuntimeException e) {
+			observed.onError(e);
+			throw e;
+		} finally {
+			observed.stop();
+		}
 	}
 
 	/**
@@ -206,14 +259,30 @@ public class MappingElasticsearchConverter
 		protected final GenericConversionService conversionService;
 		protected final CustomConversions conversions;
 		protected final ConcurrentHashMap<String, Integer> propertyWarnings = new ConcurrentHashMap<>();
+		protected final ConversionObserver.@Nullable Observed observed;
 
 		private Base(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
-				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper) {
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				ConversionObserver.@Nullable Observed observed) {
 			this.mappingContext = mappingContext;
 			this.conversionService = conversionService;
 			this.conversions = conversions;
 			this.typeMapper = typeMapper;
+			this.observed = observed;
+		}
+
+		/**
+		 * converts a value with a custom converter and reports the invocation to the observer.
+		 */
+		@Nullable
+		protected <T> T convertWithCustomConverter(Object value, Class<T> targetType) {
+
+			if (observed != null) {
+				observed.onCustomConversion(value.getClass(), targetType);
+			}
+
+			return conversionService.convert(value, targetType);
 		}
 	}
 
@@ -229,9 +298,10 @@ public class MappingElasticsearchConverter
 		public Reader(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
 				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
-				CachingValueExpressionEvaluatorFactory expressionEvaluatorFactory, EntityInstantiators instantiators) {
+				CachingValueExpressionEvaluatorFactory expressionEvaluatorFactory, EntityInstantiators instantiators,
+				ConversionObserver.@Nullable Observed observed) {
 
-			super(mappingContext, conversionService, conversions, typeMapper);
+			super(mappingContext, conversionService, conversions, typeMapper, observed);
 			this.expressionEvaluatorFactory = expressionEvaluatorFactory;
 			this.instantiators = instantiators;
 		}
@@ -265,8 +335,12 @@ public class MappingElasticsearchConverter
 			TypeInformation<? extends R> typeToUse = typeMapper.readType(source, typeInformation);
 			Class<? extends R> rawType = typeToUse.getType();
 
+			if (observed != null && rawType != typeInformation.getType()) {
+				observed.onTypeHintResolved(typeInformation.getType(), rawType);
+			}
+
 			if (conversions.hasCustomReadTarget(source.getClass(), rawType)) {
-				return conversionService.convert(source, rawType);
+				return convertWithCustomConverter(source, rawType);
 			}
 
 			if (Document.class.isAssignableFrom(rawType)) {
@@ -459,6 +533,9 @@ public class MappingElasticsearchConverter
 			if (property.hasPropertyValueConverter()) {
 				// noinspection unchecked
 				return (R) propertyConverterRead(property, value);
+			} else if (rawType == byte[].class && property.isDenseVectorProperty() && value instanceof String hex) {
+				// noinspection unchecked
+				return (R) HexFormat.of().parseHex(hex);
 			} else if (TemporalAccessor.class.isAssignableFrom(property.getType())
 					&& !conversions.hasCustomReadTarget(value.getClass(), rawType)) {
 
@@ -485,7 +562,10 @@ public class MappingElasticsearchConverter
 			Class<?> rawType = type.getType();
 
 			if (conversions.hasCustomReadTarget(value.getClass(), rawType)) {
-				return (T) conversionService.convert(value, rawType);
+				return (T) convertWithCustomConverter(value, rawType);
+			} else if ((rawType == float[].class || rawType == byte[].class) && value instanceof List<?> list
+					&& isNumberList(list)) {
+				return (T) (rawType == float[].class ? toFloatArray(list) : toByteArray(list));
 			} else if (value instanceof List) {
 				return (T) readCollectionOrArray(type, (List<Object>) value);
 			} else if (value.getClass().isArray()) {
@@ -511,6 +591,44 @@ public class MappingElasticsearchConverter
 			}
 		}
 
+		private static boolean isNumberList(List<?> list) {
+
+			for (Object element : list) {
+				if (!(element instanceof Number)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * converts a list of numbers - like a dense vector - into a float array without creating the intermediate boxed
+		 * values the generic collection conversion would need.
+		 */
+		private static float[] toFloatArray(List<?> list) {
+
+			float[] floats = new float[list.size()];
+			int i = 0;
+			for (Object element : list) {
+				floats[i++] = ((Number) element).floatValue();
+			}
+			return floats;
+		}
+
+		/**
+		 * converts a list of numbers into a byte array, values outside the range of a byte are rejected like in the generic
+		 * conversion instead of being wrapped around.
+		 */
+		private static byte[] toByteArray(List<?> list) {
+
+			byte[] bytes = new byte[list.size()];
+			int i = 0;
+			for (Object element : list) {
+				bytes[i++] = NumberUtils.convertNumberToTargetClass((Number) element, Byte.class);
+			}
+			return bytes;
+		}
+
 		@SuppressWarnings("unchecked")
 		private static <T> T getCollectionWithSingleElement(TypeInformation<?> collectionType,
 				TypeInformation<?> componentType, Object element) {
@@ -618,7 +736,7 @@ public class MappingElasticsearchConverter
 			}
 
 			if (conversions.hasCustomReadTarget(value.getClass(), target)) {
-				return conversionService.convert(value, target);
+				return convertWithCustomConverter(value, target);
 			}
 
 			if (Enum.class.isAssignableFrom(target)) {
@@ -700,6 +818,10 @@ public class MappingElasticsearchConverter
 				return entity;
 			}
 
+			if (observed != null && typeToUse.getType() != entity.getType()) {
+				observed.onTypeHintResolved(entity.getType(), typeToUse.getType());
+			}
+
 			return mappingContext.getRequiredPersistentEntity(typeToUse);
 		}
 
@@ -777,8 +899,9 @@ public class MappingElasticsearchConverter
 
 		public Writer(
 				MappingContext<? extends ElasticsearchPersistentEntity<?>, ElasticsearchPersistentProperty> mappingContext,
-				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper) {
-			super(mappingContext, conversionService, conversions, typeMapper);
+				GenericConversionService conversionService, CustomConversions conversions, ElasticsearchTypeMapper typeMapper,
+				ConversionObserver.@Nullable Observed observed) {
+			super(mappingContext, conversionService, conversions, typeMapper, observed);
 		}
 
 		void write(Object source, Document sink) {
@@ -824,7 +947,7 @@ public class MappingElasticsearchConverter
 			Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(entityType, Map.class);
 
 			if (customTarget.isPresent()) {
-				Map<String, Object> result = conversionService.convert(source, Map.class);
+				Map<String, Object> result = convertWithCustomConverter(source, Map.class);
 
 				if (result != null) {
 					sink.putAll(result);
@@ -1000,6 +1123,13 @@ public class MappingElasticsearchConverter
 				if (property.hasPropertyValueConverter()) {
 					value = propertyConverterWrite(property, value);
 					sink.set(property, value);
+				} else if (value instanceof float[] && property.isDenseVectorProperty()
+						&& !conversions.hasCustomWriteTarget(float[].class)) {
+					// vectors are kept as primitive arrays, the JSON mapper writes them without boxing the elements
+					sink.set(property, value);
+				} else if (value instanceof byte[] bytes && property.isDenseVectorProperty()) {
+					// byte and bit vectors can be sent as hex encoded string
+					sink.set(property, HexFormat.of().formatHex(bytes));
 				} else if (TemporalAccessor.class.isAssignableFrom(property.getActualType())
 						&& !conversions.hasCustomWriteTarget(value.getClass())) {
 
@@ -1038,7 +1168,7 @@ public class MappingElasticsearchConverter
 
 			if (customWriteTarget.isPresent()) {
 				Class<?> writeTarget = customWriteTarget.get();
-				sink.set(property, conversionService.convert(value, writeTarget));
+				sink.set(property, convertWithCustomConverter(value, writeTarget));
 				return;
 			}
 
@@ -1062,7 +1192,7 @@ public class MappingElasticsearchConverter
 
 			if (basicTargetType.isPresent()) {
 
-				sink.set(property, conversionService.convert(value, basicTargetType.get()));
+				sink.set(property, convertWithCustomConverter(value, basicTargetType.get()));
 				return;
 			}
 
@@ -1161,7 +1291,7 @@ public class MappingElasticsearchConverter
 			Optional<Class<?>> customTarget = conversions.getCustomWriteTarget(value.getClass());
 
 			if (customTarget.isPresent()) {
-				return conversionService.convert(value, customTarget.get());
+				return convertWithCustomConverter(value, customTarget.get());
 			}
 
 			if (ObjectUtils.isArray(value)) {
@@ -1374,12 +1504,10 @@ public class MappingElasticsearchConverter
 
 		var propertyNamesUpdate = updatePropertyNames(persistentEntity, field.getName());
 
-		var fieldNames = propertyNamesUpdate.names();
-		field.setName(String.join(".", fieldNames));
+		field.setName(propertyNamesUpdate.fieldName());
 
-		if (propertyNamesUpdate.propertyCount() > 1 && propertyNamesUpdate.nestedProperty()) {
-			List<String> propertyNames = Arrays.asList(fieldNames);
-			field.setPath(String.join(".", propertyNames.subList(0, propertyNamesUpdate.propertyCount - 1)));
+		if (propertyNamesUpdate.nestedPath() != null) {
+			field.setPath(propertyNamesUpdate.nestedPath());
 		}
 
 		if (propertyNamesUpdate.persistentProperty != null) {
@@ -1405,20 +1533,30 @@ public class MappingElasticsearchConverter
 				});
 			}
 
-			org.springframework.data.elasticsearch.annotations.Field fieldAnnotation = propertyNamesUpdate.persistentProperty
-					.findAnnotation(org.springframework.data.elasticsearch.annotations.Field.class);
-
-			if (fieldAnnotation != null) {
-				field.setFieldType(fieldAnnotation.type());
+			if (propertyNamesUpdate.fieldType() != null) {
+				field.setFieldType(propertyNamesUpdate.fieldType());
 			}
 		}
 	}
 
+	/**
+	 * @param names the field names of the properties in the path
+	 * @param nestedProperty if a nested entity was encountered
+	 * @param propertyCount the number of properties found in the path
+	 * @param persistentProperty the last processed property
+	 * @param fieldName the field names joined with dots
+	 * @param nestedPath the path of the nested object if the path contains a nested property
+	 * @param fieldType the type of the last processed property if it has a
+	 *          {@link org.springframework.data.elasticsearch.annotations.Field} annotation
+	 */
 	static record PropertyNamesUpdate(
 			String[] names,
 			Boolean nestedProperty,
 			Integer propertyCount,
-			ElasticsearchPersistentProperty persistentProperty) {
+			@Nullable ElasticsearchPersistentProperty persistentProperty,
+			String fieldName,
+			@Nullable String nestedPath,
+			@Nullable FieldType fieldType) {
 	}
 
 	@Override
@@ -1427,19 +1565,39 @@ public class MappingElasticsearchConverter
 		Assert.notNull(propertyPath, "propertyPath must not be null");
 		Assert.notNull(persistentEntity, "persistentEntity must not be null");
 
-		var propertyNamesUpdate = updatePropertyNames(persistentEntity, propertyPath);
-		return String.join(".", propertyNamesUpdate.names());
+		return updatePropertyNames(persistentEntity, propertyPath).fieldName();
 	}
 
 	/**
 	 * Parse a propertyPath and replace the path values with the field names from a persistentEntity. path entries not
-	 * found in the entity are kept as they are.
+	 * found in the entity are kept as they are. The result is cached per entity, as the same property paths are used
+	 * over and over again by the repository methods.
 	 *
 	 * @return the eventually modified names, a flag if a nested entity was encountered the number of processed
 	 *         propertiesand the last processed PersistentProperty.
 	 */
 	PropertyNamesUpdate updatePropertyNames(ElasticsearchPersistentEntity<?> persistentEntity, String propertyPath) {
 
+		Map<String, PropertyNamesUpdate> entityPropertyNamesUpdates = propertyNamesUpdates
+				.computeIfAbsent(persistentEntity, entity -> new ConcurrentHashMap<>());
+
+		PropertyNamesUpdate propertyNamesUpdate = entityPropertyNamesUpdates.get(propertyPath);
+
+		if (propertyNamesUpdate == null) {
+			propertyNamesUpdate = resolvePropertyNames(persistentEntity, propertyPath);
+
+			// property paths might come from user input like sort parameters, so limit the number of cached entries
+			if (entityPropertyNamesUpdates.size() < MAX_CACHED_PROPERTY_PATHS_PER_ENTITY) {
+				entityPropertyNamesUpdates.put(propertyPath, propertyNamesUpdate);
+			}
+		}
+
+		return propertyNamesUpdate;
+	}
+
+	private PropertyNamesUpdate resolvePropertyNames(ElasticsearchPersistentEntity<?> persistentEntity,
+			String propertyPath) {
+
 		String[] propertyNames = propertyPath.split("\\.");
 		String[] fieldNames = Arrays.copyOf(propertyNames, propertyNames.length);
 
@@ -1477,7 +1635,25 @@ public class MappingElasticsearchConverter
 			}
 		}
 
-		return new PropertyNamesUpdate(fieldNames, isNested, propertyCount, persistentProperty);
+		String nestedPath = null;
+
+		if (propertyCount > 1 && isNested) {
+			nestedPath = String.join(".", Arrays.asList(fieldNames).subList(0, propertyCount - 1));
+		}
+
+		FieldType fieldType = null;
+
+		if (persistentProperty != null) {
+			org.springframework.data.elasticsearch.annotations.Field fieldAnnotation = persistentProperty
+					.findAnnotation(org.springframework.data.elasticsearch.annotations.Field.class);
+
+			if (fieldAnnotation != null) {
+				fieldType = fieldAnnotation.type();
+			}
+		}
+
+		return new PropertyNamesUpdate(fieldNames, isNested, propertyCount, persistentProperty, String.join(".", fieldNames),
+				nestedPath, fieldType);
 	}
 	// endregion
 
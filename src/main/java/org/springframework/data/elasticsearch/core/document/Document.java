@@ -22,6 +22,7 @@ import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.elasticsearch.core.convert.ConversionException;
+import org.springframework.data.elasticsearch.support.SharedKeyMap;
 import org.springframework.data.elasticsearch.support.StringObjectMap;
 import org.springframework.util.Assert;
 
@@ -60,7 +61,7 @@ public interface Document extends StringObjectMap<Document> {
 
 		Assert.notNull(map, "Map must not be null");
 
-		if (map instanceof LinkedHashMap) {
+		if (map instanceof LinkedHashMap || map instanceof SharedKeyMap) {
 			return new MapDocument(map);
 		}
 
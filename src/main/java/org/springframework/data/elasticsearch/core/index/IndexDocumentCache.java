@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.index;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.util.Assert;
+
+/**
+ * Caches the JSON of the mapping and settings documents that are built or loaded for an entity, so that creating many
+ * indices for the same entity, for example with a SpEL expression in the index name, does not build the mapping or read
+ * the files again. The entries are kept per {@link ElasticsearchPersistentEntity} instance: an entity is created once
+ * by its mapping context and does not change afterwards, so the entries are valid as long as the entity exists and are
+ * dropped together with the mapping context. The JSON is cached instead of the documents, as documents are mutable;
+ * every caller parses its own copy.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class IndexDocumentCache {
+
+	private static final Map<ElasticsearchPersistentEntity<?>, Map<Object, String>> CACHE = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private IndexDocumentCache() {}
+
+	/**
+	 * @param entity the entity the document belongs to
+	 * @param key identifies the document of the entity, must implement {@code equals} and {@code hashCode}
+	 * @param jsonSupplier builds the JSON if it is not cached yet
+	 * @return the cached or built JSON
+	 */
+	public static String get(ElasticsearchPersistentEntity<?> entity, Object key, Supplier<String> jsonSupplier) {
+
+		Assert.notNull(jsonSupplier, "jsonSupplier must not be null");
+
+		String json = getIfPresent(entity, key);
+
+		if (json == null) {
+			// built outside the lock, two threads may build the same document, the result is the same
+			json = jsonSupplier.get();
+			put(entity, key, json);
+		}
+
+		return json;
+	}
+
+	/**
+	 * @return the cached JSON, {@literal null} if there is none
+	 */
+	@Nullable
+	public static String getIfPresent(ElasticsearchPersistentEntity<?> entity, Object key) {
+
+		Assert.notNull(entity, "entity must not be null");
+		Assert.notNull(key, "key must not be null");
+
+		Map<Object, String> documents = CACHE.get(entity);
+		return documents != null ? documents.get(key) : null;
+	}
+
+	public static void put(ElasticsearchPersistentEntity<?> entity, Object key, String json) {
+
+		Assert.notNull(entity, "entity must not be null");
+		Assert.notNull(key, "key must not be null");
+		Assert.notNull(json, "json must not be null");
+
+		CACHE.computeIfAbsent(entity, e -> new ConcurrentHashMap<>()).put(key, json);
+	}
+}
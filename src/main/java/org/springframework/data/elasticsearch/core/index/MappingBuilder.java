@@ -116,7 +116,8 @@ public class MappingBuilder {
 	}
 
 	/**
-	 * builds the Elasticsearch mapping for the given clazz.
+	 * builds the Elasticsearch mapping for the given clazz. The mapping is built once per entity and then taken from the
+	 * {@link IndexDocumentCache}.
 	 *
 	 * @return JSON string
 	 * @throws MappingException on errors while building the mapping
@@ -126,7 +127,28 @@ public class MappingBuilder {
 		ElasticsearchPersistentEntity<?> entity = elasticsearchConverter.getMappingContext()
 				.getRequiredPersistentEntity(clazz);
 
-		return buildPropertyMapping(entity, getRuntimeFields(entity));
+		return IndexDocumentCache.get(entity, mappingCacheKey(),
+				() -> buildPropertyMapping(entity, getRuntimeFields(entity)));
+	}
+
+	/**
+	 * the key of the mapping in the {@link IndexDocumentCache}. Besides the entity, the mapping depends on the name of
+	 * the type hint property, which is defined by the converter, and on the builder class, as subclasses may build
+	 * another mapping.
+	 */
+	Object mappingCacheKey() {
+		return new MappingCacheKey(getClass(), typeHintProperty());
+	}
+
+	private String typeHintProperty() {
+
+		String typeHintProperty = null;
+
+		if (elasticsearchConverter instanceof MappingElasticsearchConverter mappingElasticsearchConverter) {
+			typeHintProperty = mappingElasticsearchConverter.getTypeMapper().getTypeKey();
+		}
+
+		return typeHintProperty != null ? typeHintProperty : TYPEHINT_PROPERTY;
 	}
 
 	protected String buildPropertyMapping(ElasticsearchPersistentEntity<?> entity,
@@ -194,17 +216,7 @@ public class MappingBuilder {
 		private void writeTypeHintMapping(ObjectNode propertiesNode) throws IOException {
 
 			if (writeTypeHints) {
-				String typeHintProperty = null;
-
-				if (elasticsearchConverter instanceof MappingElasticsearchConverter mappingElasticsearchConverter) {
-					typeHintProperty = mappingElasticsearchConverter.getTypeMapper().getTypeKey();
-				}
-
-				if (typeHintProperty == null) {
-					typeHintProperty = TYPEHINT_PROPERTY;
-				}
-
-				propertiesNode.set(typeHintProperty, objectMapper.createObjectNode() //
+				propertiesNode.set(typeHintProperty(), objectMapper.createObjectNode() //
 						.put(FIELD_PARAM_TYPE, TYPE_VALUE_KEYWORD) //
 						.put(FIELD_PARAM_INDEX, false) //
 						.put(FIELD_PARAM_DOC_VALUES, false));
@@ -641,4 +653,7 @@ public class MappingBuilder {
 					&& (FieldType.Nested == fieldAnnotation.type() || FieldType.Object == fieldAnnotation.type());
 		}
 	}
+
+	private record MappingCacheKey(Class<?> builderClass, String typeHintProperty) {
+	}
 }
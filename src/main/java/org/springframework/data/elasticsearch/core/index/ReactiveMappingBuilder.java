@@ -49,6 +49,13 @@ public class ReactiveMappingBuilder extends MappingBuilder {
 		ElasticsearchPersistentEntity<?> entity = elasticsearchConverter.getMappingContext()
 				.getRequiredPersistentEntity(clazz);
 
+		Object cacheKey = mappingCacheKey();
+		String cachedMapping = IndexDocumentCache.getIfPresent(entity, cacheKey);
+
+		if (cachedMapping != null) {
+			return Mono.just(cachedMapping);
+		}
+
 		return getRuntimeFields(entity) //
 				.switchIfEmpty(Mono.just(Document.create())) //
 				.map(document -> {
@@ -57,7 +64,8 @@ public class ReactiveMappingBuilder extends MappingBuilder {
 					} else {
 						return buildPropertyMapping(entity, document);
 					}
-				});
+				}) //
+				.doOnNext(mapping -> IndexDocumentCache.put(entity, cacheKey, mapping));
 	}
 
 	private Mono<Document> getRuntimeFields(@Nullable ElasticsearchPersistentEntity<?> entity) {
@@ -110,6 +110,15 @@ public interface ElasticsearchPersistentProperty extends PersistentProperty<Elas
 	 */
 	boolean isIndexedIndexNameProperty();
 
+	/**
+	 * @return {@literal true} if this property is mapped as
+	 *         {@link org.springframework.data.elasticsearch.annotations.FieldType#Dense_Vector}
+	 * @since 6.0
+	 */
+	default boolean isDenseVectorProperty() {
+		return false;
+	}
+
 	/**
 	 * calls {@link #getActualType()} but returns null when an exception is thrown
 	 *
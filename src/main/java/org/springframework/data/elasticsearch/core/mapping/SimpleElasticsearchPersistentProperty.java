@@ -86,6 +86,7 @@ public class SimpleElasticsearchPersistentProperty extends
 	@Nullable private PropertyValueConverter propertyValueConverter;
 	private final boolean storeNullValue;
 	private final boolean storeEmptyValue;
+	private final boolean isDenseVector;
 
 	public SimpleElasticsearchPersistentProperty(Property property,
 			PersistentEntity<?, ElasticsearchPersistentProperty> owner, SimpleTypeHolder simpleTypeHolder) {
@@ -114,6 +115,7 @@ public class SimpleElasticsearchPersistentProperty extends
 				: isMultiField && getRequiredAnnotation(MultiField.class).mainField().storeNullValue();
 		storeEmptyValue = isField ? getRequiredAnnotation(Field.class).storeEmptyValue()
 				: !isMultiField || getRequiredAnnotation(MultiField.class).mainField().storeEmptyValue();
+		isDenseVector = isField && getRequiredAnnotation(Field.class).type() == FieldType.Dense_Vector;
 	}
 
 	@Override
@@ -393,4 +395,9 @@ public class SimpleElasticsearchPersistentProperty extends
 	public boolean isIndexedIndexNameProperty() {
 		return isAnnotationPresent(IndexedIndexName.class);
 	}
+
+	@Override
+	public boolean isDenseVectorProperty() {
+		return isDenseVector;
+	}
 }
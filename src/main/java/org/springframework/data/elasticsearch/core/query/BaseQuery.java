@@ -81,6 +81,7 @@ public class BaseQuery implements Query {
 	private EnumSet<IndicesOptions.WildcardStates> expandWildcards;
 	private List<DocValueField> docValueFields = new ArrayList<>();
 	private List<ScriptedField> scriptedFields = new ArrayList<>();
+	private boolean compactSearchHits = false;
 
 	public BaseQuery() {}
 
@@ -117,6 +118,7 @@ public class BaseQuery implements Query {
 		this.docValueFields = builder.getDocValueFields();
 		this.scriptedFields = builder.getScriptedFields();
 		this.runtimeFields = builder.getRuntimeFields();
+		this.compactSearchHits = builder.getCompactSearchHits();
 	}
 
 	/**
@@ -561,4 +563,21 @@ public class BaseQuery implements Query {
 	public List<ScriptedField> getScriptedFields() {
 		return scriptedFields;
 	}
+
+	/**
+	 * @since 6.0
+	 */
+	@Override
+	public boolean getCompactSearchHits() {
+		return compactSearchHits;
+	}
+
+	/**
+	 * @param compactSearchHits {@literal true} if the search hits should be returned as
+	 *          {@link org.springframework.data.elasticsearch.core.CompactSearchHits}
+	 * @since 6.0
+	 */
+	public void setCompactSearchHits(boolean compactSearchHits) {
+		this.compactSearchHits = compactSearchHits;
+	}
 }
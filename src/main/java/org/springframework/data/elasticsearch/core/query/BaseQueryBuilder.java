@@ -71,6 +71,7 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 	@Nullable Integer reactiveBatchSize;
 	private final List<DocValueField> docValueFields = new ArrayList<>();
 	private final List<ScriptedField> scriptedFields = new ArrayList<>();
+	private boolean compactSearchHits = false;
 
 	@Nullable
 	public Sort getSort() {
@@ -230,6 +231,13 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return scriptedFields;
 	}
 
+	/**
+	 * @since 6.0
+	 */
+	public boolean getCompactSearchHits() {
+		return compactSearchHits;
+	}
+
 	public SELF withPageable(Pageable pageable) {
 		this.pageable = pageable;
 		return self();
@@ -471,6 +479,17 @@ public abstract class BaseQueryBuilder<Q extends BaseQuery, SELF extends BaseQue
 		return self();
 	}
 
+	/**
+	 * @param compactSearchHits {@literal true} if the search hits should be returned as
+	 *          {@link org.springframework.data.elasticsearch.core.CompactSearchHits}, which stores the hits in parallel
+	 *          arrays instead of one {@link org.springframework.data.elasticsearch.core.SearchHit} object per hit.
+	 * @since 6.0
+	 */
+	public SELF withCompactSearchHits(boolean compactSearchHits) {
+		this.compactSearchHits = compactSearchHits;
+		return self();
+	}
+
 	public abstract Q build();
 
 	private SELF self() {
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.query;
+
+/**
+ * Defines how the {@link Criteria} of a {@link CriteriaQuery} are converted into Elasticsearch queries.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public enum CriteriaQueryMode {
+	/**
+	 * equality, contains, starts with and ends with criteria are converted into {@code query_string} queries,
+	 * independent of the mapping of the field. Criteria combined with {@literal and} are put into the {@code must}
+	 * clauses of the {@code bool} query, no criteria are moved into the filter context.
+	 */
+	DEFAULT,
+	/**
+	 * uses the mapped field type: criteria on {@code keyword}, {@code constant_keyword} and {@code wildcard} fields are
+	 * converted into {@code term}, {@code terms}, {@code prefix} and {@code wildcard} queries. Criteria that do not
+	 * contribute to the score, like these and range or exists criteria without a boost, are put into the filter context
+	 * of the {@code bool} query when the criteria are combined with {@literal and}. The resulting {@code bool} query is
+	 * flattened, {@code term} queries on the same field combined with {@literal or} are merged into a {@code terms}
+	 * query and duplicate clauses are removed; this does not change the matching documents, but their scores.
+	 */
+	TERM_LEVEL
+}
@@ -484,6 +484,22 @@ public interface Query {
 	 */
 	List<ScriptedField> getScriptedFields();
 
+	/**
+	 * @return {@literal true} if the {@link org.springframework.data.elasticsearch.core.SearchHits} returned for this
+	 *         query should be stored in the compact columnar form of
+	 *         {@link org.springframework.data.elasticsearch.core.CompactSearchHits}, defaults to {@literal false}. This
+	 *         is honoured by the {@code search}, {@code multiSearch} and {@code searchScrollStart} methods of the
+	 *         imperative template and by the {@code search} methods of the asynchronous template. It has no effect on
+	 *         {@code searchScrollContinue}, which has no query and returns the following pages in the normal form, on
+	 *         {@code searchForStream}, which returns single {@link org.springframework.data.elasticsearch.core.SearchHit}
+	 *         objects, and on the reactive operations, which emit single
+	 *         {@link org.springframework.data.elasticsearch.core.SearchHit} objects as well.
+	 * @since 6.0
+	 */
+	default boolean getCompactSearchHits() {
+		return false;
+	}
+
 	/**
 	 * @since 4.3
 	 */
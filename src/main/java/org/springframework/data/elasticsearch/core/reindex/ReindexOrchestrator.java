@@ -0,0 +1,481 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.reindex;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.cluster.TaskStatus;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.util.Assert;
+
+/**
+ * Reindexes the documents of an entity into a new index without downtime for the application. The index name of the
+ * entity must be an alias; the documents of the indices behind the alias are copied into a new index that is created
+ * with the current settings and mapping of the entity, and when the copy is complete, the alias is moved to the new
+ * index with one atomic alias update. Until then, the application continues to use the old indices.
+ * <p>
+ * The reindex runs as a task in the cluster with one slice per shard of the source indices and may be throttled with
+ * {@link Builder#withRequestsPerSecond(long)} so that it does not slow down the live traffic. Its progress is polled
+ * with the tasks API. When the task failed or the number of documents in the new index differs from the number in the
+ * old indices, the new index is deleted and the alias is left unchanged.
+ * <p>
+ * The reindex copies the documents as they are when it starts, a document that is written to the old indices later may
+ * be missing or outdated in the new index, and new documents make the count verification fail. Searches are served
+ * without interruption, but for writes there is a tradeoff:
+ * <ul>
+ * <li>by default, writes are not blocked; the application should pause writing during the reindex or replay the writes
+ * it made in that time after the alias was moved.</li>
+ * <li>with {@link Builder#withWriteBlock(boolean)}, writes to the old indices are blocked with the
+ * {@literal index.blocks.write} setting from the start of the reindex until the alias is moved or the reindex failed.
+ * No write is lost, but every write of the application fails for the duration of the reindex.</li>
+ * </ul>
+ * An {@literal index.blocks.write} setting that was already present on an old index is left as it was.
+ * <p>
+ * Use {@link ReindexOrchestrator#builder(ElasticsearchOperations)} to obtain a builder.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class ReindexOrchestrator {
+
+	private static final Log LOGGER = LogFactory.getLog(ReindexOrchestrator.class);
+
+	private final ElasticsearchOperations operations;
+	@Nullable private final Long requestsPerSecond;
+	private final Duration pollInterval;
+	@Nullable private final Duration timeout;
+	private final boolean verifyCount;
+	private final boolean deleteSourceIndices;
+	private final boolean writeBlock;
+	private final Consumer<TaskStatus> progressListener;
+
+	private ReindexOrchestrator(Builder builder) {
+		this.operations = builder.operations;
+		this.requestsPerSecond = builder.requestsPerSecond;
+		this.pollInterval = builder.pollInterval;
+		this.timeout = builder.timeout;
+		this.verifyCount = builder.verifyCount;
+		this.deleteSourceIndices = builder.deleteSourceIndices;
+		this.writeBlock = builder.writeBlock;
+		this.progressListener = builder.progressListener;
+	}
+
+	/**
+	 * @return a new {@link Builder} with the default values: no throttling, progress polled every 5 seconds without
+	 *         timeout, writes to the old indices not blocked, document counts verified and the old indices kept.
+	 */
+	public static Builder builder(ElasticsearchOperations operations) {
+		return new Builder(operations);
+	}
+
+	/**
+	 * Reindexes the documents of the entity into a new index named after the alias and the current time.
+	 *
+	 * @param entityClass the entity class, its index name must be an alias
+	 * @return the result of the reindex
+	 */
+	public Result reindex(Class<?> entityClass) {
+
+		Assert.notNull(entityClass, "entityClass must not be null");
+
+		String alias = operations.getIndexCoordinatesFor(entityClass).getIndexName();
+		return reindex(entityClass, alias + '-' + System.currentTimeMillis());
+	}
+
+	/**
+	 * Reindexes the documents of the entity into a new index.
+	 *
+	 * @param entityClass the entity class, its index name must be an alias
+	 * @param targetIndexName the name of the index to create, it must not exist
+	 * @return the result of the reindex
+	 */
+	public Result reindex(Class<?> entityClass, String targetIndexName) {
+
+		Assert.notNull(entityClass, "entityClass must not be null");
+		Assert.hasText(targetIndexName, "targetIndexName must not be empty");
+
+		String alias = operations.getIndexCoordinatesFor(entityClass).getIndexName();
+		Map<String, AliasData> sourceAliases = sourceAliases(alias);
+		List<String> sourceIndices = new ArrayList<>(sourceAliases.keySet());
+		IndexCoordinates targetIndex = IndexCoordinates.of(targetIndexName);
+		IndexOperations targetIndexOps = operations.indexOps(targetIndex);
+
+		Assert.isTrue(!sourceIndices.contains(targetIndexName), "targetIndexName must not be one of the source indices");
+
+		IndexOperations entityIndexOps = operations.indexOps(entityClass);
+		Settings settings = entityIndexOps.createSettings(entityClass);
+		Document mapping = entityIndexOps.createMapping(entityClass);
+		targetIndexOps.create(settings, mapping);
+
+		List<String> blockedIndices = writeBlock ? blockWrites(sourceIndices) : List.of();
+
+		TaskStatus taskStatus;
+		long targetCount;
+		try {
+			taskStatus = copyDocuments(alias, sourceIndices, targetIndex);
+			targetCount = verifyCount(alias, sourceIndices, targetIndex);
+			swapAlias(alias, sourceAliases, targetIndex);
+		} catch (RuntimeException e) {
+			try {
+				unblockWrites(blockedIndices);
+			} catch (RuntimeException blockException) {
+				e.addSuppressed(blockException);
+			}
+			throw e;
+		}
+
+		if (deleteSourceIndices) {
+			operations.indexOps(IndexCoordinates.of(sourceIndices.toArray(new String[0]))).delete();
+		} else {
+			unblockWrites(blockedIndices);
+		}
+
+		if (LOGGER.isInfoEnabled()) {
+			LOGGER.info(String.format("moved alias %s from %s to %s with %d documents", alias, sourceIndices,
+					targetIndexName, targetCount));
+		}
+
+		return new Result(alias, sourceIndices, targetIndexName, taskStatus, targetCount);
+	}
+
+	/**
+	 * runs the reindex task and waits for it; when it failed, the target index is deleted.
+	 */
+	private TaskStatus copyDocuments(String alias, List<String> sourceIndices, IndexCoordinates targetIndex) {
+
+		ReindexRequest.ReindexRequestBuilder reindexRequestBuilder = ReindexRequest
+				.builder(IndexCoordinates.of(alias), targetIndex) //
+				.withAutoSlices();
+
+		if (requestsPerSecond != null) {
+			reindexRequestBuilder.withRequestsPerSecond(requestsPerSecond);
+		}
+
+		String taskId = operations.submitReindex(reindexRequestBuilder.build());
+
+		if (LOGGER.isInfoEnabled()) {
+			LOGGER.info(String.format("reindexing %s into %s with task %s", sourceIndices, targetIndex.getIndexName(),
+					taskId));
+		}
+
+		TaskStatus taskStatus = awaitCompletion(taskId);
+
+		if (taskStatus.hasFailed()) {
+			operations.indexOps(targetIndex).delete();
+			throw new UncategorizedElasticsearchException(String.format("reindex task %s into %s failed: %s", taskId,
+					targetIndex.getIndexName(),
+					taskStatus.getError() != null ? taskStatus.getError() : taskStatus.getFailures()));
+		}
+
+		return taskStatus;
+	}
+
+	/**
+	 * @return the number of documents in the target index; when it differs from the number in the source indices, the
+	 *         target index is deleted.
+	 */
+	private long verifyCount(String alias, List<String> sourceIndices, IndexCoordinates targetIndex) {
+
+		IndexOperations targetIndexOps = operations.indexOps(targetIndex);
+		targetIndexOps.refresh();
+		long targetCount = operations.count(Query.findAll(), null, targetIndex);
+
+		if (verifyCount) {
+			operations.indexOps(IndexCoordinates.of(alias)).refresh();
+			long sourceCount = operations.count(Query.findAll(), null, IndexCoordinates.of(alias));
+
+			if (sourceCount != targetCount) {
+				targetIndexOps.delete();
+				throw new UncategorizedElasticsearchException(String.format(
+						"reindex into %s is incomplete, %d documents in %s, but %d in %s", targetIndex.getIndexName(),
+						targetCount, targetIndex.getIndexName(), sourceCount, sourceIndices));
+			}
+		}
+
+		return targetCount;
+	}
+
+	/**
+	 * blocks writes to those of the indices that are not blocked already.
+	 *
+	 * @return the indices that were blocked
+	 */
+	private List<String> blockWrites(List<String> indices) {
+
+		List<String> blockedIndices = indices.stream() //
+				.filter(index -> !isWriteBlocked(index)) //
+				.toList();
+		setWriteBlock(blockedIndices, true);
+		return blockedIndices;
+	}
+
+	private void unblockWrites(List<String> blockedIndices) {
+		setWriteBlock(blockedIndices, false);
+	}
+
+	private boolean isWriteBlocked(String index) {
+
+		Object writeBlock = operations.indexOps(IndexCoordinates.of(index)).getSettings().get("index.blocks.write");
+		return Boolean.parseBoolean(String.valueOf(writeBlock));
+	}
+
+	private void setWriteBlock(List<String> indices, boolean block) {
+
+		if (indices.isEmpty()) {
+			return;
+		}
+
+		Settings settings = new Settings();
+		settings.put("index", Map.of("blocks", Map.of("write", block)));
+		operations.indexOps(IndexCoordinates.of(indices.toArray(new String[0]))).putSettings(settings);
+	}
+
+	/**
+	 * @return the definition of the alias per index it points to
+	 */
+	private Map<String, AliasData> sourceAliases(String alias) {
+
+		IndexOperations aliasIndexOps = operations.indexOps(IndexCoordinates.of(alias));
+
+		if (!aliasIndexOps.exists()) {
+			throw new IllegalStateException(String.format("there is no alias %s to reindex", alias));
+		}
+
+		// this returns all aliases of the indices the name resolves to, whether it is an alias or an index
+		Map<String, Set<AliasData>> aliasesPerIndex = aliasIndexOps.getAliasesForIndex(alias);
+		Map<String, AliasData> sourceAliases = new LinkedHashMap<>();
+		aliasesPerIndex.forEach((index, aliases) -> aliases.stream() //
+				.filter(aliasData -> alias.equals(aliasData.getAlias())) //
+				.findFirst() //
+				.ifPresent(aliasData -> sourceAliases.put(index, aliasData)));
+
+		if (sourceAliases.isEmpty()) {
+			throw new IllegalStateException(
+					String.format("%s is an index and not an alias, the alias cannot be moved to a new index", alias));
+		}
+
+		return sourceAliases;
+	}
+
+	private TaskStatus awaitCompletion(String taskId) {
+
+		long deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : Long.MAX_VALUE;
+
+		while (true) {
+			TaskStatus taskStatus = operations.cluster().getTask(taskId);
+			progressListener.accept(taskStatus);
+
+			if (taskStatus.isCompleted()) {
+				return taskStatus;
+			}
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format("reindex task %s processed %d of %d documents", taskId,
+						taskStatus.getProcessed(), taskStatus.getTotal()));
+			}
+
+			if (System.nanoTime() - deadline > 0) {
+				// the task is still running and writing to the new index, so the index is not deleted
+				throw new UncategorizedElasticsearchException(
+						String.format("reindex task %s did not complete within %s", taskId, timeout));
+			}
+
+			try {
+				Thread.sleep(pollInterval.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new UncategorizedElasticsearchException("interrupted while waiting for reindex task " + taskId, e);
+			}
+		}
+	}
+
+	/**
+	 * moves the alias with its properties from the source indices to the target index in one request, so searches use
+	 * either the old or the new index. When the update fails, the target index is deleted.
+	 */
+	private void swapAlias(String alias, Map<String, AliasData> sourceAliases, IndexCoordinates targetIndex) {
+
+		AliasActions aliasActions = new AliasActions();
+		AliasData aliasData = sourceAliases.values().iterator().next();
+		AliasActionParameters.Builder addParameters = AliasActionParameters.builder() //
+				.withIndices(targetIndex.getIndexName()) //
+				.withAliases(alias);
+
+		if (aliasData.getFilterQuery() != null) {
+			addParameters.withFilterQuery(aliasData.getFilterQuery());
+		}
+
+		if (aliasData.getIndexRouting() != null) {
+			addParameters.withIndexRouting(aliasData.getIndexRouting());
+		}
+
+		if (aliasData.getSearchRouting() != null) {
+			addParameters.withSearchRouting(aliasData.getSearchRouting());
+		}
+
+		if (aliasData.isHidden() != null) {
+			addParameters.withIsHidden(aliasData.isHidden());
+		}
+
+		aliasActions.add(new AliasAction.Add(addParameters.build()));
+		aliasActions.add(new AliasAction.Remove(AliasActionParameters.builder() //
+				.withIndices(sourceAliases.keySet().toArray(new String[0])) //
+				.withAliases(alias) //
+				.build()));
+
+		try {
+			operations.indexOps(IndexCoordinates.of(alias)).alias(aliasActions);
+		} catch (RuntimeException e) {
+			try {
+				operations.indexOps(targetIndex).delete();
+			} catch (RuntimeException deleteException) {
+				e.addSuppressed(deleteException);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * The result of a reindex.
+	 *
+	 * @param alias the alias that was moved
+	 * @param sourceIndices the indices the alias pointed to before
+	 * @param targetIndex the index the alias points to now
+	 * @param taskStatus the final status of the reindex task
+	 * @param documentCount the number of documents in the target index
+	 */
+	public record Result(String alias, List<String> sourceIndices, String targetIndex, TaskStatus taskStatus,
+			long documentCount) {
+	}
+
+	/**
+	 * Builder for {@link ReindexOrchestrator}.
+	 */
+	public static final class Builder {
+
+		private final ElasticsearchOperations operations;
+		@Nullable private Long requestsPerSecond;
+		private Duration pollInterval = Duration.ofSeconds(5);
+		@Nullable private Duration timeout;
+		private boolean verifyCount = true;
+		private boolean deleteSourceIndices;
+		private boolean writeBlock;
+		private Consumer<TaskStatus> progressListener = taskStatus -> {};
+
+		private Builder(ElasticsearchOperations operations) {
+
+			Assert.notNull(operations, "operations must not be null");
+
+			this.operations = operations;
+		}
+
+		/**
+		 * @param requestsPerSecond the number of documents per second the reindex may write, must be greater than 0
+		 */
+		public Builder withRequestsPerSecond(long requestsPerSecond) {
+
+			Assert.isTrue(requestsPerSecond > 0, "requestsPerSecond must be greater than 0");
+
+			this.requestsPerSecond = requestsPerSecond;
+			return this;
+		}
+
+		/**
+		 * @param pollInterval the time between two requests for the progress of the reindex task
+		 */
+		public Builder withPollInterval(Duration pollInterval) {
+
+			Assert.notNull(pollInterval, "pollInterval must not be null");
+			Assert.isTrue(!pollInterval.isNegative(), "pollInterval must not be negative");
+
+			this.pollInterval = pollInterval;
+			return this;
+		}
+
+		/**
+		 * @param timeout the time to wait for the reindex task; when it is exceeded, the task keeps running, but the alias
+		 *          is not moved
+		 */
+		public Builder withTimeout(Duration timeout) {
+
+			Assert.notNull(timeout, "timeout must not be null");
+			Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * @param verifyCount whether the number of documents in the new index must be the same as in the old indices
+		 *          before the alias is moved
+		 */
+		public Builder withVerifyCount(boolean verifyCount) {
+			this.verifyCount = verifyCount;
+			return this;
+		}
+
+		/**
+		 * @param deleteSourceIndices whether the old indices are deleted after the alias was moved
+		 */
+		public Builder withDeleteSourceIndices(boolean deleteSourceIndices) {
+			this.deleteSourceIndices = deleteSourceIndices;
+			return this;
+		}
+
+		/**
+		 * @param writeBlock whether writes to the old indices are blocked from the start of the reindex until the alias
+		 *          is moved. No write is lost then, but writes of the application fail while the reindex is running.
+		 */
+		public Builder withWriteBlock(boolean writeBlock) {
+			this.writeBlock = writeBlock;
+			return this;
+		}
+
+		/**
+		 * @param progressListener called with the status of the reindex task every time it is polled
+		 */
+		public Builder withProgressListener(Consumer<TaskStatus> progressListener) {
+
+			Assert.notNull(progressListener, "progressListener must not be null");
+
+			this.progressListener = progressListener;
+			return this;
+		}
+
+		public ReindexOrchestrator build() {
+			return new ReindexOrchestrator(this);
+		}
+	}
+}
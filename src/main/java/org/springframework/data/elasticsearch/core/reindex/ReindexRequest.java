@@ -49,11 +49,12 @@ public class ReindexRequest {
 	@Nullable private final Long requestsPerSecond;
 	@Nullable private final Duration scroll;
 	@Nullable private final Long slices;
+	private final boolean autoSlices;
 
 	private ReindexRequest(Source source, Dest dest, @Nullable Long maxDocs, @Nullable Conflicts conflicts,
 			@Nullable Script script, @Nullable Duration timeout, @Nullable Boolean requireAlias, @Nullable Boolean refresh,
 			@Nullable String waitForActiveShards, @Nullable Long requestsPerSecond, @Nullable Duration scroll,
-			@Nullable Long slices) {
+			@Nullable Long slices, boolean autoSlices) {
 
 		Assert.notNull(source, "source must not be null");
 		Assert.notNull(dest, "dest must not be null");
@@ -70,6 +71,7 @@ public class ReindexRequest {
 		this.requestsPerSecond = requestsPerSecond;
 		this.scroll = scroll;
 		this.slices = slices;
+		this.autoSlices = autoSlices;
 	}
 
 	@Nullable
@@ -130,6 +132,14 @@ public class ReindexRequest {
 		return slices;
 	}
 
+	/**
+	 * @return {@literal true} if Elasticsearch should choose the number of slices
+	 * @since 6.0
+	 */
+	public boolean isAutoSlices() {
+		return autoSlices;
+	}
+
 	public static ReindexRequestBuilder builder(IndexCoordinates sourceIndex, IndexCoordinates destIndex) {
 		return new ReindexRequestBuilder(sourceIndex, destIndex);
 	}
@@ -282,6 +292,7 @@ public class ReindexRequest {
 		@Nullable private Long requestsPerSecond;
 		@Nullable private Duration scroll;
 		@Nullable private Long slices;
+		private boolean autoSlices;
 
 		public ReindexRequestBuilder(IndexCoordinates sourceIndex, IndexCoordinates destIndex) {
 
@@ -386,13 +397,25 @@ public class ReindexRequest {
 
 		public ReindexRequestBuilder withSlices(long slices) {
 			this.slices = slices;
+			this.autoSlices = false;
+			return this;
+		}
+
+		/**
+		 * lets Elasticsearch choose the number of slices, normally one slice per shard of the source index.
+		 *
+		 * @since 6.0
+		 */
+		public ReindexRequestBuilder withAutoSlices() {
+			this.slices = null;
+			this.autoSlices = true;
 			return this;
 		}
 		// endregion
 
 		public ReindexRequest build() {
 			return new ReindexRequest(source, dest, maxDocs, conflicts, script, timeout, requireAlias, refresh,
-					waitForActiveShards, requestsPerSecond, scroll, slices);
+					waitForActiveShards, requestsPerSecond, scroll, slices, autoSlices);
 		}
 	}
 }
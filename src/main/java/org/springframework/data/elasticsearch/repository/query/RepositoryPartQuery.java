@@ -15,12 +15,15 @@
  */
 package org.springframework.data.elasticsearch.repository.query;
 
+import java.util.Map;
+
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentProperty;
 import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.repository.query.parser.ElasticsearchQueryCreator;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 
 /**
@@ -39,6 +42,7 @@ public class RepositoryPartQuery extends AbstractElasticsearchRepositoryQuery {
 
 	private final PartTree tree;
 	private final MappingContext<?, ElasticsearchPersistentProperty> mappingContext;
+	private final Map<Part, String> fieldNames;
 
 	public RepositoryPartQuery(ElasticsearchQueryMethod method, ElasticsearchOperations elasticsearchOperations,
 			ValueExpressionDelegate valueExpressionDelegate) {
@@ -46,6 +50,7 @@ public class RepositoryPartQuery extends AbstractElasticsearchRepositoryQuery {
 				valueExpressionDelegate.createValueContextProvider(method.getParameters()));
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		this.mappingContext = elasticsearchConverter.getMappingContext();
+		this.fieldNames = ElasticsearchQueryCreator.resolveFieldNames(tree, mappingContext);
 	}
 
 	@Override
@@ -65,7 +70,7 @@ public class RepositoryPartQuery extends AbstractElasticsearchRepositoryQuery {
 
 	protected BaseQuery createQuery(ElasticsearchParametersParameterAccessor accessor) {
 
-		BaseQuery query = new ElasticsearchQueryCreator(tree, accessor, mappingContext).createQuery();
+		BaseQuery query = new ElasticsearchQueryCreator(tree, accessor, mappingContext, fieldNames).createQuery();
 
 		if (tree.getMaxResults() != null) {
 			query.setMaxResults(tree.getMaxResults());
@@ -16,7 +16,10 @@
 package org.springframework.data.elasticsearch.repository.query.parser;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -49,25 +52,61 @@ import org.springframework.data.repository.query.parser.PartTree;
 public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuery, CriteriaQuery> {
 
 	private final MappingContext<?, ElasticsearchPersistentProperty> context;
+	private final Map<Part, String> fieldNames;
 
 	public ElasticsearchQueryCreator(PartTree tree, ParameterAccessor parameters,
 			MappingContext<?, ElasticsearchPersistentProperty> context) {
+		this(tree, parameters, context, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a query creator that uses the field names that were resolved upfront with
+	 * {@link #resolveFieldNames(PartTree, MappingContext)} instead of walking the property paths on every invocation.
+	 *
+	 * @param tree the tree to create the query for, must be the one the field names were resolved from
+	 * @param parameters the parameters of the current invocation
+	 * @param context the mapping context, used for parts that have no precomputed field name
+	 * @param fieldNames the precomputed field names
+	 * @since 6.0
+	 */
+	public ElasticsearchQueryCreator(PartTree tree, ParameterAccessor parameters,
+			MappingContext<?, ElasticsearchPersistentProperty> context, Map<Part, String> fieldNames) {
 		super(tree, parameters);
 		this.context = context;
+		this.fieldNames = fieldNames;
 	}
 
 	public ElasticsearchQueryCreator(PartTree tree, MappingContext<?, ElasticsearchPersistentProperty> context) {
 		super(tree);
 		this.context = context;
+		this.fieldNames = Collections.emptyMap();
+	}
+
+	/**
+	 * Resolves the Elasticsearch field names for all the parts of the given tree. As the {@link PartTree} of a
+	 * repository method does not change, this can be done once when the repository query is created, only the parameter
+	 * values need to be filled in when the method is invoked.
+	 *
+	 * @param tree the tree to resolve the field names for
+	 * @param context the mapping context
+	 * @return map from the part to the field name in Elasticsearch, using identity comparison on the parts
+	 * @since 6.0
+	 */
+	public static Map<Part, String> resolveFieldNames(PartTree tree,
+			MappingContext<?, ElasticsearchPersistentProperty> context) {
+
+		Map<Part, String> fieldNames = new IdentityHashMap<>();
+
+		for (Part part : tree.getParts()) {
+			fieldNames.put(part, fieldName(context, part));
+		}
+
+		return Collections.unmodifiableMap(fieldNames);
 	}
 
 	@Override
 	protected CriteriaQuery create(Part part, Iterator<Object> iterator) {
-		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context.getPersistentPropertyPath(
-				part.getProperty());
-		return new CriteriaQuery(from(part,
-				new Criteria(path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE)),
-				iterator));
+		return new CriteriaQuery(from(part, new Criteria(getFieldName(part)), iterator));
 	}
 
 	@Override
@@ -75,11 +114,7 @@ public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuer
 		if (base == null) {
 			return create(part, iterator);
 		}
-		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context.getPersistentPropertyPath(
-				part.getProperty());
-		return base.addCriteria(from(part,
-				new Criteria(path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE)),
-				iterator));
+		return base.addCriteria(from(part, new Criteria(getFieldName(part)), iterator));
 	}
 
 	@Override
@@ -97,6 +132,19 @@ public class ElasticsearchQueryCreator extends AbstractQueryCreator<CriteriaQuer
 		return query.addSort(sort);
 	}
 
+	private String getFieldName(Part part) {
+
+		String fieldName = fieldNames.get(part);
+		return fieldName != null ? fieldName : fieldName(context, part);
+	}
+
+	private static String fieldName(MappingContext<?, ElasticsearchPersistentProperty> context, Part part) {
+
+		PersistentPropertyPath<ElasticsearchPersistentProperty> path = context.getPersistentPropertyPath(
+				part.getProperty());
+		return path.toDotPath(ElasticsearchPersistentProperty.QueryPropertyToFieldNameConverter.INSTANCE);
+	}
+
 	private Criteria from(Part part, Criteria criteria, Iterator<?> parameters) {
 
 		Part.Type type = part.getType();
@@ -16,17 +16,35 @@
 package org.springframework.data.elasticsearch.repository.support;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Spring {@link org.springframework.beans.factory.FactoryBean} implementation to ease container based configuration for
  * XML namespace and JavaConfig.
+ * <p>
+ * When the first repository for an {@link ElasticsearchOperations} is created, the indices of the entities of all
+ * repositories that are defined with the same operations in the bean factory are created and their mappings written
+ * at once by an {@link IndexBootstrap}, instead of one repository after the other.
  *
  * @author Rizwan Idrees
  * @author Mohsin Husen
@@ -36,7 +54,12 @@ import org.springframework.util.Assert;
 public class ElasticsearchRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
 		extends RepositoryFactoryBeanSupport<T, S, ID> {
 
+	private static final Log LOGGER = LogFactory.getLog(ElasticsearchRepositoryFactoryBean.class);
+	private static final String OPERATIONS_PROPERTY = "elasticsearchOperations";
+
 	@Nullable private ElasticsearchOperations operations;
+	@Nullable private BeanFactory beanFactory;
+	@Nullable private ClassLoader classLoader;
 
 	/**
 	 * Creates a new {@link ElasticsearchRepositoryFactoryBean} for the given repository interface.
@@ -64,12 +87,115 @@ public class ElasticsearchRepositoryFactoryBean<T extends Repository<S, ID>, S,
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
 	 */
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		super.setBeanFactory(beanFactory);
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		super.setBeanClassLoader(classLoader);
+		this.classLoader = classLoader;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
+
+		if (operations != null) {
+			prepareIndices(operations);
+		}
+
 		super.afterPropertiesSet();
 		Assert.notNull(operations, "ElasticsearchOperations must be configured!");
 	}
 
+	/**
+	 * bootstraps the indices of all repositories using the same operations when the first of them is created.
+	 */
+	private void prepareIndices(ElasticsearchOperations operations) {
+
+		if ("true".equals(System.getenv("SPRING_DATA_ELASTICSEARCH_SKIP_REPOSITORY_INIT"))
+				|| !(beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory)) {
+			return;
+		}
+
+		synchronized (IndexBootstrap.class) {
+
+			if (IndexBootstrap.isPrepared(operations)) {
+				return;
+			}
+
+			new IndexBootstrap(operations).prepare(repositoryEntityClasses(listableBeanFactory, operations));
+		}
+	}
+
+	/**
+	 * @return the entity classes of the repositories defined in the bean factory that use the given operations. A
+	 *         repository whose definition cannot be evaluated is left out and initializes its index itself.
+	 */
+	private List<Class<?>> repositoryEntityClasses(ConfigurableListableBeanFactory beanFactory,
+			ElasticsearchOperations operations) {
+
+		List<Class<?>> entityClasses = new ArrayList<>();
+
+		for (String beanName : beanFactory.getBeanNamesForType(ElasticsearchRepositoryFactoryBean.class, true, false)) {
+			try {
+				BeanDefinition definition = beanFactory
+						.getMergedBeanDefinition(BeanFactoryUtils.transformedBeanName(beanName));
+				Class<?> repositoryInterface = repositoryInterface(definition);
+
+				if (repositoryInterface != null && usesOperations(beanFactory, definition, operations)) {
+					entityClasses.add(AbstractRepositoryMetadata.getMetadata(repositoryInterface).getDomainType());
+				}
+			} catch (Exception e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug(String.format("could not determine the entity of repository %s: %s", beanName,
+							e.getMessage()));
+				}
+			}
+		}
+
+		return entityClasses;
+	}
+
+	@Nullable
+	private Class<?> repositoryInterface(BeanDefinition definition) throws ClassNotFoundException {
+
+		ConstructorArgumentValues.ValueHolder argument = definition.getConstructorArgumentValues()
+				.getIndexedArgumentValue(0, null);
+		Object value = argument != null ? argument.getValue() : null;
+
+		if (value instanceof Class<?> repositoryInterface) {
+			return repositoryInterface;
+		}
+
+		return value instanceof String className ? ClassUtils.forName(className, classLoader) : null;
+	}
+
+	private static boolean usesOperations(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition,
+			ElasticsearchOperations operations) {
+
+		PropertyValue propertyValue = definition.getPropertyValues().getPropertyValue(OPERATIONS_PROPERTY);
+
+		if (propertyValue == null || !(propertyValue.getValue() instanceof RuntimeBeanReference reference)) {
+			return false;
+		}
+
+		// the reference may be an alias, only singletons that already exist are compared as the operations of this
+		// repository must exist
+		List<String> names = new ArrayList<>(List.of(beanFactory.getAliases(reference.getBeanName())));
+		names.add(reference.getBeanName());
+
+		for (String name : names) {
+			if (beanFactory.containsSingleton(name)) {
+				return beanFactory.getSingleton(name) == operations;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexInformation;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.util.Assert;
+
+/**
+ * Creates the indices and writes the mappings of repository entities like the repositories do on startup, but for
+ * many entity classes at once:
+ * <ul>
+ * <li>the existence of all indices is checked with one request; only when some of them are missing, they are checked
+ * one by one to find out which ones,</li>
+ * <li>the mappings of the existing indices that may need an update are read with one request,</li>
+ * <li>the missing indices are created and the mappings written in parallel,</li>
+ * <li>the mapping of an entity class is built only once,</li>
+ * <li>a mapping is not written when the existing mapping of the index already contains it.</li>
+ * </ul>
+ * An index is created when the entity has {@link org.springframework.data.elasticsearch.annotations.Document#createIndex()
+ * createIndex} set and the index does not exist; otherwise the mapping is written when the entity has
+ * {@link org.springframework.data.elasticsearch.annotations.Document#alwaysWriteMapping() alwaysWriteMapping} set.
+ * <p>
+ * {@link ElasticsearchRepositoryFactoryBean} uses this class to bootstrap the entities of all repositories that use the
+ * same {@link ElasticsearchOperations} when the first of them is created. The repositories of these entities then skip
+ * their own initialization.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public class IndexBootstrap {
+
+	private static final Log LOGGER = LogFactory.getLog(IndexBootstrap.class);
+	private static final int DEFAULT_PARALLELISM = 8;
+
+	/**
+	 * the entity classes that were bootstrapped in a batch, and whose repository has not been created yet, per
+	 * operations. Only the first repository of an entity class skips its initialization, so a repository that is created
+	 * later, maybe after the index was deleted, creates the index again.
+	 */
+	private static final Map<ElasticsearchOperations, Set<Class<?>>> PREPARED = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private final ElasticsearchOperations operations;
+	private final int parallelism;
+	private final Map<Class<?>, Document> mappings = new ConcurrentHashMap<>();
+
+	public IndexBootstrap(ElasticsearchOperations operations) {
+		this(operations, DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * @param operations the operations to use
+	 * @param parallelism the maximum number of indices that are created or updated at the same time
+	 */
+	public IndexBootstrap(ElasticsearchOperations operations, int parallelism) {
+
+		Assert.notNull(operations, "operations must not be null");
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+
+		this.operations = operations;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Creates the missing indices and writes the mappings of the given entity classes.
+	 *
+	 * @param entityClasses the entity classes, must not be {@literal null}
+	 */
+	public void bootstrap(Collection<? extends Class<?>> entityClasses) {
+
+		Assert.notNull(entityClasses, "entityClasses must not be null");
+
+		Map<String, List<Target>> targetsByIndex = new LinkedHashMap<>();
+		for (Class<?> entityClass : new LinkedHashSet<>(entityClasses)) {
+
+			ElasticsearchPersistentEntity<?> entity = operations.getElasticsearchConverter().getMappingContext()
+					.getRequiredPersistentEntity(entityClass);
+
+			if (entity.isCreateIndexAndMapping() || entity.isAlwaysWriteMapping()) {
+				targetsByIndex.computeIfAbsent(entity.getIndexCoordinates().getIndexName(), name -> new ArrayList<>())
+						.add(new Target(entityClass, entity.isCreateIndexAndMapping(), entity.isAlwaysWriteMapping()));
+			}
+		}
+
+		if (targetsByIndex.isEmpty()) {
+			return;
+		}
+
+		Set<String> existingIndices = existingIndices(targetsByIndex.keySet());
+		Map<String, List<Document>> existingMappings = existingMappings(targetsByIndex.entrySet().stream() //
+				.filter(entry -> existingIndices.contains(entry.getKey())) //
+				.filter(entry -> entry.getValue().stream().anyMatch(Target::alwaysWriteMapping)) //
+				.map(Map.Entry::getKey) //
+				.toList());
+
+		inParallel(targetsByIndex.entrySet(), entry -> bootstrapIndex(entry.getValue(),
+				existingIndices.contains(entry.getKey()), existingMappings.get(entry.getKey())));
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("bootstrapped %d indices, %d of them existed", targetsByIndex.size(),
+					existingIndices.size()));
+		}
+	}
+
+	/**
+	 * Bootstraps the given entity classes and marks them as prepared for the repositories that are created afterwards.
+	 */
+	void prepare(Collection<? extends Class<?>> entityClasses) {
+
+		bootstrap(entityClasses);
+		PREPARED.computeIfAbsent(operations, key -> ConcurrentHashMap.newKeySet()).addAll(entityClasses);
+	}
+
+	/**
+	 * @return {@literal true} if the entity class was bootstrapped by {@link #prepare(Collection)} with the given
+	 *         operations and no repository has claimed it since
+	 */
+	static boolean claimPrepared(ElasticsearchOperations operations, Class<?> entityClass) {
+
+		Set<Class<?>> prepared = PREPARED.get(operations);
+		return prepared != null && prepared.remove(entityClass);
+	}
+
+	/**
+	 * @return {@literal true} if {@link #prepare(Collection)} was called with the given operations
+	 */
+	static boolean isPrepared(ElasticsearchOperations operations) {
+		return PREPARED.containsKey(operations);
+	}
+
+	private void bootstrapIndex(List<Target> targets, boolean indexExists,
+			@Nullable List<Document> existingMappings) {
+
+		// entities sharing an index are processed in order like their repositories would do it
+		for (Target target : targets) {
+
+			IndexOperations indexOperations = operations.indexOps(target.entityClass());
+
+			if (target.createIndex() && !indexExists) {
+				indexOperations.create(indexOperations.createSettings(), mapping(target.entityClass(), indexOperations));
+				indexExists = true;
+				existingMappings = null;
+			} else if (target.alwaysWriteMapping()) {
+
+				Document mapping = mapping(target.entityClass(), indexOperations);
+
+				if (existingMappings != null && !existingMappings.isEmpty()
+						&& existingMappings.stream().allMatch(existing -> containsMapping(existing, mapping))) {
+
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug(String.format("mapping of %s is up to date", target.entityClass().getName()));
+					}
+				} else {
+					indexOperations.putMapping(mapping);
+				}
+			}
+		}
+	}
+
+	private Document mapping(Class<?> entityClass, IndexOperations indexOperations) {
+		return mappings.computeIfAbsent(entityClass, key -> indexOperations.createMapping());
+	}
+
+	/**
+	 * checks all indices with one request, the indices are checked one by one only if at least one does not exist.
+	 */
+	private Set<String> existingIndices(Set<String> indexNames) {
+
+		if (indexNames.size() > 1 && operations.indexOps(IndexCoordinates.of(indexNames.toArray(new String[0]))).exists()) {
+			return indexNames;
+		}
+
+		Set<String> existingIndices = ConcurrentHashMap.newKeySet();
+		inParallel(indexNames, indexName -> {
+			if (operations.indexOps(IndexCoordinates.of(indexName)).exists()) {
+				existingIndices.add(indexName);
+			}
+		});
+		return existingIndices;
+	}
+
+	/**
+	 * reads the mappings of the given indices with one request. As an index name may be an alias, the result maps it to
+	 * the mappings of all indices it refers to. When the mappings cannot be read, they are written without comparison.
+	 */
+	private Map<String, List<Document>> existingMappings(List<String> indexNames) {
+
+		if (indexNames.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<IndexInformation> indexInformations;
+		try {
+			IndexCoordinates index = IndexCoordinates.of(indexNames.toArray(new String[0]));
+			indexInformations = operations.indexOps(index).getInformation(index);
+		} catch (RuntimeException e) {
+			LOGGER.warn(String.format("could not read the mappings of %s: %s", indexNames, e.getMessage()));
+			return Collections.emptyMap();
+		}
+
+		Map<String, List<Document>> existingMappings = new HashMap<>();
+		for (IndexInformation indexInformation : indexInformations) {
+
+			Set<String> names = new HashSet<>();
+			names.add(indexInformation.getName());
+			indexInformation.getAliases().stream().map(AliasData::getAlias).forEach(names::add);
+
+			for (String name : names) {
+				existingMappings.computeIfAbsent(name, key -> new ArrayList<>()).add(indexInformation.getMapping());
+			}
+		}
+		return existingMappings;
+	}
+
+	/**
+	 * Checks if the existing mapping contains everything of the expected one. Values are compared by their string
+	 * representation, as Elasticsearch may return another type than the one that was sent. Elasticsearch does not
+	 * return the type of object properties, so a missing type {@literal object} is accepted.
+	 */
+	static boolean containsMapping(Map<?, ?> existing, Map<?, ?> expected) {
+
+		for (Map.Entry<?, ?> entry : expected.entrySet()) {
+
+			Object existingValue = existing.get(entry.getKey());
+			Object expectedValue = entry.getValue();
+
+			if (expectedValue instanceof Map<?, ?> expectedMap) {
+				if (!(existingValue instanceof Map<?, ?> existingMap) || !containsMapping(existingMap, expectedMap)) {
+					return false;
+				}
+			} else if (existingValue == null) {
+				if (!("type".equals(entry.getKey()) && "object".equals(expectedValue) && existing.containsKey("properties"))) {
+					return false;
+				}
+			} else if (!String.valueOf(existingValue).equals(String.valueOf(expectedValue))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * runs the action for all items on a temporary pool of at most {@link #parallelism} threads and waits until all are
+	 * done. When one action fails, the actions that did not start yet are cancelled and the exception is rethrown.
+	 */
+	private <T> void inParallel(Collection<T> items, Consumer<T> action) {
+
+		if (items.size() <= 1 || parallelism == 1) {
+			items.forEach(action);
+			return;
+		}
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, items.size()), runnable -> {
+			Thread thread = new Thread(runnable, "spring-data-elasticsearch-index-bootstrap-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			List<CompletableFuture<Void>> futures = items.stream() //
+					.map(item -> CompletableFuture.runAsync(() -> action.accept(item), executor)) //
+					.toList();
+			try {
+				futures.forEach(CompletableFuture::join);
+			} catch (CompletionException e) {
+				futures.forEach(future -> future.cancel(false));
+				Throwable cause = e.getCause() != null ? e.getCause() : e;
+
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+
+				if (cause instanceof Error error) {
+					throw error;
+				}
+
+				throw e;
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private record Target(Class<?> entityClass, boolean createIndex, boolean alwaysWriteMapping) {
+	}
+}
@@ -18,13 +18,15 @@ package org.springframework.data.elasticsearch.repository.support;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.elasticsearch.repository.query.ElasticsearchParametersParameterAccessor;
 import org.springframework.data.elasticsearch.repository.support.spel.QueryStringSpELEvaluator;
+import org.springframework.data.elasticsearch.repository.support.value.ElasticsearchQueryValueConversionService;
 import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.util.Assert;
 
 /**
- * To process query strings with placeholder replacement and SpEL evaluation by {@link QueryStringPlaceholderReplacer}
- * and {@link QueryStringSpELEvaluator}.
+ * To process query strings with placeholder replacement and SpEL evaluation. The query string is compiled once into a
+ * {@link QueryStringTemplate}; query strings that cannot be compiled are processed by
+ * {@link QueryStringPlaceholderReplacer} and {@link QueryStringSpELEvaluator}.
  *
  * @since 5.3
  * @author Haibo Liu
@@ -57,6 +59,18 @@ public class QueryStringProcessor {
 	 * @return processed string
 	 */
 	public String createQuery(ElasticsearchParametersParameterAccessor parameterAccessor) {
+
+		QueryStringTemplate template = QueryStringTemplate.of(query);
+
+		if (template != null) {
+			QueryStringSpELEvaluator evaluator = template.hasExpressions()
+					? new QueryStringSpELEvaluator(query, parameterAccessor, queryMethod, evaluationContextProvider,
+							conversionService)
+					: null;
+			return template.bind(parameterAccessor, ElasticsearchQueryValueConversionService.getInstance(conversionService),
+					evaluator);
+		}
+
 		String queryString = new QueryStringPlaceholderReplacer(conversionService)
 				.replacePlaceholders(query, parameterAccessor);
 
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.elasticsearch.core.convert.ConversionException;
+import org.springframework.data.elasticsearch.repository.support.spel.QueryStringSpELEvaluator;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * A query string that is split once into literal segments, parameter placeholders like {@code ?0} and SpEL
+ * expressions. Binding the values of an invocation then is a single pass over these segments, the query string
+ * itself is not scanned or parsed again.
+ * <p>
+ * The position of each placeholder is recorded when the template is compiled. String values for placeholders that are
+ * located within a quoted string of the query are escaped so that they always stay within that string; placeholders
+ * outside of quoted strings are replaced with the converted value as it is.
+ *
+ * @author agent
+ * @since 6.0
+ */
+final class QueryStringTemplate {
+
+	private static final Pattern PARAMETER_PLACEHOLDER = Pattern.compile("\\?(\\d+)");
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	private static final Map<String, QueryStringTemplate> TEMPLATES = new ConcurrentHashMap<>();
+	private static final QueryStringTemplate UNSUPPORTED = new QueryStringTemplate("", List.of());
+
+	private final String source;
+	private final List<Segment> segments;
+	private final boolean hasPlaceholders;
+	private final boolean hasExpressions;
+
+	private QueryStringTemplate(String source, List<Segment> segments) {
+		this.source = source;
+		this.segments = segments;
+		this.hasPlaceholders = segments.stream().anyMatch(segment -> segment instanceof Placeholder);
+		this.hasExpressions = segments.stream().anyMatch(segment -> segment instanceof SpelSegment);
+	}
+
+	/**
+	 * Returns the template for a query string that may contain placeholders and SpEL expressions. Templates are cached,
+	 * as the query strings come from annotations on repository methods.
+	 *
+	 * @param query the query string
+	 * @return the template or {@literal null} if the query string cannot be processed by a template, for example when a
+	 *         placeholder is used inside of a SpEL expression. Then the query must be processed with
+	 *         {@link QueryStringPlaceholderReplacer} and {@link QueryStringSpELEvaluator}.
+	 */
+	@Nullable
+	static QueryStringTemplate of(String query) {
+		QueryStringTemplate template = TEMPLATES.computeIfAbsent(query, QueryStringTemplate::compile);
+		return template != UNSUPPORTED ? template : null;
+	}
+
+	/**
+	 * Returns a template for a query string that only contains parameter placeholders. This is not cached.
+	 *
+	 * @param query the query string
+	 * @return the template
+	 */
+	static QueryStringTemplate ofPlaceholders(String query) {
+
+		Compiler compiler = new Compiler();
+		compiler.addLiteralAndPlaceholders(query);
+		return new QueryStringTemplate(query, compiler.segments);
+	}
+
+	private static QueryStringTemplate compile(String query) {
+
+		if (!query.contains("#{")) {
+			return ofPlaceholders(query);
+		}
+
+		Expression expression;
+		try {
+			expression = PARSER.parseExpression(query, ParserContext.TEMPLATE_EXPRESSION);
+		} catch (ParseException e) {
+			// the query might only become a valid expression after the placeholders have been replaced
+			return UNSUPPORTED;
+		}
+
+		Expression[] expressions = expression instanceof CompositeStringExpression composite
+				? composite.getExpressions()
+				: new Expression[] { expression };
+
+		boolean queryHasPlaceholders = PARAMETER_PLACEHOLDER.matcher(query).find();
+		Compiler compiler = new Compiler();
+
+		for (Expression part : expressions) {
+			if (part instanceof LiteralExpression literal) {
+				compiler.addLiteralAndPlaceholders(literal.getExpressionString());
+			} else if (part instanceof SpelExpression spelExpression) {
+				String expressionString = spelExpression.getExpressionString();
+
+				// placeholders are replaced before the expressions are parsed and backslashes in the expression are escaped
+				// then, these cases cannot be bound from a precompiled template
+				if (PARAMETER_PLACEHOLDER.matcher(expressionString).find()
+						|| (queryHasPlaceholders && expressionString.indexOf('\\') >= 0)) {
+					return UNSUPPORTED;
+				}
+				compiler.segments.add(new SpelSegment(spelExpression));
+			} else {
+				return UNSUPPORTED;
+			}
+		}
+
+		return new QueryStringTemplate(query, compiler.segments);
+	}
+
+	/**
+	 * @return {@literal true} if the template contains SpEL expressions.
+	 */
+	boolean hasExpressions() {
+		return hasExpressions;
+	}
+
+	/**
+	 * Binds the parameter values and the results of the SpEL expressions into the template.
+	 *
+	 * @param accessor the parameters of the invocation
+	 * @param conversionService the conversion service used to convert the parameter values to strings
+	 * @param evaluator evaluator for the SpEL expressions, may be {@literal null} if the template has no expressions
+	 * @return the query string
+	 */
+	String bind(ParameterAccessor accessor, ConversionService conversionService,
+			@Nullable QueryStringSpELEvaluator evaluator) {
+
+		QueryStringBuilder builder = new QueryStringBuilder(source.length() + 16, hasPlaceholders);
+
+		for (Segment segment : segments) {
+
+			if (segment instanceof Literal literal) {
+				builder.append(literal.text());
+			} else if (segment instanceof Placeholder placeholder) {
+				Object parameter = accessor.getBindableValue(placeholder.index());
+
+				if (placeholder.context() != Context.VALUE && !(parameter instanceof Collection<?>)) {
+					// the value is bound into a string literal, so it must not be able to end this literal
+					String value = parameter instanceof String string ? string
+							: convert(parameter, placeholder.index(), conversionService);
+					builder.appendRaw(escapeStringValue(value, placeholder.context()));
+				} else {
+					builder.append(convert(parameter, placeholder.index(), conversionService));
+				}
+			} else if (segment instanceof SpelSegment spelSegment) {
+
+				if (evaluator == null) {
+					throw new IllegalArgumentException("evaluator must not be null for a query with SpEL expressions");
+				}
+				builder.appendRaw(evaluator.evaluate(spelSegment.expression()));
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private String convert(@Nullable Object parameter, int index, ConversionService conversionService) {
+
+		String value = conversionService.convert(parameter, String.class);
+
+		if (value == null) {
+			throw new ConversionException(String.format(
+					"Parameter value can't be null for placeholder at index '%s' in query '%s' when querying elasticsearch",
+					index, source));
+		}
+		return value;
+	}
+
+	/**
+	 * Escapes a value that is bound into a string literal of the query: double quotes, single quotes when the literal is
+	 * single-quoted, backslashes and control characters.
+	 */
+	private static String escapeStringValue(String value, Context context) {
+
+		@Nullable StringBuilder sb = null;
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			@Nullable String replacement = null;
+
+			if (c == '"' || c == '\\' || (c == '\'' && context == Context.SINGLE_QUOTED)) {
+				replacement = "\\" + c;
+			} else if (c < 0x20) {
+				replacement = switch (c) {
+					case '\n' -> "\\n";
+					case '\r' -> "\\r";
+					case '\t' -> "\\t";
+					case '\b' -> "\\b";
+					case '\f' -> "\\f";
+					default -> String.format("\\u%04x", (int) c);
+				};
+			}
+
+			if (replacement != null) {
+				if (sb == null) {
+					sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+				}
+				sb.append(replacement);
+			} else if (sb != null) {
+				sb.append(c);
+			}
+		}
+
+		return sb != null ? sb.toString() : value;
+	}
+
+	/**
+	 * Splits literal text into {@link Literal} and {@link Placeholder} segments. Keeps track whether the current
+	 * position is inside a quoted string, this state is kept across the literal parts between SpEL expressions.
+	 */
+	private static final class Compiler {
+
+		private final List<Segment> segments = new ArrayList<>();
+		private Context context = Context.VALUE;
+		private boolean escaped = false;
+
+		void addLiteralAndPlaceholders(String text) {
+
+			Matcher matcher = PARAMETER_PLACEHOLDER.matcher(text);
+			int start = 0;
+
+			while (matcher.find()) {
+				if (matcher.start() > start) {
+					addLiteral(text.substring(start, matcher.start()));
+				}
+				segments.add(new Placeholder(Integer.parseInt(matcher.group(1)), context));
+				start = matcher.end();
+			}
+
+			if (start < text.length()) {
+				addLiteral(text.substring(start));
+			}
+		}
+
+		private void addLiteral(String literal) {
+
+			for (int i = 0; i < literal.length(); i++) {
+				char c = literal.charAt(i);
+
+				if (escaped) {
+					escaped = false;
+				} else if (context == Context.VALUE) {
+					if (c == '"') {
+						context = Context.DOUBLE_QUOTED;
+					} else if (c == '\'') {
+						context = Context.SINGLE_QUOTED;
+					}
+				} else if (c == '\\') {
+					escaped = true;
+				} else if ((c == '"' && context == Context.DOUBLE_QUOTED)
+						|| (c == '\'' && context == Context.SINGLE_QUOTED)) {
+					context = Context.VALUE;
+				}
+			}
+
+			segments.add(new Literal(literal));
+		}
+	}
+
+	/**
+	 * Where a placeholder is located in the query.
+	 */
+	private enum Context {
+		/**
+		 * not within a quoted string, the value is inserted as it is and may be any JSON fragment.
+		 */
+		VALUE,
+		/**
+		 * within a string quoted with double quotes.
+		 */
+		DOUBLE_QUOTED,
+		/**
+		 * within a string quoted with single quotes.
+		 */
+		SINGLE_QUOTED
+	}
+
+	private sealed interface Segment permits Literal, Placeholder, SpelSegment {}
+
+	private record Literal(String text) implements Segment {}
+
+	private record Placeholder(int index, Context context) implements Segment {}
+
+	private record SpelSegment(SpelExpression expression) implements Segment {}
+
+	/**
+	 * Builds the query string. When the query contains placeholders, backslashes that are not escapes for quotes are
+	 * doubled so that they are sent as double-backslashes to Elasticsearch. A backslash at the end of a segment is held
+	 * back until the next character is known.
+	 */
+	private static final class QueryStringBuilder {
+
+		private final StringBuilder sb;
+		private final boolean escapeBackslashes;
+		private boolean pendingBackslash = false;
+
+		QueryStringBuilder(int capacity, boolean escapeBackslashes) {
+			this.sb = new StringBuilder(capacity);
+			this.escapeBackslashes = escapeBackslashes;
+		}
+
+		void append(String text) {
+
+			if (!escapeBackslashes) {
+				sb.append(text);
+				return;
+			}
+
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+
+				if (pendingBackslash) {
+					pendingBackslash = false;
+					sb.append(c == '"' || c == '\'' ? "\\" : "\\\\").append(c);
+				} else if (c == '\\') {
+					pendingBackslash = true;
+				} else {
+					sb.append(c);
+				}
+			}
+		}
+
+		/**
+		 * appends text that must not be escaped, like the result of a SpEL expression or an already escaped value.
+		 */
+		void appendRaw(String text) {
+
+			if (pendingBackslash) {
+				// the backslash was followed by the start of the expression or placeholder
+				pendingBackslash = false;
+				sb.append("\\\\");
+			}
+			sb.append(text);
+		}
+
+		@Override
+		public String toString() {
+
+			if (pendingBackslash) {
+				pendingBackslash = false;
+				sb.append('\\');
+			}
+			return sb.toString();
+		}
+	}
+}
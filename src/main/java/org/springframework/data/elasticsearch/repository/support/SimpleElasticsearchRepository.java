@@ -36,7 +36,6 @@ import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchPage;
-import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.BaseQuery;
 import org.springframework.data.elasticsearch.core.query.DeleteQuery;
@@ -88,25 +87,18 @@ public class SimpleElasticsearchRepository<T, ID> implements ElasticsearchReposi
 		}
 	}
 
+	/**
+	 * Creates the index with the mapping if it does not exist, or writes the mapping if it is not contained in the
+	 * existing one, depending on the settings of the entity. Does nothing if the
+	 * {@link ElasticsearchRepositoryFactoryBean} already did this for all repositories when it created the first one.
+	 */
 	public void createIndexAndMappingIfNeeded() {
 
-		if (shouldCreateIndexAndMapping() && !indexOperations.exists()) {
-			indexOperations.createWithMapping();
-		} else if (shouldAlwaysWriteMapping()) {
-			indexOperations.putMapping();
+		if (IndexBootstrap.claimPrepared(operations, entityClass)) {
+			return;
 		}
-	}
-
-	private boolean shouldCreateIndexAndMapping() {
-
-		final ElasticsearchPersistentEntity<?> entity = operations.getElasticsearchConverter().getMappingContext()
-				.getRequiredPersistentEntity(entityClass);
-		return entity.isCreateIndexAndMapping();
-	}
 
-	private boolean shouldAlwaysWriteMapping() {
-		return operations.getElasticsearchConverter().getMappingContext()
-				.getRequiredPersistentEntity(entityClass).isAlwaysWriteMapping();
+		new IndexBootstrap(operations).bootstrap(List.of(entityClass));
 	}
 
 	@Override
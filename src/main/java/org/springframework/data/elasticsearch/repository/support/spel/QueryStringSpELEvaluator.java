@@ -55,6 +55,7 @@ public class QueryStringSpELEvaluator {
 	private final QueryMethod queryMethod;
 	private final ValueEvaluationContextProvider evaluationContextProvider;
 	private final TypeConverter elasticsearchSpELTypeConverter;
+	@Nullable private EvaluationContext evaluationContext;
 
 	public QueryStringSpELEvaluator(String queryString, ElasticsearchParametersParameterAccessor parameterAccessor,
 			QueryMethod queryMethod, ValueEvaluationContextProvider evaluationContextProvider,
@@ -83,14 +84,7 @@ public class QueryStringSpELEvaluator {
 		Expression expr = getQueryExpression(queryString);
 
 		if (expr != null) {
-			EvaluationContext context = evaluationContextProvider.getEvaluationContext(parameterAccessor.getValues())
-					.getRequiredEvaluationContext();
-
-			if (context instanceof StandardEvaluationContext standardEvaluationContext) {
-				standardEvaluationContext.setTypeConverter(elasticsearchSpELTypeConverter);
-			}
-
-			String parsed = parseExpressions(expr, context);
+			String parsed = parseExpressions(expr, getEvaluationContext());
 			Assert.notNull(parsed, "Query parsed by SpEL should not be null");
 			return parsed;
 		}
@@ -112,14 +106,7 @@ public class QueryStringSpELEvaluator {
 			parsed.append(literalExpression.getExpressionString());
 		} else if (rootExpr instanceof SpelExpression spelExpression) {
 			// evaluate the value
-			String value = spelExpression.getValue(context, String.class);
-
-			if (value == null) {
-				throw new ConversionException(String.format(
-						"Parameter value can't be null for SpEL expression '%s' in method '%s' when querying elasticsearch",
-						spelExpression.getExpressionString(), queryMethod.getName()));
-			}
-			parsed.append(value);
+			parsed.append(evaluate(spelExpression, context));
 		} else if (rootExpr instanceof CompositeStringExpression compositeStringExpression) {
 			// parse one by one for composite expression
 			Expression[] expressions = compositeStringExpression.getExpressions();
@@ -134,6 +121,44 @@ public class QueryStringSpELEvaluator {
 		return parsed.toString();
 	}
 
+	/**
+	 * Evaluate a single SpEL expression that was already parsed from the query string, the evaluation context is created
+	 * on first use and reused for the further expressions evaluated by this instance.
+	 *
+	 * @param expression the expression to evaluate
+	 * @return the value of the expression
+	 * @since 6.0
+	 */
+	public String evaluate(SpelExpression expression) {
+		return evaluate(expression, getEvaluationContext());
+	}
+
+	private String evaluate(SpelExpression spelExpression, EvaluationContext context) {
+
+		String value = spelExpression.getValue(context, String.class);
+
+		if (value == null) {
+			throw new ConversionException(String.format(
+					"Parameter value can't be null for SpEL expression '%s' in method '%s' when querying elasticsearch",
+					spelExpression.getExpressionString(), queryMethod.getName()));
+		}
+		return value;
+	}
+
+	private EvaluationContext getEvaluationContext() {
+
+		if (evaluationContext == null) {
+			EvaluationContext context = evaluationContextProvider.getEvaluationContext(parameterAccessor.getValues())
+					.getRequiredEvaluationContext();
+
+			if (context instanceof StandardEvaluationContext standardEvaluationContext) {
+				standardEvaluationContext.setTypeConverter(elasticsearchSpELTypeConverter);
+			}
+			evaluationContext = context;
+		}
+		return evaluationContext;
+	}
+
 	@Nullable
 	private Expression getQueryExpression(String queryString) {
 		return QUERY_EXPRESSIONS.computeIfAbsent(queryString, f -> {
@@ -34,14 +34,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class DefaultStringObjectMap<T extends StringObjectMap<T>> implements StringObjectMap<T> {
 
 	static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-	private final LinkedHashMap<String, Object> delegate;
+	private final Map<String, Object> delegate;
 
 	public DefaultStringObjectMap() {
 		this(new LinkedHashMap<>());
 	}
 
+	/**
+	 * creates a map with the entries of the given map. A {@link SharedKeyMap} is used as it is and not copied.
+	 *
+	 * @param map the entries
+	 */
+	@SuppressWarnings("unchecked")
 	public DefaultStringObjectMap(Map<String, ?> map) {
-		this.delegate = new LinkedHashMap<>(map);
+		this.delegate = map instanceof SharedKeyMap ? (Map<String, Object>) map : new LinkedHashMap<>(map);
 	}
 
 	@Override
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Canonicalizes the field names of the documents parsed from one response. All the documents of a response share
+ * the same field names, so each name is only kept once, and maps with the same keys in the same order share one key
+ * layout. The maps returned by {@link #compact(Map)} are {@link SharedKeyMap} instances that only store their values.
+ * <p>
+ * The number of distinct layouts is limited so that documents with arbitrary field names do not fill the dictionary;
+ * when the limit is reached, new layouts are still created but not shared anymore.
+ * <p>
+ * Instances are not thread-safe, they are meant to be used while a single response is processed.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class FieldNameDictionary {
+
+	private static final int MAX_NAMES = 4096;
+	private static final int MAX_LAYOUTS = 1024;
+
+	private final Map<String, String> names = new HashMap<>();
+	private final Map<SharedKeyMap.Layout, SharedKeyMap.Layout> layouts = new HashMap<>();
+
+	/**
+	 * @param name the field name
+	 * @return the canonical instance of the field name
+	 */
+	public String canonicalize(String name) {
+
+		Assert.notNull(name, "name must not be null");
+
+		String canonical = names.get(name);
+
+		if (canonical == null) {
+			canonical = name;
+			if (names.size() < MAX_NAMES) {
+				names.put(name, name);
+			}
+		}
+		return canonical;
+	}
+
+	/**
+	 * Creates a {@link SharedKeyMap} with the entries of the given map. Nested maps, also those contained in lists, are
+	 * converted as well; {@link ArrayList}s containing maps are modified in place.
+	 *
+	 * @param map the map to convert, must not be {@literal null}
+	 * @return the converted map
+	 */
+	public Map<String, Object> compact(Map<String, ?> map) {
+
+		Assert.notNull(map, "map must not be null");
+
+		String[] keys = new String[map.size()];
+		Object[] values = new Object[keys.length];
+		int index = 0;
+
+		for (Map.Entry<String, ?> entry : map.entrySet()) {
+			keys[index] = canonicalize(entry.getKey());
+			values[index] = compactValue(entry.getValue());
+			index++;
+		}
+
+		SharedKeyMap.Layout layout = new SharedKeyMap.Layout(keys);
+		SharedKeyMap.Layout sharedLayout = layouts.get(layout);
+
+		if (sharedLayout == null) {
+			sharedLayout = layout;
+			if (layouts.size() < MAX_LAYOUTS) {
+				layouts.put(layout, layout);
+			}
+		}
+
+		return new SharedKeyMap(sharedLayout, values);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private Object compactValue(@Nullable Object value) {
+
+		if (value instanceof Map<?, ?> map && !(map instanceof SharedKeyMap) && hasStringKeys(map)) {
+			return compact((Map<String, ?>) map);
+		}
+
+		if (value instanceof ArrayList<?> list) {
+			ListIterator<Object> iterator = ((List<Object>) list).listIterator();
+			while (iterator.hasNext()) {
+				Object element = iterator.next();
+				if (element instanceof Map<?, ?> || element instanceof List<?>) {
+					Object compacted = compactValue(element);
+					if (compacted != element) {
+						iterator.set(compacted);
+					}
+				}
+			}
+		}
+
+		return value;
+	}
+
+	private static boolean hasStringKeys(Map<?, ?> map) {
+
+		for (Object key : map.keySet()) {
+			if (!(key instanceof String)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Map} with {@link String} keys that stores its values in an array. The keys are kept in a {@link Layout}
+ * that is shared by all maps created by a {@link FieldNameDictionary} with the same keys in the same order, so a map
+ * for a document only needs memory for its values. The iteration order is the order of the keys in the layout.
+ * <p>
+ * Replacing the value of an existing key is done in place; adding a key switches the map to a {@link LinkedHashMap}
+ * and removing a key creates a layout that is only used by this map.
+ *
+ * @author agent
+ * @since 6.0
+ */
+public final class SharedKeyMap extends AbstractMap<String, Object> {
+
+	private Layout layout;
+	private @Nullable Object[] values;
+	@Nullable private LinkedHashMap<String, Object> inflated;
+	@Nullable private Set<Entry<String, Object>> entrySet;
+
+	SharedKeyMap(Layout layout, @Nullable Object[] values) {
+		this.layout = layout;
+		this.values = values;
+	}
+
+	@Override
+	public int size() {
+		return inflated != null ? inflated.size() : values.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return inflated != null ? inflated.containsKey(key) : layout.indexOf(key) >= 0;
+	}
+
+	@Override
+	@Nullable
+	public Object get(Object key) {
+
+		if (inflated != null) {
+			return inflated.get(key);
+		}
+
+		int index = layout.indexOf(key);
+		return index >= 0 ? values[index] : null;
+	}
+
+	@Override
+	@Nullable
+	public Object put(String key, @Nullable Object value) {
+
+		if (inflated == null) {
+			int index = layout.indexOf(key);
+
+			if (index >= 0) {
+				Object oldValue = values[index];
+				values[index] = value;
+				return oldValue;
+			}
+		}
+
+		return inflate().put(key, value);
+	}
+
+	@Override
+	@Nullable
+	public Object remove(Object key) {
+
+		if (inflated != null) {
+			return inflated.remove(key);
+		}
+
+		int index = layout.indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+
+		Object oldValue = values[index];
+		removeAt(index);
+		return oldValue;
+	}
+
+	@Override
+	public void clear() {
+		inflated = new LinkedHashMap<>();
+		values = new Object[0];
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action) {
+
+		if (inflated != null) {
+			inflated.forEach(action);
+			return;
+		}
+
+		String[] keys = layout.keys;
+		for (int i = 0; i < keys.length; i++) {
+			action.accept(keys[i], values[i]);
+		}
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private LinkedHashMap<String, Object> inflate() {
+
+		if (inflated == null) {
+			LinkedHashMap<String, Object> map = new LinkedHashMap<>((int) (values.length / 0.75f) + 2);
+			String[] keys = layout.keys;
+			for (int i = 0; i < keys.length; i++) {
+				map.put(keys[i], values[i]);
+			}
+			inflated = map;
+		}
+		return inflated;
+	}
+
+	private void removeAt(int index) {
+
+		String[] keys = new String[values.length - 1];
+		Object[] newValues = new Object[values.length - 1];
+
+		System.arraycopy(layout.keys, 0, keys, 0, index);
+		System.arraycopy(layout.keys, index + 1, keys, index, keys.length - index);
+		System.arraycopy(values, 0, newValues, 0, index);
+		System.arraycopy(values, index + 1, newValues, index, newValues.length - index);
+
+		layout = new Layout(keys);
+		values = newValues;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			return inflated != null ? inflated.entrySet().iterator() : new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return SharedKeyMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			SharedKeyMap.this.clear();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+		private int next = 0;
+		private int last = -1;
+
+		@Override
+		public boolean hasNext() {
+			return inflated == null && next < values.length;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			last = next++;
+			return new ValueEntry(layout.keys[last]);
+		}
+
+		@Override
+		public void remove() {
+
+			if (last < 0 || inflated != null) {
+				throw new IllegalStateException();
+			}
+
+			removeAt(last);
+			next = last;
+			last = -1;
+		}
+	}
+
+	/**
+	 * An entry that reads and writes the current value of its key in the map.
+	 */
+	private final class ValueEntry implements Entry<String, Object> {
+
+		private final String key;
+
+		ValueEntry(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		@Nullable
+		public Object getValue() {
+			return get(getKey());
+		}
+
+		@Override
+		@Nullable
+		public Object setValue(@Nullable Object value) {
+			return put(getKey(), value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Entry<?, ?> entry && getKey().equals(entry.getKey())
+					&& Objects.equals(getValue(), entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+	/**
+	 * The keys of a {@link SharedKeyMap} in the order of their insertion. Layouts are compared by their keys.
+	 */
+	static final class Layout {
+
+		private static final int MAX_LINEAR_SEARCH = 8;
+
+		private final String[] keys;
+		private final int hashCode;
+		@Nullable private volatile Map<String, Integer> indexes;
+
+		Layout(String[] keys) {
+			this.keys = keys;
+			this.hashCode = Arrays.hashCode(keys);
+		}
+
+		int indexOf(@Nullable Object key) {
+
+			if (keys.length <= MAX_LINEAR_SEARCH) {
+				// field names parsed by Jackson are interned, these are found without comparing the characters
+				for (int i = 0; i < keys.length; i++) {
+					if (keys[i] == key) {
+						return i;
+					}
+				}
+
+				if (key != null) {
+					for (int i = 0; i < keys.length; i++) {
+						if (keys[i].equals(key)) {
+							return i;
+						}
+					}
+				}
+				return -1;
+			}
+
+			Map<String, Integer> indexes = this.indexes;
+			if (indexes == null) {
+				indexes = new HashMap<>((int) (keys.length / 0.75f) + 1);
+				for (int i = 0; i < keys.length; i++) {
+					indexes.putIfAbsent(keys[i], i);
+				}
+				this.indexes = indexes;
+			}
+
+			Integer index = indexes.get(key);
+			return index != null ? index : -1;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o || (o instanceof Layout layout && hashCode == layout.hashCode && Arrays.equals(keys, layout.keys));
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -169,4 +169,25 @@ public class ClientConfigurationUnitTests {
 		((ClientConfiguration.ClientConfigurationCallback<Object>) clientConfigurer).configure(new Object());
 		assertThat(callCounter.get()).isEqualTo(1);
 	}
+
+	@Test
+	@DisplayName("should use configured load protection, sniffing and connection pool")
+	void shouldUseConfiguredLoadProtectionSniffingAndConnectionPool() {
+
+		LoadProtection loadProtection = LoadProtection.builder().build();
+		Sniffing sniffing = Sniffing.builder().build();
+		ConnectionPool connectionPool = ConnectionPool.builder().build();
+
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo("foo", "bar") //
+				.withLoadProtection(loadProtection) //
+				.withSniffing(sniffing) //
+				.withConnectionPool(connectionPool) //
+				.build();
+
+		assertThat(clientConfiguration.getLoadProtection()).containsSame(loadProtection);
+		assertThat(clientConfiguration.getSniffing()).containsSame(sniffing);
+		assertThat(clientConfiguration.getConnectionPool()).containsSame(connectionPool);
+		assertThat(ClientConfiguration.localhost().getSniffing()).isEmpty();
+	}
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.ConnectionPool.RouteStatistics;
+
+/**
+ * @author agent
+ */
+class ConnectionPoolUnitTests {
+
+	@Test
+	@DisplayName("should add up the statistics of all sources")
+	void shouldAddUpTheStatisticsOfAllSources() {
+
+		ConnectionPool connectionPool = ConnectionPool.builder().build();
+		connectionPool.register(source(List.of( //
+				new RouteStatistics("http://b:9200", 1, 0, 2, 10, 5, Duration.ofMillis(50)), //
+				new RouteStatistics("http://a:9200", 2, 1, 0, 10, 3, Duration.ofMillis(30)))));
+		connectionPool.register(source(List.of( //
+				new RouteStatistics("http://a:9200", 1, 0, 1, 10, 1, Duration.ofMillis(10)))));
+
+		assertThat(connectionPool.getRouteStatistics()).containsExactly( //
+				new RouteStatistics("http://a:9200", 3, 1, 1, 20, 4, Duration.ofMillis(40)), //
+				new RouteStatistics("http://b:9200", 1, 0, 2, 10, 5, Duration.ofMillis(50)));
+		RouteStatistics total = connectionPool.getTotalStatistics();
+		assertThat(total.leased()).isEqualTo(4);
+		assertThat(total.leaseCount()).isEqualTo(9);
+		assertThat(total.averageLeaseWaitTime()).isEqualTo(Duration.ofMillis(10));
+	}
+
+	@Test
+	@DisplayName("should return empty total statistics without source")
+	void shouldReturnEmptyTotalStatisticsWithoutSource() {
+
+		RouteStatistics total = ConnectionPool.builder().build().getTotalStatistics();
+
+		assertThat(total).isEqualTo(new RouteStatistics(ConnectionPool.TOTAL, 0, 0, 0, 0, 0, Duration.ZERO));
+		assertThat(total.averageLeaseWaitTime()).isEqualTo(Duration.ZERO);
+	}
+
+	private static ConnectionPool.StatisticsSource source(List<RouteStatistics> routeStatistics) {
+		return new ConnectionPool.StatisticsSource() {
+			@Override
+			public List<RouteStatistics> getRouteStatistics() {
+				return routeStatistics;
+			}
+
+			@Override
+			public RouteStatistics getTotalStatistics() {
+				return routeStatistics.stream().map(statistics -> new RouteStatistics(ConnectionPool.TOTAL,
+						statistics.leased(), statistics.pending(), statistics.available(), statistics.max(),
+						statistics.leaseCount(), statistics.leaseWaitTime())).reduce(RouteStatistics::add).orElseThrow();
+			}
+		};
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.LoadProtection.CircuitState;
+import org.springframework.data.elasticsearch.client.LoadProtection.LimitAlgorithm;
+
+/**
+ * @author agent
+ */
+class LoadProtectionUnitTests {
+
+	private static final String HOST = "localhost:9200";
+
+	@Test
+	@DisplayName("should not be available when the limit of requests in flight is reached")
+	void shouldNotBeAvailableWhenTheLimitOfRequestsInFlightIsReached() {
+
+		LoadProtection loadProtection = LoadProtection.builder().withInitialLimit(2).build();
+
+		LoadProtection.Permit first = loadProtection.tryAcquire(HOST);
+		loadProtection.tryAcquire(HOST);
+
+		assertThat(first).isNotNull();
+		assertThat(loadProtection.isAvailable(HOST)).isFalse();
+		assertThat(loadProtection.tryAcquire(HOST)).isNull();
+		assertThat(loadProtection.getHostStatus())
+				.containsExactly(new LoadProtection.HostStatus(HOST, CircuitState.CLOSED, 2, 2));
+
+		first.complete(false);
+
+		assertThat(loadProtection.isAvailable(HOST)).isTrue();
+	}
+
+	@Test
+	@DisplayName("should release a request once only")
+	void shouldReleaseARequestOnceOnly() {
+
+		LoadProtection loadProtection = LoadProtection.builder().build();
+
+		LoadProtection.Permit permit = loadProtection.tryAcquire(HOST);
+		loadProtection.tryAcquire(HOST);
+		assertThat(permit).isNotNull();
+		permit.complete(false);
+		permit.complete(false);
+
+		assertThat(loadProtection.getHostStatus().get(0).inFlight()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("should not give more permits than the limit to concurrent requests")
+	void shouldNotGiveMorePermitsThanTheLimitToConcurrentRequests() throws Exception {
+
+		LoadProtection loadProtection = LoadProtection.builder().withInitialLimit(5).build();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<LoadProtection.@Nullable Permit>> permits = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				permits.add(executor.submit(() -> {
+					start.await();
+					return loadProtection.tryAcquire(HOST);
+				}));
+			}
+			start.countDown();
+
+			int acquired = 0;
+			for (Future<LoadProtection.@Nullable Permit> permit : permits) {
+				if (permit.get() != null) {
+					acquired++;
+				}
+			}
+
+			assertThat(acquired).isEqualTo(5);
+			assertThat(loadProtection.getHostStatus().get(0).inFlight()).isEqualTo(5);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("should release a cancelled request without changing the limit")
+	void shouldReleaseACancelledRequestWithoutChangingTheLimit() {
+
+		LoadProtection loadProtection = LoadProtection.builder().withInitialLimit(1).build();
+
+		LoadProtection.Permit permit = loadProtection.tryAcquire(HOST);
+		assertThat(permit).isNotNull();
+		assertThat(loadProtection.tryAcquire(HOST)).isNull();
+
+		permit.cancel();
+		permit.complete(true);
+
+		assertThat(loadProtection.getHostStatus())
+				.containsExactly(new LoadProtection.HostStatus(HOST, CircuitState.CLOSED, 1, 0));
+	}
+
+	@Test
+	@DisplayName("should release a failed request and count it as failure")
+	void shouldReleaseAFailedRequestAndCountItAsFailure() {
+
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withFailureRateWindow(1) //
+				.build();
+
+		acquire(loadProtection).fail();
+
+		assertThat(loadProtection.getHostStatus().get(0).inFlight()).isZero();
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	@DisplayName("should not count requests in flight after the timeout")
+	void shouldNotCountRequestsInFlightAfterTheTimeout() throws InterruptedException {
+
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withInitialLimit(1) //
+				.withInFlightTimeout(Duration.ofMillis(10)) //
+				.build();
+
+		acquire(loadProtection);
+		assertThat(loadProtection.isAvailable(HOST)).isFalse();
+
+		Thread.sleep(50);
+
+		assertThat(loadProtection.isAvailable(HOST)).isTrue();
+	}
+
+	@Test
+	@DisplayName("should reduce the limit on overload")
+	void shouldReduceTheLimitOnOverload() {
+
+		for (LimitAlgorithm limitAlgorithm : LimitAlgorithm.values()) {
+			LoadProtection loadProtection = LoadProtection.builder() //
+					.withLimitAlgorithm(limitAlgorithm) //
+					.withInitialLimit(100) //
+					.build();
+
+			for (int i = 0; i < 10; i++) {
+				acquire(loadProtection).complete(true);
+			}
+
+			assertThat(loadProtection.getHostStatus().get(0).limit()).describedAs(limitAlgorithm.name()).isLessThan(50);
+		}
+	}
+
+	@Test
+	@DisplayName("should increase the limit while the latency is stable and the limit is used")
+	void shouldIncreaseTheLimitWhileTheLatencyIsStableAndTheLimitIsUsed() {
+
+		for (AdaptiveLimit limit : List.of(new GradientLimit(10, 1, 200), new VegasLimit(10, 1, 200))) {
+			for (int i = 0; i < 100; i++) {
+				limit.onSample(Duration.ofMillis(10).toNanos(), limit.getLimit(), false);
+			}
+
+			assertThat(limit.getLimit()).describedAs(limit.getClass().getSimpleName()).isGreaterThan(10);
+		}
+	}
+
+	@Test
+	@DisplayName("should decrease the limit when the latency increases")
+	void shouldDecreaseTheLimitWhenTheLatencyIncreases() {
+
+		for (AdaptiveLimit limit : List.of(new GradientLimit(100, 1, 200), new VegasLimit(100, 1, 200))) {
+			for (int i = 0; i < 20; i++) {
+				limit.onSample(Duration.ofMillis(10).toNanos(), limit.getLimit(), false);
+			}
+			int limitBefore = limit.getLimit();
+
+			for (int i = 0; i < 20; i++) {
+				limit.onSample(Duration.ofMillis(100).toNanos(), limit.getLimit(), false);
+			}
+
+			assertThat(limit.getLimit()).describedAs(limit.getClass().getSimpleName()).isLessThan(limitBefore);
+		}
+	}
+
+	@Test
+	@DisplayName("should open the circuit when the failure rate reaches the threshold")
+	void shouldOpenTheCircuitWhenTheFailureRateReachesTheThreshold() {
+
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withFailureRateWindow(4) //
+				.withFailureRateThreshold(0.5) //
+				.build();
+
+		acquire(loadProtection).complete(false);
+		acquire(loadProtection).fail();
+		acquire(loadProtection).complete(false);
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.CLOSED);
+
+		acquire(loadProtection).fail();
+
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.OPEN);
+		assertThat(loadProtection.isAvailable(HOST)).isFalse();
+	}
+
+	@Test
+	@DisplayName("should allow one trial request after the open state duration and close the circuit on success")
+	void shouldAllowOneTrialRequestAfterTheOpenStateDurationAndCloseTheCircuitOnSuccess() throws InterruptedException {
+
+		LoadProtection loadProtection = openCircuit();
+
+		Thread.sleep(50);
+
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.HALF_OPEN);
+		assertThat(loadProtection.isAvailable(HOST)).isTrue();
+
+		LoadProtection.Permit trial = acquire(loadProtection);
+		assertThat(loadProtection.isAvailable(HOST)).isFalse();
+		assertThat(loadProtection.tryAcquire(HOST)).isNull();
+
+		trial.complete(false);
+
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.CLOSED);
+	}
+
+	@Test
+	@DisplayName("should open the circuit again when the trial request fails")
+	void shouldOpenTheCircuitAgainWhenTheTrialRequestFails() throws InterruptedException {
+
+		LoadProtection loadProtection = openCircuit();
+
+		Thread.sleep(50);
+		acquire(loadProtection).fail();
+
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.OPEN);
+	}
+
+	@Test
+	@DisplayName("should allow another trial request when the trial request was cancelled")
+	void shouldAllowAnotherTrialRequestWhenTheTrialRequestWasCancelled() throws InterruptedException {
+
+		LoadProtection loadProtection = openCircuit();
+
+		Thread.sleep(50);
+		acquire(loadProtection).cancel();
+
+		assertThat(loadProtection.getCircuitState(HOST)).isEqualTo(CircuitState.HALF_OPEN);
+		assertThat(loadProtection.tryAcquire(HOST)).isNotNull();
+	}
+
+	private static LoadProtection openCircuit() {
+
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withFailureRateWindow(2) //
+				.withOpenStateDuration(Duration.ofMillis(10)) //
+				.build();
+		acquire(loadProtection).fail();
+		acquire(loadProtection).fail();
+		return loadProtection;
+	}
+
+	private static LoadProtection.Permit acquire(LoadProtection loadProtection) {
+
+		LoadProtection.Permit permit = loadProtection.tryAcquire(HOST);
+		assertThat(permit).isNotNull();
+		return permit;
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.ValueConverter;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.CompactSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.PropertyValueConverter;
+import org.springframework.data.elasticsearch.core.query.SearchTemplateQuery;
+import org.springframework.data.elasticsearch.core.query.SeqNoPrimaryTerm;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class AsyncElasticsearchTemplateUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private AsyncElasticsearchOperations operations;
+
+	@BeforeEach
+	void setUp() {
+		operations = new AsyncElasticsearchTemplate(ElasticsearchClients.createAsync(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build()));
+	}
+
+	@Test
+	@DisplayName("should save entity and set the indexed object information")
+	void shouldSaveEntityAndSetTheIndexedObjectInformation() {
+
+		wireMock.stubFor(put(urlPathEqualTo("/async-entities/_doc/42"))
+				.withRequestBody(matchingJsonPath("$.text", equalTo("hello")))
+				.willReturn(elasticsearchResponse("""
+						{
+						  "_index": "async-entities",
+						  "_id": "42",
+						  "_version": 1,
+						  "result": "created",
+						  "_shards": { "total": 2, "successful": 1, "failed": 0 },
+						  "_seq_no": 7,
+						  "_primary_term": 3
+						}
+						""")));
+
+		var entity = new AsyncEntity();
+		entity.setId("42");
+		entity.setText("hello");
+
+		AsyncEntity saved = operations.save(entity).join();
+
+		assertThat(saved.getId()).isEqualTo("42");
+		assertThat(saved.getSeqNoPrimaryTerm()).isNotNull();
+		assertThat(saved.getSeqNoPrimaryTerm().sequenceNumber()).isEqualTo(7);
+		assertThat(saved.getSeqNoPrimaryTerm().primaryTerm()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("should get and search entities")
+	void shouldGetAndSearchEntities() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/async-entities/_doc/42")).willReturn(elasticsearchResponse("""
+				{
+				  "_index": "async-entities",
+				  "_id": "42",
+				  "_version": 1,
+				  "_seq_no": 7,
+				  "_primary_term": 3,
+				  "found": true,
+				  "_source": { "id": "42", "text": "hello" }
+				}
+				""")));
+		wireMock.stubFor(post(urlPathEqualTo("/async-entities/_search")).willReturn(elasticsearchResponse("""
+				{
+				  "took": 1,
+				  "timed_out": false,
+				  "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+				  "hits": {
+				    "total": { "value": 1, "relation": "eq" },
+				    "max_score": 1.0,
+				    "hits": [
+				      {
+				        "_index": "async-entities",
+				        "_id": "42",
+				        "_score": 1.0,
+				        "_seq_no": 7,
+				        "_primary_term": 3,
+				        "_source": { "id": "42", "text": "hello" }
+				      }
+				    ]
+				  }
+				}
+				""")));
+
+		var getFuture = operations.get("42", AsyncEntity.class);
+		var searchFuture = operations.search(NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).build(),
+				AsyncEntity.class);
+
+		AsyncEntity entity = getFuture.join();
+		SearchHits<AsyncEntity> searchHits = searchFuture.join();
+
+		assertThat(entity).isNotNull();
+		assertThat(entity.getText()).isEqualTo("hello");
+		assertThat(searchHits.getTotalHits()).isEqualTo(1);
+		assertThat(searchHits.getSearchHit(0).getContent().getText()).isEqualTo("hello");
+	}
+
+	@Test
+	@DisplayName("should complete exceptionally with translated exception")
+	void shouldCompleteExceptionallyWithTranslatedException() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/async-entities/_doc/42"))
+				.willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+		assertThatThrownBy(() -> operations.get("42", AsyncEntity.class).join()) //
+				.isInstanceOf(CompletionException.class) //
+				.hasCauseInstanceOf(DataAccessResourceFailureException.class);
+	}
+
+	@Test
+	@DisplayName("should convert the response on the conversion executor")
+	void shouldConvertTheResponseOnTheConversionExecutor() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/async-entities/_doc/42")).willReturn(elasticsearchResponse("""
+				{
+				  "_index": "async-entities",
+				  "_id": "42",
+				  "_version": 1,
+				  "found": true,
+				  "_source": { "id": "42", "text": "hello" }
+				}
+				""")));
+
+		AtomicInteger conversions = new AtomicInteger();
+		var template = new AsyncElasticsearchTemplate(ElasticsearchClients.createAsync(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build()));
+		template.setConversionExecutor(command -> {
+			conversions.incrementAndGet();
+			command.run();
+		});
+
+		AsyncEntity entity = template.get("42", AsyncEntity.class).join();
+
+		assertThat(entity).isNotNull();
+		assertThat(entity.getText()).isEqualTo("hello");
+		assertThat(conversions).hasPositiveValue();
+	}
+
+	@Test
+	@DisplayName("should return compact search hits for a search template query")
+	void shouldReturnCompactSearchHitsForASearchTemplateQuery() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/async-entities/_search/template")).willReturn(elasticsearchResponse("""
+				{
+				  "took": 1,
+				  "timed_out": false,
+				  "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+				  "hits": {
+				    "total": { "value": 1, "relation": "eq" },
+				    "max_score": 1.0,
+				    "hits": [
+				      {
+				        "_index": "async-entities",
+				        "_id": "42",
+				        "_score": 1.0,
+				        "_seq_no": 7,
+				        "_primary_term": 3,
+				        "_source": { "id": "42", "text": "hello" }
+				      }
+				    ]
+				  }
+				}
+				""")));
+
+		SearchHits<AsyncEntity> searchHits = operations.search(SearchTemplateQuery.builder() //
+				.withId("async-template") //
+				.withCompactSearchHits(true) //
+				.build(), AsyncEntity.class).join();
+
+		assertThat(searchHits).isInstanceOf(CompactSearchHits.class);
+		assertThat(searchHits.getSearchHit(0).getContent().getText()).isEqualTo("hello");
+	}
+
+	@Test
+	@DisplayName("should translate an exception thrown while converting the response")
+	void shouldTranslateAnExceptionThrownWhileConvertingTheResponse() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/async-entities/_doc/42")).willReturn(elasticsearchResponse("""
+				{
+				  "_index": "async-entities",
+				  "_id": "42",
+				  "_version": 1,
+				  "found": true,
+				  "_source": { "id": "42", "text": "hello" }
+				}
+				""")));
+
+		assertThatThrownBy(() -> operations.get("42", FailingEntity.class).join()) //
+				.isInstanceOf(CompletionException.class) //
+				.hasCauseInstanceOf(DataAccessResourceFailureException.class);
+	}
+
+	@Document(indexName = "async-entities")
+	static class AsyncEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+		@Nullable private SeqNoPrimaryTerm seqNoPrimaryTerm;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+
+		@Nullable
+		public SeqNoPrimaryTerm getSeqNoPrimaryTerm() {
+			return seqNoPrimaryTerm;
+		}
+
+		public void setSeqNoPrimaryTerm(@Nullable SeqNoPrimaryTerm seqNoPrimaryTerm) {
+			this.seqNoPrimaryTerm = seqNoPrimaryTerm;
+		}
+	}
+
+	@Document(indexName = "async-entities")
+	static class FailingEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@ValueConverter(FailingConverter.class)
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+
+	static class FailingConverter implements PropertyValueConverter {
+
+		@Override
+		public Object write(Object value) {
+			return value;
+		}
+
+		@Override
+		public Object read(Object value) {
+			throw new UncheckedIOException(new IOException("could not read the value"));
+		}
+	}
+}
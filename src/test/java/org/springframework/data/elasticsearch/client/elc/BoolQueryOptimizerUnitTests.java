@@ -0,0 +1,400 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.skyscreamer.jsonassert.JSONAssert.*;
+import static org.springframework.data.elasticsearch.client.elc.JsonUtils.*;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.util.ObjectBuilder;
+
+import java.util.function.Function;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
+import org.springframework.data.elasticsearch.core.query.Field;
+import org.springframework.data.elasticsearch.core.query.SimpleField;
+
+/**
+ * @author agent
+ */
+class BoolQueryOptimizerUnitTests {
+
+	private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+	@Test
+	@DisplayName("should flatten nested bool queries")
+	void shouldFlattenNestedBoolQueries() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "match": { "title": { "query": "one" } } },
+				      { "match": { "title": { "query": "two" } } },
+				      { "match": { "title": { "query": "three" } } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(match("one")) //
+				.must(bool(nb -> nb //
+						.must(match("two")) //
+						.must(bool(nnb -> nnb.must(match("three")))))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should not flatten nested bool queries with should clauses into required clauses")
+	void shouldNotFlattenNestedBoolQueriesWithShouldClausesIntoRequiredClauses() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "match": { "title": { "query": "one" } } },
+				      {
+				        "bool": {
+				          "should": [
+				            { "match": { "title": { "query": "two" } } },
+				            { "match": { "title": { "query": "three" } } }
+				          ]
+				        }
+				      }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(match("one")) //
+				.must(bool(nb -> nb //
+						.should(match("two")) //
+						.should(match("three")))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should merge term queries on the same field into a terms query")
+	void shouldMergeTermQueriesOnTheSameFieldIntoATermsQuery() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "should": [
+				      { "terms": { "status": ["active", "pending", "blocked"] } },
+				      { "term": { "category": { "value": "books" } } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.should(term("status", "active")) //
+				.should(term("category", "books")) //
+				.should(bool(nb -> nb //
+						.should(term("status", "pending")) //
+						.should(term("status", "blocked")))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should merge negated term queries into a terms query")
+	void shouldMergeNegatedTermQueriesIntoATermsQuery() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "match": { "title": { "query": "one" } } }
+				    ],
+				    "must_not": [
+				      { "terms": { "status": ["deleted", "archived"] } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(match("one")) //
+				.mustNot(term("status", "deleted")) //
+				.mustNot(bool(nb -> nb.must(term("status", "archived")))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should not merge boosted term queries")
+	void shouldNotMergeBoostedTermQueries() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "should": [
+				      { "term": { "status": { "value": "active", "boost": 2.0 } } },
+				      { "term": { "status": { "value": "pending" } } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.should(Query.of(q -> q.term(t -> t.field("status").value("active").boost(2.0f)))) //
+				.should(term("status", "pending")));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should remove duplicate clauses")
+	void shouldRemoveDuplicateClauses() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "match": { "title": { "query": "one" } } },
+				      { "match": { "title": { "query": "two" } } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(match("one")) //
+				.must(match("two")) //
+				.must(bool(nb -> nb.must(match("one")))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should keep duplicate should clauses when minimum should match is set")
+	void shouldKeepDuplicateShouldClausesWhenMinimumShouldMatchIsSet() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "should": [
+				      { "term": { "status": { "value": "active" } } },
+				      { "term": { "status": { "value": "active" } } }
+				    ],
+				    "minimum_should_match": "2"
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.should(term("status", "active")) //
+				.should(term("status", "active")) //
+				.minimumShouldMatch("2"));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should remove duplicate range clauses")
+	void shouldRemoveDuplicateRangeClauses() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "filter": [
+				      { "range": { "price": { "gte": 42 } } },
+				      { "range": { "price": { "gte": 43 } } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(range("price", 42)) //
+				.must(range("price", 43)) //
+				.must(range("price", 42)));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should not remove duplicate clauses that are not compared")
+	void shouldNotRemoveDuplicateClausesThatAreNotCompared() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "query_string": { "query": "one" } },
+				      { "query_string": { "query": "one" } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(Query.of(q -> q.queryString(qs -> qs.query("one")))) //
+				.must(Query.of(q -> q.queryString(qs -> qs.query("one")))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should move non scoring queries without boost into filter context")
+	void shouldMoveNonScoringQueriesWithoutBoostIntoFilterContext() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "match": { "title": { "query": "one" } } },
+				      { "exists": { "field": "name", "boost": 2.0 } }
+				    ],
+				    "filter": [
+				      { "term": { "status": { "value": "active" } } },
+				      { "exists": { "field": "category" } }
+				    ],
+				    "should": [
+				      { "match": { "title": { "query": "two" } } }
+				    ]
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(match("one")) //
+				.must(term("status", "active")) //
+				.must(Query.of(q -> q.exists(e -> e.field("name").boost(2.0f)))) //
+				.must(Query.of(q -> q.exists(e -> e.field("category")))) //
+				.should(match("two")));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should replace bool query with a single clause by the clause")
+	void shouldReplaceBoolQueryWithASingleClauseByTheClause() throws JSONException {
+
+		String expected = """
+				{ "match": { "title": { "query": "one" } } }
+				""";
+
+		Query query = bool(b -> b.must(bool(nb -> nb.should(match("one")))));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should keep bool query with name or boost")
+	void shouldKeepBoolQueryWithNameOrBoost() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      { "match": { "title": { "query": "one" } } },
+				      {
+				        "bool": {
+				          "must": [
+				            { "match": { "title": { "query": "two" } } }
+				          ],
+				          "boost": 2.0
+				        }
+				      }
+				    ],
+				    "_name": "outer"
+				  }
+				}
+				""";
+
+		Query query = bool(b -> b //
+				.must(match("one")) //
+				.must(bool(nb -> nb.must(match("two")).boost(2.0f))) //
+				.queryName("outer"));
+
+		assertOptimized(expected, query);
+	}
+
+	@Test
+	@DisplayName("should optimize term level criteria queries")
+	void shouldOptimizeTermLevelCriteriaQueries() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "filter": [
+				      { "term": { "category": { "value": "books" } } },
+				      {
+				        "bool": {
+				          "should": [
+				            { "terms": { "status": ["active", "pending"] } },
+				            { "exists": { "field": "featured" } }
+				          ]
+				        }
+				      }
+				    ]
+				  }
+				}
+				""";
+
+		Criteria criteria = new Criteria(keywordField("category")).is("books") //
+				.subCriteria(new Criteria(keywordField("status")).is("active") //
+						.or(keywordField("status")).is("pending") //
+						.or("featured").exists());
+
+		Query query = CriteriaQueryProcessor.createQuery(criteria, CriteriaQueryMode.TERM_LEVEL);
+
+		assertEquals(expected, queryToJson(query, mapper), true);
+	}
+
+	private void assertOptimized(String expected, Query query) throws JSONException {
+		assertEquals(expected, queryToJson(BoolQueryOptimizer.optimize(query), mapper), true);
+	}
+
+	private static Query bool(Function<BoolQuery.Builder, ObjectBuilder<BoolQuery>> fn) {
+		return Query.of(q -> q.bool(fn));
+	}
+
+	private static Query match(String text) {
+		return Query.of(q -> q.match(m -> m.field("title").query(text)));
+	}
+
+	private static Query range(String field, int gte) {
+		return Query.of(q -> q.range(r -> r.untyped(u -> u.field(field).gte(JsonData.of(gte)))));
+	}
+
+	private static Query term(String field, String value) {
+		return Query.of(q -> q.term(t -> t.field(field).value(value)));
+	}
+
+	private static Field keywordField(String name) {
+
+		Field field = new SimpleField(name);
+		field.setFieldType(FieldType.Keyword);
+		return field;
+	}
+}
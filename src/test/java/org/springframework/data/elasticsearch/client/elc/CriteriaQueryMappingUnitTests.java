@@ -349,6 +349,45 @@ public class CriteriaQueryMappingUnitTests {
 		assertEquals(expected, queryString, false);
 	}
 
+	@Test
+	@DisplayName("should map names, nested path and values when the same property path is used again")
+	void shouldMapNamesNestedPathAndValuesWhenTheSamePropertyPathIsUsedAgain() throws JSONException {
+
+		String expected = """
+				{
+					"bool": {
+						"must": [
+							{
+								"nested": {
+									"path": "per-sons",
+									"query": {
+										"query_string": {
+											"default_operator": "and",
+											"fields": [
+												"per-sons.birth-date"
+											],
+											"query": "%s"
+										}
+									},
+									"score_mode": "avg"
+								}
+							}
+						]
+					}
+				}
+				""";
+
+		CriteriaQuery firstQuery = new CriteriaQuery(new Criteria("persons.birthDate").is(LocalDate.of(1999, 10, 3)));
+		mappingElasticsearchConverter.updateQuery(firstQuery, House.class);
+		CriteriaQuery secondQuery = new CriteriaQuery(new Criteria("persons.birthDate").is(LocalDate.of(2001, 2, 13)));
+		mappingElasticsearchConverter.updateQuery(secondQuery, House.class);
+
+		assertEquals(expected.formatted("03.10.1999"),
+				queryToJson(CriteriaQueryProcessor.createQuery(firstQuery.getCriteria()), mapper), false);
+		assertEquals(expected.formatted("13.02.2001"),
+				queryToJson(CriteriaQueryProcessor.createQuery(secondQuery.getCriteria()), mapper), false);
+	}
+
 	@Test // #1753
 	@DisplayName("should map names and value in nested entities with sub-fields")
 	void shouldMapNamesAndValueInNestedEntitiesWithSubfields() throws JSONException {
@@ -24,7 +24,14 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import org.json.JSONException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.CriteriaQueryMode;
+import org.springframework.data.elasticsearch.core.query.Field;
+import org.springframework.data.elasticsearch.core.query.HasChildQuery;
+import org.springframework.data.elasticsearch.core.query.HasParentQuery;
+import org.springframework.data.elasticsearch.core.query.SimpleField;
 
 /**
  * @author Peter-Josef Meisch
@@ -553,4 +560,206 @@ class CriteriaQueryProcessorUnitTests {
         assertEquals(expected, queryString, false);
     }
 
+	@Test
+	@DisplayName("should build term level queries in filter context for keyword fields")
+	void shouldBuildTermLevelQueriesInFilterContextForKeywordFields() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "must": [
+				      {
+				        "query_string": {
+				          "fields": ["description"],
+				          "query": "elastic",
+				          "default_operator": "and"
+				        }
+				      }
+				    ],
+				    "filter": [
+				      {
+				        "term": {
+				          "status": {
+				            "value": "active"
+				          }
+				        }
+				      },
+				      {
+				        "prefix": {
+				          "code": {
+				            "value": "AB"
+				          }
+				        }
+				      },
+				      {
+				        "wildcard": {
+				          "code": {
+				            "wildcard": "*1\\\\*2"
+				          }
+				        }
+				      },
+				      {
+				        "range": {
+				          "price": {
+				            "gte": 42
+				          }
+				        }
+				      }
+				    ]
+				  }
+				}
+				""";
+
+		Criteria criteria = new Criteria(keywordField("status")).is("active") //
+				.and("description").is("elastic") //
+				.and(keywordField("code")).startsWith("AB") //
+				.and(keywordField("code")).endsWith("1*2") //
+				.and("price").greaterThanEqual(42);
+
+		String queryString = queryToJson(CriteriaQueryProcessor.createQuery(criteria, CriteriaQueryMode.TERM_LEVEL),
+				mapper);
+
+		assertEquals(expected, queryString, true);
+	}
+
+	@Test
+	@DisplayName("should not move term level queries to filter context when combined with or")
+	void shouldNotMoveTermLevelQueriesToFilterContextWhenCombinedWithOr() throws JSONException {
+
+		// the term queries on the same field in the should clauses are merged by the BoolQueryOptimizer
+		String expected = """
+				{
+				  "terms": {
+				    "status": [
+				      "active",
+				      "pending"
+				    ]
+				  }
+				}
+				""";
+
+		Criteria criteria = new Criteria(keywordField("status")).is("active") //
+				.or(keywordField("status")).is("pending");
+
+		String queryString = queryToJson(CriteriaQueryProcessor.createQuery(criteria, CriteriaQueryMode.TERM_LEVEL),
+				mapper);
+
+		assertEquals(expected, queryString, true);
+	}
+
+	@Test
+	@DisplayName("should keep term queries on different fields combined with or in should clauses")
+	void shouldKeepTermQueriesOnDifferentFieldsCombinedWithOrInShouldClauses() throws JSONException {
+
+		String expected = """
+				{
+				  "bool": {
+				    "should": [
+				      {
+				        "term": {
+				          "status": {
+				            "value": "active"
+				          }
+				        }
+				      },
+				      {
+				        "term": {
+				          "category": {
+				            "value": "books"
+				          }
+				        }
+				      }
+				    ]
+				  }
+				}
+				""";
+
+		Criteria criteria = new Criteria(keywordField("status")).is("active") //
+				.or(keywordField("category")).is("books");
+
+		String queryString = queryToJson(CriteriaQueryProcessor.createQuery(criteria, CriteriaQueryMode.TERM_LEVEL),
+				mapper);
+
+		assertEquals(expected, queryString, true);
+	}
+
+	@Test
+	@DisplayName("should create term level queries in the query of a has_child query")
+	void shouldCreateTermLevelQueriesInTheQueryOfAHasChildQuery() throws JSONException {
+
+		String expected = """
+				{
+				  "has_child": {
+				    "type": "answer",
+				    "query": {
+				      "bool": {
+				        "filter": [
+				          {
+				            "term": {
+				              "status": {
+				                "value": "active"
+				              }
+				            }
+				          }
+				        ]
+				      }
+				    }
+				  }
+				}
+				""";
+
+		HasChildQuery hasChildQuery = HasChildQuery.builder("answer") //
+				.withQuery(new CriteriaQuery(new Criteria(keywordField("status")).is("active"))) //
+				.build();
+		Criteria criteria = Criteria.where("answer").hasChild(hasChildQuery);
+
+		String queryString = queryToJson(CriteriaQueryProcessor.createQuery(criteria, CriteriaQueryMode.TERM_LEVEL),
+				mapper);
+
+		assertEquals(expected, queryString, false);
+	}
+
+	@Test
+	@DisplayName("should create term level queries in the query of a has_parent query")
+	void shouldCreateTermLevelQueriesInTheQueryOfAHasParentQuery() throws JSONException {
+
+		String expected = """
+				{
+				  "has_parent": {
+				    "parent_type": "question",
+				    "query": {
+				      "bool": {
+				        "filter": [
+				          {
+				            "term": {
+				              "status": {
+				                "value": "active"
+				              }
+				            }
+				          }
+				        ]
+				      }
+				    }
+				  }
+				}
+				""";
+
+		HasParentQuery hasParentQuery = HasParentQuery.builder("question") //
+				.withQuery(new CriteriaQuery(new Criteria(keywordField("status")).is("active"))) //
+				.build();
+		Criteria criteria = Criteria.where("question").hasParent(hasParentQuery);
+
+		String queryString = queryToJson(CriteriaQueryProcessor.createQuery(criteria, CriteriaQueryMode.TERM_LEVEL),
+				mapper);
+
+		assertEquals(expected, queryString, false);
+	}
+
+	private static Field keywordField(String name) {
+
+		Field field = new SimpleField(name);
+		field.setFieldType(FieldType.Keyword);
+		return field;
+	}
+
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.CompactSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchScrollHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class ElasticsearchTemplateCompactSearchHitsUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private static final IndexCoordinates INDEX = IndexCoordinates.of("compact");
+
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build()));
+	}
+
+	@Test
+	@DisplayName("should return compact hits for the first page of a scroll search")
+	void shouldReturnCompactHitsForTheFirstPageOfAScrollSearch() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/compact/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse("\"_scroll_id\": \"scroll-1\","))));
+
+		SearchScrollHits<CompactEntity> searchHits = template.searchScrollStart(1000, compactQuery(), CompactEntity.class,
+				INDEX);
+
+		assertThat(searchHits).isInstanceOf(CompactSearchHits.class);
+		assertThat(searchHits.getScrollId()).isEqualTo("scroll-1");
+		assertThat(searchHits.getIds()).containsExactly("1", "2");
+		assertThat(searchHits.getSearchHit(1).getContent().getText()).isEqualTo("text-2");
+	}
+
+	@Test
+	@DisplayName("should return compact hits for the queries of a multi search that request them")
+	void shouldReturnCompactHitsForTheQueriesOfAMultiSearchThatRequestThem() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_msearch")) //
+				.willReturn(elasticsearchResponse("""
+						{ "took": 1, "responses": [ %s, %s ] }
+						""".formatted(searchResponse("\"status\": 200,"), searchResponse("\"status\": 200,")))));
+
+		List<SearchHits<CompactEntity>> searchHits = template.multiSearch(
+				List.of(compactQuery(), Query.findAll().setPageable(PageRequest.of(0, 10))), CompactEntity.class, INDEX);
+
+		assertThat(searchHits).hasSize(2);
+		assertThat(searchHits.get(0)).isInstanceOf(CompactSearchHits.class);
+		assertThat(searchHits.get(0).getIds()).containsExactly("1", "2");
+		assertThat(searchHits.get(1)).isNotInstanceOf(CompactSearchHits.class);
+		assertThat(searchHits.get(1).getIds()).containsExactly("1", "2");
+	}
+
+	private static Query compactQuery() {
+		return NativeQuery.builder() //
+				.withPageable(PageRequest.of(0, 10)) //
+				.withCompactSearchHits(true) //
+				.build();
+	}
+
+	private static String searchResponse(String extra) {
+		return """
+				{
+				  %s
+				  "took": 1,
+				  "timed_out": false,
+				  "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+				  "hits": {
+				    "total": { "value": 2, "relation": "eq" },
+				    "max_score": 1.0,
+				    "hits": [
+				      { "_index": "compact", "_id": "1", "_score": 1.0, "_source": { "id": "1", "text": "text-1" } },
+				      { "_index": "compact", "_id": "2", "_score": 1.0, "_source": { "id": "2", "text": "text-2" } }
+				    ]
+				  }
+				}
+				""".formatted(extra);
+	}
+
+	@Document(indexName = "compact")
+	static class CompactEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
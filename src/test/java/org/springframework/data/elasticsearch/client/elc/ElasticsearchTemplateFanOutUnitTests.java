@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class ElasticsearchTemplateFanOutUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build()));
+		template.setExecutor(executor);
+		template.setFanOutBatchSize(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("should split multiGet by routing and return the items in the order of the ids")
+	void shouldSplitMultiGetByRoutingAndReturnTheItemsInTheOrderOfTheIds() {
+
+		// sorted by routing the ids are b, a | c
+		wireMock.stubFor(post(urlPathEqualTo("/_mget")) //
+				.withRequestBody(matchingJsonPath("$.docs[0]._id", equalTo("b"))) //
+				.withRequestBody(matchingJsonPath("$.docs[1]._id", equalTo("a"))) //
+				.willReturn(elasticsearchResponse("""
+						{ "docs": [ %s, %s ] }
+						""".formatted(doc("b"), doc("a")))));
+		wireMock.stubFor(post(urlPathEqualTo("/_mget")) //
+				.withRequestBody(matchingJsonPath("$.docs[0]._id", equalTo("c"))) //
+				.willReturn(elasticsearchResponse("""
+						{ "docs": [ %s ] }
+						""".formatted(doc("c")))));
+
+		Query query = Query.multiGetQueryWithRouting(List.of( //
+				new Query.IdWithRouting("a", "r2"), //
+				new Query.IdWithRouting("b", "r1"), //
+				new Query.IdWithRouting("c", "r2")));
+
+		List<MultiGetItem<FanOutEntity>> items = template.multiGet(query, FanOutEntity.class);
+
+		assertThat(items).extracting(item -> item.getItem().getText()).containsExactly("text-a", "text-b", "text-c");
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_mget")));
+	}
+
+	@Test
+	@DisplayName("should keep the operations on one document in one bulk batch and merge the responses")
+	void shouldKeepTheOperationsOnOneDocumentInOneBulkBatchAndMergeTheResponses() {
+
+		// the operations for a are in the first batch, b and c are in the second batch, which has a failure
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(containing("\"_id\":\"a\"")) //
+				.willReturn(elasticsearchResponse("""
+						{ "took": 3, "errors": false, "items": [ %s, %s ] }
+						""".formatted(bulkItem("a", null), bulkItem("a", null)))));
+		wireMock.stubFor(post(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(containing("\"_id\":\"c\"")) //
+				.willReturn(elasticsearchResponse("""
+						{ "took": 7, "errors": true, "items": [ %s, %s ] }
+						""".formatted(bulkItem("b", null), bulkItem("c", "failed to parse")))));
+
+		List<IndexQuery> queries = List.of(indexQuery("a", "first"), indexQuery("b", "b"), indexQuery("a", "second"),
+				indexQuery("c", "c"));
+
+		BulkResponse bulkResponse = template.bulk(queries, BulkOptions.defaultOptions(), IndexCoordinates.of("fan-out"));
+
+		assertThat(bulkResponse.took()).isEqualTo(7);
+		assertThat(bulkResponse.errors()).isTrue();
+		assertThat(bulkResponse.items()).extracting(BulkResponseItem::id).containsExactly("a", "b", "a", "c");
+		wireMock.verify(2, postRequestedFor(urlPathEqualTo("/_bulk")));
+		wireMock.verify(postRequestedFor(urlPathEqualTo("/_bulk")) //
+				.withRequestBody(matching("(?s).*\"first\".*\"second\".*")) //
+				.withRequestBody(notContaining("\"_id\":\"b\"")));
+
+		assertThatThrownBy(() -> template.bulkIndex(queries, IndexCoordinates.of("fan-out"))) //
+				.isInstanceOf(BulkFailureException.class) //
+				.satisfies(e -> assertThat(((BulkFailureException) e).getFailedDocuments()).containsOnlyKeys("c"));
+	}
+
+	private static IndexQuery indexQuery(String id, String text) {
+		return new IndexQueryBuilder() //
+				.withId(id) //
+				.withObject(Map.of("id", id, "text", text)) //
+				.build();
+	}
+
+	private static String bulkItem(String id, @Nullable String error) {
+		return error == null ? """
+				{ "index": { "_index": "fan-out", "_id": "%s", "_version": 1, "result": "created", "status": 201,
+				  "_seq_no": 0, "_primary_term": 1, "_shards": { "total": 1, "successful": 1, "failed": 0 } } }
+				""".formatted(id) : """
+				{ "index": { "_index": "fan-out", "_id": "%s", "status": 400,
+				  "error": { "type": "document_parsing_exception", "reason": "%s" } } }
+				""".formatted(id, error);
+	}
+
+	private static String doc(String id) {
+		return """
+				{ "_index": "fan-out", "_id": "%s", "_version": 1, "found": true, "_source": { "id": "%s", "text": "text-%s" } }
+				""".formatted(id, id, id);
+	}
+
+	@Document(indexName = "fan-out")
+	static class FanOutEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * @author agent
+ */
+class FanOutUnitTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("should process all items in the calling thread without executor")
+	void shouldProcessAllItemsInTheCallingThreadWithoutExecutor() {
+
+		Thread caller = Thread.currentThread();
+		FanOut fanOut = new FanOut(null, 2);
+
+		List<Integer> results = fanOut.apply(List.of(1, 2, 3, 4, 5), batch -> {
+			assertThat(Thread.currentThread()).isSameAs(caller);
+			assertThat(batch).hasSize(5);
+			return batch.stream().map(i -> i * 10).toList();
+		});
+
+		assertThat(results).containsExactly(10, 20, 30, 40, 50);
+	}
+
+	@Test
+	@DisplayName("should process batches on executor and keep the order")
+	void shouldProcessBatchesOnExecutorAndKeepTheOrder() {
+
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		FanOut fanOut = new FanOut(executor, 3);
+		List<Integer> items = IntStream.range(0, 10).boxed().toList();
+
+		List<Integer> results = fanOut.apply(items, batch -> {
+			assertThat(batch.size()).isLessThanOrEqualTo(3);
+			threadNames.add(Thread.currentThread().getName());
+			return batch.stream().map(i -> i * 10).toList();
+		});
+
+		assertThat(results).containsExactlyElementsOf(items.stream().map(i -> i * 10).toList());
+		assertThat(threadNames).doesNotContain(Thread.currentThread().getName());
+	}
+
+	@Test
+	@DisplayName("should throw the exception of a failed batch")
+	void shouldThrowTheExceptionOfAFailedBatch() {
+
+		FanOut fanOut = new FanOut(executor, 2);
+
+		assertThatThrownBy(() -> fanOut.apply(List.of(1, 2, 3, 4, 5), batch -> {
+			if (batch.contains(3)) {
+				throw new DataAccessResourceFailureException("failed");
+			}
+			return batch;
+		})).isInstanceOf(DataAccessResourceFailureException.class).hasMessage("failed");
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.elasticsearch.client.Node;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class LatencyAwareNodeSelectorUnitTests {
+
+	private final Node fast = new Node(new HttpHost("fast", 9200));
+	private final Node medium = new Node(new HttpHost("medium", 9200));
+	private final Node slow = new Node(new HttpHost("slow", 9200));
+	private final Node unknown = new Node(new HttpHost("unknown", 9200));
+
+	@Test
+	@DisplayName("should skip nodes with a latency above the tolerance")
+	void shouldSkipNodesWithALatencyAboveTheTolerance() {
+
+		LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(2.0);
+		selector.record(fast.getHost(), 10);
+		selector.record(medium.getHost(), 15);
+		selector.record(slow.getHost(), 100);
+
+		List<Node> nodes = new ArrayList<>(List.of(fast, medium, slow, unknown));
+		selector.select(nodes);
+
+		assertThat(nodes).containsExactly(fast, medium, unknown);
+	}
+
+	@Test
+	@DisplayName("should keep all nodes without latencies")
+	void shouldKeepAllNodesWithoutLatencies() {
+
+		LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(2.0);
+
+		List<Node> nodes = new ArrayList<>(List.of(fast, slow));
+		selector.select(nodes);
+
+		assertThat(nodes).containsExactly(fast, slow);
+	}
+
+	@Test
+	@DisplayName("should compare with the fastest of the candidate nodes")
+	void shouldCompareWithTheFastestOfTheCandidateNodes() {
+
+		LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(2.0);
+		selector.record(fast.getHost(), 10);
+		selector.record(slow.getHost(), 100);
+
+		List<Node> nodes = new ArrayList<>(List.of(slow));
+		selector.select(nodes);
+
+		assertThat(nodes).containsExactly(slow);
+	}
+
+	@Test
+	@DisplayName("should keep at least half of the nodes and skip the slowest ones")
+	void shouldKeepAtLeastHalfOfTheNodesAndSkipTheSlowestOnes() {
+
+		Node slower = new Node(new HttpHost("slower", 9200));
+		Node slowest = new Node(new HttpHost("slowest", 9200));
+		LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(2.0);
+		selector.record(fast.getHost(), 10);
+		selector.record(slow.getHost(), 100);
+		selector.record(slower.getHost(), 200);
+		selector.record(slowest.getHost(), 300);
+
+		List<Node> nodes = new ArrayList<>(List.of(slowest, fast, slower, slow));
+		selector.select(nodes);
+
+		assertThat(nodes).containsExactly(fast, slow);
+	}
+
+	@Test
+	@DisplayName("should only measure read requests")
+	void shouldOnlyMeasureReadRequests() throws Exception {
+
+		LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(2.0);
+		selector.record(fast.getHost(), 10);
+		selector.record(medium.getHost(), 10);
+
+		Thread.sleep(5);
+		execute(selector, slow.getHost(), "POST", "/_bulk");
+		execute(selector, medium.getHost(), "POST", "/index/_search?size=10");
+
+		List<Node> nodes = new ArrayList<>(List.of(fast, medium, slow));
+		selector.select(nodes);
+
+		assertThat(nodes).containsExactly(fast, slow);
+	}
+
+	private static void execute(LatencyAwareNodeSelector selector, HttpHost host, String method, String uri)
+			throws Exception {
+
+		HttpContext context = new BasicHttpContext();
+		context.setAttribute(HttpCoreContext.HTTP_TARGET_HOST, host);
+		selector.requestInterceptor().process(new BasicHttpRequest(method, uri), context);
+		Thread.sleep(5);
+		selector.responseInterceptor().process(new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK"), context);
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.LoadProtection;
+import org.springframework.data.elasticsearch.client.LoadProtection.CircuitState;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class LoadProtectionHandlerUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	@Test
+	@DisplayName("should register responses and fail fast when the circuit is open")
+	void shouldRegisterResponsesAndFailFastWhenTheCircuitIsOpen() {
+
+		wireMock.stubFor(head(urlPathEqualTo("/")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withHeader("X-elastic-product", "Elasticsearch")));
+		wireMock.stubFor(head(urlPathEqualTo("/unavailable")) //
+				.willReturn(aResponse() //
+						.withStatus(503) //
+						.withHeader("X-elastic-product", "Elasticsearch")));
+
+		String host = "localhost:" + wireMock.getPort();
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withFailureRateWindow(2) //
+				.withOpenStateDuration(Duration.ofMinutes(1)) //
+				.build();
+		ElasticsearchClient client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo(host) //
+				.withLoadProtection(loadProtection) //
+				.build());
+
+		assertThatCode(client::ping).doesNotThrowAnyException();
+		assertThat(loadProtection.getHostStatus())
+				.containsExactly(new LoadProtection.HostStatus(host, CircuitState.CLOSED, 20, 0));
+
+		for (int i = 0; i < 2; i++) {
+			assertThatCode(() -> client.indices().exists(exists -> exists.index("unavailable")))
+					.isInstanceOf(Exception.class);
+		}
+		assertThat(loadProtection.getCircuitState(host)).isEqualTo(CircuitState.OPEN);
+
+		wireMock.resetRequests();
+		assertThatThrownBy(client::ping).hasMessageContaining("LoadProtection");
+		wireMock.verify(0, anyRequestedFor(anyUrl()));
+	}
+
+	@Test
+	@DisplayName("should release the request in flight when it fails with an I/O error")
+	void shouldReleaseTheRequestInFlightWhenItFailsWithAnIOError() {
+
+		wireMock.stubFor(head(urlPathEqualTo("/")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withHeader("X-elastic-product", "Elasticsearch")));
+		wireMock.stubFor(head(urlPathEqualTo("/broken")) //
+				.willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+		String host = "localhost:" + wireMock.getPort();
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withInitialLimit(1) //
+				.withMinLimit(1) //
+				.withMaxLimit(1) //
+				.withInFlightTimeout(Duration.ofMinutes(10)) //
+				.build();
+		ElasticsearchClient client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo(host) //
+				.withLoadProtection(loadProtection) //
+				.build());
+
+		assertThatCode(() -> client.indices().exists(exists -> exists.index("broken"))).isInstanceOf(Exception.class);
+
+		assertThat(loadProtection.getHostStatus())
+				.containsExactly(new LoadProtection.HostStatus(host, CircuitState.CLOSED, 1, 0));
+		assertThatCode(client::ping).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("should release its own request and not one in flight when a request fails with an I/O error")
+	void shouldReleaseItsOwnRequestAndNotOneInFlightWhenARequestFailsWithAnIOError() throws Exception {
+
+		wireMock.stubFor(head(urlPathEqualTo("/")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withFixedDelay(500) //
+						.withHeader("X-elastic-product", "Elasticsearch")));
+		wireMock.stubFor(head(urlPathEqualTo("/broken")) //
+				.willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+		String host = "localhost:" + wireMock.getPort();
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withInitialLimit(2) //
+				.withMinLimit(2) //
+				.withMaxLimit(2) //
+				.withInFlightTimeout(Duration.ofMinutes(10)) //
+				.build();
+		ElasticsearchClient client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo(host) //
+				.withLoadProtection(loadProtection) //
+				.build());
+
+		CompletableFuture<Boolean> slowRequest = CompletableFuture.supplyAsync(() -> {
+			try {
+				return client.ping().value();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		awaitInFlight(loadProtection, 1);
+
+		assertThatCode(() -> client.indices().exists(exists -> exists.index("broken"))).isInstanceOf(Exception.class);
+		assertThat(loadProtection.getHostStatus().get(0).inFlight()).isEqualTo(1);
+
+		assertThat(slowRequest.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(loadProtection.getHostStatus().get(0).inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("should reject a request when the limit was reached by a concurrent request")
+	void shouldRejectARequestWhenTheLimitWasReachedByAConcurrentRequest() throws Exception {
+
+		wireMock.stubFor(head(urlPathEqualTo("/")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withFixedDelay(500) //
+						.withHeader("X-elastic-product", "Elasticsearch")));
+
+		String host = "localhost:" + wireMock.getPort();
+		LoadProtection loadProtection = LoadProtection.builder() //
+				.withInitialLimit(1) //
+				.withMinLimit(1) //
+				.withMaxLimit(1) //
+				.build();
+		ElasticsearchClient client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo(host) //
+				.withLoadProtection(loadProtection) //
+				.build());
+
+		CompletableFuture<Boolean> firstRequest = CompletableFuture.supplyAsync(() -> {
+			try {
+				return client.ping().value();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		awaitInFlight(loadProtection, 1);
+
+		assertThatThrownBy(client::ping).hasMessageContaining("LoadProtection");
+
+		assertThat(firstRequest.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(loadProtection.getHostStatus().get(0).inFlight()).isZero();
+		wireMock.verify(1, headRequestedFor(urlPathEqualTo("/")));
+	}
+
+	private static void awaitInFlight(LoadProtection loadProtection, int inFlight) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (loadProtection.getHostStatus().isEmpty()
+				|| loadProtection.getHostStatus().get(0).inFlight() != inFlight) {
+			assertThat(System.nanoTime() - deadline).describedAs("requests in flight").isNegative();
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import java.time.Duration;
+
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.ConnectionPool;
+import org.springframework.data.elasticsearch.client.ConnectionPool.RouteStatistics;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class MeasuredConnectionManagerUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	@Test
+	@DisplayName("should use the pool settings and provide the statistics")
+	void shouldUseThePoolSettingsAndProvideTheStatistics() throws Exception {
+
+		wireMock.stubFor(get(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+		ConnectionPool connectionPool = ConnectionPool.builder() //
+				.withMaxConnectionsPerRoute(3) //
+				.withMaxConnectionsTotal(5) //
+				.withKeepAlive(Duration.ofSeconds(30)) //
+				.withIoThreadCount(1) //
+				.build();
+
+		try (RestClient restClient = ElasticsearchClients.getRestClient(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withConnectionPool(connectionPool) //
+				.build())) {
+
+			restClient.performRequest(new Request("GET", "/"));
+			restClient.performRequest(new Request("GET", "/"));
+
+			assertThat(connectionPool.getRouteStatistics()).hasSize(1);
+			RouteStatistics routeStatistics = connectionPool.getRouteStatistics().get(0);
+			assertThat(routeStatistics.route()).isEqualTo("http://localhost:" + wireMock.getPort());
+			assertThat(routeStatistics.leased()).isZero();
+			assertThat(routeStatistics.available()).isEqualTo(1);
+			assertThat(routeStatistics.max()).isEqualTo(3);
+			assertThat(routeStatistics.leaseCount()).isEqualTo(2);
+
+			RouteStatistics totalStatistics = connectionPool.getTotalStatistics();
+			assertThat(totalStatistics.max()).isEqualTo(5);
+			assertThat(totalStatistics.leaseCount()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	@DisplayName("should remove the statistics of a closed client")
+	void shouldRemoveTheStatisticsOfAClosedClient() throws Exception {
+
+		wireMock.stubFor(get(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+		ConnectionPool connectionPool = ConnectionPool.builder().withIoThreadCount(1).build();
+		ClientConfiguration clientConfiguration = ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withConnectionPool(connectionPool) //
+				.build();
+
+		try (RestClient restClient = ElasticsearchClients.getRestClient(clientConfiguration)) {
+
+			RestClient closedClient = ElasticsearchClients.getRestClient(clientConfiguration);
+			closedClient.performRequest(new Request("GET", "/"));
+			closedClient.close();
+
+			restClient.performRequest(new Request("GET", "/"));
+
+			assertThat(connectionPool.getTotalStatistics().leaseCount()).isEqualTo(1);
+		}
+
+		assertThat(connectionPool.getRouteStatistics()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should not provide statistics when a callback replaces the connection manager")
+	void shouldNotProvideStatisticsWhenACallbackReplacesTheConnectionManager() throws Exception {
+
+		wireMock.stubFor(get(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+		ConnectionPool connectionPool = ConnectionPool.builder().withIoThreadCount(1).build();
+		PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+				new DefaultConnectingIOReactor(IOReactorConfig.custom().setIoThreadCount(1).build()));
+
+		try (RestClient restClient = ElasticsearchClients.getRestClient(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withConnectionPool(connectionPool) //
+				.withClientConfigurer(ElasticsearchClients.ElasticsearchHttpClientConfigurationCallback
+						.from(clientBuilder -> clientBuilder.setConnectionManager(connectionManager))) //
+				.build())) {
+
+			restClient.performRequest(new Request("GET", "/"));
+
+			assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+			assertThat(connectionPool.getRouteStatistics()).isEmpty();
+			// the unused manager of the pool is not counted
+			assertThat(connectionPool.getTotalStatistics().max()).isZero();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.Sniffing;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class NodeSnifferUnitTests {
+
+	@RegisterExtension static WireMockExtension seedNode = wireMockExtension();
+
+	@RegisterExtension static WireMockExtension dataNode = wireMockExtension();
+
+	@Test
+	@DisplayName("should parse the HTTP enabled nodes and skip master only nodes")
+	void shouldParseTheHttpEnabledNodesAndSkipMasterOnlyNodes() throws Exception {
+
+		String json = nodesResponse("""
+				"data": { "name": "data-1", "version": "9.0.1", "roles": ["data", "ingest"], "attributes": { "zone": "a" },
+					"http": { "bound_address": ["10.0.0.1:9200"], "publish_address": "es-data-1/10.0.0.1:9200" } },
+				"coordinating": { "name": "coord-1", "version": "9.0.1", "roles": [],
+					"http": { "publish_address": "[::1]:9201" } },
+				"master": { "name": "master-1", "version": "9.0.1", "roles": ["master"],
+					"http": { "publish_address": "10.0.0.3:9200" } },
+				"no-http": { "name": "data-2", "version": "9.0.1", "roles": ["data"] }
+				""");
+
+		List<Node> nodes = NodeSniffer.parseNodes(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+				"https");
+
+		assertThat(nodes).extracting(Node::getName).containsExactly("data-1", "coord-1");
+		Node data = nodes.get(0);
+		assertThat(data.getHost()).isEqualTo(new HttpHost("es-data-1", 9200, "https"));
+		assertThat(data.getBoundHosts()).containsExactly(new HttpHost("10.0.0.1", 9200, "https"));
+		assertThat(data.getRoles().canContainData()).isTrue();
+		assertThat(data.getAttributes()).containsEntry("zone", List.of("a"));
+		assertThat(nodes.get(1).getHost().getPort()).isEqualTo(9201);
+	}
+
+	@Test
+	@DisplayName("should send the requests to the sniffed nodes")
+	void shouldSendTheRequestsToTheSniffedNodes() throws Exception {
+
+		seedNode.stubFor(get(urlPathEqualTo("/_nodes/http")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withHeader("content-type", "application/json") //
+						.withBody(nodesResponse("""
+								"data": { "name": "data-1", "version": "9.0.1", "roles": ["data"],
+									"http": { "publish_address": "localhost:%d" } }
+								""".formatted(dataNode.getPort())))));
+		dataNode.stubFor(get(urlPathEqualTo("/sniffed")) //
+				.willReturn(aResponse().withStatus(200)));
+
+		RestClient restClient = ElasticsearchClients.getRestClient(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + seedNode.getPort()) //
+				.withSniffing(Sniffing.builder().withInterval(Duration.ofMinutes(1)).build()) //
+				.build());
+
+		try (restClient) {
+			HttpHost dataHost = new HttpHost("localhost", dataNode.getPort(), "http");
+			long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+			while (!restClient.getNodes().stream().map(Node::getHost).toList().equals(List.of(dataHost))
+					&& System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			assertThat(restClient.getNodes()).extracting(Node::getHost).containsExactly(dataHost);
+
+			restClient.performRequest(new Request("GET", "/sniffed"));
+
+			dataNode.verify(1, getRequestedFor(urlPathEqualTo("/sniffed")));
+			seedNode.verify(0, getRequestedFor(urlPathEqualTo("/sniffed")));
+		}
+	}
+
+	private static String nodesResponse(String nodes) {
+		return """
+				{ "_nodes": { "total": 1, "successful": 1, "failed": 0 }, "cluster_name": "test", "nodes": { %s } }
+				""".formatted(nodes);
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.support.HttpHeaders;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class OpaqueIdProviderUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	@Test
+	@DisplayName("should return the operation and the entity or the index")
+	void shouldReturnTheOperationAndTheEntityOrTheIndex() {
+
+		OpaqueIdProvider provider = OpaqueIdProvider.operation();
+
+		assertThat(provider.getOpaqueId(OperationObserver.Operation.SEARCH, IndexCoordinates.of("tagged"),
+				TaggedEntity.class)).isEqualTo("search:TaggedEntity");
+		assertThat(provider.getOpaqueId(OperationObserver.Operation.BULK, IndexCoordinates.of("one", "two"), null))
+				.isEqualTo("bulk:one,two");
+		assertThat(provider.getOpaqueId(OperationObserver.Operation.SCROLL, null, null)).isEqualTo("scroll");
+	}
+
+	@Test
+	@DisplayName("should fall back to the operation when there is no application method on the stack")
+	void shouldFallBackToTheOperationWhenThereIsNoApplicationMethodOnTheStack() {
+
+		// on a pool thread the stack only contains the JDK and this test class, which is in a Spring package
+		String opaqueId = CompletableFuture.supplyAsync(() -> OpaqueIdProvider.callSite()
+				.getOpaqueId(OperationObserver.Operation.GET, IndexCoordinates.of("tagged"), TaggedEntity.class)).join();
+
+		assertThat(opaqueId).isEqualTo("get:TaggedEntity");
+	}
+
+	@Test
+	@DisplayName("should send the opaque id with a search request")
+	void shouldSendTheOpaqueIdWithASearchRequest() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/tagged/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse())));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(
+				ElasticsearchClients.createImperative(clientConfiguration(null)));
+		template.setOpaqueIdProvider(OpaqueIdProvider.operation());
+
+		template.search(Query.findAll(), TaggedEntity.class);
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/tagged/_search")) //
+				.withHeader(OpaqueIdProvider.HEADER_NAME, equalTo("search:TaggedEntity")));
+	}
+
+	@Test
+	@DisplayName("should send the opaque id with a hedged get request")
+	void shouldSendTheOpaqueIdWithAHedgedGetRequest() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/tagged/_doc/42")) //
+				.willReturn(elasticsearchResponse("""
+						{ "_index": "tagged", "_id": "42", "_version": 1, "found": true, "_source": { "id": "42" } }
+						""")));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(
+				ElasticsearchClients.createImperative(clientConfiguration(null)));
+		template.setHedgingPolicy(HedgingPolicy.builder().withInitialDelay(Duration.ofSeconds(5)).build());
+		template.setOpaqueIdProvider((operation, index, entityType) -> "tagged-get");
+
+		TaggedEntity entity = template.get("42", TaggedEntity.class);
+
+		assertThat(entity).isNotNull();
+		wireMock.verify(1, getRequestedFor(urlPathEqualTo("/tagged/_doc/42")) //
+				.withHeader(OpaqueIdProvider.HEADER_NAME, equalTo("tagged-get")));
+	}
+
+	@Test
+	@DisplayName("should replace a configured opaque id header")
+	void shouldReplaceAConfiguredOpaqueIdHeader() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/tagged/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse())));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(
+				ElasticsearchClients.createImperative(clientConfiguration("configured")));
+
+		template.search(Query.findAll(), TaggedEntity.class);
+		template.setOpaqueIdProvider((operation, index, entityType) -> "template");
+		template.search(Query.findAll(), TaggedEntity.class);
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/tagged/_search")) //
+				.withHeader(OpaqueIdProvider.HEADER_NAME, equalTo("configured")));
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/tagged/_search")) //
+				.withHeader(OpaqueIdProvider.HEADER_NAME, equalTo("template")) //
+				.withHeader(OpaqueIdProvider.HEADER_NAME, notContaining("configured")));
+	}
+
+	@Test
+	@DisplayName("should send the opaque id with a reactive count request")
+	void shouldSendTheOpaqueIdWithAReactiveCountRequest() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/tagged/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse())));
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		ReactiveElasticsearchTemplate template = new ReactiveElasticsearchTemplate(
+				ElasticsearchClients.createReactive(clientConfiguration(null)), converter);
+		template.setOpaqueIdProvider(OpaqueIdProvider.operation());
+
+		template.count(Query.findAll(), TaggedEntity.class) //
+				.as(StepVerifier::create) //
+				.expectNext(5L) //
+				.verifyComplete();
+
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/tagged/_search")) //
+				.withHeader(OpaqueIdProvider.HEADER_NAME, equalTo("count:TaggedEntity")));
+	}
+
+	private static ClientConfiguration clientConfiguration(@Nullable String configuredOpaqueId) {
+		return ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.withHeaders(() -> {
+					HttpHeaders headers = new HttpHeaders();
+					if (configuredOpaqueId != null) {
+						headers.add(OpaqueIdProvider.HEADER_NAME, configuredOpaqueId);
+					}
+					return headers;
+				}) //
+				.build();
+	}
+
+	private static String searchResponse() {
+		return """
+				{ "took": 3, "timed_out": false,
+				  "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+				  "hits": { "total": { "value": 5, "relation": "eq" }, "max_score": 1.0, "hits": [] } }
+				""";
+	}
+
+	@Document(indexName = "tagged")
+	static class TaggedEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class RequestHedgerUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private ElasticsearchClient client;
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		client = ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build());
+		template = new ElasticsearchTemplate(client);
+		template.setHedgingPolicy(HedgingPolicy.builder() //
+				.withInitialDelay(Duration.ofMillis(50)) //
+				.build());
+	}
+
+	@Test
+	@DisplayName("should use the initial delay until enough latencies are recorded")
+	void shouldUseTheInitialDelayUntilEnoughLatenciesAreRecorded() {
+
+		RequestHedger.LatencyWindow window = new RequestHedger.LatencyWindow(100);
+
+		for (int i = 0; i < 9; i++) {
+			window.record(1);
+		}
+
+		assertThat(window.percentile(95, 42)).isEqualTo(42);
+	}
+
+	@Test
+	@DisplayName("should calculate the percentile of the recent latencies")
+	void shouldCalculateThePercentileOfTheRecentLatencies() {
+
+		RequestHedger.LatencyWindow window = new RequestHedger.LatencyWindow(100);
+
+		for (int i = 1; i <= 100; i++) {
+			window.record(i);
+		}
+		assertThat(window.percentile(95, 0)).isEqualTo(95);
+		assertThat(window.percentile(50, 0)).isEqualTo(50);
+
+		// replace the whole window with higher latencies
+		for (int i = 1; i <= 100; i++) {
+			window.record(1000 + i);
+		}
+		assertThat(window.percentile(95, 0)).isEqualTo(1095);
+	}
+
+	@Test
+	@DisplayName("should not go below the minimal delay")
+	void shouldNotGoBelowTheMinimalDelay() {
+
+		RequestHedger hedger = new RequestHedger(HedgingPolicy.builder() //
+				.withInitialDelay(Duration.ZERO) //
+				.withMinDelay(Duration.ofMillis(5)) //
+				.build(), client, new ElasticsearchExceptionTranslator(client._jsonpMapper()));
+
+		assertThat(hedger.delayNanos(RequestHedger.Operation.SEARCH)).isEqualTo(Duration.ofMillis(5).toNanos());
+	}
+
+	@Test
+	@DisplayName("should return the response of the hedged get request when the first one is slow")
+	void shouldReturnTheResponseOfTheHedgedGetRequestWhenTheFirstOneIsSlow() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/hedging/_doc/42")) //
+				.withQueryParam("preference", absent()) //
+				.willReturn(elasticsearchResponse(doc("slow")).withFixedDelay(5_000)));
+		wireMock.stubFor(get(urlPathEqualTo("/hedging/_doc/42")) //
+				.withQueryParam("preference", matching("hedge-.*")) //
+				.willReturn(elasticsearchResponse(doc("fast"))));
+
+		long start = System.nanoTime();
+		HedgingEntity entity = template.get("42", HedgingEntity.class);
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+		assertThat(entity).isNotNull();
+		assertThat(entity.getText()).isEqualTo("fast");
+		assertThat(duration).isLessThan(Duration.ofSeconds(4));
+	}
+
+	@Test
+	@DisplayName("should not send a second request when the first one is fast")
+	void shouldNotSendASecondRequestWhenTheFirstOneIsFast() throws InterruptedException {
+
+		wireMock.stubFor(get(urlPathEqualTo("/hedging/_doc/42")) //
+				.willReturn(elasticsearchResponse(doc("fast"))));
+		template.setHedgingPolicy(HedgingPolicy.builder() //
+				.withInitialDelay(Duration.ofMillis(500)) //
+				.build());
+
+		HedgingEntity entity = template.get("42", HedgingEntity.class);
+		// wait longer than the delay to be sure that no hedged request is sent
+		Thread.sleep(700);
+
+		assertThat(entity).isNotNull();
+		wireMock.verify(1, getRequestedFor(urlPathEqualTo("/hedging/_doc/42")));
+	}
+
+	@Test
+	@DisplayName("should not hedge a search request using a point in time")
+	void shouldNotHedgeASearchRequestUsingAPointInTime() {
+
+		wireMock.stubFor(post(urlPathMatching("/.*_search")) //
+				.willReturn(elasticsearchResponse("""
+						{ "took": 1, "timed_out": false, "_shards": { "total": 1, "successful": 1, "failed": 0 },
+						  "hits": { "total": { "value": 0, "relation": "eq" }, "hits": [] } }
+						""").withFixedDelay(300)));
+
+		Query query = NativeQuery.builder() //
+				.withPointInTime(new Query.PointInTime("pit-id", Duration.ofMinutes(1))) //
+				.build();
+		SearchHits<HedgingEntity> searchHits = template.search(query, HedgingEntity.class);
+
+		assertThat(searchHits.getTotalHits()).isZero();
+		wireMock.verify(1, postRequestedFor(urlPathMatching("/.*_search")));
+		wireMock.verify(0, postRequestedFor(urlPathMatching("/.*_search")).withQueryParam("preference", matching(".*")));
+	}
+
+	private static String doc(String text) {
+		return """
+				{ "_index": "hedging", "_id": "42", "_version": 1, "found": true, "_source": { "id": "42", "text": "%s" } }
+				""".formatted(text);
+	}
+
+	@Document(indexName = "hedging")
+	static class HedgingEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class SlowOperationLoggerUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private final JacksonJsonpMapper jsonpMapper = new JacksonJsonpMapper();
+
+	@Test
+	@DisplayName("should use the threshold of the operation if set")
+	void shouldUseTheThresholdOfTheOperationIfSet() {
+
+		SlowOperationLog slowOperationLog = SlowOperationLog.builder() //
+				.withThreshold(Duration.ofMillis(200)) //
+				.withThreshold(OperationObserver.Operation.BULK, Duration.ofSeconds(5)) //
+				.build();
+
+		assertThat(slowOperationLog.getThreshold(OperationObserver.Operation.SEARCH)).isEqualTo(Duration.ofMillis(200));
+		assertThat(slowOperationLog.getThreshold(OperationObserver.Operation.BULK)).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@DisplayName("should serialize the request body")
+	void shouldSerializeTheRequestBody() {
+
+		SlowOperationLogger logger = new SlowOperationLogger(SlowOperationLog.builder().build(), jsonpMapper);
+		SearchRequest request = SearchRequest.of(sr -> sr //
+				.index("slow") //
+				.query(q -> q.term(t -> t.field("text").value("pathological"))));
+
+		assertThat(logger.requestBody(request)).isEqualTo("""
+				{"query":{"term":{"text":{"value":"pathological"}}}}""");
+	}
+
+	@Test
+	@DisplayName("should truncate the request body")
+	void shouldTruncateTheRequestBody() {
+
+		SlowOperationLogger logger = new SlowOperationLogger(SlowOperationLog.builder() //
+				.withMaxRequestLength(10) //
+				.build(), jsonpMapper);
+		SearchRequest request = SearchRequest.of(sr -> sr //
+				.index("slow") //
+				.query(q -> q.term(t -> t.field("text").value("pathological"))));
+
+		assertThat(logger.requestBody(request)).isEqualTo("{\"query\":{...");
+	}
+
+	@Test
+	@DisplayName("should only serialize the bulk operations up to the maximum length")
+	void shouldOnlySerializeTheBulkOperationsUpToTheMaximumLength() {
+
+		SlowOperationLogger logger = new SlowOperationLogger(SlowOperationLog.builder() //
+				.withMaxRequestLength(30) //
+				.build(), jsonpMapper);
+		List<co.elastic.clients.elasticsearch.core.bulk.BulkOperation> operations = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			String id = String.valueOf(i);
+			operations.add(co.elastic.clients.elasticsearch.core.bulk.BulkOperation
+					.of(bo -> bo.index(io -> io.index("slow").id(id).document(Map.of("text", "text-" + id)))));
+		}
+		BulkRequest request = BulkRequest.of(br -> br.operations(operations));
+
+		String body = logger.requestBody(request);
+
+		assertThat(body).startsWith("{\"index\":{\"_id\":\"0\"").hasSize(33).endsWith("...");
+	}
+
+	@Test
+	@DisplayName("should log nothing for requests without body")
+	void shouldLogNothingForRequestsWithoutBody() {
+
+		SlowOperationLogger logger = new SlowOperationLogger(SlowOperationLog.builder().build(), jsonpMapper);
+
+		assertThat(logger.requestBody(GetRequest.of(gr -> gr.index("slow").id("42")))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("should describe a slow failed request")
+	void shouldDescribeASlowFailedRequest() {
+
+		SlowOperationLogger logger = new SlowOperationLogger(SlowOperationLog.builder() //
+				.withMaxRequestLength(10) //
+				.build(), jsonpMapper);
+		SearchRequest request = SearchRequest.of(sr -> sr //
+				.index("slow") //
+				.query(q -> q.term(t -> t.field("text").value("pathological"))));
+
+		String message = logger.failureMessage(OperationObserver.Operation.SEARCH, IndexCoordinates.of("slow", "slower"),
+				Duration.ofMillis(1234), new SocketTimeoutException("timeout"), request);
+
+		assertThat(message).isEqualTo("slow failed search request to [slow,slower]: latency 1234ms, " //
+				+ "error java.net.SocketTimeoutException, request: {\"query\":{...");
+	}
+
+	@Test
+	@DisplayName("should pass the requests to the observer when a slow operation log is set as well")
+	void shouldPassTheRequestsToTheObserverWhenASlowOperationLogIsSetAsWell() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/slow/_search")) //
+				.willReturn(aResponse() //
+						.withStatus(200) //
+						.withHeader("X-elastic-product", "Elasticsearch") //
+						.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+						.withBody("""
+								{ "took": 1, "timed_out": false,
+								  "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+								  "hits": { "total": { "value": 0, "relation": "eq" }, "max_score": 0.0, "hits": [] } }
+								""")));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(
+				ClientConfiguration.builder().connectedTo("localhost:" + wireMock.getPort()).build()));
+		List<Object> requests = new ArrayList<>();
+		List<Object> responses = new ArrayList<>();
+		template.setOperationObserver((operation, index, entityType, request) -> {
+			requests.add(request);
+			return new OperationObserver.Observed() {
+				@Override
+				public OperationObserver.Scope openScope() {
+					return () -> {};
+				}
+
+				@Override
+				public void onResponse(Object response) {
+					responses.add(response);
+				}
+
+				@Override
+				public void onError(Throwable error) {}
+
+				@Override
+				public void onCancel() {}
+
+				@Override
+				public void stop() {}
+			};
+		});
+		template.setSlowOperationLog(SlowOperationLog.builder().withThreshold(Duration.ZERO).build());
+
+		SearchHits<SlowEntity> searchHits = template.search(Query.findAll(), SlowEntity.class,
+				IndexCoordinates.of("slow"));
+
+		assertThat(searchHits.getTotalHits()).isZero();
+		assertThat(requests).hasSize(1).first().isInstanceOf(SearchRequest.class);
+		assertThat(responses).hasSize(1);
+		assertThat(template.getSlowOperationLog()).isNotNull();
+	}
+
+	@Document(indexName = "slow")
+	static class SlowEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.ConversionObserver;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * @author agent
+ */
+class ObservationConversionObserverUnitTests {
+
+	private final List<ConversionObservationContext> stoppedContexts = new CopyOnWriteArrayList<>();
+	private final List<String> events = new CopyOnWriteArrayList<>();
+	private MappingElasticsearchConverter converter;
+
+	@BeforeEach
+	void setUp() {
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<ConversionObservationContext>() {
+			@Override
+			public void onEvent(Observation.Event event, ConversionObservationContext context) {
+				events.add(event.getName());
+			}
+
+			@Override
+			public void onStop(ConversionObservationContext context) {
+				stoppedContexts.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof ConversionObservationContext;
+			}
+		});
+
+		converter = new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		converter.setConversionObserver(new ObservationConversionObserver(observationRegistry));
+	}
+
+	@Test
+	@DisplayName("should observe the writing of an entity")
+	void shouldObserveTheWritingOfAnEntity() {
+
+		LocatedEntity entity = new LocatedEntity();
+		entity.setId("42");
+		entity.setLocation(new GeoPoint(48.0, 8.0));
+
+		converter.write(entity, Document.create());
+
+		assertThat(stoppedContexts).hasSize(1);
+		ConversionObservationContext context = stoppedContexts.get(0);
+		assertThat(context.getEntityType()).isEqualTo(LocatedEntity.class);
+		assertThat(context.getDirection()).isEqualTo(ConversionObserver.Direction.WRITE);
+		assertThat(context.getCustomConversions()).isEqualTo(1);
+		assertThat(events).containsExactly("custom.conversion");
+		assertThat(context.getName()).isEqualTo("spring.data.elasticsearch.conversion");
+		assertThat(context.getContextualName()).isEqualTo("write LocatedEntity");
+		assertThat(context.getLowCardinalityKeyValues()).containsExactlyInAnyOrder( //
+				KeyValue.of("spring.data.elasticsearch.entity", LocatedEntity.class.getName()), //
+				KeyValue.of("spring.data.elasticsearch.conversion.direction", "write"));
+		assertThat(context.getHighCardinalityKeyValue("spring.data.elasticsearch.conversion.custom.conversions").getValue())
+				.isEqualTo("1");
+	}
+
+	@Test
+	@DisplayName("should observe the reading of an entity")
+	void shouldObserveTheReadingOfAnEntity() {
+
+		Document document = Document.create();
+		document.put("id", "42");
+		document.put("location", Document.create().append("lat", 48.0).append("lon", 8.0));
+
+		LocatedEntity entity = converter.read(LocatedEntity.class, document);
+
+		assertThat(entity.getLocation()).isEqualTo(new GeoPoint(48.0, 8.0));
+		assertThat(stoppedContexts).hasSize(1);
+		ConversionObservationContext context = stoppedContexts.get(0);
+		assertThat(context.getDirection()).isEqualTo(ConversionObserver.Direction.READ);
+		assertThat(context.getTypeHints()).isZero();
+		assertThat(context.getError()).isNull();
+	}
+
+	static class LocatedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Auto) private GeoPoint location;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public GeoPoint getLocation() {
+			return location;
+		}
+
+		public void setLocation(@Nullable GeoPoint location) {
+			this.location = location;
+		}
+	}
+}
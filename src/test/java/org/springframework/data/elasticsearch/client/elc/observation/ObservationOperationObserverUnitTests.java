@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.client.elc.observation;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.elasticsearch.client.RestClient;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.OperationObserver;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class ObservationOperationObserverUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private final List<ElasticsearchObservationContext> stoppedContexts = new CopyOnWriteArrayList<>();
+	private ObservationOperationObserver observer;
+	private RestClient restClient;
+	private ElasticsearchTransport transport;
+
+	@BeforeEach
+	void setUp() {
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<ElasticsearchObservationContext>() {
+			@Override
+			public void onStop(ElasticsearchObservationContext context) {
+				stoppedContexts.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof ElasticsearchObservationContext;
+			}
+		});
+
+		observer = new ObservationOperationObserver(observationRegistry);
+		restClient = ElasticsearchClients.getRestClient(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build());
+		transport = ElasticsearchClients.getElasticsearchTransport(restClient, ElasticsearchClients.IMPERATIVE_CLIENT, null,
+				new JacksonJsonpMapper(), observer.getInstrumentation());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		restClient.close();
+	}
+
+	@Test
+	@DisplayName("should observe a search request")
+	void shouldObserveASearchRequest() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/observed/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse(7, 2))));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(transport));
+		template.setOperationObserver(observer);
+
+		SearchHits<ObservedEntity> searchHits = template.search(Query.findAll(), ObservedEntity.class);
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(2);
+		assertThat(stoppedContexts).hasSize(1);
+		ElasticsearchObservationContext context = stoppedContexts.get(0);
+		assertThat(context.getOperation()).isEqualTo(OperationObserver.Operation.SEARCH);
+		assertThat(context.getOutcome()).isEqualTo(ElasticsearchObservationContext.Outcome.SUCCESS);
+		assertThat(context.getHits()).isEqualTo(2);
+		assertThat(context.getTook()).isEqualTo(Duration.ofMillis(7));
+		assertThat(context.getClientLatency()).isNotNull();
+		assertThat(context.getRequestSize()).isPositive();
+		assertThat(context.getResponseSize()).isEqualTo(searchResponse(7, 2).length());
+		assertThat(context.getLowCardinalityKeyValues()).containsExactlyInAnyOrder( //
+				KeyValue.of("spring.data.elasticsearch.operation", "search"), //
+				KeyValue.of("spring.data.elasticsearch.index", "observed"), //
+				KeyValue.of("spring.data.elasticsearch.entity", ObservedEntity.class.getName()), //
+				KeyValue.of("spring.data.elasticsearch.outcome", "SUCCESS"));
+		assertThat(context.getHighCardinalityKeyValue("spring.data.elasticsearch.took").getValue()).isEqualTo("7");
+		assertThat(context.getHighCardinalityKeyValue("spring.data.elasticsearch.index.names").getValue())
+				.isEqualTo("observed");
+		assertThat(context.getContextualName()).isEqualTo("search observed");
+	}
+
+	@Test
+	@DisplayName("should use the index name of the entity and not the resolved index name as low cardinality value")
+	void shouldUseTheIndexNameOfTheEntityAndNotTheResolvedIndexNameAsLowCardinalityValue() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/observed-2025/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse(7, 2))));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(transport));
+		template.setOperationObserver(observer);
+
+		template.search(Query.findAll(), TimeBasedEntity.class);
+
+		assertThat(stoppedContexts).hasSize(1);
+		ElasticsearchObservationContext context = stoppedContexts.get(0);
+		assertThat(context.getLowCardinalityKeyValue("spring.data.elasticsearch.index").getValue())
+				.isEqualTo("observed-#{'2025'}");
+		assertThat(context.getHighCardinalityKeyValue("spring.data.elasticsearch.index.names").getValue())
+				.isEqualTo("observed-2025");
+	}
+
+	@Test
+	@DisplayName("should record the error of a failed request")
+	void shouldRecordTheErrorOfAFailedRequest() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/observed/_doc/42")) //
+				.willReturn(elasticsearchResponse("""
+						{ "error": { "type": "some_exception", "reason": "failed" }, "status": 500 }
+						""").withStatus(500)));
+		ElasticsearchTemplate template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(transport));
+		template.setOperationObserver(observer);
+
+		assertThatThrownBy(() -> template.get("42", ObservedEntity.class)).isInstanceOf(DataAccessException.class);
+
+		assertThat(stoppedContexts).hasSize(1);
+		ElasticsearchObservationContext context = stoppedContexts.get(0);
+		assertThat(context.getOperation()).isEqualTo(OperationObserver.Operation.GET);
+		assertThat(context.getOutcome()).isEqualTo(ElasticsearchObservationContext.Outcome.ERROR);
+		assertThat(context.getError()).isInstanceOf(DataAccessException.class);
+	}
+
+	@Test
+	@DisplayName("should observe a reactive count request")
+	void shouldObserveAReactiveCountRequest() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/observed/_search")) //
+				.willReturn(elasticsearchResponse(searchResponse(3, 5))));
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(
+				new SimpleElasticsearchMappingContext());
+		converter.afterPropertiesSet();
+		ReactiveElasticsearchTemplate template = new ReactiveElasticsearchTemplate(
+				ElasticsearchClients.createReactive(transport), converter);
+		template.setOperationObserver(observer);
+
+		template.count(Query.findAll(), ObservedEntity.class) //
+				.as(StepVerifier::create) //
+				.expectNext(5L) //
+				.verifyComplete();
+
+		assertThat(stoppedContexts).hasSize(1);
+		ElasticsearchObservationContext context = stoppedContexts.get(0);
+		assertThat(context.getOperation()).isEqualTo(OperationObserver.Operation.COUNT);
+		assertThat(context.getOutcome()).isEqualTo(ElasticsearchObservationContext.Outcome.SUCCESS);
+		assertThat(context.getHits()).isEqualTo(5);
+		assertThat(context.getTook()).isEqualTo(Duration.ofMillis(3));
+		assertThat(context.getRequestSize()).isPositive();
+		assertThat(context.getResponseSize()).isPositive();
+	}
+
+	private static String searchResponse(int took, int hits) {
+		return """
+				{ "took": %d, "timed_out": false,
+				  "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+				  "hits": { "total": { "value": %d, "relation": "eq" }, "max_score": 1.0, "hits": [] } }
+				""".formatted(took, hits);
+	}
+
+	@Document(indexName = "observed")
+	static class ObservedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+
+	@Document(indexName = "observed-#{'2025'}")
+	static class TimeBasedEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.config.configuration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.AsyncElasticsearchConfiguration;
+import org.springframework.data.elasticsearch.client.elc.AsyncElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.AsyncElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Tests for {@link AsyncElasticsearchConfiguration}.
+ *
+ * @author agent
+ * @since 6.0
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class AsyncElasticsearchConfigurationELCTests {
+
+	private static final Executor CONVERSION_EXECUTOR = Runnable::run;
+
+	@Configuration
+	static class Config extends AsyncElasticsearchConfiguration {
+		@Override
+		public ClientConfiguration clientConfiguration() {
+			return ClientConfiguration.builder() //
+					.connectedTo("localhost:9200") //
+					.build();
+		}
+
+		@Override
+		protected Executor conversionExecutor() {
+			return CONVERSION_EXECUTOR;
+		}
+	}
+
+	@Autowired private ElasticsearchOperations elasticsearchOperations;
+	@Autowired private ElasticsearchAsyncClient elasticsearchAsyncClient;
+	@Autowired private AsyncElasticsearchOperations asyncElasticsearchOperations;
+
+	@Test
+	public void providesRequiredBeans() {
+		assertThat(elasticsearchOperations).isNotNull();
+		assertThat(elasticsearchAsyncClient).isNotNull();
+		assertThat(asyncElasticsearchOperations).isInstanceOf(AsyncElasticsearchTemplate.class);
+		assertThat(((AsyncElasticsearchTemplate) asyncElasticsearchOperations).getConversionExecutor())
+				.isSameAs(CONVERSION_EXECUTOR);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.document.SearchDocument;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentAdapter;
+import org.springframework.data.elasticsearch.core.document.SearchDocumentResponse;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * @author agent
+ */
+class CompactSearchHitsUnitTests {
+
+	private final SearchHitMapping<String> searchHitMapping = SearchHitMapping.mappingFor(String.class,
+			new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+
+	@Test
+	@DisplayName("should return scores, ids and seq_no values as arrays")
+	void shouldReturnScoresIdsAndSeqNoValuesAsArrays() {
+
+		List<SearchDocument> documents = List.of( //
+				searchDocument("1", 3.0f, 10L, null, new Object[] { "a", 1L }), //
+				searchDocument("2", 2.0f, 11L, null, new Object[] { "b", 2L }), //
+				searchDocument(null, 1.0f, null, null, new Object[] { "c", 3L }));
+
+		CompactSearchHits<String> searchHits = searchHitMapping.mapCompactHits(response(documents),
+				List.of("one", "two", "three"));
+
+		assertThat(searchHits.size()).isEqualTo(3);
+		assertThat(searchHits.getScores()).containsExactly(3.0f, 2.0f, 1.0f);
+		assertThat(searchHits.getIds()).containsExactly("1", "2", null);
+		assertThat(searchHits.getSeqNos()).containsExactly(10L, 11L, CompactSearchHits.UNASSIGNED_SEQ_NO);
+		assertThat(searchHits.getSortValueColumnCount()).isEqualTo(2);
+		assertThat(searchHits.getSortValueColumn(0)).containsExactly("a", "b", "c");
+		assertThat(searchHits.getSortValueColumn(1)).containsExactly(1L, 2L, 3L);
+		assertThat(searchHits.getContent(1)).isEqualTo("two");
+	}
+
+	@Test
+	@DisplayName("should create the same search hits as the default mapping")
+	void shouldCreateTheSameSearchHitsAsTheDefaultMapping() {
+
+		List<SearchDocument> documents = List.of( //
+				searchDocument("1", 3.0f, 10L, Map.of("title", List.of("<em>one</em>")), new Object[] { "a" }), //
+				searchDocument("2", 2.0f, 11L, null, null));
+		List<String> contents = List.of("one", "two");
+
+		SearchHits<String> expected = searchHitMapping.mapHits(response(documents), contents);
+		CompactSearchHits<String> searchHits = searchHitMapping.mapCompactHits(response(documents), contents);
+
+		assertThat(searchHits.getTotalHits()).isEqualTo(expected.getTotalHits());
+		assertThat(searchHits.getMaxScore()).isEqualTo(expected.getMaxScore());
+		assertThat(searchHits.getScores()).containsExactly(expected.getScores());
+		assertThat(searchHits.getIds()).containsExactly(expected.getIds());
+		assertThat(searchHits.getSearchHits()).hasSize(2);
+
+		for (int i = 0; i < contents.size(); i++) {
+			SearchHit<String> expectedHit = expected.getSearchHit(i);
+			SearchHit<String> hit = searchHits.getSearchHits().get(i);
+
+			assertThat(hit.getId()).isEqualTo(expectedHit.getId());
+			assertThat(hit.getIndex()).isEqualTo(expectedHit.getIndex());
+			assertThat(hit.getScore()).isEqualTo(expectedHit.getScore());
+			assertThat(hit.getSortValues()).isEqualTo(expectedHit.getSortValues());
+			assertThat(hit.getHighlightFields()).isEqualTo(expectedHit.getHighlightFields());
+			assertThat(hit.getInnerHits()).isEqualTo(expectedHit.getInnerHits());
+			assertThat(hit.getContent()).isEqualTo(expectedHit.getContent());
+		}
+
+		List<String> iterated = new ArrayList<>();
+		searchHits.forEach(hit -> iterated.add(hit.getContent()));
+		assertThat(iterated).containsExactly("one", "two");
+	}
+
+	@Test
+	@DisplayName("should not expose the internal arrays")
+	void shouldNotExposeTheInternalArrays() {
+
+		CompactSearchHits<String> searchHits = searchHitMapping
+				.mapCompactHits(response(List.of(searchDocument("1", 1.0f, 1L, null, null))), List.of("one"));
+
+		searchHits.getScores()[0] = 42.0f;
+		searchHits.getIds()[0] = "42";
+
+		assertThat(searchHits.getScores()).containsExactly(1.0f);
+		assertThat(searchHits.getIds()).containsExactly("1");
+		assertThatThrownBy(() -> searchHits.getSearchHits().add(searchHits.getSearchHit(0)))
+				.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> searchHits.getSearchHit(1)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	private static SearchDocument searchDocument(@Nullable String id, float score, @Nullable Long seqNo,
+			@Nullable Map<String, List<String>> highlightFields, Object @Nullable [] sortValues) {
+
+		Document document = Document.create();
+		if (id != null) {
+			document.setId(id);
+		}
+		document.setIndex("index");
+		if (seqNo != null) {
+			document.setSeqNo(seqNo);
+		}
+		return new SearchDocumentAdapter(document, score, sortValues != null ? sortValues : new Object[0], emptyMap(),
+				highlightFields != null ? highlightFields : emptyMap(), emptyMap(), null, null, null, null);
+	}
+
+	private static SearchDocumentResponse response(List<SearchDocument> documents) {
+		return new SearchDocumentResponse(documents.size(), "EQUAL_TO", 3.0f, Duration.ofMillis(1), null, null, documents, null,
+				null, null);
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * @author agent
+ */
+class ConversionObserverUnitTests {
+
+	private final RecordingConversionObserver observer = new RecordingConversionObserver();
+	private MappingElasticsearchConverter converter;
+
+	@BeforeEach
+	void setUp() {
+
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		ElasticsearchCustomConversions conversions = new ElasticsearchCustomConversions(
+				List.of(new AmountToString(), new StringToAmount()));
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		converter = new MappingElasticsearchConverter(mappingContext);
+		converter.setConversions(conversions);
+		converter.afterPropertiesSet();
+		converter.setConversionObserver(observer);
+	}
+
+	@Test
+	@DisplayName("should observe the writing of an entity with its custom conversions")
+	void shouldObserveTheWritingOfAnEntityWithItsCustomConversions() {
+
+		Product product = new Product();
+		product.setId("42");
+		product.setPrice(new Amount(1299));
+
+		Document document = Document.create();
+		converter.write(product, document);
+
+		assertThat(document.get("price")).isEqualTo("1299");
+		assertThat(observer.conversions).hasSize(1);
+		RecordedConversion conversion = observer.conversions.get(0);
+		assertThat(conversion.entityType).isEqualTo(Product.class);
+		assertThat(conversion.direction).isEqualTo(ConversionObserver.Direction.WRITE);
+		assertThat(conversion.customConversions).containsExactly("Amount->String");
+		assertThat(conversion.typeHints).isEmpty();
+		assertThat(conversion.stopped).isTrue();
+	}
+
+	@Test
+	@DisplayName("should observe the reading of an entity with its type hint and custom conversions")
+	void shouldObserveTheReadingOfAnEntityWithItsTypeHintAndCustomConversions() {
+
+		Document document = Document.create();
+		document.put("_class", DiscountedProduct.class.getName());
+		document.put("id", "42");
+		document.put("price", "1299");
+		document.put("discount", "100");
+
+		Product product = converter.read(Product.class, document);
+
+		assertThat(product).isInstanceOf(DiscountedProduct.class);
+		assertThat(observer.conversions).hasSize(1);
+		RecordedConversion conversion = observer.conversions.get(0);
+		assertThat(conversion.entityType).isEqualTo(Product.class);
+		assertThat(conversion.direction).isEqualTo(ConversionObserver.Direction.READ);
+		assertThat(conversion.customConversions).containsExactlyInAnyOrder("String->Amount", "String->Amount");
+		assertThat(conversion.typeHints).containsExactly("Product->DiscountedProduct");
+		assertThat(conversion.stopped).isTrue();
+	}
+
+	@Test
+	@DisplayName("should report the error of a failed conversion")
+	void shouldReportTheErrorOfAFailedConversion() {
+
+		Document document = Document.create();
+		document.put("id", "42");
+		document.put("price", "not a number");
+
+		assertThatThrownBy(() -> converter.read(Product.class, document)).isInstanceOf(RuntimeException.class);
+
+		assertThat(observer.conversions).hasSize(1);
+		RecordedConversion conversion = observer.conversions.get(0);
+		assertThat(conversion.error).isNotNull();
+		assertThat(conversion.stopped).isTrue();
+	}
+
+	@Test
+	@DisplayName("should not observe when the observer is removed")
+	void shouldNotObserveWhenTheObserverIsRemoved() {
+
+		converter.setConversionObserver(null);
+
+		Product product = new Product();
+		product.setId("42");
+		converter.write(product, Document.create());
+
+		assertThat(observer.conversions).isEmpty();
+	}
+
+	static class RecordingConversionObserver implements ConversionObserver {
+
+		final List<RecordedConversion> conversions = new ArrayList<>();
+
+		@Override
+		public Observed start(Class<?> entityType, Direction direction) {
+
+			RecordedConversion conversion = new RecordedConversion(entityType, direction);
+			conversions.add(conversion);
+			return conversion;
+		}
+	}
+
+	static class RecordedConversion implements ConversionObserver.Observed {
+
+		final Class<?> entityType;
+		final ConversionObserver.Direction direction;
+		final List<String> customConversions = new ArrayList<>();
+		final List<String> typeHints = new ArrayList<>();
+		@Nullable Throwable error;
+		boolean stopped;
+
+		RecordedConversion(Class<?> entityType, ConversionObserver.Direction direction) {
+			this.entityType = entityType;
+			this.direction = direction;
+		}
+
+		@Override
+		public void onCustomConversion(Class<?> sourceType, Class<?> targetType) {
+			customConversions.add(sourceType.getSimpleName() + "->" + targetType.getSimpleName());
+		}
+
+		@Override
+		public void onTypeHintResolved(Class<?> declaredType, Class<?> resolvedType) {
+			typeHints.add(declaredType.getSimpleName() + "->" + resolvedType.getSimpleName());
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void stop() {
+			stopped = true;
+		}
+	}
+
+	record Amount(long cents) {
+	}
+
+	@WritingConverter
+	static class AmountToString implements Converter<Amount, String> {
+		@Override
+		public String convert(Amount source) {
+			return String.valueOf(source.cents());
+		}
+	}
+
+	@ReadingConverter
+	static class StringToAmount implements Converter<String, Amount> {
+		@Override
+		public Amount convert(String source) {
+			return new Amount(Long.parseLong(source));
+		}
+	}
+
+	static class Product {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Keyword) private Amount price;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public Amount getPrice() {
+			return price;
+		}
+
+		public void setPrice(@Nullable Amount price) {
+			this.price = price;
+		}
+	}
+
+	static class DiscountedProduct extends Product {
+		@Nullable
+		@Field(type = FieldType.Keyword) private Amount discount;
+
+		@Nullable
+		public Amount getDiscount() {
+			return discount;
+		}
+
+		public void setDiscount(@Nullable Amount discount) {
+			this.discount = discount;
+		}
+	}
+}
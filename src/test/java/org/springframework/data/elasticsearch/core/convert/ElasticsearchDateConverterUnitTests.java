@@ -6,13 +6,18 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -418,6 +423,97 @@ class ElasticsearchDateConverterUnitTests {
 		check(ElasticsearchDateConverter.of("basic_date_time ||invalid-pattern"), LocalDateTime.class);
 	}
 
+	@ParameterizedTest
+	@EnumSource(value = DateFormat.class,
+			names = { "date_optional_time", "strict_date_optional_time", "date_time", "strict_date_time", "basic_date_time" })
+	@DisplayName("should format like the DateTimeFormatter of the pattern")
+	void shouldFormatLikeTheDateTimeFormatterOfThePattern(DateFormat dateFormat) {
+
+		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(dateFormat.getPattern());
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(dateFormat);
+
+		for (ZonedDateTime value : List.of( //
+				ZonedDateTime.of(2020, 4, 19, 19, 44, 7, 123_456_789, ZoneId.of("UTC")), //
+				ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), //
+				ZonedDateTime.of(2024, 2, 29, 23, 59, 59, 999_000_000, ZoneId.of("Europe/Berlin")), //
+				ZonedDateTime.of(1969, 12, 31, 23, 59, 59, 1_000_000, ZoneId.of("America/St_Johns")), //
+				ZonedDateTime.of(12345, 6, 7, 8, 9, 10, 0, ZoneId.of("UTC")), //
+				ZonedDateTime.of(1890, 6, 7, 8, 9, 10, 0, ZoneId.of("Europe/Amsterdam")))) {
+
+			assertThat(converter.format(value)).isEqualTo(dateTimeFormatter.format(value));
+			assertThat(converter.format(value.toOffsetDateTime())).isEqualTo(dateTimeFormatter.format(value));
+			assertThat(converter.format(value.toInstant()))
+					.isEqualTo(dateTimeFormatter.format(value.withZoneSameInstant(ZoneId.of("UTC"))));
+			assertThat(converter.format(Date.from(value.toInstant())))
+					.isEqualTo(dateTimeFormatter.format(value.withZoneSameInstant(ZoneId.of("UTC"))));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = DateFormat.class,
+			names = { "date_optional_time", "strict_date_optional_time", "date_time", "strict_date_time", "basic_date_time" })
+	@DisplayName("should parse like the DateTimeFormatter of the pattern")
+	void shouldParseLikeTheDateTimeFormatterOfThePattern(DateFormat dateFormat) {
+
+		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(dateFormat.getPattern());
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(dateFormat);
+
+		for (ZonedDateTime value : List.of( //
+				ZonedDateTime.of(2020, 4, 19, 19, 44, 7, 123_000_000, ZoneId.of("UTC")), //
+				ZonedDateTime.of(2024, 2, 29, 23, 59, 59, 999_000_000, ZoneId.of("Europe/Berlin")), //
+				ZonedDateTime.of(1969, 12, 31, 23, 59, 59, 1_000_000, ZoneId.of("America/St_Johns")))) {
+
+			String formatted = dateTimeFormatter.format(value);
+
+			assertThat(converter.parse(formatted, Instant.class))
+					.isEqualTo(dateTimeFormatter.parse(formatted, Instant::from));
+			assertThat(converter.parse(formatted, ZonedDateTime.class))
+					.isEqualTo(dateTimeFormatter.parse(formatted, ZonedDateTime::from));
+			assertThat(converter.parse(formatted, OffsetDateTime.class))
+					.isEqualTo(dateTimeFormatter.parse(formatted, OffsetDateTime::from));
+			assertThat(converter.parse(formatted, LocalDateTime.class))
+					.isEqualTo(dateTimeFormatter.parse(formatted, LocalDateTime::from));
+			assertThat(converter.parse(formatted, LocalDate.class))
+					.isEqualTo(dateTimeFormatter.parse(formatted, LocalDate::from));
+			assertThat(converter.parse(formatted)).isEqualTo(Date.from(value.toInstant()));
+		}
+	}
+
+	@Test
+	@DisplayName("should fall back to the DateTimeFormatter for values not handled by the fast formatter")
+	void shouldFallBackToTheDateTimeFormatterForValuesNotHandledByTheFastFormatter() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(DateFormat.date_optional_time);
+
+		assertThat(converter.format(LocalDate.of(2020, 4, 19))).isEqualTo("2020-04-19");
+		assertThat(converter.parse("2020-04-19", LocalDate.class)).isEqualTo(LocalDate.of(2020, 4, 19));
+		assertThat(converter.parse("2021-02-30T10:00:00.000Z", LocalDate.class)).isEqualTo(LocalDate.of(2021, 2, 28));
+	}
+
+	@Test
+	@DisplayName("should format epoch_second like String.format")
+	void shouldFormatEpochSecondLikeStringFormat() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of(DateFormat.epoch_second);
+
+		for (long epochMilli : new long[] { 1_234_568_901_234L, 1_234_568_901_004L, 1_234_568_901_050L, 1_000L, 7L,
+				-1_500L }) {
+			assertThat(converter.format(Instant.ofEpochMilli(epochMilli)))
+					.isEqualTo(epochMilli % 1_000 == 0 ? Long.toString(epochMilli / 1_000)
+							: String.format(Locale.ROOT, "%.03f", ((double) epochMilli) / 1_000));
+		}
+	}
+
+	@Test
+	@DisplayName("should return the same converter for combined patterns")
+	void shouldReturnTheSameConverterForCombinedPatterns() {
+
+		ElasticsearchDateConverter converter = ElasticsearchDateConverter.of("basic_date_time || epoch_millis");
+
+		assertThat(ElasticsearchDateConverter.of("basic_date_time || epoch_millis")).isSameAs(converter);
+		assertThat(ElasticsearchDateConverter.of("basic_date_time")).isSameAs(converter);
+	}
+
 	private <T extends TemporalAccessor> void check(ElasticsearchDateConverter converter, Class<T> type) {
 
 		String formatted = converter.format(zdt);
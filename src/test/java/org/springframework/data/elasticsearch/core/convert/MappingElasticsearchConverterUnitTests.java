@@ -48,6 +48,7 @@ import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.domain.Range;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldElementType;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.GeoPointField;
 import org.springframework.data.elasticsearch.annotations.ScriptedField;
@@ -2155,6 +2156,86 @@ public class MappingElasticsearchConverterUnitTests {
 				.hasCauseInstanceOf(ConversionException.class);
 	}
 
+	@Test
+	@DisplayName("should write dense vectors from primitive arrays")
+	void shouldWriteDenseVectorsFromPrimitiveArrays() throws JSONException {
+
+		@Language("JSON")
+		var expected = """
+					{
+						"_class": "org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverterUnitTests$VectorEntity",
+						"id": "42",
+						"float-vector": [0.5, -1.25, 3.0],
+						"byte-vector": "017f80ff",
+						"bytes": "AX+A/w=="
+					}
+				""";
+		var entity = new VectorEntity();
+		entity.setId("42");
+		entity.setFloatVector(new float[] { 0.5f, -1.25f, 3.0f });
+		entity.setByteVector(new byte[] { 1, 127, -128, -1 });
+		entity.setBytes(new byte[] { 1, 127, -128, -1 });
+
+		Document document = Document.create();
+		mappingElasticsearchConverter.write(entity, document);
+
+		assertThat(document.get("float-vector")).isInstanceOf(float[].class);
+		assertEquals(expected, document.toJson(), true);
+	}
+
+	@Test
+	@DisplayName("should write float arrays that are not dense vectors as before")
+	void shouldWriteFloatArraysThatAreNotDenseVectorsAsBefore() {
+
+		var entity = new VectorEntity();
+		entity.setId("42");
+		entity.setFloats(new float[] { 0.5f, -1.25f });
+
+		Document document = Document.create();
+		mappingElasticsearchConverter.write(entity, document);
+
+		assertThat(document.get("floats")).isNotInstanceOf(float[].class);
+		assertThat(document.get("floats")).isInstanceOf(List.class);
+	}
+
+	@Test
+	@DisplayName("should read dense vectors into primitive arrays")
+	void shouldReadDenseVectorsIntoPrimitiveArrays() {
+
+		@Language("JSON")
+		String json = """
+				{
+				  "id": "42",
+				  "float-vector": [0.5, -1.25, 3],
+				  "byte-vector": "017f80ff",
+				  "int8-vector": [1, 127, -128, -1],
+				  "bytes": "AX+A/w=="
+				}""";
+
+		VectorEntity entity = mappingElasticsearchConverter.read(VectorEntity.class, Document.parse(json));
+
+		assertThat(entity.getFloatVector()).containsExactly(0.5f, -1.25f, 3.0f);
+		assertThat(entity.getByteVector()).containsExactly(1, 127, -128, -1);
+		assertThat(entity.getInt8Vector()).containsExactly(1, 127, -128, -1);
+		assertThat(entity.getBytes()).containsExactly(1, 127, -128, -1);
+	}
+
+	@Test
+	@DisplayName("should not read numbers outside of the byte range into a byte array")
+	void shouldNotReadNumbersOutsideOfTheByteRangeIntoAByteArray() {
+
+		@Language("JSON")
+		String json = """
+				{
+				  "id": "42",
+				  "int8-vector": [1, 200, -1]
+				}""";
+
+		assertThatThrownBy(() -> mappingElasticsearchConverter.read(VectorEntity.class, Document.parse(json)))
+				.isInstanceOf(IllegalArgumentException.class) //
+				.hasMessageContaining("200");
+	}
+
 	// region entities
 	public static class Sample {
 		@Nullable public @ReadOnlyProperty String readOnly;
@@ -3255,6 +3336,75 @@ public class MappingElasticsearchConverterUnitTests {
 		}
 	}
 
+	static class VectorEntity {
+		@Id
+		@Nullable private String id;
+		@Nullable
+		@Field(name = "float-vector", type = FieldType.Dense_Vector, dims = 3) private float[] floatVector;
+		@Nullable
+		@Field(name = "byte-vector", type = FieldType.Dense_Vector, dims = 4, elementType = FieldElementType.BYTE) private byte[] byteVector;
+		@Nullable
+		@Field(name = "int8-vector", type = FieldType.Dense_Vector, dims = 4, elementType = FieldElementType.BYTE) private byte[] int8Vector;
+		@Nullable
+		@Field(type = FieldType.Binary) private byte[] bytes;
+		@Nullable
+		@Field(type = FieldType.Float) private float[] floats;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public float[] getFloatVector() {
+			return floatVector;
+		}
+
+		public void setFloatVector(@Nullable float[] floatVector) {
+			this.floatVector = floatVector;
+		}
+
+		@Nullable
+		public byte[] getByteVector() {
+			return byteVector;
+		}
+
+		public void setByteVector(@Nullable byte[] byteVector) {
+			this.byteVector = byteVector;
+		}
+
+		@Nullable
+		public byte[] getInt8Vector() {
+			return int8Vector;
+		}
+
+		public void setInt8Vector(@Nullable byte[] int8Vector) {
+			this.int8Vector = int8Vector;
+		}
+
+		@Nullable
+		public float[] getFloats() {
+			return floats;
+		}
+
+		public void setFloats(@Nullable float[] floats) {
+			this.floats = floats;
+		}
+
+		@Nullable
+		public byte[] getBytes() {
+			return bytes;
+		}
+
+		public void setBytes(@Nullable byte[] bytes) {
+			this.bytes = bytes;
+		}
+	}
+
 	static class NestedEntity {
 		@Id
 		@Nullable private String id;
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+
+/**
+ * @author agent
+ */
+class IndexDocumentCacheUnitTests {
+
+	@Test
+	@DisplayName("should build the document of an entity only once")
+	void shouldBuildTheDocumentOfAnEntityOnlyOnce() {
+
+		ElasticsearchPersistentEntity<?> entity = new SimpleElasticsearchMappingContext()
+				.getRequiredPersistentEntity(CachedEntity.class);
+		AtomicInteger builds = new AtomicInteger();
+
+		String first = IndexDocumentCache.get(entity, "key", () -> "{\"build\":" + builds.incrementAndGet() + '}');
+		String second = IndexDocumentCache.get(entity, "key", () -> "{\"build\":" + builds.incrementAndGet() + '}');
+
+		assertThat(builds).hasValue(1);
+		assertThat(second).isSameAs(first);
+		assertThat(IndexDocumentCache.getIfPresent(entity, "other")).isNull();
+	}
+
+	@Test
+	@DisplayName("should return the cached mapping for the same mapping context")
+	void shouldReturnTheCachedMappingForTheSameMappingContext() {
+
+		MappingElasticsearchConverter converter = converter();
+
+		String first = new MappingBuilder(converter).buildPropertyMapping(CachedEntity.class);
+		String second = new MappingBuilder(converter).buildPropertyMapping(CachedEntity.class);
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("should build the mapping again for a new mapping context")
+	void shouldBuildTheMappingAgainForANewMappingContext() {
+
+		String first = new MappingBuilder(converter()).buildPropertyMapping(CachedEntity.class);
+		String second = new MappingBuilder(converter()).buildPropertyMapping(CachedEntity.class);
+
+		assertThat(second).isNotSameAs(first).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("should not share the mapping between different mapping builder classes")
+	void shouldNotShareTheMappingBetweenDifferentMappingBuilderClasses() {
+
+		MappingElasticsearchConverter converter = converter();
+
+		String first = new MappingBuilder(converter).buildPropertyMapping(CachedEntity.class);
+		String second = new MappingBuilder(converter) {}.buildPropertyMapping(CachedEntity.class);
+
+		assertThat(second).isNotSameAs(first).isEqualTo(first);
+	}
+
+	private static MappingElasticsearchConverter converter() {
+
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		mappingContext.initialize();
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+		converter.afterPropertiesSet();
+		return converter;
+	}
+
+	@Document(indexName = "cached")
+	static class CachedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+	}
+}
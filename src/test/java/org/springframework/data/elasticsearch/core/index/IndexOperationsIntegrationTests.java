@@ -202,6 +202,17 @@ public abstract class IndexOperationsIntegrationTests {
 						""").query());
 	}
 
+	@Test
+	@DisplayName("should update dynamic index settings")
+	void shouldUpdateDynamicIndexSettings() {
+
+		var requiredSettings = new Settings().append("index", new Settings().append("number_of_replicas", 1));
+
+		assertThat(indexOperations.putSettings(requiredSettings)).isTrue();
+
+		assertThat(indexOperations.getSettings().flatten().get("index.number_of_replicas")).isEqualTo("1");
+	}
+
 	@Document(indexName = "#{@indexNameProvider.indexName()}")
 	@Setting(settingPath = "settings/test-settings.json")
 	@Mapping(mappingPath = "mappings/test-mappings.json")
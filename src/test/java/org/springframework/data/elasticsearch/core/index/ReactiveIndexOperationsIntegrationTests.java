@@ -31,6 +31,7 @@ import org.assertj.core.api.InstanceOfAssertFactories;
 import org.json.JSONException;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -159,6 +160,23 @@ public abstract class ReactiveIndexOperationsIntegrationTests {
 		}).verifyComplete();
 	}
 
+	@Test
+	@DisplayName("should update dynamic index settings")
+	void shouldUpdateDynamicIndexSettings() {
+
+		blockingIndexOperations.create();
+		var requiredSettings = new Settings().append("index", new Settings().append("number_of_replicas", 2));
+
+		indexOperations.putSettings(requiredSettings) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		indexOperations.getSettings().as(StepVerifier::create).consumeNextWith(settings -> {
+			assertThat(settings.flatten().get("index.number_of_replicas")).isEqualTo("2");
+		}).verifyComplete();
+	}
+
 	@Test // DATAES-678
 	public void shouldCreateIndexUsingServerDefaultConfiguration() {
 
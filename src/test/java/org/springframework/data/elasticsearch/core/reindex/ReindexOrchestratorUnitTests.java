@@ -0,0 +1,309 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.core.reindex;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.cluster.TaskStatus;
+
+import com.jayway.jsonpath.JsonPath;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+/**
+ * @author agent
+ */
+class ReindexOrchestratorUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build()));
+
+		wireMock.stubFor(head(urlPathMatching("/products(-2)?")).willReturn(elasticsearchResponse("")));
+		wireMock.stubFor(get(urlPathEqualTo("/products/_alias")) //
+				.willReturn(elasticsearchResponse("""
+						{ "products-1": { "aliases": { "products": { "index_routing": "1", "search_routing": "1" } } } }
+						""")));
+		wireMock.stubFor(put(urlPathEqualTo("/products-2")) //
+				.willReturn(elasticsearchResponse("""
+						{ "acknowledged": true, "shards_acknowledged": true, "index": "products-2" }
+						""")));
+		wireMock.stubFor(delete(urlPathEqualTo("/products-2")) //
+				.willReturn(elasticsearchResponse("""
+						{ "acknowledged": true }
+						""")));
+		wireMock.stubFor(post(urlPathEqualTo("/_reindex")) //
+				.willReturn(elasticsearchResponse("""
+						{ "task": "node-1:42" }
+						""")));
+		wireMock.stubFor(post(urlPathMatching("/products(-2)?/_refresh")) //
+				.willReturn(elasticsearchResponse("""
+						{ "_shards": { "total": 1, "successful": 1, "failed": 0 } }
+						""")));
+		wireMock.stubFor(get(urlPathEqualTo("/products-1/_settings")) //
+				.willReturn(elasticsearchResponse("""
+						{ "products-1": { "settings": { "index": { "number_of_shards": "1" } } } }
+						""")));
+		wireMock.stubFor(put(urlPathEqualTo("/products-1/_settings")) //
+				.willReturn(elasticsearchResponse("""
+						{ "acknowledged": true }
+						""")));
+		wireMock.stubFor(post(urlPathEqualTo("/_aliases")) //
+				.willReturn(elasticsearchResponse("""
+						{ "acknowledged": true }
+						""")));
+	}
+
+	@Test
+	@DisplayName("should reindex with auto slices, poll the task and move the alias")
+	void shouldReindexWithAutoSlicesPollTheTaskAndMoveTheAlias() {
+
+		stubTask(taskResponse(false, status(3, 1), null), taskResponse(true, status(3, 3), """
+				"response": { "took": 10, "timed_out": false, "total": 3, "created": 3, "updated": 0, "deleted": 0,
+				  "batches": 1, "version_conflicts": 0, "noops": 0, "retries": { "bulk": 0, "search": 0 },
+				  "throttled_millis": 0, "requests_per_second": 100.0, "throttled_until_millis": 0, "failures": [] },
+				"""));
+		stubCount("/products/_search", 3);
+		stubCount("/products-2/_search", 3);
+		List<TaskStatus> progress = new ArrayList<>();
+
+		ReindexOrchestrator.Result result = ReindexOrchestrator.builder(template) //
+				.withRequestsPerSecond(100) //
+				.withPollInterval(Duration.ofMillis(10)) //
+				.withProgressListener(progress::add) //
+				.build() //
+				.reindex(ReindexedEntity.class, "products-2");
+
+		assertThat(result.sourceIndices()).containsExactly("products-1");
+		assertThat(result.targetIndex()).isEqualTo("products-2");
+		assertThat(result.documentCount()).isEqualTo(3);
+		assertThat(result.taskStatus().getCreated()).isEqualTo(3);
+		assertThat(progress).extracting(TaskStatus::getProcessed).containsExactly(1L, 3L);
+
+		wireMock.verify(putRequestedFor(urlPathEqualTo("/products-2")) //
+				.withRequestBody(matchingJsonPath("$.mappings.properties.text.type", equalTo("text"))));
+		wireMock.verify(postRequestedFor(urlPathEqualTo("/_reindex")) //
+				.withQueryParam("slices", equalTo("auto")) //
+				.withQueryParam("requests_per_second", matching("100(\\.0)?")) //
+				.withQueryParam("wait_for_completion", equalTo("false")) //
+				.withRequestBody(matchingJsonPath("$.source.index", containing("products"))) //
+				.withRequestBody(matchingJsonPath("$.dest.index", equalTo("products-2"))));
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_aliases")) //
+				.withRequestBody(matchingJsonPath("$.actions[0].add.indices[0]", equalTo("products-2"))) //
+				.withRequestBody(matchingJsonPath("$.actions[0].add.index_routing", equalTo("1"))) //
+				.withRequestBody(matchingJsonPath("$.actions[1].remove.indices[0]", equalTo("products-1"))));
+		wireMock.verify(0, deleteRequestedFor(anyUrl()));
+		wireMock.verify(0, anyRequestedFor(urlPathEqualTo("/products-1/_settings")));
+	}
+
+	@Test
+	@DisplayName("should block writes to the old indices until the alias is moved")
+	void shouldBlockWritesToTheOldIndicesUntilTheAliasIsMoved() {
+
+		stubTask(taskResponse(true, status(3, 3), null));
+		stubCount("/products/_search", 3);
+		stubCount("/products-2/_search", 3);
+
+		ReindexOrchestrator.builder(template) //
+				.withWriteBlock(true) //
+				.build() //
+				.reindex(ReindexedEntity.class, "products-2");
+
+		verifyWriteBlock("true", "false");
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_aliases")));
+	}
+
+	@Test
+	@DisplayName("should keep a write block that was set before the reindex")
+	void shouldKeepAWriteBlockThatWasSetBeforeTheReindex() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/products-1/_settings")) //
+				.willReturn(elasticsearchResponse("""
+						{ "products-1": { "settings": { "index": { "blocks": { "write": "true" } } } } }
+						""")));
+		stubTask(taskResponse(true, status(3, 3), null));
+		stubCount("/products/_search", 3);
+		stubCount("/products-2/_search", 3);
+
+		ReindexOrchestrator.builder(template) //
+				.withWriteBlock(true) //
+				.build() //
+				.reindex(ReindexedEntity.class, "products-2");
+
+		wireMock.verify(0, putRequestedFor(urlPathEqualTo("/products-1/_settings")));
+		wireMock.verify(1, postRequestedFor(urlPathEqualTo("/_aliases")));
+	}
+
+	@Test
+	@DisplayName("should delete the new index and keep the alias when the counts differ")
+	void shouldDeleteTheNewIndexAndKeepTheAliasWhenTheCountsDiffer() {
+
+		stubTask(taskResponse(true, status(3, 3), null));
+		stubCount("/products/_search", 4);
+		stubCount("/products-2/_search", 3);
+
+		ReindexOrchestrator orchestrator = ReindexOrchestrator.builder(template).withWriteBlock(true).build();
+
+		assertThatThrownBy(() -> orchestrator.reindex(ReindexedEntity.class, "products-2")) //
+				.isInstanceOf(UncategorizedElasticsearchException.class) //
+				.hasMessageContaining("incomplete");
+
+		wireMock.verify(1, deleteRequestedFor(urlPathEqualTo("/products-2")));
+		wireMock.verify(0, postRequestedFor(urlPathEqualTo("/_aliases")));
+		verifyWriteBlock("true", "false");
+	}
+
+	@Test
+	@DisplayName("should delete the new index when the alias cannot be moved")
+	void shouldDeleteTheNewIndexWhenTheAliasCannotBeMoved() {
+
+		wireMock.stubFor(post(urlPathEqualTo("/_aliases")) //
+				.willReturn(elasticsearchResponse("""
+						{ "error": { "root_cause": [], "type": "illegal_state_exception", "reason": "alias update failed" },
+						  "status": 500 }
+						""").withStatus(500)));
+		stubTask(taskResponse(true, status(3, 3), null));
+		stubCount("/products/_search", 3);
+		stubCount("/products-2/_search", 3);
+
+		ReindexOrchestrator orchestrator = ReindexOrchestrator.builder(template).withWriteBlock(true).build();
+
+		assertThatThrownBy(() -> orchestrator.reindex(ReindexedEntity.class, "products-2"));
+
+		wireMock.verify(1, deleteRequestedFor(urlPathEqualTo("/products-2")));
+		verifyWriteBlock("true", "false");
+	}
+
+	@Test
+	@DisplayName("should delete the new index and keep the alias when the task has failures")
+	void shouldDeleteTheNewIndexAndKeepTheAliasWhenTheTaskHasFailures() {
+
+		stubTask(taskResponse(true, status(3, 2), """
+				"response": { "total": 3, "created": 2, "failures": [
+				  { "index": "products-2", "id": "3", "status": 400,
+				    "cause": { "type": "mapper_parsing_exception", "reason": "failed to parse field [text]" } } ] },
+				"""));
+
+		ReindexOrchestrator orchestrator = ReindexOrchestrator.builder(template).build();
+
+		assertThatThrownBy(() -> orchestrator.reindex(ReindexedEntity.class, "products-2")) //
+				.isInstanceOf(UncategorizedElasticsearchException.class) //
+				.hasMessageContaining("products-2/3: failed to parse field [text]");
+
+		wireMock.verify(1, deleteRequestedFor(urlPathEqualTo("/products-2")));
+		wireMock.verify(0, postRequestedFor(urlPathEqualTo("/_aliases")));
+	}
+
+	@Test
+	@DisplayName("should not reindex when the index name of the entity is not an alias")
+	void shouldNotReindexWhenTheIndexNameOfTheEntityIsNotAnAlias() {
+
+		wireMock.stubFor(get(urlPathEqualTo("/products/_alias")) //
+				.willReturn(elasticsearchResponse("""
+						{ "products": { "aliases": {} } }
+						""")));
+
+		ReindexOrchestrator orchestrator = ReindexOrchestrator.builder(template).build();
+
+		assertThatThrownBy(() -> orchestrator.reindex(ReindexedEntity.class, "products-2")) //
+				.isInstanceOf(IllegalStateException.class) //
+				.hasMessageContaining("not an alias");
+
+		wireMock.verify(0, putRequestedFor(anyUrl()));
+		wireMock.verify(0, postRequestedFor(urlPathEqualTo("/_reindex")));
+	}
+
+	private static void verifyWriteBlock(String... values) {
+
+		List<String> writeBlocks = wireMock.findAll(putRequestedFor(urlPathEqualTo("/products-1/_settings"))).stream() //
+				.map(request -> JsonPath.read(request.getBodyAsString(), "$.index.blocks.write").toString()) //
+				.toList();
+		assertThat(writeBlocks).containsExactly(values);
+	}
+
+	private static void stubTask(String... responses) {
+
+		for (int i = 0; i < responses.length; i++) {
+			wireMock.stubFor(get(urlPathMatching("/_tasks/node-1(:|%3A)42")) //
+					.inScenario("task") //
+					.whenScenarioStateIs(i == 0 ? Scenario.STARTED : "poll-" + i) //
+					.willSetStateTo("poll-" + (i + 1)) //
+					.willReturn(elasticsearchResponse(responses[i])));
+		}
+	}
+
+	private static void stubCount(String path, long count) {
+		wireMock.stubFor(post(urlPathEqualTo(path)) //
+				.willReturn(elasticsearchResponse("""
+						{ "took": 1, "timed_out": false, "_shards": { "total": 1, "successful": 1, "skipped": 0, "failed": 0 },
+						  "hits": { "total": { "value": %d, "relation": "eq" }, "max_score": null, "hits": [] } }
+						""".formatted(count))));
+	}
+
+	private static String status(long total, long created) {
+		return """
+				{ "total": %d, "created": %d, "updated": 0, "deleted": 0, "batches": 1, "version_conflicts": 0, "noops": 0,
+				  "retries": { "bulk": 0, "search": 0 }, "throttled_millis": 0, "requests_per_second": 100.0,
+				  "throttled_until_millis": 0 }
+				""".formatted(total, created);
+	}
+
+	private static String taskResponse(boolean completed, String status, @Nullable String response) {
+		return """
+				{
+				  "completed": %s,
+				  %s
+				  "task": { "node": "node-1", "id": 42, "type": "transport", "action": "indices:data/write/reindex",
+				    "status": %s, "description": "reindex", "start_time_in_millis": 0, "running_time_in_nanos": 1000,
+				    "cancellable": true, "cancelled": false, "headers": {} }
+				}
+				""".formatted(completed, response != null ? response : "", status);
+	}
+
+	@Document(indexName = "products", createIndex = false)
+	static class ReindexedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+	}
+}
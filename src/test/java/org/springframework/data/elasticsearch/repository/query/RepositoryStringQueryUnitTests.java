@@ -380,6 +380,62 @@ public class RepositoryStringQueryUnitTests extends RepositoryStringQueryUnitTes
 				"{ 'bool' : { 'must' : { 'terms' : { 'name' : [\"param\\\\1\",\"param\\\\2\"] } } } }");
 	}
 
+	@Test
+	@DisplayName("should escape backslashes in query parameters once")
+	void shouldEscapeBackslashesInQueryParametersOnce() throws NoSuchMethodException {
+
+		org.springframework.data.elasticsearch.core.query.Query query = createQuery("findWithRepeatedPlaceholder", "a\\b",
+				"one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten", "eleven");
+
+		assertThat(query).isInstanceOf(StringQuery.class);
+		assertThat(((StringQuery) query).getSource())
+				.isEqualTo("name:(a\\\\b, eleven, one, two, three, four, five, six, seven, eight, nine, ten, eleven, a\\\\b, one)");
+	}
+
+	@Test
+	@DisplayName("should not evaluate SpEL expressions contained in parameter values")
+	void shouldNotEvaluateSpElExpressionsContainedInParameterValues() throws NoSuchMethodException {
+
+		org.springframework.data.elasticsearch.core.query.Query query = createQuery("findByName", "#{1+1}");
+
+		assertThat(query).isInstanceOf(StringQuery.class);
+		assertThat(((StringQuery) query).getSource())
+				.isEqualTo("{ 'bool' : { 'must' : { 'term' : { 'name' : '#{1+1}' } } } }");
+	}
+
+	@Test
+	@DisplayName("should keep parameter values within quoted strings")
+	void shouldKeepParameterValuesWithinQuotedStrings() throws NoSuchMethodException {
+
+		org.springframework.data.elasticsearch.core.query.Query query = createQuery("findByName", "O'Brien\"}}");
+
+		assertThat(query).isInstanceOf(StringQuery.class);
+		assertThat(((StringQuery) query).getSource())
+				.isEqualTo("{ 'bool' : { 'must' : { 'term' : { 'name' : 'O\\'Brien\\\"}}' } } } }");
+	}
+
+	@Test
+	@DisplayName("should escape already escaped parameter values again")
+	void shouldEscapeAlreadyEscapedParameterValuesAgain() throws NoSuchMethodException {
+
+		org.springframework.data.elasticsearch.core.query.Query query = createQuery("findByName", "a\\\"b");
+
+		assertThat(query).isInstanceOf(StringQuery.class);
+		assertThat(((StringQuery) query).getSource())
+				.isEqualTo("{ 'bool' : { 'must' : { 'term' : { 'name' : 'a\\\\\\\"b' } } } }");
+	}
+
+	@Test
+	@DisplayName("should escape control characters in quoted parameter values")
+	void shouldEscapeControlCharactersInQuotedParameterValues() throws NoSuchMethodException {
+
+		org.springframework.data.elasticsearch.core.query.Query query = createQuery("findByPrefix", "first\nsecond\t");
+
+		assertThat(query).isInstanceOf(StringQuery.class);
+		assertThat(((StringQuery) query).getSource())
+				.isEqualTo("{\"bool\":{\"must\": [{\"match\": {\"prefix\": {\"name\" : \"first\\nsecond\\t\"}}]}}");
+	}
+
 	private org.springframework.data.elasticsearch.core.query.Query createQuery(String methodName, Object... args)
 			throws NoSuchMethodException {
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.query.parser;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * @author agent
+ */
+class ElasticsearchQueryCreatorUnitTests {
+
+	private final SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+
+	@Test
+	@DisplayName("should resolve the property paths of all parts")
+	void shouldResolveTheFieldNamesOfAllParts() {
+
+		PartTree tree = new PartTree("findByFirstNameAndLastNameOrNested_Value", Person.class);
+
+		Map<Part, String> fieldNames = ElasticsearchQueryCreator.resolveFieldNames(tree, mappingContext);
+
+		assertThat(fieldNames.values()).containsExactlyInAnyOrder("firstName", "lastName", "nested.value");
+	}
+
+	@Test
+	@DisplayName("should create the same query with precomputed field names")
+	void shouldCreateTheSameQueryWithPrecomputedFieldNames() throws NoSuchMethodException {
+
+		PartTree tree = new PartTree("findByFirstNameAndLastName", Person.class);
+		Map<Part, String> fieldNames = ElasticsearchQueryCreator.resolveFieldNames(tree, mappingContext);
+		var method = PersonRepository.class.getMethod("findByFirstNameAndLastName", String.class, String.class);
+		var accessor = new ParametersParameterAccessor(new DefaultParameters(ParametersSource.of(method)),
+				new Object[] { "John", "Doe" });
+
+		CriteriaQuery query = new ElasticsearchQueryCreator(tree, accessor, mappingContext, fieldNames).createQuery();
+
+		assertThat(query.getCriteria().getCriteriaChain()).extracting(criteria -> criteria.getField().getName())
+				.containsExactly("firstName", "lastName");
+	}
+
+	interface PersonRepository {
+		Person findByFirstNameAndLastName(String firstName, String lastName);
+	}
+
+	static class Person {
+		@Nullable
+		@Id String id;
+		@Nullable
+		@Field(name = "first-name", type = FieldType.Keyword) String firstName;
+		@Nullable
+		@Field(type = FieldType.Text) String lastName;
+		@Nullable
+		@Field(name = "nested-object", type = FieldType.Nested) Nested nested;
+	}
+
+	static class Nested {
+		@Nullable
+		@Field(name = "nested-value", type = FieldType.Keyword) String value;
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.repository.support;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.elasticsearch.utils.WireMockSupport.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * @author agent
+ */
+class IndexBootstrapUnitTests {
+
+	@RegisterExtension static WireMockExtension wireMock = wireMockExtension();
+
+	private ElasticsearchTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		template = new ElasticsearchTemplate(ElasticsearchClients.createImperative(ClientConfiguration.builder() //
+				.connectedTo("localhost:" + wireMock.getPort()) //
+				.build()));
+	}
+
+	@Test
+	@DisplayName("should check all indices with one request and not write a mapping that is up to date")
+	void shouldCheckAllIndicesWithOneRequestAndNotWriteAMappingThatIsUpToDate() {
+
+		wireMock.stubFor(head(urlPathMatching("/(bootstrap-mapped,bootstrap-created|bootstrap-mapped%2Cbootstrap-created)"))
+				.willReturn(elasticsearchResponse("")));
+		wireMock.stubFor(get(urlPathMatching("/(bootstrap-mapped|bootstrap-mapped%2C.*)")) //
+				.willReturn(elasticsearchResponse(indexResponse("bootstrap-mapped",
+						template.indexOps(MappedEntity.class).createMapping().toJson()))));
+
+		new IndexBootstrap(template).bootstrap(List.of(MappedEntity.class, CreatedEntity.class));
+
+		wireMock.verify(1, headRequestedFor(anyUrl()));
+		wireMock.verify(0, putRequestedFor(anyUrl()));
+	}
+
+	@Test
+	@DisplayName("should create the missing indices and write the mappings that changed")
+	void shouldCreateTheMissingIndicesAndWriteTheMappingsThatChanged() {
+
+		wireMock.stubFor(head(urlPathMatching("/bootstrap-mapped(,|%2C)bootstrap-created")) //
+				.willReturn(elasticsearchResponse("").withStatus(404)));
+		wireMock.stubFor(head(urlPathEqualTo("/bootstrap-mapped")).willReturn(elasticsearchResponse("")));
+		wireMock.stubFor(head(urlPathEqualTo("/bootstrap-created")) //
+				.willReturn(elasticsearchResponse("").withStatus(404)));
+		wireMock.stubFor(get(urlPathEqualTo("/bootstrap-mapped")) //
+				.willReturn(elasticsearchResponse(indexResponse("bootstrap-mapped", """
+						{ "properties": { "id": { "type": "keyword" } } }
+						"""))));
+		wireMock.stubFor(put(urlPathEqualTo("/bootstrap-mapped/_mapping")) //
+				.willReturn(elasticsearchResponse("{ \"acknowledged\": true }")));
+		wireMock.stubFor(put(urlPathEqualTo("/bootstrap-created")) //
+				.willReturn(elasticsearchResponse("""
+						{ "acknowledged": true, "shards_acknowledged": true, "index": "bootstrap-created" }
+						""")));
+
+		new IndexBootstrap(template).bootstrap(List.of(MappedEntity.class, CreatedEntity.class));
+
+		wireMock.verify(3, headRequestedFor(anyUrl()));
+		wireMock.verify(1, putRequestedFor(urlPathEqualTo("/bootstrap-created")));
+		wireMock.verify(1, putRequestedFor(urlPathEqualTo("/bootstrap-mapped/_mapping")));
+	}
+
+	@Test
+	@DisplayName("should bootstrap the indices of all repositories when the first one is created")
+	void shouldBootstrapTheIndicesOfAllRepositoriesWhenTheFirstOneIsCreated() {
+
+		wireMock.stubFor(head(anyUrl()).willReturn(elasticsearchResponse("")));
+		wireMock.stubFor(get(anyUrl()).willReturn(elasticsearchResponse(indexResponse("bootstrap-mapped", """
+				{ "properties": { "id": { "type": "keyword" }, "text": { "type": "text" },
+				  "_class": { "type": "keyword", "index": false, "doc_values": false } } }
+				"""))));
+
+		BootstrapConfiguration.port = wireMock.getPort();
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				BootstrapConfiguration.class)) {
+
+			assertThat(context.getBean(MappedEntityRepository.class)).isNotNull();
+			assertThat(context.getBean(CreatedEntityRepository.class)).isNotNull();
+		}
+
+		wireMock.verify(1, headRequestedFor(anyUrl()));
+		wireMock.verify(0, putRequestedFor(anyUrl()));
+	}
+
+	@Test
+	@DisplayName("should accept a mapping that contains the expected one")
+	void shouldAcceptAMappingThatContainsTheExpectedOne() {
+
+		Map<String, Object> expected = Map.of("properties", Map.of( //
+				"name", Map.of("type", "text", "index", true), //
+				"address", Map.of("type", "object", "properties", Map.of("city", Map.of("type", "keyword")))));
+		Map<String, Object> existing = Map.of("properties", Map.of( //
+				"name", Map.of("type", "text", "index", "true"), //
+				"address", Map.of("properties", Map.of("city", Map.of("type", "keyword"))), //
+				"other", Map.of("type", "long")));
+
+		assertThat(IndexBootstrap.containsMapping(existing, expected)).isTrue();
+		assertThat(IndexBootstrap.containsMapping(expected, existing)).isFalse();
+		assertThat(IndexBootstrap.containsMapping(Map.of("properties", Map.of("name", Map.of("type", "keyword"))),
+				Map.of("properties", Map.of("name", Map.of("type", "text"))))).isFalse();
+	}
+
+	private static String indexResponse(String indexName, String mapping) {
+		return """
+				{ "%s": { "aliases": {}, "mappings": %s, "settings": { "index": { "number_of_shards": "1" } } } }
+				""".formatted(indexName, mapping);
+	}
+
+	@Configuration
+	@EnableElasticsearchRepositories(considerNestedRepositories = true,
+			includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+					classes = { MappedEntityRepository.class, CreatedEntityRepository.class }))
+	static class BootstrapConfiguration extends ElasticsearchConfiguration {
+
+		static int port;
+
+		@Override
+		public ClientConfiguration clientConfiguration() {
+			return ClientConfiguration.builder().connectedTo("localhost:" + port).build();
+		}
+	}
+
+	interface MappedEntityRepository extends ElasticsearchRepository<MappedEntity, String> {}
+
+	interface CreatedEntityRepository extends ElasticsearchRepository<CreatedEntity, String> {}
+
+	@Document(indexName = "bootstrap-mapped", alwaysWriteMapping = true)
+	static class MappedEntity {
+		@Nullable
+		@Id private String id;
+		@Nullable
+		@Field(type = FieldType.Text) private String text;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getText() {
+			return text;
+		}
+
+		public void setText(@Nullable String text) {
+			this.text = text;
+		}
+	}
+
+	@Document(indexName = "bootstrap-created")
+	static class CreatedEntity {
+		@Nullable
+		@Id private String id;
+
+		@Nullable
+		public String getId() {
+			return id;
+		}
+
+		public void setId(@Nullable String id) {
+			this.id = id;
+		}
+	}
+}
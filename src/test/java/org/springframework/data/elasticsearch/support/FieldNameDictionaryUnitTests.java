@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class FieldNameDictionaryUnitTests {
+
+	private final FieldNameDictionary dictionary = new FieldNameDictionary();
+
+	@Test
+	@DisplayName("should return the same instance for equal field names")
+	void shouldReturnTheSameInstanceForEqualFieldNames() {
+
+		String first = dictionary.canonicalize(new String("name"));
+		String second = dictionary.canonicalize(new String("name"));
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("should share the keys of maps with the same field names")
+	void shouldShareTheKeysOfMapsWithTheSameFieldNames() {
+
+		Map<String, Object> first = dictionary.compact(source(new String("id"), "1", new String("name"), "one"));
+		Map<String, Object> second = dictionary.compact(source(new String("id"), "2", new String("name"), "two"));
+
+		assertThat(first).isInstanceOf(SharedKeyMap.class).containsExactly(entry("id", "1"), entry("name", "one"));
+		assertThat(second).isInstanceOf(SharedKeyMap.class).containsExactly(entry("id", "2"), entry("name", "two"));
+
+		Iterator<String> firstKeys = first.keySet().iterator();
+		Iterator<String> secondKeys = second.keySet().iterator();
+		assertThat(secondKeys.next()).isSameAs(firstKeys.next());
+		assertThat(secondKeys.next()).isSameAs(firstKeys.next());
+	}
+
+	@Test
+	@DisplayName("should compact nested maps and maps in lists")
+	void shouldCompactNestedMapsAndMapsInLists() {
+
+		List<Object> list = new ArrayList<>();
+		list.add(source("street", "main"));
+		list.add("text");
+		Map<String, Object> map = dictionary.compact(source("address", source("city", "x"), "addresses", list));
+
+		assertThat(map.get("address")).isInstanceOf(SharedKeyMap.class).isEqualTo(Map.of("city", "x"));
+		assertThat((List<?>) map.get("addresses")).satisfiesExactly( //
+				element -> assertThat(element).isInstanceOf(SharedKeyMap.class).isEqualTo(Map.of("street", "main")), //
+				element -> assertThat(element).isEqualTo("text"));
+	}
+
+	@Test
+	@DisplayName("should behave like a LinkedHashMap when modified")
+	void shouldBehaveLikeALinkedHashMapWhenModified() {
+
+		Map<String, Object> other = dictionary.compact(source("a", 1, "b", 2, "c", 3));
+		Map<String, Object> map = dictionary.compact(source("a", 1, "b", 2, "c", 3));
+		Map<String, Object> expected = source("a", 1, "b", 2, "c", 3);
+
+		map.put("b", 20);
+		expected.put("b", 20);
+		assertThat(map).containsExactlyEntriesOf(expected);
+
+		map.remove("a");
+		expected.remove("a");
+		assertThat(map).containsExactlyEntriesOf(expected);
+
+		Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+		iterator.next().setValue(200);
+		iterator.next();
+		iterator.remove();
+		expected.put("b", 200);
+		expected.remove("c");
+		assertThat(map).containsExactlyEntriesOf(expected);
+
+		map.put("d", 4);
+		expected.put("d", 4);
+		assertThat(map).containsExactlyEntriesOf(expected).isEqualTo(expected).hasSameHashCodeAs(expected);
+
+		assertThat(other).containsExactlyEntriesOf(source("a", 1, "b", 2, "c", 3));
+	}
+
+	@Test
+	@DisplayName("should be used without copy in DefaultStringObjectMap")
+	void shouldBeUsedWithoutCopyInDefaultStringObjectMap() {
+
+		Map<String, Object> map = dictionary.compact(source("a", 1));
+		DefaultStringObjectMap<?> stringObjectMap = new DefaultStringObjectMap<>(map);
+
+		map.put("a", 2);
+
+		assertThat(stringObjectMap.get("a")).isEqualTo(2);
+		assertThat(stringObjectMap.toJson()).isEqualTo("{\"a\":2}");
+	}
+
+	private static Map<String, Object> source(Object... keysAndValues) {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return map;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.elasticsearch.utils;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.*;
+
+import java.nio.charset.StandardCharsets;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+
+/**
+ * Support for unit tests that run the Elasticsearch client against a Wiremock server.
+ *
+ * @author agent
+ */
+public final class WireMockSupport {
+
+	private WireMockSupport() {}
+
+	/**
+	 * @return a {@link WireMockExtension} with a server on a dynamic port, to be registered with
+	 *         {@link org.junit.jupiter.api.extension.RegisterExtension} on a static field.
+	 */
+	public static WireMockExtension wireMockExtension() {
+		return WireMockExtension.newInstance()
+				.options(wireMockConfig()
+						.dynamicPort()
+						// needed, otherwise Wiremock goes to test/resources/mappings
+						.usingFilesUnderDirectory("src/test/resources/wiremock-mappings"))
+				.build();
+	}
+
+	/**
+	 * @param body the JSON body of the response
+	 * @return a successful response with the headers the Elasticsearch client expects
+	 */
+	public static ResponseDefinitionBuilder elasticsearchResponse(String body) {
+		return aResponse() //
+				.withStatus(200) //
+				.withHeader("X-elastic-product", "Elasticsearch") //
+				.withHeader("content-type", "application/vnd.elasticsearch+json;compatible-with=8") //
+				// Elasticsearch sends the length, Wiremock would send the body chunked without it
+				.withHeader("content-length", String.valueOf(body.getBytes(StandardCharsets.UTF_8).length)) //
+				.withBody(body);
+	}
+}